@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.display.AngularObject;
+import org.apache.zeppelin.display.AngularObjectRegistry;
+import org.apache.zeppelin.display.AngularObjectRegistryListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * AngularObjectRegistry operations on a registry shared by many notes,
+ * from several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(4)
+public class AngularObjectRegistryBenchmark {
+
+  @Param({"100"})
+  public int notes;
+
+  @Param({"100"})
+  public int objectsPerNote;
+
+  private AngularObjectRegistry registry;
+
+  /**
+   * Position of each benchmark thread in the registry
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    int n = 0;
+
+    String noteId(AngularObjectRegistryBenchmark b) {
+      return "note_" + (n % b.notes);
+    }
+
+    String name(AngularObjectRegistryBenchmark b) {
+      return "object_" + (n++ % b.objectsPerNote);
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    registry = new AngularObjectRegistry("benchmark", new AngularObjectRegistryListener() {
+      @Override
+      public void onAdd(String interpreterGroupId, AngularObject object) {
+      }
+
+      @Override
+      public void onUpdate(String interpreterGroupId, AngularObject object) {
+      }
+
+      @Override
+      public void onRemove(String interpreterGroupId, String name, String noteId,
+          String paragraphId) {
+      }
+    });
+
+    for (int i = 0; i < notes; i++) {
+      for (int j = 0; j < objectsPerNote; j++) {
+        registry.add("object_" + j, j, "note_" + i, null);
+      }
+    }
+    for (int j = 0; j < objectsPerNote; j++) {
+      registry.add("global_" + j, j, null, null);
+    }
+  }
+
+  @Benchmark
+  public AngularObject get(Cursor c) {
+    return registry.get(c.name(this), c.noteId(this), null);
+  }
+
+  @Benchmark
+  public AngularObject set(Cursor c) {
+    AngularObject ao = registry.get(c.name(this), c.noteId(this), null);
+    ao.set(c.n);
+    return ao;
+  }
+
+  /**
+   * Add and remove an object in a paragraph scope
+   */
+  @Benchmark
+  public AngularObject addAndRemove(Cursor c) {
+    String noteId = c.noteId(this);
+    String name = c.name(this);
+    registry.add(name, c.n, noteId, "paragraph");
+    return registry.remove(name, noteId, "paragraph");
+  }
+
+  /**
+   * As done when a note is opened
+   */
+  @Benchmark
+  public List<AngularObject> getAllWithGlobal(Cursor c) {
+    c.n++;
+    return registry.getAllWithGlobal(c.noteId(this));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.interpreter.remote.AppendOutputRunner;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * AppendOutputRunner coalescing appended output of many paragraphs into one
+ * event per paragraph. Each operation queues the appends and runs one round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AppendOutputRunnerBenchmark {
+
+  @Param({"1", "100"})
+  public int paragraphs;
+
+  @Param({"10000"})
+  public int appends;
+
+  private String[] paragraphIds;
+  private String data;
+  private AppendOutputRunner runner;
+
+  @Setup
+  public void setUp(final Blackhole bh) {
+    paragraphIds = new String[paragraphs];
+    for (int i = 0; i < paragraphs; i++) {
+      paragraphIds[i] = "paragraph_" + i;
+    }
+    data = "some output line of an interpreter\n";
+
+    runner = new AppendOutputRunner(new RemoteInterpreterProcessListener() {
+      @Override
+      public void onOutputAppend(String noteId, String paragraphId, String output) {
+        bh.consume(output);
+      }
+
+      @Override
+      public void onOutputUpdated(String noteId, String paragraphId, String output) {
+        bh.consume(output);
+      }
+    });
+  }
+
+  @Benchmark
+  public void appendAndRun() {
+    for (int i = 0; i < appends; i++) {
+      runner.appendBuffer("note", paragraphIds[i % paragraphs], data);
+    }
+    runner.run();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterOutputListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of InterpreterOutput.write and flush, as an interpreter prints its output.
+ * Each operation writes a number of lines, flushes and clears the output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterpreterOutputBenchmark {
+
+  @Param({"80", "8192"})
+  public int lineSize;
+
+  @Param({"1000"})
+  public int lines;
+
+  private byte[] line;
+  private InterpreterOutput out;
+  private Blackhole blackhole;
+
+  @Setup
+  public void setUp(Blackhole bh) {
+    blackhole = bh;
+    line = new byte[lineSize];
+    Arrays.fill(line, (byte) 'a');
+    line[lineSize - 1] = '\n';
+
+    out = new InterpreterOutput(new InterpreterOutputListener() {
+      @Override
+      public void onAppend(InterpreterOutput out, byte[] line) {
+        blackhole.consume(line);
+      }
+
+      @Override
+      public void onUpdate(InterpreterOutput out, byte[] output) {
+        blackhole.consume(output);
+      }
+    });
+  }
+
+  /**
+   * Whole lines at once, like a PrintStream on top of the output
+   */
+  @Benchmark
+  public void writeLines() throws IOException {
+    for (int i = 0; i < lines; i++) {
+      out.write(line);
+    }
+    out.flush();
+    out.clear();
+  }
+
+  /**
+   * Byte by byte, like an unbuffered stream redirected to the output
+   */
+  @Benchmark
+  public void writeBytes() throws IOException {
+    for (int i = 0; i < lines; i++) {
+      for (byte b : line) {
+        out.write(b);
+      }
+    }
+    out.flush();
+    out.clear();
+  }
+
+  /**
+   * Lines and a flush after each line, like an interactive interpreter
+   */
+  @Benchmark
+  public void writeAndFlush() throws IOException {
+    for (int i = 0; i < lines; i++) {
+      out.write(line);
+      out.flush();
+    }
+    out.clear();
+  }
+
+  @Benchmark
+  public byte[] toByteArray() throws IOException {
+    for (int i = 0; i < lines; i++) {
+      out.write(line);
+    }
+    byte[] bytes = out.toByteArray();
+    out.clear();
+    return bytes;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.search.LuceneSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexing and querying notes with the in-memory LuceneSearch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LuceneSearchBenchmark {
+
+  @Param({"1000"})
+  public int notes;
+
+  @Param({"10"})
+  public int paragraphs;
+
+  private LuceneSearch index;
+  private List<Note> noteList;
+  private int next = 0;
+
+  @Setup
+  public void setUp() {
+    index = new LuceneSearch();
+    noteList = new ArrayList<>(notes);
+    for (int i = 0; i < notes; i++) {
+      Note note = new Note(null, null, null, null, null, null);
+      note.setName("note " + i);
+      for (int j = 0; j < paragraphs; j++) {
+        Paragraph p = note.addParagraph();
+        p.setText("select value_" + j + " from table_" + i + " where id = " + j);
+      }
+      noteList.add(note);
+    }
+    index.addIndexDocs(noteList);
+  }
+
+  @TearDown
+  public void tearDown() {
+    index.close();
+  }
+
+  /**
+   * Re-index a note after one of its paragraphs changed, as saving a note does
+   */
+  @Benchmark
+  public void updateIndexDoc() throws IOException {
+    Note note = noteList.get(next % notes);
+    note.getLastParagraph().setText("select value from table_" + next);
+    next++;
+    index.updateIndexDoc(note);
+  }
+
+  /**
+   * Re-index a note that didn't change
+   */
+  @Benchmark
+  public void updateIndexDocUnchanged() throws IOException {
+    index.updateIndexDoc(noteList.get(next++ % notes));
+  }
+
+  @Benchmark
+  public List<Map<String, String>> query() {
+    return index.query("table_" + (next++ % notes));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Gson serialization of a large note, as VFSNotebookRepo.save does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NoteSerializationBenchmark {
+
+  @Param({"100"})
+  public int paragraphs;
+
+  /**
+   * size of each paragraph result in chars
+   */
+  @Param({"1024", "102400"})
+  public int resultSize;
+
+  private Note note;
+  private String json;
+
+  @Setup
+  public void setUp() {
+    note = createNote(paragraphs, resultSize);
+    json = newGson().toJson(note);
+  }
+
+  static Note createNote(int paragraphs, int resultSize) {
+    StringBuilder table = new StringBuilder("col1\tcol2\n");
+    while (table.length() < resultSize) {
+      table.append("some value\t12345\n");
+    }
+
+    Note note = new Note(null, null, null, null, null, null);
+    note.setName("benchmark note");
+    for (int i = 0; i < paragraphs; i++) {
+      Paragraph p = note.addParagraph();
+      p.setTitle("paragraph " + i);
+      p.setText("echo paragraph " + i);
+      p.setResult(new InterpreterResult(InterpreterResult.Code.SUCCESS,
+          InterpreterResult.Type.TABLE, table.toString()));
+    }
+    return note;
+  }
+
+  /**
+   * Gson configured like VFSNotebookRepo
+   */
+  private static Gson newGson() {
+    GsonBuilder gsonBuilder = new GsonBuilder();
+    gsonBuilder.setPrettyPrinting();
+    return gsonBuilder.create();
+  }
+
+  /**
+   * VFSNotebookRepo.save creates Gson on every save
+   */
+  @Benchmark
+  public String toJson() {
+    return newGson().toJson(note);
+  }
+
+  @Benchmark
+  public Note fromJson() {
+    return newGson().fromJson(json, Note.class);
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TException;
+import org.apache.zeppelin.display.GUI;
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.remote.ClientFactory;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterServer;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+
+/**
+ * Interpret round-trip through RemoteInterpreterService, with the interpreter
+ * server running in the benchmark process and connected over loopback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RemoteInterpreterBenchmark {
+
+  /**
+   * size of the interpret result in chars
+   */
+  @Param({"16", "1048576"})
+  public int resultSize;
+
+  /**
+   * socket: TThreadPoolServer with binary protocol
+   * framed: TThreadedSelectorServer with framed transport and compact protocol
+   */
+  @Param({"socket", "framed"})
+  public String transport;
+
+  private RemoteInterpreterServer server;
+  private ClientFactory clientFactory;
+  private Client client;
+  private Client eventClient;
+  private RemoteInterpreterContext context;
+  private Thread eventPoller;
+  private volatile boolean terminate = false;
+
+  /**
+   * Returns a result of the size given by the statement
+   */
+  public static class EchoInterpreter extends Interpreter {
+    public EchoInterpreter(Properties property) {
+      super(property);
+    }
+
+    @Override
+    public void open() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public InterpreterResult interpret(String st, InterpreterContext context) {
+      int size = Integer.parseInt(st);
+      StringBuilder sb = new StringBuilder(size);
+      while (sb.length() < size) {
+        sb.append('a');
+      }
+      return new InterpreterResult(InterpreterResult.Code.SUCCESS, sb.toString());
+    }
+
+    @Override
+    public void cancel(InterpreterContext context) {
+    }
+
+    @Override
+    public FormType getFormType() {
+      return FormType.NATIVE;
+    }
+
+    @Override
+    public int getProgress(InterpreterContext context) {
+      return 0;
+    }
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    boolean framed = RemoteInterpreterServer.FRAMED_TRANSPORT.equals(transport);
+    server = new RemoteInterpreterServer(
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), framed);
+    server.start();
+    long start = System.currentTimeMillis();
+    while (!server.isRunning()) {
+      if (System.currentTimeMillis() - start > 10 * 1000) {
+        throw new IllegalStateException("RemoteInterpreterServer is not started");
+      }
+      Thread.sleep(10);
+    }
+
+    clientFactory = new ClientFactory("localhost", server.getPort(), framed);
+    client = clientFactory.create();
+
+    // events are consumed like RemoteInterpreterEventPoller does, and dropped
+    eventClient = clientFactory.create();
+    eventPoller = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (!terminate) {
+          try {
+            eventClient.getEvents(1000, 100);
+          } catch (TException e) {
+            return;
+          }
+        }
+      }
+    }, "BenchmarkEventPoller");
+    eventPoller.setDaemon(true);
+    eventPoller.start();
+
+    Map<String, String> properties = new HashMap<>();
+    properties.put("zeppelin.interpreter.localRepo",
+        System.getProperty("java.io.tmpdir") + "/zeppelin-benchmark-repo");
+    client.createInterpreter("benchmark", "note", EchoInterpreter.class.getName(), properties);
+
+    Gson gson = new Gson();
+    context = new RemoteInterpreterContext(
+        "note",
+        "paragraph",
+        "title",
+        Integer.toString(resultSize),
+        gson.toJson(new AuthenticationInfo()),
+        gson.toJson(new HashMap<String, Object>()),
+        gson.toJson(new GUI()),
+        gson.toJson(new LinkedList<>()),
+        0);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    terminate = true;
+    eventPoller.join();
+    // server doesn't stop while clients are connected
+    client.getOutputProtocol().getTransport().close();
+    eventClient.getOutputProtocol().getTransport().close();
+    server.shutdown();
+    // interpreter process exits here. stop scheduler threads instead
+    SchedulerFactory.singleton().destroy();
+  }
+
+  @Benchmark
+  public RemoteInterpreterResult interpret() throws TException {
+    return client.interpret("note", EchoInterpreter.class.getName(),
+        Integer.toString(resultSize), context);
+  }
+}
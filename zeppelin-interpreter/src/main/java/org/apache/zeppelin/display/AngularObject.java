@@ -179,6 +179,9 @@ public class AngularObject<T> {
     synchronized (watchers) {
       ws.addAll(watchers);
     }
+    if (ws.isEmpty()) {
+      return;
+    }
 
     ExecutorService executor = ExecutorFactory.singleton().createOrGet("angularObjectWatcher", 50);
     for (final AngularObjectWatcher w : ws) {
@@ -17,11 +17,12 @@
 
 package org.apache.zeppelin.display;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AngularObjectRegistry keeps all the object that binded to Angular Display System.
@@ -30,10 +31,19 @@ import java.util.Map;
  *  - Paragraphscope : AngularObject is valid in specific paragraph
  *  - Notebook scope: AngularObject is valid in a single notebook
  *  - Global scope : Shared to all notebook that uses the same interpreter group
+ *
+ * Objects are kept in concurrent maps by scope. Changes of a scope and their events
+ * are serialized by one of striped locks, and registry keys of each note are indexed
+ * so note-wide lookups don't scan all scopes.
  */
 public class AngularObjectRegistry {
-  Map<String, Map<String, AngularObject>> registry = 
-      new HashMap<String, Map<String, AngularObject>>();
+  private static final int NUM_LOCKS = 32;
+
+  Map<String, Map<String, AngularObject>> registry =
+      new ConcurrentHashMap<String, Map<String, AngularObject>>();
+  // registry keys of notebook and paragraph scopes, by noteId
+  private final ConcurrentHashMap<String, Set<String>> noteIndex = new ConcurrentHashMap<>();
+  private final Object[] locks = new Object[NUM_LOCKS];
   private final String GLOBAL_KEY = "_GLOBAL_";
   private AngularObjectRegistryListener listener;
   private String interpreterId;
@@ -45,6 +55,9 @@ public class AngularObjectRegistry {
       final AngularObjectRegistryListener listener) {
     this.interpreterId = interpreterId;
     this.listener = listener;
+    for (int i = 0; i < NUM_LOCKS; i++) {
+      locks[i] = new Object();
+    }
     angularObjectListener = new AngularObjectListener() {
       @Override
       public void updated(AngularObject updatedObject) {
@@ -87,16 +100,37 @@ public class AngularObjectRegistry {
       }
     }
   }
-  
-  private Map<String, AngularObject> getRegistryForKey(String noteId, String paragraphId) {
-    synchronized (registry) {
-      String key = getRegistryKey(noteId, paragraphId);
-      if (!registry.containsKey(key)) {
-        registry.put(key, new HashMap<String, AngularObject>());
+
+  private Object getLock(String key) {
+    return locks[(key.hashCode() & Integer.MAX_VALUE) % NUM_LOCKS];
+  }
+
+  /**
+   * Get objects of the scope, creating the scope if not exists.
+   * Must be called with the lock of the key held.
+   */
+  private Map<String, AngularObject> getRegistryForKey(String key, String noteId) {
+    Map<String, AngularObject> r = registry.get(key);
+    if (r == null) {
+      r = new ConcurrentHashMap<String, AngularObject>();
+      registry.put(key, r);
+      if (noteId != null) {
+        indexKey(noteId, key);
       }
-      
-      return registry.get(key);
     }
+    return r;
+  }
+
+  private void indexKey(String noteId, String key) {
+    Set<String> keys = noteIndex.get(noteId);
+    if (keys == null) {
+      keys = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+      Set<String> prev = noteIndex.putIfAbsent(noteId, keys);
+      if (prev != null) {
+        keys = prev;
+      }
+    }
+    keys.add(key);
   }
 
   /**
@@ -117,8 +151,9 @@ public class AngularObjectRegistry {
                            boolean emit) {
     AngularObject ao = createNewAngularObject(name, o, noteId, paragraphId);
 
-    synchronized (registry) {
-      Map<String, AngularObject> noteLocalRegistry = getRegistryForKey(noteId, paragraphId);
+    String key = getRegistryKey(noteId, paragraphId);
+    synchronized (getLock(key)) {
+      Map<String, AngularObject> noteLocalRegistry = getRegistryForKey(key, noteId);
       noteLocalRegistry.put(name, ao);
       if (listener != null && emit) {
         listener.onAdd(interpreterId, ao);
@@ -159,9 +194,10 @@ public class AngularObjectRegistry {
    * @return removed object. null if object is not found in registry
    */
   public AngularObject remove(String name, String noteId, String paragraphId, boolean emit) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      AngularObject o = r.remove(name);
+    String key = getRegistryKey(noteId, paragraphId);
+    synchronized (getLock(key)) {
+      Map<String, AngularObject> r = registry.get(key);
+      AngularObject o = (r == null) ? null : r.remove(name);
       if (listener != null && emit) {
         listener.onRemove(interpreterId, name, noteId, paragraphId);;
       }
@@ -180,14 +216,56 @@ public class AngularObjectRegistry {
    * @param paragraphId paragraphId
    */
   public void removeAll(String noteId, String paragraphId) {
-    synchronized (registry) {
-      List<AngularObject> all = getAll(noteId, paragraphId);
-      for (AngularObject ao : all) {
-        remove(ao.getName(), noteId, paragraphId);
+    String key = getRegistryKey(noteId, paragraphId);
+    synchronized (getLock(key)) {
+      Map<String, AngularObject> r = registry.remove(key);
+      if (noteId != null) {
+        Set<String> keys = noteIndex.get(noteId);
+        if (keys != null) {
+          keys.remove(key);
+        }
+      }
+      if (r != null && listener != null) {
+        for (AngularObject ao : r.values()) {
+          listener.onRemove(interpreterId, ao.getName(), noteId, paragraphId);
+        }
       }
     }
   }
 
+  /**
+   * Set values of multiple objects in the scope at once.
+   * Values are changed under the lock of the scope, so no other change of the scope
+   * interleaves, and their update events are emitted back to back.
+   *
+   * @param values new values by name of object. names not found in the scope are ignored
+   * @param noteId noteId belongs to. null for global scope
+   * @param paragraphId paragraphId belongs to. null for notebook scope
+   * @return updated objects
+   */
+  public List<AngularObject> setAll(Map<String, Object> values, String noteId,
+      String paragraphId) {
+    List<AngularObject> updated = new LinkedList<AngularObject>();
+    String key = getRegistryKey(noteId, paragraphId);
+    synchronized (getLock(key)) {
+      Map<String, AngularObject> r = registry.get(key);
+      if (r == null) {
+        return updated;
+      }
+      for (Map.Entry<String, Object> e : values.entrySet()) {
+        AngularObject ao = r.get(e.getKey());
+        if (ao != null) {
+          ao.set(e.getValue(), false);
+          updated.add(ao);
+        }
+      }
+      for (AngularObject ao : updated) {
+        ao.emit();
+      }
+    }
+    return updated;
+  }
+
   /**
    * Get a object from registry
    * @param name name of object
@@ -196,10 +274,8 @@ public class AngularObjectRegistry {
    * @return angularobject. null when not found
    */
   public AngularObject get(String name, String noteId, String paragraphId) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      return r.get(name);
-    }
+    Map<String, AngularObject> r = registry.get(getRegistryKey(noteId, paragraphId));
+    return (r == null) ? null : r.get(name);
   }
 
   /**
@@ -210,11 +286,9 @@ public class AngularObjectRegistry {
    */
   public List<AngularObject> getAll(String noteId, String paragraphId) {
     List<AngularObject> all = new LinkedList<AngularObject>();
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      if (r != null) {
-        all.addAll(r.values());
-      }
+    Map<String, AngularObject> r = registry.get(getRegistryKey(noteId, paragraphId));
+    if (r != null) {
+      all.addAll(r.values());
     }
     return all;
   }
@@ -228,15 +302,13 @@ public class AngularObjectRegistry {
    * @return
    */
   public List<AngularObject> getAllWithGlobal(String noteId) {
-    List<AngularObject> all = new LinkedList<AngularObject>();
-    synchronized (registry) {
-      Map<String, AngularObject> global = getRegistryForKey(null, null);
-      if (global != null) {
-        all.addAll(global.values());
-      }
-      for (String key : registry.keySet()) {
-        if (key.startsWith(noteId)) {
-          all.addAll(registry.get(key).values());
+    List<AngularObject> all = getAll(null, null);
+    Set<String> keys = noteIndex.get(noteId);
+    if (keys != null) {
+      for (String key : keys) {
+        Map<String, AngularObject> r = registry.get(key);
+        if (r != null) {
+          all.addAll(r.values());
         }
       }
     }
@@ -252,6 +324,17 @@ public class AngularObjectRegistry {
   }
 
   public void setRegistry(Map<String, Map<String, AngularObject>> registry) {
-    this.registry = registry;
+    Map<String, Map<String, AngularObject>> newRegistry =
+        new ConcurrentHashMap<String, Map<String, AngularObject>>();
+    noteIndex.clear();
+    for (Map.Entry<String, Map<String, AngularObject>> e : registry.entrySet()) {
+      newRegistry.put(e.getKey(), new ConcurrentHashMap<String, AngularObject>(e.getValue()));
+      for (AngularObject ao : e.getValue().values()) {
+        if (ao.getNoteId() != null) {
+          indexKey(ao.getNoteId(), e.getKey());
+        }
+      }
+    }
+    this.registry = newRegistry;
   }
 }
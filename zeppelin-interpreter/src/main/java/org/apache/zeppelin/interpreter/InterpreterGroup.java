@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.log4j.Logger;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.resource.ResourceDirectory;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -49,6 +50,12 @@ public class InterpreterGroup extends ConcurrentHashMap<String, List<Interpreter
   ResourcePool resourcePool;
   boolean angularRegistryPushed = false;
 
+  // last time interpreters of a session are used, by session key
+  private final Map<String, Long> lastActivity = new ConcurrentHashMap<>();
+  // sessions of which interpreters are being closed and removed
+  private final Set<String> removingSessions =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
   // map [notebook session, Interpreters in the group], to support per note session interpreters
   //Map<String, List<Interpreter>> interpreters = new ConcurrentHashMap<String,
   // List<Interpreter>>();
@@ -95,6 +102,42 @@ public class InterpreterGroup extends ConcurrentHashMap<String, List<Interpreter
     }
   }
 
+  /**
+   * Mark interpreters of the session as used now
+   * @param sessionKey
+   */
+  public void touch(String sessionKey) {
+    lastActivity.put(sessionKey, System.currentTimeMillis());
+  }
+
+  /**
+   * Mark interpreters of the session as being removed. They are not handed out anymore,
+   * new interpreters of the session are created after they're removed from this group.
+   * @param sessionKey
+   */
+  public void setRemoving(String sessionKey) {
+    removingSessions.add(sessionKey);
+  }
+
+  public boolean isRemoving(String sessionKey) {
+    return removingSessions.contains(sessionKey);
+  }
+
+  @Override
+  public List<Interpreter> remove(Object sessionKey) {
+    removingSessions.remove(sessionKey);
+    return super.remove(sessionKey);
+  }
+
+  /**
+   * @param sessionKey
+   * @return last time interpreters of the session are used, 0 if never
+   */
+  public long getLastActivity(String sessionKey) {
+    Long t = lastActivity.get(sessionKey);
+    return t == null ? 0 : t;
+  }
+
   /**
    * Get combined property of all interpreters in this group
    * @return
@@ -194,6 +237,7 @@ public class InterpreterGroup extends ConcurrentHashMap<String, List<Interpreter
     LOGGER.info("Destroy interpreter group " + getId() + " for note " + noteId);
     List<Interpreter> intpForNote = this.get(noteId);
     destroy(intpForNote);
+    lastActivity.remove(noteId);
   }
 
 
@@ -213,6 +257,12 @@ public class InterpreterGroup extends ConcurrentHashMap<String, List<Interpreter
       while (remoteInterpreterProcess.referenceCount() > 0) {
         remoteInterpreterProcess.dereference();
       }
+      // started but never referenced, like one from the process pool, or not exited on shutdown
+      if (remoteInterpreterProcess.isRunning()) {
+        remoteInterpreterProcess.stop();
+      }
+      // resources of the process are gone with it
+      ResourceDirectory.singleton().removeAll(getId());
     }
 
     allInterpreterGroups.remove(id);
@@ -45,6 +45,16 @@ public class InterpreterOutput extends OutputStream {
   private InterpreterResult.Type type = InterpreterResult.Type.TEXT;
   private boolean firstWrite = true;
 
+  // maximum number of bytes kept per output. 0 means no limit
+  private volatile int limit = 0;
+  private int size = 0;
+  private boolean truncated = false;
+
+  // changes whenever outList changes. text is the output at textVersion
+  private long version = 0;
+  private String text;
+  private long textVersion = -1;
+
   public InterpreterOutput(InterpreterOutputListener flushListener) {
     this.flushListener = flushListener;
     clear();
@@ -58,6 +68,18 @@ public class InterpreterOutput extends OutputStream {
     watcher.start();
   }
 
+  /**
+   * Set maximum size of output in bytes. Output beyond the limit is dropped
+   * @param limit number of bytes. 0 or less means no limit
+   */
+  public void setLimit(int limit) {
+    this.limit = Math.max(limit, 0);
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
   public InterpreterResult.Type getType() {
     return type;
   }
@@ -74,6 +96,10 @@ public class InterpreterOutput extends OutputStream {
       type = InterpreterResult.Type.TEXT;
       buffer.reset();
       outList.clear();
+      size = 0;
+      truncated = false;
+      version++;
+      text = null;
       if (watcher != null) {
         watcher.clear();
       }
@@ -85,20 +111,31 @@ public class InterpreterOutput extends OutputStream {
   @Override
   public void write(int b) throws IOException {
     synchronized (outList) {
+      if (truncated) {
+        return;
+      }
+
       buffer.write(b);
       if (b == NEW_LINE_CHAR) {
-        // first time use of this outputstream.
-        if (firstWrite) {
-          // clear the output on gui
-          flushListener.onUpdate(this, new byte[]{});
-          firstWrite = false;
-        }
-
-        flush();
+        flushLine();
+      } else if (limit > 0 && buffer.size() >= limit) {
+        // do not let a single line without newline grow over the limit
+        flushLine();
       }
     }
   }
 
+  private void flushLine() throws IOException {
+    // first time use of this outputstream.
+    if (firstWrite) {
+      // clear the output on gui
+      flushListener.onUpdate(this, new byte[]{});
+      firstWrite = false;
+    }
+
+    flush();
+  }
+
   private byte [] detectTypeFromLine(byte [] byteArray) {
     // check output type directive
     String line = new String(byteArray);
@@ -126,8 +163,23 @@ public class InterpreterOutput extends OutputStream {
   @Override
   public void write(byte [] b, int off, int len) throws IOException {
     synchronized (outList) {
-      for (int i = off; i < len; i++) {
-        write(b[i]);
+      // copy each line at once instead of byte by byte
+      int lineStart = off;
+      int end = off + len;
+      for (int i = off; i < end && !truncated; i++) {
+        if (b[i] == NEW_LINE_CHAR) {
+          buffer.write(b, lineStart, i + 1 - lineStart);
+          lineStart = i + 1;
+          flushLine();
+        } else if (limit > 0 && buffer.size() + (i + 1 - lineStart) >= limit) {
+          buffer.write(b, lineStart, i + 1 - lineStart);
+          lineStart = i + 1;
+          flushLine();
+        }
+      }
+
+      if (lineStart < end && !truncated) {
+        buffer.write(b, lineStart, end - lineStart);
       }
     }
   }
@@ -138,7 +190,10 @@ public class InterpreterOutput extends OutputStream {
    * @throws IOException
    */
   public void write(File file) throws IOException {
-    outList.add(file);
+    synchronized (outList) {
+      outList.add(file);
+      version++;
+    }
     if (watcher != null) {
       watcher.watch(file);
     }
@@ -154,7 +209,10 @@ public class InterpreterOutput extends OutputStream {
    * @throws IOException
    */
   public void write(URL url) throws IOException {
-    outList.add(url);
+    synchronized (outList) {
+      outList.add(url);
+      version++;
+    }
   }
 
   public void addResourceSearchPath(String path) {
@@ -184,11 +242,12 @@ public class InterpreterOutput extends OutputStream {
   }
 
   public byte[] toByteArray() throws IOException {
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream out;
     List<Object> all = new LinkedList<Object>();
 
     synchronized (outList) {
       all.addAll(outList);
+      out = new ByteArrayOutputStream(size);
     }
 
     for (Object o : all) {
@@ -213,21 +272,87 @@ public class InterpreterOutput extends OutputStream {
     return out.toByteArray();
   }
 
+  /**
+   * Number that changes whenever the output changes. Lets a reader of the output
+   * tell whether it changed since the last read, without reading it.
+   */
+  public long getVersion() {
+    synchronized (outList) {
+      return version;
+    }
+  }
+
+  /**
+   * Output as a string. The string is built only when the output changed since the last
+   * call, so a reader can call this when it needs the output instead of on every append.
+   * Files and urls written are read again every time.
+   */
+  public String getText() throws IOException {
+    long v;
+    boolean hasResource = false;
+    synchronized (outList) {
+      v = version;
+      if (text != null && textVersion == v) {
+        return text;
+      }
+      for (Object o : outList) {
+        if (!(o instanceof byte[])) {
+          hasResource = true;
+          break;
+        }
+      }
+    }
+
+    String s = new String(toByteArray());
+    if (!hasResource) {
+      synchronized (outList) {
+        // keep it only if nothing appended meanwhile
+        if (version == v) {
+          text = s;
+          textVersion = v;
+        }
+      }
+    }
+    return s;
+  }
+
   public void flush() throws IOException {
     synchronized (outList) {
       buffer.flush();
       byte[] bytes = buffer.toByteArray();
+      buffer.reset();
+      if (truncated) {
+        return;
+      }
       bytes = detectTypeFromLine(bytes);
       if (bytes != null) {
+        if (limit > 0 && size + bytes.length > limit) {
+          bytes = truncate(bytes);
+        }
+        size += bytes.length;
         outList.add(bytes);
+        version++;
         if (type == InterpreterResult.Type.TEXT) {
           flushListener.onAppend(this, bytes);
         }
       }
-      buffer.reset();
     }
   }
 
+  /**
+   * Keep the part of the line that fits in the limit and mark this output truncated.
+   * All following writes are dropped until clear() is called.
+   */
+  private byte[] truncate(byte[] bytes) throws IOException {
+    truncated = true;
+    logger.warn("Output exceeds limit of {} bytes. Truncated", limit);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(bytes, 0, Math.max(limit - size, 0));
+    out.write(("\nOutput exceeds " + limit + " bytes. Truncated.\n").getBytes());
+    return out.toByteArray();
+  }
+
   private void copyStream(InputStream in, OutputStream out) throws IOException {
     int bufferSize = 8192;
     byte[] buffer = new byte[bufferSize];
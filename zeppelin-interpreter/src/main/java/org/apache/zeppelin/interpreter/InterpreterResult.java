@@ -18,8 +18,6 @@
 package org.apache.zeppelin.interpreter;
 
 import java.io.Serializable;
-import org.apache.commons.lang3.StringUtils;
-import java.util.*;
 
 /**
  * Interpreter result template.
@@ -61,8 +59,9 @@ public class InterpreterResult implements Serializable {
 
   public InterpreterResult(Code code, String msg) {
     this.code = code;
-    this.msg = getData(msg);
-    this.type = getType(msg);
+    Magic magic = parseMagic(msg);
+    this.type = magic.getType();
+    this.msg = magic.getData(msg);
   }
 
   public InterpreterResult(Code code, Type type, String msg) {
@@ -72,62 +71,73 @@ public class InterpreterResult implements Serializable {
   }
 
   /**
-   * Magic is like %html %text.
-   *
-   * @param msg
-   * @return
+   * Type of a message and where its data starts
    */
-  private String getData(String msg) {
-    if (msg == null) {
-      return null;
+  public static class Magic {
+    private final Type type;
+    private final int offset;
+
+    Magic(Type type, int offset) {
+      this.type = type;
+      this.offset = offset;
     }
-    Type[] types = type.values();
-    TreeMap<Integer, Type> typesLastIndexInMsg = buildIndexMap(msg);
-    if (typesLastIndexInMsg.size() == 0) {
-      return msg;
-    } else {
-      Map.Entry<Integer, Type> lastType = typesLastIndexInMsg.firstEntry();
-      //add 1 for the % char
-      int magicLength = lastType.getValue().name().length() + 1;
-      // 1 for the last \n or space after magic
-      int subStringPos = magicLength + lastType.getKey() + 1;
-      return msg.substring(subStringPos);
+
+    public Type getType() {
+      return type;
     }
-  }
 
-  private Type getType(String msg) {
-    if (msg == null) {
-      return Type.TEXT;
+    /**
+     * @return position in the message where data starts
+     */
+    public int getOffset() {
+      return offset;
     }
-    Type[] types = type.values();
-    TreeMap<Integer, Type> typesLastIndexInMsg = buildIndexMap(msg);
-    if (typesLastIndexInMsg.size() == 0) {
-      return Type.TEXT;
-    } else {
-      Map.Entry<Integer, Type> lastType = typesLastIndexInMsg.firstEntry();
-      return lastType.getValue();
+
+    /**
+     * @return data of the message. copied only when message has magic
+     */
+    public String getData(String msg) {
+      if (msg == null || offset == 0) {
+        return msg;
+      }
+      return msg.substring(offset);
     }
   }
 
-  private int getIndexOfType(String msg, Type t) {
-    if (msg == null) {
-      return 0;
+  private static final Type[] TYPES = Type.values();
+  // magic strings indexed by Type.ordinal()
+  private static final String[] MAGICS = new String[TYPES.length];
+  static {
+    for (Type t : TYPES) {
+      MAGICS[t.ordinal()] = "%" + t.name().toLowerCase();
     }
-    String typeString = "%" + t.name().toLowerCase();
-    return StringUtils.indexOf(msg, typeString );
   }
 
-  private TreeMap<Integer, Type> buildIndexMap(String msg) {
-    int lastIndexOftypes = 0;
-    TreeMap<Integer, Type> typesLastIndexInMsg = new TreeMap<Integer, Type>();
-    Type[] types = Type.values();
-    for (Type t : types) {
-      lastIndexOftypes = getIndexOfType(msg, t);
-      if (lastIndexOftypes >= 0) {
-        typesLastIndexInMsg.put(lastIndexOftypes, t);
+  /**
+   * Magic is like %html %text.
+   * The first magic found in the message decides the type, and data starts after the magic
+   * and following \n or space. Message is scanned once, up to the first magic.
+   *
+   * @param msg message. can be null
+   * @return type and data offset. TEXT and 0 when there's no magic
+   */
+  public static Magic parseMagic(String msg) {
+    if (msg == null) {
+      return new Magic(Type.TEXT, 0);
+    }
+
+    int length = msg.length();
+    for (int i = msg.indexOf('%'); i >= 0 && i + 1 < length; i = msg.indexOf('%', i + 1)) {
+      char c = msg.charAt(i + 1);
+      for (Type t : TYPES) {
+        String magic = MAGICS[t.ordinal()];
+        if (magic.charAt(1) == c && msg.startsWith(magic, i)) {
+          // 1 for the last \n or space after magic
+          return new Magic(t, Math.min(i + magic.length() + 1, length));
+        }
       }
     }
-    return typesLastIndexInMsg;
+    return new Magic(Type.TEXT, 0);
   }
 
   public Code code() {
@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import org.apache.zeppelin.metrics.Histogram;
+import org.apache.zeppelin.metrics.MetricRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +46,17 @@ public class AppendOutputRunner implements Runnable {
   private final BlockingQueue<AppendOutputBuffer> queue = new LinkedBlockingQueue<>();
   private final RemoteInterpreterProcessListener listener;
 
+  // of every runner in this process
+  private static final Histogram batchSize = MetricRegistry.singleton().histogram(
+      "zeppelin_append_output_batch_size", "Number of appended outputs coalesced in a round",
+      Histogram.SIZE_BUCKETS);
+  private static final Histogram batchChars = MetricRegistry.singleton().histogram(
+      "zeppelin_append_output_batch_chars", "Number of chars of appended outputs in a round",
+      Histogram.SIZE_BUCKETS);
+  private static final Histogram processingTimeMs = MetricRegistry.singleton().histogram(
+      "zeppelin_append_output_processing_ms", "Time to coalesce appended outputs in a round",
+      Histogram.LATENCY_MS_BUCKETS);
+
   public AppendOutputRunner(RemoteInterpreterProcessListener listener) {
     this.listener = listener;
   }
@@ -84,6 +97,8 @@ public class AppendOutputRunner implements Runnable {
       noteMap.put(noteId, paragraphMap);
     }
     Long processingTime = System.currentTimeMillis() - processingStartTime;
+    batchSize.update(list.size());
+    processingTimeMs.update(processingTime);
 
     if (processingTime > SAFE_PROCESSING_TIME) {
       logger.warn("Processing time for buffered append-output is high: " +
@@ -102,6 +117,8 @@ public class AppendOutputRunner implements Runnable {
       }
     }
 
+    batchChars.update(sizeProcessed);
+
     if (sizeProcessed > SAFE_PROCESSING_STRING_SIZE) {
       logger.warn("Processing size for buffered append-output is high: " +
           sizeProcessed + " characters.");
@@ -24,8 +24,11 @@ import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
 import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
@@ -37,23 +40,42 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 public class ClientFactory extends BasePooledObjectFactory<Client>{
   private String host;
   private int port;
-  Map<Client, TSocket> clientSocketMap = new HashMap<Client, TSocket>();
+  private boolean framed;
+  Map<Client, TTransport> clientSocketMap = new HashMap<Client, TTransport>();
 
   public ClientFactory(String host, int port) {
+    this(host, port, false);
+  }
+
+  /**
+   * @param framed connect with framed transport and compact protocol,
+   *               to the interpreter process serving non-blocking
+   */
+  public ClientFactory(String host, int port, boolean framed) {
     this.host = host;
     this.port = port;
+    this.framed = framed;
   }
 
   @Override
   public Client create() throws Exception {
-    TSocket transport = new TSocket(host, port);
+    TTransport transport = new TSocket(host, port);
+    if (framed) {
+      // result can be larger than the default max frame size, when it's not chunked
+      transport = new TFramedTransport(transport, Integer.MAX_VALUE);
+    }
     try {
       transport.open();
     } catch (TTransportException e) {
       throw new InterpreterException(e);
     }
 
-    TProtocol protocol = new  TBinaryProtocol(transport);
+    TProtocol protocol;
+    if (framed) {
+      protocol = new TCompactProtocol(transport);
+    } else {
+      protocol = new TBinaryProtocol(transport);
+    }
     Client client = new RemoteInterpreterService.Client(protocol);
 
     synchronized (clientSocketMap) {
@@ -70,9 +92,9 @@ public class ClientFactory extends BasePooledObjectFactory<Client>{
   @Override
   public void destroyObject(PooledObject<Client> p) {
     synchronized (clientSocketMap) {
-      if (clientSocketMap.containsKey(p)) {
-        clientSocketMap.get(p).close();
-        clientSocketMap.remove(p);
+      TTransport transport = clientSocketMap.remove(p.getObject());
+      if (transport != null) {
+        transport.close();
       }
     }
   }
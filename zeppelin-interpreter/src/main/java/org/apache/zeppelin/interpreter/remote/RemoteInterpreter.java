@@ -59,6 +59,11 @@ public class RemoteInterpreter extends Interpreter {
   private int maxPoolSize;
   private String host;
   private int port;
+  private Map<String, String> outputConfig = new HashMap<String, String>();
+  private int resultLimit = 0;
+  private boolean framedTransport = false;
+  private String resourceCodec;
+  private boolean resourceCompress = false;
 
   /**
    * Remote interpreter and manage interpreter process
@@ -158,6 +163,81 @@ public class RemoteInterpreter extends Interpreter {
     return key.matches("^[A-Z_0-9]*");
   }
 
+  /**
+   * Output pipeline settings of remote interpreter process.
+   * Interpreter property with the same name takes precedence.
+   * @param limit maximum output size in bytes per paragraph
+   * @param coalesceBytes maximum size of output merged into a single event
+   * @param coalesceMs maximum time output is held to be merged
+   */
+  public void setOutputConfig(int limit, int coalesceBytes, int coalesceMs) {
+    outputConfig.put("zeppelin.interpreter.output.limit", Integer.toString(limit));
+    outputConfig.put("zeppelin.interpreter.output.coalesce.bytes",
+        Integer.toString(coalesceBytes));
+    outputConfig.put("zeppelin.interpreter.output.coalesce.ms", Integer.toString(coalesceMs));
+  }
+
+  /**
+   * Updates of an angular object within given time are merged and sent with other updates
+   * in a single event. Only the last value is sent.
+   * @param ms maximum time updates are held
+   */
+  public void setAngularObjectUpdateMs(int ms) {
+    outputConfig.put("zeppelin.interpreter.angular.update.ms", Integer.toString(ms));
+  }
+
+  /**
+   * Interpreter process waits responses of resource requests to ZeppelinServer up to given time
+   * @param ms maximum time to wait. 0 waits until the response comes
+   */
+  public void setResourceTimeoutMs(int ms) {
+    outputConfig.put("zeppelin.interpreter.resource.timeout", Integer.toString(ms));
+  }
+
+  /**
+   * Limits of the resource pool in the interpreter process
+   * @param maxBytes estimated bytes of resources kept in memory. 0 for no limit
+   * @param ttlMs resources not accessed this long are removed. 0 to keep them
+   * @param spillDir directory resources over maxBytes are spilled to. null to remove them
+   */
+  public void setResourcePoolLimits(long maxBytes, long ttlMs, String spillDir) {
+    outputConfig.put("zeppelin.interpreter.resource.pool.max.bytes", Long.toString(maxBytes));
+    outputConfig.put("zeppelin.interpreter.resource.pool.ttl", Long.toString(ttlMs));
+    if (spillDir != null) {
+      outputConfig.put("zeppelin.interpreter.resource.pool.spill.dir", spillDir);
+    }
+  }
+
+  /**
+   * Result transport settings of remote interpreter process.
+   * @param chunkSize result larger than this is transferred in chunks of this size.
+   *                  0 transfers the whole result at once
+   * @param limit maximum size of the result kept. larger result is truncated. 0 means no limit
+   */
+  public void setResultConfig(int chunkSize, int limit) {
+    outputConfig.put("zeppelin.interpreter.result.chunk.size", Integer.toString(chunkSize));
+    resultLimit = limit;
+  }
+
+  /**
+   * Thrift transport to the interpreter process.
+   * @param transport "framed" for framed transport served non-blocking,
+   *                  otherwise blocking socket with a thread per connection
+   */
+  public void setThriftTransport(String transport) {
+    framedTransport = RemoteInterpreterServer.FRAMED_TRANSPORT.equals(transport);
+  }
+
+  /**
+   * How the interpreter process encodes values of resources read by other processes
+   * @param codec name of ResourceCodec
+   * @param compress compress encoded values
+   */
+  public void setResourceCodec(String codec, boolean compress) {
+    resourceCodec = codec;
+    resourceCompress = compress;
+  }
+
   @Override
   public String getClassName() {
     return className;
@@ -175,28 +255,47 @@ public class RemoteInterpreter extends Interpreter {
 
     synchronized (intpGroup) {
       if (intpGroup.getRemoteInterpreterProcess() == null) {
-        RemoteInterpreterProcess remoteProcess;
-        if (connectToExistingProcess()) {
-          remoteProcess = new RemoteInterpreterRunningProcess(
-              connectTimeout,
-              remoteInterpreterProcessListener,
-              applicationEventListener,
-              host,
-              port);
-        } else {
-          // create new remote process
-          remoteProcess = new RemoteInterpreterManagedProcess(
-              interpreterRunner, interpreterPath, localRepoPath, env, connectTimeout,
-              remoteInterpreterProcessListener, applicationEventListener);
-        }
-
-        intpGroup.setRemoteInterpreterProcess(remoteProcess);
+        intpGroup.setRemoteInterpreterProcess(createInterpreterProcess());
       }
 
       return intpGroup.getRemoteInterpreterProcess();
     }
   }
 
+  /**
+   * Create the process this interpreter runs in. It's not started until referenced.
+   * Interpreter group creates one for all of its interpreters, through getInterpreterProcess()
+   */
+  public RemoteInterpreterProcess createInterpreterProcess() {
+    RemoteInterpreterProcess remoteProcess;
+    if (connectToExistingProcess()) {
+      remoteProcess = new RemoteInterpreterRunningProcess(
+          connectTimeout,
+          remoteInterpreterProcessListener,
+          applicationEventListener,
+          host,
+          port);
+    } else {
+      // create new remote process
+      Map<String, String> processEnv = new HashMap<>(env);
+      if (framedTransport) {
+        processEnv.put(RemoteInterpreterServer.THRIFT_TRANSPORT_ENV,
+            RemoteInterpreterServer.FRAMED_TRANSPORT);
+      }
+      if (resourceCodec != null) {
+        processEnv.put(RemoteInterpreterServer.RESOURCE_CODEC_ENV, resourceCodec);
+        processEnv.put(RemoteInterpreterServer.RESOURCE_COMPRESS_ENV,
+            Boolean.toString(resourceCompress));
+      }
+      remoteProcess = new RemoteInterpreterManagedProcess(
+          interpreterRunner, interpreterPath, localRepoPath, processEnv, connectTimeout,
+          remoteInterpreterProcessListener, applicationEventListener);
+    }
+
+    remoteProcess.setFramedTransport(framedTransport);
+    return remoteProcess;
+  }
+
   public synchronized void init() {
     if (initialized == true) {
       return;
@@ -224,6 +323,11 @@ public class RemoteInterpreter extends Interpreter {
         if (localRepoPath != null) {
           property.put("zeppelin.interpreter.localRepo", localRepoPath);
         }
+        for (Map.Entry<String, String> e : outputConfig.entrySet()) {
+          if (!property.containsKey(e.getKey())) {
+            property.put(e.getKey(), e.getValue());
+          }
+        }
         client.createInterpreter(groupId, noteId,
           getClassName(), (Map) property);
 
@@ -348,6 +452,13 @@ public class RemoteInterpreter extends Interpreter {
         currentParams.putAll(remoteParams);
       }
 
+      // msg is null for results without a message, and msgLength is not set by
+      // interpreter processes of older versions
+      if (remoteResult.isSetMsgLength() && remoteResult.getMsg() != null
+          && remoteResult.getMsgLength() > remoteResult.getMsg().length()) {
+        remoteResult.setMsg(fetchResult(client, context.getParagraphId(), remoteResult));
+      }
+
       InterpreterResult result = convert(remoteResult);
       return result;
     } catch (TException e) {
@@ -358,6 +469,42 @@ public class RemoteInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Read the rest of the result msg from the remote interpreter process chunk by chunk.
+   * Stops reading at resultLimit, so the result beyond the limit never reaches here.
+   */
+  private String fetchResult(Client client, String paragraphId,
+      RemoteInterpreterResult remoteResult) throws TException {
+    int length = remoteResult.getMsgLength();
+    int maxLength = (resultLimit > 0) ? Math.min(length, resultLimit) : length;
+    String firstChunk = remoteResult.getMsg();
+    int chunkSize = Math.max(firstChunk.length(), 1);
+
+    StringBuilder msg = new StringBuilder(maxLength);
+    msg.append(firstChunk);
+    while (msg.length() < maxLength) {
+      String chunk = client.fetchResultChunk(noteId, paragraphId, msg.length(),
+          Math.min(chunkSize, maxLength - msg.length()));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      msg.append(chunk);
+    }
+
+    if (msg.length() < length) {
+      logger.info("Result of paragraph {} is truncated from {} to {} chars",
+          paragraphId, length, maxLength);
+      msg.setLength(Math.min(msg.length(), maxLength));
+      if (Type.valueOf(remoteResult.getType()) == Type.TABLE) {
+        // keep complete rows only
+        msg.setLength(Math.max(msg.lastIndexOf("\n"), 0));
+      } else {
+        msg.append("\n\nResult exceeds " + resultLimit + " chars. Truncated.");
+      }
+    }
+    return msg.toString();
+  }
+
   @Override
   public void cancel(InterpreterContext context) {
     RemoteInterpreterProcess interpreterProcess = getInterpreterProcess();
@@ -484,7 +631,8 @@ public class RemoteInterpreter extends Interpreter {
         gson.toJson(ic.getAuthenticationInfo()),
         gson.toJson(ic.getConfig()),
         gson.toJson(ic.getGui()),
-        gson.toJson(ic.getRunners()));
+        gson.toJson(ic.getRunners()),
+        ic.getPriority());
   }
 
   private InterpreterResult convert(RemoteInterpreterResult result) {
@@ -17,6 +17,8 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.interpreter.InterpreterContextRunner;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
@@ -27,10 +29,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Thread connection ZeppelinServer -> RemoteInterpreterServer does not provide
@@ -44,10 +54,78 @@ import java.util.Map;
 public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   private final Logger logger = LoggerFactory.getLogger(RemoteInterpreterEvent.class);
   private final List<RemoteInterpreterEvent> eventQueue = new LinkedList<RemoteInterpreterEvent>();
-  private final List<ResourceSet> getAllResourceResponse = new LinkedList<ResourceSet>();
-  private final Map<ResourceId, Object> getResourceResponse = new HashMap<ResourceId, Object>();
   private final Gson gson = new Gson();
 
+  // resource requests waiting for response, by request id
+  private final Map<Long, ResourceRequest> resourceRequests =
+      new ConcurrentHashMap<Long, ResourceRequest>();
+  private final AtomicLong nextResourceRequestId = new AtomicLong();
+  private volatile long resourceRequestTimeoutMs = 60 * 1000;
+
+  // OUTPUT_APPEND event at the tail of eventQueue that still accepts appends
+  private PendingOutputAppend pendingAppend;
+  private int outputCoalesceBytes = 64 * 1024;
+  private int outputCoalesceMs = 0;
+
+  // json of angular objects updated but not sent yet, by (noteId, paragraphId, name)
+  private final Map<List<String>, String> pendingAngularUpdates =
+      new LinkedHashMap<List<String>, String>();
+  private long pendingAngularUpdatesSince;
+  private int angularUpdateMs = 0;
+
+  /**
+   * Resource request sent to ZeppelinServer, completed by the response with the same id
+   */
+  private static class ResourceRequest {
+    final long id;
+    // null when ResourceSet is requested
+    final ResourceId resourceId;
+    final CountDownLatch done = new CountDownLatch(1);
+    volatile Object response;
+
+    ResourceRequest(long id, ResourceId resourceId) {
+      this.id = id;
+      this.resourceId = resourceId;
+    }
+
+    void complete(Object response) {
+      this.response = response;
+      done.countDown();
+    }
+  }
+
+  /**
+   * Output appended to the same paragraph are merged into a single event
+   * until it reaches given size
+   * @param bytes maximum size of merged output. 0 or less disables merging
+   */
+  public void setOutputCoalesceBytes(int bytes) {
+    synchronized (eventQueue) {
+      outputCoalesceBytes = bytes;
+    }
+  }
+
+  /**
+   * Merged output is held up to given time, so following appends can be merged into it
+   * @param ms maximum time to hold output. 0 sends output as soon as it's polled
+   */
+  public void setOutputCoalesceMs(int ms) {
+    synchronized (eventQueue) {
+      outputCoalesceMs = Math.max(ms, 0);
+    }
+  }
+
+  /**
+   * Updates of angular objects are held up to given time and sent in a single event.
+   * Only the last value of an object updated multiple times in the meantime is sent
+   * @param ms maximum time to hold updates. 0 sends updates as soon as they're polled
+   */
+  public void setAngularObjectUpdateMs(int ms) {
+    synchronized (eventQueue) {
+      angularUpdateMs = Math.max(ms, 0);
+    }
+  }
+
   /**
    * Run paragraph
    * @param runner
@@ -71,8 +149,49 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
    * notify angularObject update
    */
   public void angularObjectUpdate(AngularObject object) {
-    sendEvent(new RemoteInterpreterEvent(
-        RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE, gson.toJson(object)));
+    String json = gson.toJson(object);
+    synchronized (eventQueue) {
+      if (pendingAngularUpdates.isEmpty()) {
+        pendingAngularUpdatesSince = System.currentTimeMillis();
+      }
+      List<String> key = Arrays.asList(object.getNoteId(), object.getParagraphId(),
+          object.getName());
+      // last value wins
+      pendingAngularUpdates.remove(key);
+      pendingAngularUpdates.put(key, json);
+      eventQueue.notifyAll();
+    }
+  }
+
+  /**
+   * Queue pending angular object updates as a single ANGULAR_OBJECT_UPDATE_BATCH event.
+   * Called before any other event is queued, so updates are not sent after events that
+   * follow them, e.g. status FINISHED of the paragraph that updated them
+   */
+  private void flushAngularObjectUpdates() {
+    synchronized (eventQueue) {
+      if (pendingAngularUpdates.isEmpty()) {
+        return;
+      }
+      StringBuilder batch = new StringBuilder("[");
+      for (String json : pendingAngularUpdates.values()) {
+        if (batch.length() > 1) {
+          batch.append(',');
+        }
+        batch.append(json);
+      }
+      batch.append(']');
+      pendingAngularUpdates.clear();
+      enqueue(new RemoteInterpreterEvent(
+          RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH, batch.toString()));
+    }
+  }
+
+  private void flushAngularObjectUpdatesIfDue(long now) {
+    if (!pendingAngularUpdates.isEmpty() &&
+        now - pendingAngularUpdatesSince >= angularUpdateMs) {
+      flushAngularObjectUpdates();
+    }
   }
 
   /**
@@ -91,88 +210,142 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
 
   /**
    * Get all resources except for specific resourcePool
-   * @return
+   * @return empty set when ZeppelinServer doesn't respond in time
    */
   @Override
   public ResourceSet getAllResources() {
-    // request
-    sendEvent(new RemoteInterpreterEvent(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, null));
+    Object resources = request(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL,
+        new JsonObject(), null);
+    return resources == null ? new ResourceSet() : (ResourceSet) resources;
+  }
 
-    synchronized (getAllResourceResponse) {
-      while (getAllResourceResponse.isEmpty()) {
-        try {
-          getAllResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
-      ResourceSet resourceSet = getAllResourceResponse.remove(0);
-      return resourceSet;
-    }
+  /**
+   * Get resources of the name from other resource pools.
+   * ZeppelinServer finds them in its resource directory, instead of asking all processes
+   * @return empty set when ZeppelinServer doesn't respond in time
+   */
+  @Override
+  public ResourceSet getResources(String name) {
+    JsonObject data = new JsonObject();
+    data.addProperty("name", name);
+    Object resources = request(RemoteInterpreterEventType.RESOURCE_POOL_GET_BY_NAME, data, null);
+    return resources == null ? new ResourceSet() : (ResourceSet) resources;
+  }
+
+  @Override
+  public void onResourcePut(Resource resource) {
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.RESOURCE_POOL_PUT, gson.toJson(resource)));
+  }
+
+  @Override
+  public void onResourceRemove(ResourceId resourceId) {
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.RESOURCE_POOL_REMOVE, gson.toJson(resourceId)));
   }
 
+  /**
+   * Read remote object
+   * @return null when ZeppelinServer doesn't respond in time
+   */
   @Override
   public Object readResource(ResourceId resourceId) {
     logger.debug("Request Read Resource {} from ZeppelinServer", resourceId.getName());
-    synchronized (getResourceResponse) {
-      // wait for previous response consumed
-      while (getResourceResponse.containsKey(resourceId)) {
-        try {
-          getResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
-      }
+    JsonObject data = gson.toJsonTree(resourceId).getAsJsonObject();
+    return request(RemoteInterpreterEventType.RESOURCE_GET, data, resourceId);
+  }
 
-      // send request
-      Gson gson = new Gson();
-      sendEvent(new RemoteInterpreterEvent(
-          RemoteInterpreterEventType.RESOURCE_GET,
-          gson.toJson(resourceId)));
+  /**
+   * Wait responses of resource requests up to given time
+   * @param ms maximum time to wait. 0 waits until the response comes
+   */
+  public void setResourceRequestTimeoutMs(int ms) {
+    resourceRequestTimeoutMs = Math.max(ms, 0);
+  }
 
-      // wait for response
-      while (!getResourceResponse.containsKey(resourceId)) {
-        try {
-          getResourceResponse.wait();
-        } catch (InterruptedException e) {
-          logger.warn(e.getMessage(), e);
-        }
+  /**
+   * Send the request with a new request id, and wait for the response with the id.
+   * Request is cancelled when the calling thread is interrupted or timeout expires.
+   * Response coming after that is dropped.
+   *
+   * @param resourceId resource to read. null when requesting a ResourceSet
+   * @return response. null on timeout or interruption
+   */
+  private Object request(RemoteInterpreterEventType type, JsonObject data,
+      ResourceId resourceId) {
+    ResourceRequest request = new ResourceRequest(nextResourceRequestId.incrementAndGet(),
+        resourceId);
+    resourceRequests.put(request.id, request);
+    try {
+      data.addProperty("requestId", request.id);
+      sendEvent(new RemoteInterpreterEvent(type, gson.toJson(data)));
+      long timeoutMs = resourceRequestTimeoutMs;
+      if (timeoutMs == 0) {
+        request.done.await();
+      } else if (!request.done.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+        logger.warn("No response of {} {} in {} ms", type, request.id, timeoutMs);
+        return null;
       }
-      Object o = getResourceResponse.remove(resourceId);
-      getResourceResponse.notifyAll();
-      return o;
+      return request.response;
+    } catch (InterruptedException e) {
+      logger.info("Request {} {} cancelled", type, request.id);
+      Thread.currentThread().interrupt();
+      return null;
+    } finally {
+      resourceRequests.remove(request.id);
     }
   }
 
   /**
-   * Supposed to call from RemoteInterpreterEventPoller
+   * Supposed to call from RemoteInterpreterEventPoller.
+   * Response without request id, from older ZeppelinServer, goes to the first request
+   * waiting for a ResourceSet
    */
   public void putResponseGetAllResources(List<String> resources) {
     logger.debug("ResourceSet from ZeppelinServer");
-    ResourceSet resourceSet = new ResourceSet();
-
-    for (String res : resources) {
-      RemoteResource resource = gson.fromJson(res, RemoteResource.class);
-      resource.setResourcePoolConnector(this);
-      resourceSet.add(resource);
-    }
-
-    synchronized (getAllResourceResponse) {
-      getAllResourceResponse.add(resourceSet);
-      getAllResourceResponse.notify();
+    ResourceRequest request = findRequest(null);
+    if (request != null) {
+      List<RemoteResource> remoteResources = new ArrayList<RemoteResource>();
+      for (String res : resources) {
+        remoteResources.add(gson.fromJson(res, RemoteResource.class));
+      }
+      request.complete(toResourceSet(remoteResources));
     }
   }
 
   /**
    * Supposed to call from RemoteInterpreterEventPoller
-   * @param resourceId json serialized ResourceId
-   * @param object java serialized of the object
+   * @param request json of the request, with requestId.
+   *                Or json serialized ResourceId from older ZeppelinServer
+   * @param object encoded value of the resource,
+   *               or json array of resources when a ResourceSet is requested
    */
-  public void putResponseGetResource(String resourceId, ByteBuffer object) {
-    ResourceId rid = gson.fromJson(resourceId, ResourceId.class);
+  public void putResponseGetResource(String request, ByteBuffer object) {
+    JsonObject json = new JsonParser().parse(request).getAsJsonObject();
+    ResourceRequest waiting;
+    if (json.has("requestId")) {
+      waiting = resourceRequests.get(json.get("requestId").getAsLong());
+    } else {
+      waiting = findRequest(gson.fromJson(json, ResourceId.class));
+    }
+    if (waiting == null) {
+      logger.info("Drop response of {}. Request is cancelled or timed out", request);
+      return;
+    }
 
-    logger.debug("Response resource {} from RemoteInterpreter", rid.getName());
+    if (waiting.resourceId == null) {
+      String resources = "[]";
+      if (object != null && object.hasRemaining()) {
+        byte[] bytes = new byte[object.remaining()];
+        object.duplicate().get(bytes);
+        resources = new String(bytes, StandardCharsets.UTF_8);
+      }
+      waiting.complete(toResourceSet(
+          Arrays.asList(gson.fromJson(resources, RemoteResource[].class))));
+      return;
+    }
 
+    logger.debug("Response resource {} from RemoteInterpreter", waiting.resourceId.getName());
     Object o = null;
     try {
       o = Resource.deserializeObject(object);
@@ -181,46 +354,110 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
     } catch (ClassNotFoundException e) {
       logger.error(e.getMessage(), e);
     }
+    waiting.complete(o);
+  }
 
-    synchronized (getResourceResponse) {
-      getResourceResponse.put(rid, o);
-      getResourceResponse.notifyAll();
+  private ResourceSet toResourceSet(List<RemoteResource> resources) {
+    ResourceSet resourceSet = new ResourceSet();
+    for (RemoteResource resource : resources) {
+      resource.setResourcePoolConnector(this);
+      resourceSet.add(resource);
     }
+    return resourceSet;
   }
 
+  /**
+   * Find the oldest request of the resource
+   * @param resourceId null to find a request of ResourceSet
+   */
+  private ResourceRequest findRequest(ResourceId resourceId) {
+    ResourceRequest oldest = null;
+    for (ResourceRequest request : resourceRequests.values()) {
+      boolean match = resourceId == null ?
+          request.resourceId == null : resourceId.equals(request.resourceId);
+      if (match && (oldest == null || request.id < oldest.id)) {
+        oldest = request;
+      }
+    }
+    return oldest;
+  }
 
   /**
    * Supposed to call from RemoteInterpreterEventPoller
    * @return next available event
    */
   public RemoteInterpreterEvent pollEvent() {
+    List<RemoteInterpreterEvent> events = pollEvents(1, 1000);
+    if (events.isEmpty()) {
+      return new RemoteInterpreterEvent(RemoteInterpreterEventType.NO_OP, "");
+    } else {
+      return events.get(0);
+    }
+  }
+
+  /**
+   * Supposed to call from RemoteInterpreterEventPoller.
+   * Drains queued events in a single call so a busy interpreter does not pay
+   * one round trip per event.
+   * @param maxBatch maximum number of events to return
+   * @param maxWaitMs maximum time to wait when there's no event in the queue
+   * @return events in the order they were sent. empty list when there's no event
+   */
+  public List<RemoteInterpreterEvent> pollEvents(int maxBatch, long maxWaitMs) {
     synchronized (eventQueue) {
-      if (eventQueue.isEmpty()) {
+      long now = System.currentTimeMillis();
+      long deadline = now + maxWaitMs;
+      flushAngularObjectUpdatesIfDue(now);
+      while (!hasEventToSend(now) && now < deadline) {
+        long waitMs = deadline - now;
+        if (pendingAppend != null) {
+          waitMs = Math.min(waitMs, pendingAppend.createdAt + outputCoalesceMs - now);
+        }
+        if (!pendingAngularUpdates.isEmpty()) {
+          waitMs = Math.min(waitMs, pendingAngularUpdatesSince + angularUpdateMs - now);
+        }
         try {
-          eventQueue.wait(1000);
+          eventQueue.wait(Math.max(waitMs, 1));
         } catch (InterruptedException e) {
+          break;
         }
+        now = System.currentTimeMillis();
+        flushAngularObjectUpdatesIfDue(now);
       }
 
-      if (eventQueue.isEmpty()) {
-        return new RemoteInterpreterEvent(RemoteInterpreterEventType.NO_OP, "");
-      } else {
+      if (!hasEventToSend(now)) {
+        return new ArrayList<RemoteInterpreterEvent>();
+      }
+
+      int size = Math.min(eventQueue.size(), Math.max(maxBatch, 1));
+      List<RemoteInterpreterEvent> events = new ArrayList<RemoteInterpreterEvent>(size);
+      for (int i = 0; i < size; i++) {
         RemoteInterpreterEvent event = eventQueue.remove(0);
-        logger.debug("Send event {}", event.getType());
-        return event;
+        if (pendingAppend != null && pendingAppend.event == event) {
+          closePendingAppend();
+        }
+        events.add(event);
       }
+      logger.debug("Send {} events", events.size());
+      eventQueue.notifyAll();
+      return events;
     }
   }
 
-  public void onInterpreterOutputAppend(String noteId, String paragraphId, String output) {
-    Map<String, String> appendOutput = new HashMap<String, String>();
-    appendOutput.put("noteId", noteId);
-    appendOutput.put("paragraphId", paragraphId);
-    appendOutput.put("data", output);
+  private boolean hasEventToSend(long now) {
+    if (eventQueue.isEmpty()) {
+      return false;
+    } else if (pendingAppend == null || eventQueue.size() > 1) {
+      return true;
+    } else {
+      // only event in the queue is output still being merged
+      return pendingAppend.data.length() >= outputCoalesceBytes ||
+          now - pendingAppend.createdAt >= outputCoalesceMs;
+    }
+  }
 
-    sendEvent(new RemoteInterpreterEvent(
-        RemoteInterpreterEventType.OUTPUT_APPEND,
-        gson.toJson(appendOutput)));
+  public void onInterpreterOutputAppend(String noteId, String paragraphId, String output) {
+    appendOutput(noteId, paragraphId, null, output);
   }
 
   public void onInterpreterOutputUpdate(String noteId, String paragraphId, String output) {
@@ -237,21 +474,73 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
 
   private void sendEvent(RemoteInterpreterEvent event) {
     synchronized (eventQueue) {
-      eventQueue.add(event);
-      eventQueue.notifyAll();
+      flushAngularObjectUpdates();
+      enqueue(event);
     }
   }
 
-  public void onAppOutputAppend(String noteId, String paragraphId, String appId, String output) {
-    Map<String, String> appendOutput = new HashMap<String, String>();
-    appendOutput.put("noteId", noteId);
-    appendOutput.put("paragraphId", paragraphId);
-    appendOutput.put("appId", appId);
-    appendOutput.put("data", output);
+  private void enqueue(RemoteInterpreterEvent event) {
+    closePendingAppend();
+    eventQueue.add(event);
+    eventQueue.notifyAll();
+  }
 
-    sendEvent(new RemoteInterpreterEvent(
-        RemoteInterpreterEventType.OUTPUT_APPEND,
-        gson.toJson(appendOutput)));
+  /**
+   * Merge output into the OUTPUT_APPEND event at the tail of the queue when it belongs to
+   * the same paragraph, instead of sending an event per line
+   */
+  private void appendOutput(String noteId, String paragraphId, String appId, String output) {
+    synchronized (eventQueue) {
+      // closes pendingAppend when there're updates, so output is not merged into an event
+      // queued before them
+      flushAngularObjectUpdates();
+      if (pendingAppend != null && pendingAppend.isFor(noteId, paragraphId, appId) &&
+          pendingAppend.data.length() < outputCoalesceBytes) {
+        pendingAppend.data.append(output);
+        if (pendingAppend.data.length() >= outputCoalesceBytes) {
+          eventQueue.notifyAll();
+        }
+        return;
+      }
+
+      Map<String, String> appendOutput = new HashMap<String, String>();
+      appendOutput.put("noteId", noteId);
+      appendOutput.put("paragraphId", paragraphId);
+      if (appId != null) {
+        appendOutput.put("appId", appId);
+      }
+
+      if (outputCoalesceBytes > 0) {
+        closePendingAppend();
+        RemoteInterpreterEvent event = new RemoteInterpreterEvent(
+            RemoteInterpreterEventType.OUTPUT_APPEND, null);
+        pendingAppend = new PendingOutputAppend(event, appendOutput, output);
+        eventQueue.add(event);
+        eventQueue.notifyAll();
+      } else {
+        appendOutput.put("data", output);
+        sendEvent(new RemoteInterpreterEvent(
+            RemoteInterpreterEventType.OUTPUT_APPEND,
+            gson.toJson(appendOutput)));
+      }
+    }
+  }
+
+  /**
+   * Stop merging output into pending OUTPUT_APPEND event and serialize it
+   */
+  private void closePendingAppend() {
+    if (pendingAppend == null) {
+      return;
+    }
+
+    pendingAppend.header.put("data", pendingAppend.data.toString());
+    pendingAppend.event.setData(gson.toJson(pendingAppend.header));
+    pendingAppend = null;
+  }
+
+  public void onAppOutputAppend(String noteId, String paragraphId, String appId, String output) {
+    appendOutput(noteId, paragraphId, appId, output);
   }
 
 
@@ -280,11 +569,32 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
   }
 
   /**
-   * Wait for eventQueue becomes empty
+   * Push status change of a job, so ZeppelinServer doesn't need to poll it
+   * @param noteId noteId that interpreter is created for
+   * @param jobId job id
+   * @param status new status
+   * @param busy whether the scheduler of the job can't start another job now
+   */
+  public void onJobStatusUpdate(String noteId, String jobId, String status, boolean busy) {
+    Map<String, String> jobStatus = new HashMap<String, String>();
+    jobStatus.put("noteId", noteId);
+    jobStatus.put("jobId", jobId);
+    jobStatus.put("status", status);
+    jobStatus.put("busy", Boolean.toString(busy));
+
+    sendEvent(new RemoteInterpreterEvent(
+        RemoteInterpreterEventType.JOB_STATUS_UPDATE,
+        gson.toJson(jobStatus)));
+  }
+
+  /**
+   * Wait for eventQueue becomes empty. Pending angular object updates are sent too
    */
   public void waitForEventQueueBecomesEmpty() {
     synchronized (eventQueue) {
-      while (!eventQueue.isEmpty()) {
+      while (!eventQueue.isEmpty() || !pendingAngularUpdates.isEmpty()) {
+        // don't wait for the end of the batching window
+        flushAngularObjectUpdates();
         try {
           eventQueue.wait(100);
         } catch (InterruptedException e) {
@@ -293,4 +603,24 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector {
       }
     }
   }
+
+  private static class PendingOutputAppend {
+    final RemoteInterpreterEvent event;
+    final Map<String, String> header;
+    final StringBuilder data;
+    final long createdAt;
+
+    PendingOutputAppend(RemoteInterpreterEvent event, Map<String, String> header, String data) {
+      this.event = event;
+      this.header = header;
+      this.data = new StringBuilder(data);
+      this.createdAt = System.currentTimeMillis();
+    }
+
+    boolean isFor(String noteId, String paragraphId, String appId) {
+      return noteId.equals(header.get("noteId")) &&
+          paragraphId.equals(header.get("paragraphId")) &&
+          (appId == null ? header.get("appId") == null : appId.equals(header.get("appId")));
+    }
+  }
 }
@@ -18,7 +18,10 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
@@ -28,14 +31,23 @@ import org.apache.zeppelin.interpreter.InterpreterGroup;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.metrics.Counter;
+import org.apache.zeppelin.metrics.Histogram;
+import org.apache.zeppelin.metrics.MetricRegistry;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceDirectory;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -51,14 +63,26 @@ public class RemoteInterpreterEventPoller extends Thread {
   private static final Logger logger = LoggerFactory.getLogger(RemoteInterpreterEventPoller.class);
   private static final ScheduledExecutorService appendService =
       Executors.newSingleThreadScheduledExecutor();
+  // maximum number of events fetched from remote process in a single round trip
+  static final int MAX_EVENT_BATCH_SIZE = 1000;
+  // maximum time remote process waits for an event before it returns an empty batch
+  static final int MAX_EVENT_WAIT_MS = 1000;
+  private final Gson gson = new Gson();
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
 
   private volatile boolean shutdown;
+  private boolean batchPollSupported = true;
 
   private RemoteInterpreterProcess interpreterProcess;
   private InterpreterGroup interpreterGroup;
 
+  // label of the metrics. read once, as getId() locks the group which is held during open
+  private String interpreterGroupId;
+  private Histogram pollLatency;
+  private final Map<RemoteInterpreterEventType, Counter> eventCounters =
+      new EnumMap<>(RemoteInterpreterEventType.class);
+
   public RemoteInterpreterEventPoller(
       RemoteInterpreterProcessListener listener,
       ApplicationEventListener appListener) {
@@ -73,6 +97,7 @@ public class RemoteInterpreterEventPoller extends Thread {
 
   public void setInterpreterGroup(InterpreterGroup interpreterGroup) {
     this.interpreterGroup = interpreterGroup;
+    this.interpreterGroupId = interpreterGroup.getId();
   }
 
   @Override
@@ -81,6 +106,9 @@ public class RemoteInterpreterEventPoller extends Thread {
     AppendOutputRunner runner = new AppendOutputRunner(listener);
     ScheduledFuture<?> appendFuture = appendService.scheduleWithFixedDelay(
         runner, 0, AppendOutputRunner.BUFFER_TIME_MS, TimeUnit.MILLISECONDS);
+    pollLatency = MetricRegistry.singleton().histogram("zeppelin_interpreter_event_poll_ms",
+        "Time to get a batch of events from the interpreter process, including wait for events",
+        Histogram.LATENCY_MS_BUCKETS, "interpreterGroup", interpreterGroupId);
 
     while (!shutdown) {
       // wait and retry
@@ -101,10 +129,12 @@ public class RemoteInterpreterEventPoller extends Thread {
         continue;
       }
 
-      RemoteInterpreterEvent event = null;
+      List<RemoteInterpreterEvent> events;
       boolean broken = false;
+      long pollStart = System.nanoTime();
       try {
-        event = client.getEvent();
+        events = pollEvents(client);
+        pollLatency.updateSince(pollStart);
       } catch (TException e) {
         broken = true;
         logger.error("Can't get RemoteInterpreterEvent", e);
@@ -114,96 +144,179 @@ public class RemoteInterpreterEventPoller extends Thread {
         interpreterProcess.releaseClient(client, broken);
       }
 
-      Gson gson = new Gson();
-
-      AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
+      for (RemoteInterpreterEvent event : events) {
+        countEvent(event);
+        processEvent(event, runner);
+      }
+    }
+    if (appendFuture != null) {
+      appendFuture.cancel(true);
+    }
+  }
 
+  /**
+   * Get queued events from the remote process.
+   * Falls back to single event polling when remote process does not support getEvents()
+   */
+  private List<RemoteInterpreterEvent> pollEvents(Client client) throws TException {
+    if (batchPollSupported) {
       try {
-        if (event.getType() == RemoteInterpreterEventType.NO_OP) {
-          continue;
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
-          AngularObject angularObject = gson.fromJson(event.getData(), AngularObject.class);
-          angularObjectRegistry.add(angularObject.getName(),
-              angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
-          AngularObject angularObject = gson.fromJson(event.getData(),
-              AngularObject.class);
-          AngularObject localAngularObject = angularObjectRegistry.get(
-              angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
-          if (localAngularObject instanceof RemoteAngularObject) {
-            // to avoid ping-pong loop
-            ((RemoteAngularObject) localAngularObject).set(
-                angularObject.get(), true, false);
-          } else {
-            localAngularObject.set(angularObject.get());
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
-          AngularObject angularObject = gson.fromJson(event.getData(), AngularObject.class);
-          angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
-                  angularObject.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
-          InterpreterContextRunner runnerFromRemote = gson.fromJson(
-              event.getData(), RemoteInterpreterContextRunner.class);
-
-          interpreterProcess.getInterpreterContextRunnerPool().run(
-              runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
-          ResourceSet resourceSet = getAllResourcePoolExcept();
-          sendResourcePoolResponseGetAll(resourceSet);
-        } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
-          String resourceIdString = event.getData();
-          ResourceId resourceId = gson.fromJson(resourceIdString, ResourceId.class);
-          logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
-          Object o = getResource(resourceId);
-          sendResourceResponseGet(resourceId, o);
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
-          // on output append
-          Map<String, String> outputAppend = gson.fromJson(
-                  event.getData(), new TypeToken<Map<String, String>>() {}.getType());
-          String noteId = outputAppend.get("noteId");
-          String paragraphId = outputAppend.get("paragraphId");
-          String outputToAppend = outputAppend.get("data");
-          String appId = outputAppend.get("appId");
-
-          if (appId == null) {
-            runner.appendBuffer(noteId, paragraphId, outputToAppend);
-          } else {
-            appListener.onOutputAppend(noteId, paragraphId, appId, outputToAppend);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
-          // on output update
-          Map<String, String> outputAppend = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, String>>() {}.getType());
-          String noteId = outputAppend.get("noteId");
-          String paragraphId = outputAppend.get("paragraphId");
-          String outputToUpdate = outputAppend.get("data");
-          String appId = outputAppend.get("appId");
-
-          if (appId == null) {
-            listener.onOutputUpdated(noteId, paragraphId, outputToUpdate);
-          } else {
-            appListener.onOutputUpdated(noteId, paragraphId, appId, outputToUpdate);
-          }
-        } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
-          // on output update
-          Map<String, String> appStatusUpdate = gson.fromJson(
-              event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+        return client.getEvents(MAX_EVENT_BATCH_SIZE, MAX_EVENT_WAIT_MS);
+      } catch (TApplicationException e) {
+        if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+          throw e;
+        }
+        logger.info("Remote interpreter process does not support getEvents(). " +
+            "Fall back to getEvent()");
+        batchPollSupported = false;
+      }
+    }
+    return Collections.singletonList(client.getEvent());
+  }
 
-          String noteId = appStatusUpdate.get("noteId");
-          String paragraphId = appStatusUpdate.get("paragraphId");
-          String appId = appStatusUpdate.get("appId");
-          String status = appStatusUpdate.get("status");
+  private void countEvent(RemoteInterpreterEvent event) {
+    Counter counter = eventCounters.get(event.getType());
+    if (counter == null) {
+      counter = MetricRegistry.singleton().counter("zeppelin_interpreter_events_total",
+          "Number of events received from the interpreter process",
+          "interpreterGroup", interpreterGroupId, "type", event.getType().name());
+      eventCounters.put(event.getType(), counter);
+    }
+    counter.inc();
+  }
 
-          appListener.onStatusChange(noteId, paragraphId, appId, status);
+  private void updateAngularObject(AngularObjectRegistry angularObjectRegistry,
+      AngularObject angularObject) {
+    AngularObject localAngularObject = angularObjectRegistry.get(
+        angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
+    if (localAngularObject == null) {
+      logger.debug("Angular object {} is already removed", angularObject.getName());
+    } else if (localAngularObject instanceof RemoteAngularObject) {
+      // to avoid ping-pong loop
+      ((RemoteAngularObject) localAngularObject).set(
+          angularObject.get(), true, false);
+    } else {
+      localAngularObject.set(angularObject.get());
+    }
+  }
+
+  private void processEvent(RemoteInterpreterEvent event, AppendOutputRunner runner) {
+    AngularObjectRegistry angularObjectRegistry = interpreterGroup.getAngularObjectRegistry();
+
+    try {
+      if (event.getType() == RemoteInterpreterEventType.NO_OP) {
+        return;
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_ADD) {
+        AngularObject angularObject = gson.fromJson(event.getData(), AngularObject.class);
+        angularObjectRegistry.add(angularObject.getName(),
+            angularObject.get(), angularObject.getNoteId(), angularObject.getParagraphId());
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE) {
+        AngularObject angularObject = gson.fromJson(event.getData(),
+            AngularObject.class);
+        updateAngularObject(angularObjectRegistry, angularObject);
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH) {
+        AngularObject[] angularObjects = gson.fromJson(event.getData(),
+            AngularObject[].class);
+        for (AngularObject angularObject : angularObjects) {
+          updateAngularObject(angularObjectRegistry, angularObject);
         }
-        logger.debug("Event from remoteproceess {}", event.getType());
-      } catch (Exception e) {
-        logger.error("Can't handle event " + event, e);
+      } else if (event.getType() == RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE) {
+        AngularObject angularObject = gson.fromJson(event.getData(), AngularObject.class);
+        angularObjectRegistry.remove(angularObject.getName(), angularObject.getNoteId(),
+                angularObject.getParagraphId());
+      } else if (event.getType() == RemoteInterpreterEventType.RUN_INTERPRETER_CONTEXT_RUNNER) {
+        InterpreterContextRunner runnerFromRemote = gson.fromJson(
+            event.getData(), RemoteInterpreterContextRunner.class);
+
+        interpreterProcess.getInterpreterContextRunnerPool().run(
+            runnerFromRemote.getNoteId(), runnerFromRemote.getParagraphId());
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL) {
+        ResourceSet resourceSet = getAllResourcePoolExcept();
+        sendResourcePoolResponse(event.getData(), resourceSet);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_GET_BY_NAME) {
+        JsonObject request = new JsonParser().parse(event.getData()).getAsJsonObject();
+        ResourceSet resourceSet = getResourcesExcept(request.get("name").getAsString());
+        sendResourcePoolResponse(event.getData(), resourceSet);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_PUT) {
+        Resource resource = gson.fromJson(event.getData(), Resource.class);
+        ResourceDirectory.singleton().put(resource);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_POOL_REMOVE) {
+        ResourceId resourceId = gson.fromJson(event.getData(), ResourceId.class);
+        ResourceDirectory.singleton().remove(resourceId);
+      } else if (event.getType() == RemoteInterpreterEventType.RESOURCE_GET) {
+        String resourceIdString = event.getData();
+        ResourceId resourceId = gson.fromJson(resourceIdString, ResourceId.class);
+        logger.debug("RESOURCE_GET {} {}", resourceId.getResourcePoolId(), resourceId.getName());
+        ByteBuffer o = getResource(resourceId);
+        sendResourceResponseGet(resourceIdString, o);
+      } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_APPEND) {
+        // on output append
+        Map<String, String> outputAppend = gson.fromJson(
+                event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+        String noteId = outputAppend.get("noteId");
+        String paragraphId = outputAppend.get("paragraphId");
+        String outputToAppend = outputAppend.get("data");
+        String appId = outputAppend.get("appId");
+
+        if (appId == null) {
+          runner.appendBuffer(noteId, paragraphId, outputToAppend);
+        } else {
+          appListener.onOutputAppend(noteId, paragraphId, appId, outputToAppend);
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.OUTPUT_UPDATE) {
+        // on output update
+        Map<String, String> outputAppend = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+        String noteId = outputAppend.get("noteId");
+        String paragraphId = outputAppend.get("paragraphId");
+        String outputToUpdate = outputAppend.get("data");
+        String appId = outputAppend.get("appId");
+
+        if (appId == null) {
+          listener.onOutputUpdated(noteId, paragraphId, outputToUpdate);
+        } else {
+          appListener.onOutputUpdated(noteId, paragraphId, appId, outputToUpdate);
+        }
+      } else if (event.getType() == RemoteInterpreterEventType.APP_STATUS_UPDATE) {
+        // on output update
+        Map<String, String> appStatusUpdate = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+
+        String noteId = appStatusUpdate.get("noteId");
+        String paragraphId = appStatusUpdate.get("paragraphId");
+        String appId = appStatusUpdate.get("appId");
+        String status = appStatusUpdate.get("status");
+
+        appListener.onStatusChange(noteId, paragraphId, appId, status);
+      } else if (event.getType() == RemoteInterpreterEventType.JOB_STATUS_UPDATE) {
+        Map<String, String> jobStatus = gson.fromJson(
+            event.getData(), new TypeToken<Map<String, String>>() {}.getType());
+
+        // busy is not sent by interpreter process of older versions
+        interpreterProcess.onJobStatusUpdate(jobStatus.get("noteId"), jobStatus.get("jobId"),
+            Job.Status.valueOf(jobStatus.get("status")),
+            Boolean.parseBoolean(jobStatus.get("busy")));
       }
+      logger.debug("Event from remoteproceess {}", event.getType());
+    } catch (Exception e) {
+      logger.error("Can't handle event " + event, e);
     }
-    if (appendFuture != null) {
-      appendFuture.cancel(true);
+  }
+
+  /**
+   * Send resources as the response of the request.
+   * Request without id, from older interpreter process, is answered by
+   * resourcePoolResponseGetAll()
+   * @param request json of the request
+   */
+  private void sendResourcePoolResponse(String request, ResourceSet resourceSet) {
+    if (request == null || !new JsonParser().parse(request).getAsJsonObject().has("requestId")) {
+      sendResourcePoolResponseGetAll(resourceSet);
+      return;
     }
+    ByteBuffer resources = ByteBuffer.wrap(
+        gson.toJson(resourceSet).getBytes(StandardCharsets.UTF_8));
+    sendResourceResponseGet(request, resources);
   }
 
   private void sendResourcePoolResponseGetAll(ResourceSet resourceSet) {
@@ -212,7 +325,6 @@ public class RemoteInterpreterEventPoller extends Thread {
     try {
       client = interpreterProcess.getClient();
       List<String> resourceList = new LinkedList<String>();
-      Gson gson = new Gson();
       for (Resource r : resourceSet) {
         resourceList.add(gson.toJson(r));
       }
@@ -246,7 +358,6 @@ public class RemoteInterpreterEventPoller extends Thread {
         try {
           client = remoteInterpreterProcess.getClient();
           List<String> resourceList = client.resourcePoolGetAll();
-          Gson gson = new Gson();
           for (String res : resourceList) {
             resourceSet.add(gson.fromJson(res, Resource.class));
           }
@@ -265,20 +376,35 @@ public class RemoteInterpreterEventPoller extends Thread {
 
 
 
-  private void sendResourceResponseGet(ResourceId resourceId, Object o) {
+  /**
+   * Get resources of the name from the resource directory, without asking other processes
+   */
+  private ResourceSet getResourcesExcept(String name) {
+    ResourceSet resourceSet = ResourceDirectory.singleton().get(name, interpreterGroupId);
+    // resource pools in ZeppelinServer don't send put and remove events
+    for (InterpreterGroup intpGroup : InterpreterGroup.getAll()) {
+      ResourcePool localPool = intpGroup.getResourcePool();
+      if (intpGroup.getRemoteInterpreterProcess() == null && localPool != null
+          && !intpGroup.getId().equals(interpreterGroupId)) {
+        resourceSet.addAll(localPool.getAll().filterByName(name));
+      }
+    }
+    return resourceSet;
+  }
+
+  /**
+   * @param request json of the request, sent back to identify the response
+   * @param obj encoded value of the resource. null when not found
+   */
+  private void sendResourceResponseGet(String request, ByteBuffer obj) {
     Client client = null;
     boolean broken = false;
     try {
       client = interpreterProcess.getClient();
-      Gson gson = new Gson();
-      String rid = gson.toJson(resourceId);
-      ByteBuffer obj;
-      if (o == null) {
+      if (obj == null) {
         obj = ByteBuffer.allocate(0);
-      } else {
-        obj = Resource.serializeObject(o);
       }
-      client.resourceResponseGet(rid, obj);
+      client.resourceResponseGet(request, obj);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
       broken = true;
@@ -289,7 +415,12 @@ public class RemoteInterpreterEventPoller extends Thread {
     }
   }
 
-  private Object getResource(ResourceId resourceId) {
+  /**
+   * Get encoded value of the resource. Value from other process is passed as it is,
+   * without decoding here
+   * @return null when not found
+   */
+  private ByteBuffer getResource(ResourceId resourceId) {
     InterpreterGroup intpGroup = InterpreterGroup.getByInterpreterGroupId(
         resourceId.getResourcePoolId());
     if (intpGroup == null) {
@@ -299,19 +430,23 @@ public class RemoteInterpreterEventPoller extends Thread {
     if (remoteInterpreterProcess == null) {
       ResourcePool localPool = intpGroup.getResourcePool();
       if (localPool != null) {
-        return localPool.get(resourceId.getName());
+        Resource resource = localPool.get(
+            resourceId.getNoteId(), resourceId.getParagraphId(), resourceId.getName());
+        try {
+          return resource == null ? null : Resource.serializeObject(resource.get());
+        } catch (IOException e) {
+          logger.error("Can't encode resource " + resourceId.getName(), e);
+        }
       }
     } else if (interpreterProcess.isRunning()) {
       Client client = null;
       boolean broken = false;
       try {
         client = remoteInterpreterProcess.getClient();
-        ByteBuffer res = client.resourceGet(
+        return client.resourceGet(
             resourceId.getNoteId(),
             resourceId.getParagraphId(),
             resourceId.getName());
-        Object o = Resource.deserializeObject(res);
-        return o;
       } catch (Exception e) {
         logger.error(e.getMessage(), e);
         broken = true;
@@ -25,8 +25,15 @@ import org.apache.zeppelin.interpreter.Constants;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterGroup;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.metrics.Gauge;
+import org.apache.zeppelin.metrics.Histogram;
+import org.apache.zeppelin.metrics.MetricRegistry;
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Properties;
 
@@ -41,7 +48,13 @@ public abstract class RemoteInterpreterProcess {
   private GenericObjectPool<Client> clientPool;
   private final RemoteInterpreterEventPoller remoteInterpreterEventPoller;
   private final InterpreterContextRunnerPool interpreterContextRunnerPool;
+  private final List<RemoteScheduler> remoteSchedulers =
+      new CopyOnWriteArrayList<RemoteScheduler>();
   private int connectTimeout;
+  private boolean framedTransport = false;
+  // interpreter group label of the metrics of this process
+  private String metricsLabel;
+  private Histogram borrowWait;
   String host = "localhost";
   boolean isInterpreterAlreadyExecuting = false;
 
@@ -71,6 +84,18 @@ public abstract class RemoteInterpreterProcess {
     return connectTimeout;
   }
 
+  /**
+   * Connect with framed transport, to the process serving non-blocking.
+   * Must be set before the first reference
+   */
+  public void setFramedTransport(boolean framedTransport) {
+    this.framedTransport = framedTransport;
+  }
+
+  public boolean isFramedTransport() {
+    return framedTransport;
+  }
+
   public int reference(InterpreterGroup interpreterGroup) {
     synchronized (referenceCount) {
       if (!isRunning()) {
@@ -78,9 +103,12 @@ public abstract class RemoteInterpreterProcess {
       }
 
       if (clientPool == null) {
-        clientPool = new GenericObjectPool<Client>(new ClientFactory(getHost(), getPort()));
+        clientPool = new GenericObjectPool<Client>(
+            new ClientFactory(getHost(), getPort(), framedTransport));
         clientPool.setTestOnBorrow(true);
 
+        registerMetrics(interpreterGroup.getId());
+
         remoteInterpreterEventPoller.setInterpreterGroup(interpreterGroup);
         remoteInterpreterEventPoller.setInterpreterProcess(this);
         remoteInterpreterEventPoller.start();
@@ -89,11 +117,36 @@ public abstract class RemoteInterpreterProcess {
     }
   }
 
+  private void registerMetrics(String interpreterGroupId) {
+    metricsLabel = interpreterGroupId;
+    MetricRegistry registry = MetricRegistry.singleton();
+    borrowWait = registry.histogram("zeppelin_interpreter_client_borrow_ms",
+        "Time waiting for a thrift client of the interpreter process",
+        Histogram.LATENCY_MS_BUCKETS, "interpreterGroup", metricsLabel);
+    registry.register(new Gauge("zeppelin_interpreter_client_active",
+        "Number of thrift clients in use", "interpreterGroup", metricsLabel) {
+      @Override
+      public long getValue() {
+        return getNumActiveClient();
+      }
+    });
+    registry.register(new Gauge("zeppelin_interpreter_client_idle",
+        "Number of idle thrift clients in the pool", "interpreterGroup", metricsLabel) {
+      @Override
+      public long getValue() {
+        return getNumIdleClient();
+      }
+    });
+  }
+
   public Client getClient() throws Exception {
     if (clientPool == null || clientPool.isClosed()) {
       return null;
     }
-    return clientPool.borrowObject();
+    long start = System.nanoTime();
+    Client client = clientPool.borrowObject();
+    borrowWait.updateSince(start);
+    return client;
   }
 
   public void releaseClient(Client client) {
@@ -146,6 +199,7 @@ public abstract class RemoteInterpreterProcess {
 
         clientPool.clear();
         clientPool.close();
+        MetricRegistry.singleton().removeByLabel("interpreterGroup", metricsLabel);
 
         // wait for some time (connectTimeout) and force kill
         // remote process server.serve() loop is not always finishing gracefully
@@ -191,16 +245,25 @@ public abstract class RemoteInterpreterProcess {
 
   public void setMaxPoolSize(int size) {
     if (clientPool != null) {
-      //Size + 2 for progress poller , cancel operation
-      clientPool.setMaxTotal(size + 2);
+      if (framedTransport) {
+        // connections to non-blocking server are cheap. progress poller and cancel
+        // never wait for a client, and only the size is kept open when idle
+        clientPool.setMaxTotal(-1);
+        clientPool.setMaxIdle(size + 2);
+      } else {
+        //Size + 2 for progress poller , cancel operation
+        clientPool.setMaxTotal(size + 2);
+      }
     }
   }
 
   public int getMaxPoolSize() {
-    if (clientPool != null) {
-      return clientPool.getMaxTotal();
-    } else {
+    if (clientPool == null) {
       return 0;
+    } else if (framedTransport) {
+      return clientPool.getMaxIdle();
+    } else {
+      return clientPool.getMaxTotal();
     }
   }
 
@@ -243,4 +306,26 @@ public abstract class RemoteInterpreterProcess {
   public InterpreterContextRunnerPool getInterpreterContextRunnerPool() {
     return interpreterContextRunnerPool;
   }
+
+  /**
+   * Register scheduler to receive job status pushed from this process
+   */
+  public void addRemoteScheduler(RemoteScheduler scheduler) {
+    remoteSchedulers.add(scheduler);
+  }
+
+  public void removeRemoteScheduler(RemoteScheduler scheduler) {
+    remoteSchedulers.remove(scheduler);
+  }
+
+  /**
+   * Called by RemoteInterpreterEventPoller when status of a job in this process changes
+   */
+  public void onJobStatusUpdate(String noteId, String jobId, Status status, boolean busy) {
+    for (RemoteScheduler scheduler : remoteSchedulers) {
+      if (scheduler.getNoteId().equals(noteId)) {
+        scheduler.onJobStatusUpdate(jobId, status, busy);
+      }
+    }
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps large interpret result messages on disk in the interpreter process,
+ * so ZeppelinServer can read them in chunks instead of receiving one huge message.
+ * One result per paragraph is kept, until the paragraph runs again.
+ */
+public class RemoteInterpreterResultSpool {
+  private static final Logger logger = LoggerFactory.getLogger(RemoteInterpreterResultSpool.class);
+
+  private final File dir;
+  // spooled result files by noteId + paragraphId
+  private final Map<String, File> files = new HashMap<>();
+
+  public RemoteInterpreterResultSpool(File dir) {
+    this.dir = dir;
+  }
+
+  private String key(String noteId, String paragraphId) {
+    return noteId + "/" + paragraphId;
+  }
+
+  /**
+   * Write msg to disk, replacing the previous result of the paragraph
+   */
+  public void put(String noteId, String paragraphId, String msg) throws IOException {
+    dir.mkdirs();
+    File file = File.createTempFile("result_", ".spool", dir);
+    file.deleteOnExit();
+
+    // two bytes per char, so char offset maps to file position directly
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeChars(msg);
+    } catch (IOException e) {
+      file.delete();
+      throw e;
+    }
+
+    File previous;
+    synchronized (files) {
+      previous = files.put(key(noteId, paragraphId), file);
+    }
+    if (previous != null) {
+      previous.delete();
+    }
+  }
+
+  /**
+   * Read part of the spooled result
+   * @param offset offset in chars
+   * @param len maximum number of chars to read
+   * @return chunk of the result. null if no result is spooled for the paragraph
+   */
+  public String get(String noteId, String paragraphId, int offset, int len)
+      throws IOException {
+    synchronized (files) {
+      File file = files.get(key(noteId, paragraphId));
+      if (file == null) {
+        return null;
+      }
+
+      try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+        long length = in.length() / 2;
+        int n = (int) Math.max(0, Math.min(len, length - offset));
+        byte[] chunk = new byte[n * 2];
+        in.seek(offset * 2L);
+        in.readFully(chunk);
+
+        // don't split a surrogate pair between chunks
+        if (n > 1 && offset + n < length) {
+          char last = (char) (((chunk[n * 2 - 2] & 0xff) << 8) | (chunk[n * 2 - 1] & 0xff));
+          if (Character.isHighSurrogate(last)) {
+            n--;
+          }
+        }
+        return new String(chunk, 0, n * 2, StandardCharsets.UTF_16BE);
+      }
+    }
+  }
+
+  public void remove(String noteId, String paragraphId) {
+    File file;
+    synchronized (files) {
+      file = files.remove(key(noteId, paragraphId));
+    }
+    if (file != null) {
+      file.delete();
+    }
+  }
+
+  public void clear() {
+    synchronized (files) {
+      for (File file : files.values()) {
+        if (!file.delete()) {
+          logger.warn("Can't delete {}", file);
+        }
+      }
+      files.clear();
+    }
+  }
+}
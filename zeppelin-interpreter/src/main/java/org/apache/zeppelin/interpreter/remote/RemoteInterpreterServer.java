@@ -18,15 +18,22 @@
 package org.apache.zeppelin.interpreter.remote;
 
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.Executors;
 
 import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.dep.DependencyResolver;
@@ -37,11 +44,14 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.dev.ZeppelinDevServer;
 import org.apache.zeppelin.interpreter.thrift.*;
 import org.apache.zeppelin.resource.*;
+import org.apache.zeppelin.scheduler.FairScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.JobListener;
 import org.apache.zeppelin.scheduler.JobProgressPoller;
+import org.apache.zeppelin.scheduler.ParallelScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
+import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +68,19 @@ public class RemoteInterpreterServer
   implements RemoteInterpreterService.Iface, AngularObjectRegistryListener {
   Logger logger = LoggerFactory.getLogger(RemoteInterpreterServer.class);
 
+  /**
+   * Environment variable to select thrift transport of the interpreter process.
+   * FRAMED_TRANSPORT serves non-blocking, otherwise a thread per connection
+   */
+  public static final String THRIFT_TRANSPORT_ENV = "ZEPPELIN_INTERPRETER_THRIFT_TRANSPORT";
+  public static final String FRAMED_TRANSPORT = "framed";
+
+  /**
+   * Environment variables to select how resource values are encoded. See ResourceCodecs
+   */
+  public static final String RESOURCE_CODEC_ENV = "ZEPPELIN_INTERPRETER_RESOURCE_CODEC";
+  public static final String RESOURCE_COMPRESS_ENV = "ZEPPELIN_INTERPRETER_RESOURCE_COMPRESS";
+
   InterpreterGroup interpreterGroup;
   AngularObjectRegistry angularObjectRegistry;
   DistributedResourcePool resourcePool;
@@ -68,21 +91,47 @@ public class RemoteInterpreterServer
   RemoteInterpreterService.Processor<RemoteInterpreterServer> processor;
   RemoteInterpreterServer handler;
   private int port;
-  private TThreadPoolServer server;
+  private TServer server;
 
   RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+  private final RemoteInterpreterResultSpool resultSpool = new RemoteInterpreterResultSpool(
+      new File(System.getProperty("java.io.tmpdir"), "zeppelin-interpreter-result"));
+  private int resultChunkSize = 0;
+  // maximum number of bytes of each paragraph and application output. 0 means no limit
+  private volatile int outputLimit = 0;
   private DependencyResolver depLoader;
 
   private final Map<String, RunningApplication> runningApplications =
       Collections.synchronizedMap(new HashMap<String, RunningApplication>());
 
   public RemoteInterpreterServer(int port) throws TTransportException {
+    this(port, false);
+  }
+
+  /**
+   * @param framed serve framed transport and compact protocol with selector threads,
+   *               instead of a thread per connection. Calls are still run in their own thread,
+   *               so a long interpret doesn't hold getProgress and cancel back
+   */
+  public RemoteInterpreterServer(int port, boolean framed) throws TTransportException {
     this.port = port;
 
     processor = new RemoteInterpreterService.Processor<RemoteInterpreterServer>(this);
-    TServerSocket serverTransport = new TServerSocket(port);
-    server = new TThreadPoolServer(
-        new TThreadPoolServer.Args(serverTransport).processor(processor));
+    if (framed) {
+      TNonblockingServerSocket serverTransport = new TNonblockingServerSocket(port);
+      server = new TThreadedSelectorServer(
+          new TThreadedSelectorServer.Args(serverTransport)
+              .processor(processor)
+              .transportFactory(new TFramedTransport.Factory(Integer.MAX_VALUE))
+              .protocolFactory(new TCompactProtocol.Factory())
+              .executorService(Executors.newCachedThreadPool())
+              // shutdown() is one of the calls. don't wait for it on stop
+              .stopTimeoutVal(1));
+    } else {
+      TServerSocket serverTransport = new TServerSocket(port);
+      server = new TThreadPoolServer(
+          new TThreadPoolServer.Args(serverTransport).processor(processor));
+    }
   }
 
   @Override
@@ -98,6 +147,7 @@ public class RemoteInterpreterServer
       interpreterGroup.close();
       interpreterGroup.destroy();
     }
+    resultSpool.clear();
 
     server.stop();
 
@@ -139,7 +189,12 @@ public class RemoteInterpreterServer
     if (args.length > 0) {
       port = Integer.parseInt(args[0]);
     }
-    RemoteInterpreterServer remoteInterpreterServer = new RemoteInterpreterServer(port);
+    boolean framed = FRAMED_TRANSPORT.equals(System.getenv(THRIFT_TRANSPORT_ENV));
+    if (System.getenv(RESOURCE_CODEC_ENV) != null) {
+      ResourceCodecs.setDefault(System.getenv(RESOURCE_CODEC_ENV),
+          Boolean.parseBoolean(System.getenv(RESOURCE_COMPRESS_ENV)));
+    }
+    RemoteInterpreterServer remoteInterpreterServer = new RemoteInterpreterServer(port, framed);
     remoteInterpreterServer.start();
     remoteInterpreterServer.join();
     System.exit(0);
@@ -160,6 +215,7 @@ public class RemoteInterpreterServer
       depLoader = new DependencyResolver(localRepoPath);
       appLoader = new ApplicationLoader(resourcePool, depLoader);
     }
+    setOutputConfig(properties);
 
     try {
       Class<Interpreter> replClass = (Class<Interpreter>) Object.class.forName(className);
@@ -193,6 +249,48 @@ public class RemoteInterpreterServer
     }
   }
 
+  private void setOutputConfig(Map<String, String> properties) {
+    String limit = properties.get("zeppelin.interpreter.output.limit");
+    if (limit != null) {
+      outputLimit = Integer.parseInt(limit);
+    }
+
+    String coalesceBytes = properties.get("zeppelin.interpreter.output.coalesce.bytes");
+    if (coalesceBytes != null) {
+      eventClient.setOutputCoalesceBytes(Integer.parseInt(coalesceBytes));
+    }
+
+    String coalesceMs = properties.get("zeppelin.interpreter.output.coalesce.ms");
+    if (coalesceMs != null) {
+      eventClient.setOutputCoalesceMs(Integer.parseInt(coalesceMs));
+    }
+
+    String angularUpdateMs = properties.get("zeppelin.interpreter.angular.update.ms");
+    if (angularUpdateMs != null) {
+      eventClient.setAngularObjectUpdateMs(Integer.parseInt(angularUpdateMs));
+    }
+
+    String resourceTimeout = properties.get("zeppelin.interpreter.resource.timeout");
+    if (resourceTimeout != null) {
+      eventClient.setResourceRequestTimeoutMs(Integer.parseInt(resourceTimeout));
+    }
+
+    String poolMaxBytes = properties.get("zeppelin.interpreter.resource.pool.max.bytes");
+    String poolTtl = properties.get("zeppelin.interpreter.resource.pool.ttl");
+    if (poolMaxBytes != null || poolTtl != null) {
+      String spillDir = properties.get("zeppelin.interpreter.resource.pool.spill.dir");
+      resourcePool.setLimits(
+          poolMaxBytes == null ? 0 : Long.parseLong(poolMaxBytes),
+          poolTtl == null ? 0 : Long.parseLong(poolTtl),
+          spillDir == null ? null : new File(spillDir));
+    }
+
+    String resultChunkSize = properties.get("zeppelin.interpreter.result.chunk.size");
+    if (resultChunkSize != null) {
+      this.resultChunkSize = Integer.parseInt(resultChunkSize);
+    }
+  }
+
   protected InterpreterGroup getInterpreterGroup() {
     return interpreterGroup;
   }
@@ -239,6 +337,45 @@ public class RemoteInterpreterServer
         + className + " not found"));
   }
 
+  /**
+   * Returns scheduler to run paragraphs on the interpreter.
+   * Interpreter property 'zeppelin.interpreter.scheduler' set to 'fair' puts a FairScheduler
+   * in front of the interpreter instead of the scheduler the interpreter provides.
+   */
+  protected Scheduler getScheduler(Interpreter intp) {
+    if (!"fair".equals(intp.getProperty("zeppelin.interpreter.scheduler"))) {
+      return intp.getScheduler();
+    }
+
+    int maxConcurrency = getIntProperty(intp,
+        "zeppelin.interpreter.scheduler.maxConcurrency", 1);
+    int maxQueueSize = getIntProperty(intp,
+        "zeppelin.interpreter.scheduler.maxQueueSize", 0);
+    FairScheduler.ShareBy shareBy = "note".equalsIgnoreCase(
+        intp.getProperty("zeppelin.interpreter.scheduler.shareBy")) ?
+        FairScheduler.ShareBy.NOTE : FairScheduler.ShareBy.USER;
+
+    return SchedulerFactory.singleton().createOrGetFairScheduler(
+        getFairSchedulerName(intp), maxConcurrency, maxQueueSize, shareBy);
+  }
+
+  private String getFairSchedulerName(Interpreter intp) {
+    return "fair_" + intp.getClassName() + intp.hashCode();
+  }
+
+  private int getIntProperty(Interpreter intp, String key, int defaultValue) {
+    String value = intp.getProperty(key);
+    if (value == null || value.trim().isEmpty()) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      logger.warn("Invalid value {} for {}", value, key);
+      return defaultValue;
+    }
+  }
+
   @Override
   public void open(String noteId, String className) throws TException {
     Interpreter intp = getInterpreter(noteId, className);
@@ -274,6 +411,7 @@ public class RemoteInterpreterServer
           if (inp.getClassName().equals(className)) {
             inp.close();
             it.remove();
+            SchedulerFactory.singleton().removeScheduler(getFairSchedulerName(inp));
             break;
           }
         }
@@ -291,8 +429,8 @@ public class RemoteInterpreterServer
     Interpreter intp = getInterpreter(noteId, className);
     InterpreterContext context = convert(interpreterContext);
 
-    Scheduler scheduler = intp.getScheduler();
-    InterpretJobListener jobListener = new InterpretJobListener();
+    Scheduler scheduler = getScheduler(intp);
+    InterpretJobListener jobListener = new InterpretJobListener(noteId, scheduler);
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
         "remoteInterpretJob_" + System.currentTimeMillis(),
@@ -325,13 +463,89 @@ public class RemoteInterpreterServer
         result = new InterpreterResult(Code.KEEP_PREVIOUS_RESULT);
       }
     }
-    return convert(result,
+    RemoteInterpreterResult remoteResult = convert(result,
         context.getConfig(),
         context.getGui());
+    spoolLargeResult(noteId, interpreterContext.getParagraphId(), remoteResult);
+    return remoteResult;
+  }
+
+  /**
+   * Keep the result msg larger than the chunk size on disk and send only its first chunk.
+   * ZeppelinServer reads the rest with fetchResultChunk.
+   */
+  private void spoolLargeResult(String noteId, String paragraphId,
+      RemoteInterpreterResult result) {
+    resultSpool.remove(noteId, paragraphId);
+
+    String msg = result.getMsg();
+    if (resultChunkSize <= 0 || msg == null || msg.length() <= resultChunkSize) {
+      return;
+    }
+
+    try {
+      resultSpool.put(noteId, paragraphId, msg);
+    } catch (IOException e) {
+      logger.error("Can't spool result. Sending it at once", e);
+      return;
+    }
+
+    int firstChunkSize = resultChunkSize;
+    if (firstChunkSize > 1 && Character.isHighSurrogate(msg.charAt(firstChunkSize - 1))) {
+      firstChunkSize--;
+    }
+    result.setMsgLength(msg.length());
+    result.setMsg(msg.substring(0, firstChunkSize));
   }
 
+  @Override
+  public String fetchResultChunk(String noteId, String paragraphId, int offset, int len)
+      throws TException {
+    String chunk;
+    try {
+      chunk = resultSpool.get(noteId, paragraphId, offset, len);
+    } catch (IOException e) {
+      throw new TException(e);
+    }
+
+    if (chunk == null) {
+      throw new TException(
+          new InterpreterException("Result of paragraph " + paragraphId + " not found"));
+    }
+    return chunk;
+  }
+
+
+  /**
+   * Whether jobs should be kept in the client side queue, because a job submitted to the
+   * scheduler now would wait for other jobs. FairScheduler is never busy: it orders waiting
+   * jobs by user and priority, so it has to see all of them instead of the client's FIFO order
+   */
+  static boolean isBusy(Scheduler scheduler) {
+    if (scheduler instanceof FairScheduler) {
+      return false;
+    }
+    if (!scheduler.getJobsWaiting().isEmpty()) {
+      return true;
+    }
+
+    int running = scheduler.getJobsRunning().size();
+    if (scheduler instanceof ParallelScheduler) {
+      return running >= ((ParallelScheduler) scheduler).getMaxConcurrency();
+    } else {
+      // FIFOScheduler runs one job at a time
+      return running > 0;
+    }
+  }
 
   class InterpretJobListener implements JobListener {
+    private final String noteId;
+    private final Scheduler scheduler;
+
+    InterpretJobListener(String noteId, Scheduler scheduler) {
+      this.noteId = noteId;
+      this.scheduler = scheduler;
+    }
 
     @Override
     public void onProgressUpdate(Job job, int progress) {
@@ -343,6 +557,10 @@ public class RemoteInterpreterServer
 
     @Override
     public void afterStatusChange(Job job, Status before, Status after) {
+      // initial READY status is set before the job is submitted
+      if (after != Status.READY) {
+        eventClient.onJobStatusUpdate(noteId, job.getId(), after.name(), isBusy(scheduler));
+      }
       synchronized (this) {
         notifyAll();
       }
@@ -368,6 +586,18 @@ public class RemoteInterpreterServer
       this.interpreter = interpreter;
       this.script = script;
       this.context = context;
+      setPriority(context.getPriority());
+    }
+
+    @Override
+    public String getUser() {
+      AuthenticationInfo authenticationInfo = context.getAuthenticationInfo();
+      return (authenticationInfo == null) ? null : authenticationInfo.getUser();
+    }
+
+    @Override
+    public String getNoteId() {
+      return context.getNoteId();
     }
 
     @Override
@@ -437,7 +667,7 @@ public class RemoteInterpreterServer
     logger.info("cancel {} {}", className, interpreterContext.getParagraphId());
     Interpreter intp = getInterpreter(noteId, className);
     String jobId = interpreterContext.getParagraphId();
-    Job job = intp.getScheduler().removeFromWaitingQueue(jobId);
+    Job job = getScheduler(intp).removeFromWaitingQueue(jobId);
 
     if (job != null) {
       job.setStatus(Status.ABORT);
@@ -484,7 +714,7 @@ public class RemoteInterpreterServer
       contextRunners.add(new ParagraphRunner(this, r.getNoteId(), r.getParagraphId()));
     }
 
-    return new InterpreterContext(
+    InterpreterContext context = new InterpreterContext(
         ric.getNoteId(),
         ric.getParagraphId(),
         ric.getParagraphTitle(),
@@ -496,12 +726,14 @@ public class RemoteInterpreterServer
         interpreterGroup.getAngularObjectRegistry(),
         interpreterGroup.getResourcePool(),
         contextRunners, output);
+    context.setPriority(ric.getPriority());
+    return context;
   }
 
 
   protected InterpreterOutput createInterpreterOutput(final String noteId, final String
       paragraphId) {
-    return new InterpreterOutput(new InterpreterOutputListener() {
+    InterpreterOutput output = new InterpreterOutput(new InterpreterOutputListener() {
       @Override
       public void onAppend(InterpreterOutput out, byte[] line) {
         eventClient.onInterpreterOutputAppend(noteId, paragraphId, new String(line));
@@ -512,6 +744,8 @@ public class RemoteInterpreterServer
         eventClient.onInterpreterOutputUpdate(noteId, paragraphId, new String(output));
       }
     });
+    output.setLimit(outputLimit);
+    return output;
   }
 
 
@@ -537,7 +771,8 @@ public class RemoteInterpreterServer
         result.type().name(),
         result.message(),
         gson.toJson(config),
-        gson.toJson(gui));
+        gson.toJson(gui),
+        0);
   }
 
   @Override
@@ -554,13 +789,14 @@ public class RemoteInterpreterServer
       }
 
       for (Interpreter intp : interpreters) {
-        for (Job job : intp.getScheduler().getJobsRunning()) {
+        Scheduler scheduler = getScheduler(intp);
+        for (Job job : scheduler.getJobsRunning()) {
           if (jobId.equals(job.getId())) {
             return job.getStatus().name();
           }
         }
 
-        for (Job job : intp.getScheduler().getJobsWaiting()) {
+        for (Job job : scheduler.getJobsWaiting()) {
           if (jobId.equals(job.getId())) {
             return job.getStatus().name();
           }
@@ -598,6 +834,18 @@ public class RemoteInterpreterServer
     return eventClient.pollEvent();
   }
 
+  /**
+   * Poll multiple events at once from RemoteInterpreterEventPoller
+   * @param maxBatch maximum number of events to return
+   * @param maxWaitMs maximum time to wait for the first event
+   * @return
+   * @throws TException
+   */
+  @Override
+  public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws TException {
+    return eventClient.pollEvents(maxBatch, maxWaitMs);
+  }
+
   /**
    * called when object is updated in client (web) side.
    * @param name
@@ -702,9 +950,9 @@ public class RemoteInterpreterServer
   }
 
   /**
-   * Get payload of resource from remote
-   * @param resourceId json serialized ResourceId
-   * @param object java serialized of the object
+   * Response of a resource request
+   * @param resourceId json of the request
+   * @param object encoded value of the resource, or json array of resources
    * @throws TException
    */
   @Override
@@ -772,7 +1020,7 @@ public class RemoteInterpreterServer
   protected InterpreterOutput createAppOutput(final String noteId,
                                             final String paragraphId,
                                             final String appId) {
-    return new InterpreterOutput(new InterpreterOutputListener() {
+    InterpreterOutput output = new InterpreterOutput(new InterpreterOutputListener() {
       @Override
       public void onAppend(InterpreterOutput out, byte[] line) {
         eventClient.onAppOutputAppend(noteId, paragraphId, appId, new String(line));
@@ -783,6 +1031,8 @@ public class RemoteInterpreterServer
         eventClient.onAppOutputUpdate(noteId, paragraphId, appId, new String(output));
       }
     });
+    output.setLimit(outputLimit);
+    return output;
   }
 
   private ApplicationContext getApplicationContext(
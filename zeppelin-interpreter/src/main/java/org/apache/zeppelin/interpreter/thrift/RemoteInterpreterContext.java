@@ -63,6 +63,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   private static final org.apache.thrift.protocol.TField CONFIG_FIELD_DESC = new org.apache.thrift.protocol.TField("config", org.apache.thrift.protocol.TType.STRING, (short)6);
   private static final org.apache.thrift.protocol.TField GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("gui", org.apache.thrift.protocol.TType.STRING, (short)7);
   private static final org.apache.thrift.protocol.TField RUNNERS_FIELD_DESC = new org.apache.thrift.protocol.TField("runners", org.apache.thrift.protocol.TType.STRING, (short)8);
+  private static final org.apache.thrift.protocol.TField PRIORITY_FIELD_DESC = new org.apache.thrift.protocol.TField("priority", org.apache.thrift.protocol.TType.I32, (short)9);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -78,6 +79,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   public String config; // required
   public String gui; // required
   public String runners; // required
+  public int priority; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -88,7 +90,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     AUTHENTICATION_INFO((short)5, "authenticationInfo"),
     CONFIG((short)6, "config"),
     GUI((short)7, "gui"),
-    RUNNERS((short)8, "runners");
+    RUNNERS((short)8, "runners"),
+    PRIORITY((short)9, "priority");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -119,6 +122,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
           return GUI;
         case 8: // RUNNERS
           return RUNNERS;
+        case 9: // PRIORITY
+          return PRIORITY;
         default:
           return null;
       }
@@ -159,6 +164,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   }
 
   // isset id assignments
+  private static final int __PRIORITY_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -178,6 +185,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.RUNNERS, new org.apache.thrift.meta_data.FieldMetaData("runners", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.PRIORITY, new org.apache.thrift.meta_data.FieldMetaData("priority", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteInterpreterContext.class, metaDataMap);
   }
@@ -193,7 +202,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     String authenticationInfo,
     String config,
     String gui,
-    String runners)
+    String runners,
+    int priority)
   {
     this();
     this.noteId = noteId;
@@ -204,12 +214,15 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.config = config;
     this.gui = gui;
     this.runners = runners;
+    this.priority = priority;
+    setPriorityIsSet(true);
   }
 
   /**
    * Performs a deep copy on <i>other</i>.
    */
   public RemoteInterpreterContext(RemoteInterpreterContext other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetNoteId()) {
       this.noteId = other.noteId;
     }
@@ -234,6 +247,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     if (other.isSetRunners()) {
       this.runners = other.runners;
     }
+    this.priority = other.priority;
   }
 
   public RemoteInterpreterContext deepCopy() {
@@ -250,6 +264,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.config = null;
     this.gui = null;
     this.runners = null;
+    setPriorityIsSet(false);
+    this.priority = 0;
   }
 
   public String getNoteId() {
@@ -444,6 +460,29 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     }
   }
 
+  public int getPriority() {
+    return this.priority;
+  }
+
+  public RemoteInterpreterContext setPriority(int priority) {
+    this.priority = priority;
+    setPriorityIsSet(true);
+    return this;
+  }
+
+  public void unsetPriority() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PRIORITY_ISSET_ID);
+  }
+
+  /** Returns true if field priority is set (has been assigned a value) and false otherwise */
+  public boolean isSetPriority() {
+    return EncodingUtils.testBit(__isset_bitfield, __PRIORITY_ISSET_ID);
+  }
+
+  public void setPriorityIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PRIORITY_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case NOTE_ID:
@@ -510,6 +549,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       }
       break;
 
+    case PRIORITY:
+      if (value == null) {
+        unsetPriority();
+      } else {
+        setPriority((Integer)value);
+      }
+      break;
+
     }
   }
 
@@ -539,6 +586,9 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     case RUNNERS:
       return getRunners();
 
+    case PRIORITY:
+      return Integer.valueOf(getPriority());
+
     }
     throw new IllegalStateException();
   }
@@ -566,6 +616,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       return isSetGui();
     case RUNNERS:
       return isSetRunners();
+    case PRIORITY:
+      return isSetPriority();
     }
     throw new IllegalStateException();
   }
@@ -655,6 +707,15 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return false;
     }
 
+    boolean this_present_priority = true;
+    boolean that_present_priority = true;
+    if (this_present_priority || that_present_priority) {
+      if (!(this_present_priority && that_present_priority))
+        return false;
+      if (this.priority != that.priority)
+        return false;
+    }
+
     return true;
   }
 
@@ -702,6 +763,11 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     if (present_runners)
       list.add(runners);
 
+    boolean present_priority = true;
+    list.add(present_priority);
+    if (present_priority)
+      list.add(priority);
+
     return list.hashCode();
   }
 
@@ -793,6 +859,16 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetPriority()).compareTo(other.isSetPriority());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPriority()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.priority, other.priority);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -876,6 +952,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       sb.append(this.runners);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("priority:");
+    sb.append(this.priority);
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -895,6 +975,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -983,6 +1065,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 9: // PRIORITY
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.priority = iprot.readI32();
+              struct.setPriorityIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1038,6 +1128,9 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         oprot.writeString(struct.runners);
         oprot.writeFieldEnd();
       }
+      oprot.writeFieldBegin(PRIORITY_FIELD_DESC);
+      oprot.writeI32(struct.priority);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1080,7 +1173,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetRunners()) {
         optionals.set(7);
       }
-      oprot.writeBitSet(optionals, 8);
+      if (struct.isSetPriority()) {
+        optionals.set(8);
+      }
+      oprot.writeBitSet(optionals, 9);
       if (struct.isSetNoteId()) {
         oprot.writeString(struct.noteId);
       }
@@ -1105,12 +1201,15 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetRunners()) {
         oprot.writeString(struct.runners);
       }
+      if (struct.isSetPriority()) {
+        oprot.writeI32(struct.priority);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteInterpreterContext struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(8);
+      BitSet incoming = iprot.readBitSet(9);
       if (incoming.get(0)) {
         struct.noteId = iprot.readString();
         struct.setNoteIdIsSet(true);
@@ -1143,6 +1242,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         struct.runners = iprot.readString();
         struct.setRunnersIsSet(true);
       }
+      if (incoming.get(8)) {
+        struct.priority = iprot.readI32();
+        struct.setPriorityIsSet(true);
+      }
     }
   }
 
@@ -39,7 +39,12 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
   OUTPUT_APPEND(8),
   OUTPUT_UPDATE(9),
   ANGULAR_REGISTRY_PUSH(10),
-  APP_STATUS_UPDATE(11);
+  APP_STATUS_UPDATE(11),
+  JOB_STATUS_UPDATE(12),
+  ANGULAR_OBJECT_UPDATE_BATCH(13),
+  RESOURCE_POOL_PUT(14),
+  RESOURCE_POOL_REMOVE(15),
+  RESOURCE_POOL_GET_BY_NAME(16);
 
   private final int value;
 
@@ -82,6 +87,16 @@ public enum RemoteInterpreterEventType implements org.apache.thrift.TEnum {
         return ANGULAR_REGISTRY_PUSH;
       case 11:
         return APP_STATUS_UPDATE;
+      case 12:
+        return JOB_STATUS_UPDATE;
+      case 13:
+        return ANGULAR_OBJECT_UPDATE_BATCH;
+      case 14:
+        return RESOURCE_POOL_PUT;
+      case 15:
+        return RESOURCE_POOL_REMOVE;
+      case 16:
+        return RESOURCE_POOL_GET_BY_NAME;
       default:
         return null;
     }
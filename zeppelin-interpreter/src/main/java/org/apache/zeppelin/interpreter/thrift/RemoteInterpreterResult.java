@@ -60,6 +60,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
   private static final org.apache.thrift.protocol.TField MSG_FIELD_DESC = new org.apache.thrift.protocol.TField("msg", org.apache.thrift.protocol.TType.STRING, (short)3);
   private static final org.apache.thrift.protocol.TField CONFIG_FIELD_DESC = new org.apache.thrift.protocol.TField("config", org.apache.thrift.protocol.TType.STRING, (short)4);
   private static final org.apache.thrift.protocol.TField GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("gui", org.apache.thrift.protocol.TType.STRING, (short)5);
+  private static final org.apache.thrift.protocol.TField MSG_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("msgLength", org.apache.thrift.protocol.TType.I32, (short)6);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -72,6 +73,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
   public String msg; // required
   public String config; // required
   public String gui; // required
+  public int msgLength; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -79,7 +81,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     TYPE((short)2, "type"),
     MSG((short)3, "msg"),
     CONFIG((short)4, "config"),
-    GUI((short)5, "gui");
+    GUI((short)5, "gui"),
+    MSG_LENGTH((short)6, "msgLength");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -104,6 +107,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
           return CONFIG;
         case 5: // GUI
           return GUI;
+        case 6: // MSG_LENGTH
+          return MSG_LENGTH;
         default:
           return null;
       }
@@ -144,6 +149,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
   }
 
   // isset id assignments
+  private static final int __MSG_LENGTH_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -157,6 +164,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.GUI, new org.apache.thrift.meta_data.FieldMetaData("gui", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.MSG_LENGTH, new org.apache.thrift.meta_data.FieldMetaData("msgLength", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteInterpreterResult.class, metaDataMap);
   }
@@ -169,7 +178,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     String type,
     String msg,
     String config,
-    String gui)
+    String gui,
+    int msgLength)
   {
     this();
     this.code = code;
@@ -177,12 +187,15 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     this.msg = msg;
     this.config = config;
     this.gui = gui;
+    this.msgLength = msgLength;
+    setMsgLengthIsSet(true);
   }
 
   /**
    * Performs a deep copy on <i>other</i>.
    */
   public RemoteInterpreterResult(RemoteInterpreterResult other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetCode()) {
       this.code = other.code;
     }
@@ -198,6 +211,7 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     if (other.isSetGui()) {
       this.gui = other.gui;
     }
+    this.msgLength = other.msgLength;
   }
 
   public RemoteInterpreterResult deepCopy() {
@@ -211,6 +225,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     this.msg = null;
     this.config = null;
     this.gui = null;
+    setMsgLengthIsSet(false);
+    this.msgLength = 0;
   }
 
   public String getCode() {
@@ -333,6 +349,29 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     }
   }
 
+  public int getMsgLength() {
+    return this.msgLength;
+  }
+
+  public RemoteInterpreterResult setMsgLength(int msgLength) {
+    this.msgLength = msgLength;
+    setMsgLengthIsSet(true);
+    return this;
+  }
+
+  public void unsetMsgLength() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MSG_LENGTH_ISSET_ID);
+  }
+
+  /** Returns true if field msgLength is set (has been assigned a value) and false otherwise */
+  public boolean isSetMsgLength() {
+    return EncodingUtils.testBit(__isset_bitfield, __MSG_LENGTH_ISSET_ID);
+  }
+
+  public void setMsgLengthIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MSG_LENGTH_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case CODE:
@@ -375,6 +414,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       }
       break;
 
+    case MSG_LENGTH:
+      if (value == null) {
+        unsetMsgLength();
+      } else {
+        setMsgLength((Integer)value);
+      }
+      break;
+
     }
   }
 
@@ -395,6 +442,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     case GUI:
       return getGui();
 
+    case MSG_LENGTH:
+      return Integer.valueOf(getMsgLength());
+
     }
     throw new IllegalStateException();
   }
@@ -416,6 +466,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       return isSetConfig();
     case GUI:
       return isSetGui();
+    case MSG_LENGTH:
+      return isSetMsgLength();
     }
     throw new IllegalStateException();
   }
@@ -478,6 +530,15 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         return false;
     }
 
+    boolean this_present_msgLength = true;
+    boolean that_present_msgLength = true;
+    if (this_present_msgLength || that_present_msgLength) {
+      if (!(this_present_msgLength && that_present_msgLength))
+        return false;
+      if (this.msgLength != that.msgLength)
+        return false;
+    }
+
     return true;
   }
 
@@ -510,6 +571,11 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
     if (present_gui)
       list.add(gui);
 
+    boolean present_msgLength = true;
+    list.add(present_msgLength);
+    if (present_msgLength)
+      list.add(msgLength);
+
     return list.hashCode();
   }
 
@@ -571,6 +637,16 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetMsgLength()).compareTo(other.isSetMsgLength());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMsgLength()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.msgLength, other.msgLength);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -630,6 +706,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       sb.append(this.gui);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("msgLength:");
+    sb.append(this.msgLength);
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -649,6 +729,8 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -713,6 +795,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 6: // MSG_LENGTH
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.msgLength = iprot.readI32();
+              struct.setMsgLengthIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -753,6 +843,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         oprot.writeString(struct.gui);
         oprot.writeFieldEnd();
       }
+      oprot.writeFieldBegin(MSG_LENGTH_FIELD_DESC);
+      oprot.writeI32(struct.msgLength);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -786,7 +879,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       if (struct.isSetGui()) {
         optionals.set(4);
       }
-      oprot.writeBitSet(optionals, 5);
+      if (struct.isSetMsgLength()) {
+        optionals.set(5);
+      }
+      oprot.writeBitSet(optionals, 6);
       if (struct.isSetCode()) {
         oprot.writeString(struct.code);
       }
@@ -802,12 +898,15 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       if (struct.isSetGui()) {
         oprot.writeString(struct.gui);
       }
+      if (struct.isSetMsgLength()) {
+        oprot.writeI32(struct.msgLength);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteInterpreterResult struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(5);
+      BitSet incoming = iprot.readBitSet(6);
       if (incoming.get(0)) {
         struct.code = iprot.readString();
         struct.setCodeIsSet(true);
@@ -828,6 +927,10 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         struct.gui = iprot.readString();
         struct.setGuiIsSet(true);
       }
+      if (incoming.get(5)) {
+        struct.msgLength = iprot.readI32();
+        struct.setMsgLengthIsSet(true);
+      }
     }
   }
 
@@ -64,6 +64,8 @@ public class RemoteInterpreterService {
 
     public RemoteInterpreterResult interpret(String noteId, String className, String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
 
+    public String fetchResultChunk(String noteId, String paragraphId, int offset, int len) throws org.apache.thrift.TException;
+
     public void cancel(String noteId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
 
     public int getProgress(String noteId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
@@ -78,6 +80,8 @@ public class RemoteInterpreterService {
 
     public RemoteInterpreterEvent getEvent() throws org.apache.thrift.TException;
 
+    public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException;
+
     public void resourcePoolResponseGetAll(List<String> resources) throws org.apache.thrift.TException;
 
     public void resourceResponseGet(String resourceId, ByteBuffer object) throws org.apache.thrift.TException;
@@ -114,6 +118,8 @@ public class RemoteInterpreterService {
 
     public void interpret(String noteId, String className, String st, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void fetchResultChunk(String noteId, String paragraphId, int offset, int len, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void cancel(String noteId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getProgress(String noteId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -128,6 +134,8 @@ public class RemoteInterpreterService {
 
     public void getEvent(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getEvents(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void resourcePoolResponseGetAll(List<String> resources, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void resourceResponseGet(String resourceId, ByteBuffer object, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -265,6 +273,32 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "interpret failed: unknown result");
     }
 
+    public String fetchResultChunk(String noteId, String paragraphId, int offset, int len) throws org.apache.thrift.TException
+    {
+      send_fetchResultChunk(noteId, paragraphId, offset, len);
+      return recv_fetchResultChunk();
+    }
+
+    public void send_fetchResultChunk(String noteId, String paragraphId, int offset, int len) throws org.apache.thrift.TException
+    {
+      fetchResultChunk_args args = new fetchResultChunk_args();
+      args.setNoteId(noteId);
+      args.setParagraphId(paragraphId);
+      args.setOffset(offset);
+      args.setLen(len);
+      sendBase("fetchResultChunk", args);
+    }
+
+    public String recv_fetchResultChunk() throws org.apache.thrift.TException
+    {
+      fetchResultChunk_result result = new fetchResultChunk_result();
+      receiveBase(result, "fetchResultChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchResultChunk failed: unknown result");
+    }
+
     public void cancel(String noteId, String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
     {
       send_cancel(noteId, className, interpreterContext);
@@ -427,6 +461,30 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEvent failed: unknown result");
     }
 
+    public List<RemoteInterpreterEvent> getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException
+    {
+      send_getEvents(maxBatch, maxWaitMs);
+      return recv_getEvents();
+    }
+
+    public void send_getEvents(int maxBatch, int maxWaitMs) throws org.apache.thrift.TException
+    {
+      getEvents_args args = new getEvents_args();
+      args.setMaxBatch(maxBatch);
+      args.setMaxWaitMs(maxWaitMs);
+      sendBase("getEvents", args);
+    }
+
+    public List<RemoteInterpreterEvent> recv_getEvents() throws org.apache.thrift.TException
+    {
+      getEvents_result result = new getEvents_result();
+      receiveBase(result, "getEvents");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEvents failed: unknown result");
+    }
+
     public void resourcePoolResponseGetAll(List<String> resources) throws org.apache.thrift.TException
     {
       send_resourcePoolResponseGetAll(resources);
@@ -870,6 +928,47 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void fetchResultChunk(String noteId, String paragraphId, int offset, int len, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      fetchResultChunk_call method_call = new fetchResultChunk_call(noteId, paragraphId, offset, len, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class fetchResultChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String noteId;
+      private String paragraphId;
+      private int offset;
+      private int len;
+      public fetchResultChunk_call(String noteId, String paragraphId, int offset, int len, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.noteId = noteId;
+        this.paragraphId = paragraphId;
+        this.offset = offset;
+        this.len = len;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("fetchResultChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        fetchResultChunk_args args = new fetchResultChunk_args();
+        args.setNoteId(noteId);
+        args.setParagraphId(paragraphId);
+        args.setOffset(offset);
+        args.setLen(len);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_fetchResultChunk();
+      }
+    }
+
     public void cancel(String noteId, String className, RemoteInterpreterContext interpreterContext, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       cancel_call method_call = new cancel_call(noteId, className, interpreterContext, resultHandler, this, ___protocolFactory, ___transport);
@@ -1115,6 +1214,41 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void getEvents(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getEvents_call method_call = new getEvents_call(maxBatch, maxWaitMs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getEvents_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int maxBatch;
+      private int maxWaitMs;
+      public getEvents_call(int maxBatch, int maxWaitMs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.maxBatch = maxBatch;
+        this.maxWaitMs = maxWaitMs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getEvents", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getEvents_args args = new getEvents_args();
+        args.setMaxBatch(maxBatch);
+        args.setMaxWaitMs(maxWaitMs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<RemoteInterpreterEvent> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getEvents();
+      }
+    }
+
     public void resourcePoolResponseGetAll(List<String> resources, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourcePoolResponseGetAll_call method_call = new resourcePoolResponseGetAll_call(resources, resultHandler, this, ___protocolFactory, ___transport);
@@ -1561,6 +1695,7 @@ public class RemoteInterpreterService {
       processMap.put("open", new open());
       processMap.put("close", new close());
       processMap.put("interpret", new interpret());
+      processMap.put("fetchResultChunk", new fetchResultChunk());
       processMap.put("cancel", new cancel());
       processMap.put("getProgress", new getProgress());
       processMap.put("getFormType", new getFormType());
@@ -1568,6 +1703,7 @@ public class RemoteInterpreterService {
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
       processMap.put("getEvent", new getEvent());
+      processMap.put("getEvents", new getEvents());
       processMap.put("resourcePoolResponseGetAll", new resourcePoolResponseGetAll());
       processMap.put("resourceResponseGet", new resourceResponseGet());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
@@ -1663,6 +1799,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class fetchResultChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, fetchResultChunk_args> {
+      public fetchResultChunk() {
+        super("fetchResultChunk");
+      }
+
+      public fetchResultChunk_args getEmptyArgsInstance() {
+        return new fetchResultChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public fetchResultChunk_result getResult(I iface, fetchResultChunk_args args) throws org.apache.thrift.TException {
+        fetchResultChunk_result result = new fetchResultChunk_result();
+        result.success = iface.fetchResultChunk(args.noteId, args.paragraphId, args.offset, args.len);
+        return result;
+      }
+    }
+
     public static class cancel<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancel_args> {
       public cancel() {
         super("cancel");
@@ -1804,6 +1960,26 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getEvents<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getEvents_args> {
+      public getEvents() {
+        super("getEvents");
+      }
+
+      public getEvents_args getEmptyArgsInstance() {
+        return new getEvents_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getEvents_result getResult(I iface, getEvents_args args) throws org.apache.thrift.TException {
+        getEvents_result result = new getEvents_result();
+        result.success = iface.getEvents(args.maxBatch, args.maxWaitMs);
+        return result;
+      }
+    }
+
     public static class resourcePoolResponseGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolResponseGetAll_args> {
       public resourcePoolResponseGetAll() {
         super("resourcePoolResponseGetAll");
@@ -2062,6 +2238,7 @@ public class RemoteInterpreterService {
       processMap.put("open", new open());
       processMap.put("close", new close());
       processMap.put("interpret", new interpret());
+      processMap.put("fetchResultChunk", new fetchResultChunk());
       processMap.put("cancel", new cancel());
       processMap.put("getProgress", new getProgress());
       processMap.put("getFormType", new getFormType());
@@ -2069,6 +2246,7 @@ public class RemoteInterpreterService {
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
       processMap.put("getEvent", new getEvent());
+      processMap.put("getEvents", new getEvents());
       processMap.put("resourcePoolResponseGetAll", new resourcePoolResponseGetAll());
       processMap.put("resourceResponseGet", new resourceResponseGet());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
@@ -2285,6 +2463,57 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class fetchResultChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, fetchResultChunk_args, String> {
+      public fetchResultChunk() {
+        super("fetchResultChunk");
+      }
+
+      public fetchResultChunk_args getEmptyArgsInstance() {
+        return new fetchResultChunk_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            fetchResultChunk_result result = new fetchResultChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            fetchResultChunk_result result = new fetchResultChunk_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, fetchResultChunk_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.fetchResultChunk(args.noteId, args.paragraphId, args.offset, args.len,resultHandler);
+      }
+    }
+
     public static class cancel<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancel_args, Void> {
       public cancel() {
         super("cancel");
@@ -2641,6 +2870,57 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getEvents<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEvents_args, List<RemoteInterpreterEvent>> {
+      public getEvents() {
+        super("getEvents");
+      }
+
+      public getEvents_args getEmptyArgsInstance() {
+        return new getEvents_args();
+      }
+
+      public AsyncMethodCallback<List<RemoteInterpreterEvent>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<RemoteInterpreterEvent>>() { 
+          public void onComplete(List<RemoteInterpreterEvent> o) {
+            getEvents_result result = new getEvents_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getEvents_result result = new getEvents_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getEvents_args args, org.apache.thrift.async.AsyncMethodCallback<List<RemoteInterpreterEvent>> resultHandler) throws TException {
+        iface.getEvents(args.maxBatch, args.maxWaitMs,resultHandler);
+      }
+    }
+
     public static class resourcePoolResponseGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolResponseGetAll_args, Void> {
       public resourcePoolResponseGetAll() {
         super("resourcePoolResponseGetAll");
@@ -6701,28 +6981,31 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class cancel_args implements org.apache.thrift.TBase<cancel_args, cancel_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_args");
+  public static class fetchResultChunk_args implements org.apache.thrift.TBase<fetchResultChunk_args, fetchResultChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<fetchResultChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchResultChunk_args");
 
     private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField LEN_FIELD_DESC = new org.apache.thrift.protocol.TField("len", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancel_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancel_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new fetchResultChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchResultChunk_argsTupleSchemeFactory());
     }
 
     public String noteId; // required
-    public String className; // required
-    public RemoteInterpreterContext interpreterContext; // required
+    public String paragraphId; // required
+    public int offset; // required
+    public int len; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       NOTE_ID((short)1, "noteId"),
-      CLASS_NAME((short)2, "className"),
-      INTERPRETER_CONTEXT((short)3, "interpreterContext");
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      OFFSET((short)3, "offset"),
+      LEN((short)4, "len");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6739,10 +7022,12 @@ public class RemoteInterpreterService {
         switch(fieldId) {
           case 1: // NOTE_ID
             return NOTE_ID;
-          case 2: // CLASS_NAME
-            return CLASS_NAME;
-          case 3: // INTERPRETER_CONTEXT
-            return INTERPRETER_CONTEXT;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LEN
+            return LEN;
           default:
             return null;
         }
@@ -6783,64 +7068,76 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LEN_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LEN, new org.apache.thrift.meta_data.FieldMetaData("len", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchResultChunk_args.class, metaDataMap);
     }
 
-    public cancel_args() {
+    public fetchResultChunk_args() {
     }
 
-    public cancel_args(
+    public fetchResultChunk_args(
       String noteId,
-      String className,
-      RemoteInterpreterContext interpreterContext)
+      String paragraphId,
+      int offset,
+      int len)
     {
       this();
       this.noteId = noteId;
-      this.className = className;
-      this.interpreterContext = interpreterContext;
+      this.paragraphId = paragraphId;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.len = len;
+      setLenIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancel_args(cancel_args other) {
+    public fetchResultChunk_args(fetchResultChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetNoteId()) {
         this.noteId = other.noteId;
       }
-      if (other.isSetClassName()) {
-        this.className = other.className;
-      }
-      if (other.isSetInterpreterContext()) {
-        this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
       }
+      this.offset = other.offset;
+      this.len = other.len;
     }
 
-    public cancel_args deepCopy() {
-      return new cancel_args(this);
+    public fetchResultChunk_args deepCopy() {
+      return new fetchResultChunk_args(this);
     }
 
     @Override
     public void clear() {
       this.noteId = null;
-      this.className = null;
-      this.interpreterContext = null;
+      this.paragraphId = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLenIsSet(false);
+      this.len = 0;
     }
 
     public String getNoteId() {
       return this.noteId;
     }
 
-    public cancel_args setNoteId(String noteId) {
+    public fetchResultChunk_args setNoteId(String noteId) {
       this.noteId = noteId;
       return this;
     }
@@ -6860,52 +7157,74 @@ public class RemoteInterpreterService {
       }
     }
 
-    public String getClassName() {
-      return this.className;
+    public String getParagraphId() {
+      return this.paragraphId;
     }
 
-    public cancel_args setClassName(String className) {
-      this.className = className;
+    public fetchResultChunk_args setParagraphId(String paragraphId) {
+      this.paragraphId = paragraphId;
       return this;
     }
 
-    public void unsetClassName() {
-      this.className = null;
+    public void unsetParagraphId() {
+      this.paragraphId = null;
     }
 
-    /** Returns true if field className is set (has been assigned a value) and false otherwise */
-    public boolean isSetClassName() {
-      return this.className != null;
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
     }
 
-    public void setClassNameIsSet(boolean value) {
+    public void setParagraphIdIsSet(boolean value) {
       if (!value) {
-        this.className = null;
+        this.paragraphId = null;
       }
     }
 
-    public RemoteInterpreterContext getInterpreterContext() {
-      return this.interpreterContext;
+    public int getOffset() {
+      return this.offset;
     }
 
-    public cancel_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
-      this.interpreterContext = interpreterContext;
+    public fetchResultChunk_args setOffset(int offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
       return this;
     }
 
-    public void unsetInterpreterContext() {
-      this.interpreterContext = null;
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    /** Returns true if field interpreterContext is set (has been assigned a value) and false otherwise */
-    public boolean isSetInterpreterContext() {
-      return this.interpreterContext != null;
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    public void setInterpreterContextIsSet(boolean value) {
-      if (!value) {
-        this.interpreterContext = null;
-      }
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLen() {
+      return this.len;
+    }
+
+    public fetchResultChunk_args setLen(int len) {
+      this.len = len;
+      setLenIsSet(true);
+      return this;
+    }
+
+    public void unsetLen() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LEN_ISSET_ID);
+    }
+
+    /** Returns true if field len is set (has been assigned a value) and false otherwise */
+    public boolean isSetLen() {
+      return EncodingUtils.testBit(__isset_bitfield, __LEN_ISSET_ID);
+    }
+
+    public void setLenIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LEN_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -6918,19 +7237,27 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case CLASS_NAME:
+      case PARAGRAPH_ID:
         if (value == null) {
-          unsetClassName();
+          unsetParagraphId();
         } else {
-          setClassName((String)value);
+          setParagraphId((String)value);
         }
         break;
 
-      case INTERPRETER_CONTEXT:
+      case OFFSET:
         if (value == null) {
-          unsetInterpreterContext();
+          unsetOffset();
         } else {
-          setInterpreterContext((RemoteInterpreterContext)value);
+          setOffset((Integer)value);
+        }
+        break;
+
+      case LEN:
+        if (value == null) {
+          unsetLen();
+        } else {
+          setLen((Integer)value);
         }
         break;
 
@@ -6942,11 +7269,14 @@ public class RemoteInterpreterService {
       case NOTE_ID:
         return getNoteId();
 
-      case CLASS_NAME:
-        return getClassName();
+      case PARAGRAPH_ID:
+        return getParagraphId();
 
-      case INTERPRETER_CONTEXT:
-        return getInterpreterContext();
+      case OFFSET:
+        return Integer.valueOf(getOffset());
+
+      case LEN:
+        return Integer.valueOf(getLen());
 
       }
       throw new IllegalStateException();
@@ -6961,10 +7291,12 @@ public class RemoteInterpreterService {
       switch (field) {
       case NOTE_ID:
         return isSetNoteId();
-      case CLASS_NAME:
-        return isSetClassName();
-      case INTERPRETER_CONTEXT:
-        return isSetInterpreterContext();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case OFFSET:
+        return isSetOffset();
+      case LEN:
+        return isSetLen();
       }
       throw new IllegalStateException();
     }
@@ -6973,12 +7305,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancel_args)
-        return this.equals((cancel_args)that);
+      if (that instanceof fetchResultChunk_args)
+        return this.equals((fetchResultChunk_args)that);
       return false;
     }
 
-    public boolean equals(cancel_args that) {
+    public boolean equals(fetchResultChunk_args that) {
       if (that == null)
         return false;
 
@@ -6991,21 +7323,30 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_className = true && this.isSetClassName();
-      boolean that_present_className = true && that.isSetClassName();
-      if (this_present_className || that_present_className) {
-        if (!(this_present_className && that_present_className))
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
           return false;
-        if (!this.className.equals(that.className))
+        if (!this.paragraphId.equals(that.paragraphId))
           return false;
       }
 
-      boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
-      boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
-      if (this_present_interpreterContext || that_present_interpreterContext) {
-        if (!(this_present_interpreterContext && that_present_interpreterContext))
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
           return false;
-        if (!this.interpreterContext.equals(that.interpreterContext))
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_len = true;
+      boolean that_present_len = true;
+      if (this_present_len || that_present_len) {
+        if (!(this_present_len && that_present_len))
+          return false;
+        if (this.len != that.len)
           return false;
       }
 
@@ -7021,21 +7362,26 @@ public class RemoteInterpreterService {
       if (present_noteId)
         list.add(noteId);
 
-      boolean present_className = true && (isSetClassName());
-      list.add(present_className);
-      if (present_className)
-        list.add(className);
+      boolean present_paragraphId = true && (isSetParagraphId());
+      list.add(present_paragraphId);
+      if (present_paragraphId)
+        list.add(paragraphId);
 
-      boolean present_interpreterContext = true && (isSetInterpreterContext());
-      list.add(present_interpreterContext);
-      if (present_interpreterContext)
-        list.add(interpreterContext);
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_len = true;
+      list.add(present_len);
+      if (present_len)
+        list.add(len);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cancel_args other) {
+    public int compareTo(fetchResultChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7052,22 +7398,32 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetClassName()).compareTo(other.isSetClassName());
+      lastComparison = Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetClassName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.className, other.className);
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInterpreterContext()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interpreterContext, other.interpreterContext);
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLen()).compareTo(other.isSetLen());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLen()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.len, other.len);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7089,7 +7445,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancel_args(");
+      StringBuilder sb = new StringBuilder("fetchResultChunk_args(");
       boolean first = true;
 
       sb.append("noteId:");
@@ -7100,20 +7456,20 @@ public class RemoteInterpreterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("className:");
-      if (this.className == null) {
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
         sb.append("null");
       } else {
-        sb.append(this.className);
+        sb.append(this.paragraphId);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("interpreterContext:");
-      if (this.interpreterContext == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.interpreterContext);
-      }
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("len:");
+      sb.append(this.len);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7122,9 +7478,6 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (interpreterContext != null) {
-        interpreterContext.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7137,21 +7490,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class cancel_argsStandardSchemeFactory implements SchemeFactory {
-      public cancel_argsStandardScheme getScheme() {
-        return new cancel_argsStandardScheme();
+    private static class fetchResultChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public fetchResultChunk_argsStandardScheme getScheme() {
+        return new fetchResultChunk_argsStandardScheme();
       }
     }
 
-    private static class cancel_argsStandardScheme extends StandardScheme<cancel_args> {
+    private static class fetchResultChunk_argsStandardScheme extends StandardScheme<fetchResultChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchResultChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7169,19 +7524,26 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CLASS_NAME
+            case 2: // PARAGRAPH_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.className = iprot.readString();
-                struct.setClassNameIsSet(true);
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // INTERPRETER_CONTEXT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.interpreterContext = new RemoteInterpreterContext();
-                struct.interpreterContext.read(iprot);
-                struct.setInterpreterContextIsSet(true);
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.offset = iprot.readI32();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.len = iprot.readI32();
+                struct.setLenIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7197,7 +7559,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchResultChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7206,91 +7568,103 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.noteId);
           oprot.writeFieldEnd();
         }
-        if (struct.className != null) {
-          oprot.writeFieldBegin(CLASS_NAME_FIELD_DESC);
-          oprot.writeString(struct.className);
-          oprot.writeFieldEnd();
-        }
-        if (struct.interpreterContext != null) {
-          oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
-          struct.interpreterContext.write(oprot);
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI32(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LEN_FIELD_DESC);
+        oprot.writeI32(struct.len);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancel_argsTupleSchemeFactory implements SchemeFactory {
-      public cancel_argsTupleScheme getScheme() {
-        return new cancel_argsTupleScheme();
+    private static class fetchResultChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public fetchResultChunk_argsTupleScheme getScheme() {
+        return new fetchResultChunk_argsTupleScheme();
       }
     }
 
-    private static class cancel_argsTupleScheme extends TupleScheme<cancel_args> {
+    private static class fetchResultChunk_argsTupleScheme extends TupleScheme<fetchResultChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchResultChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetNoteId()) {
           optionals.set(0);
         }
-        if (struct.isSetClassName()) {
+        if (struct.isSetParagraphId()) {
           optionals.set(1);
         }
-        if (struct.isSetInterpreterContext()) {
+        if (struct.isSetOffset()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetLen()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetNoteId()) {
           oprot.writeString(struct.noteId);
         }
-        if (struct.isSetClassName()) {
-          oprot.writeString(struct.className);
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
         }
-        if (struct.isSetInterpreterContext()) {
-          struct.interpreterContext.write(oprot);
+        if (struct.isSetOffset()) {
+          oprot.writeI32(struct.offset);
+        }
+        if (struct.isSetLen()) {
+          oprot.writeI32(struct.len);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchResultChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.noteId = iprot.readString();
           struct.setNoteIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.className = iprot.readString();
-          struct.setClassNameIsSet(true);
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.interpreterContext = new RemoteInterpreterContext();
-          struct.interpreterContext.read(iprot);
-          struct.setInterpreterContextIsSet(true);
+          struct.offset = iprot.readI32();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.len = iprot.readI32();
+          struct.setLenIsSet(true);
         }
       }
     }
 
   }
 
-  public static class cancel_result implements org.apache.thrift.TBase<cancel_result, cancel_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_result");
+  public static class fetchResultChunk_result implements org.apache.thrift.TBase<fetchResultChunk_result, fetchResultChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<fetchResultChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchResultChunk_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancel_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancel_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new fetchResultChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchResultChunk_resultTupleSchemeFactory());
     }
 
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7305,6 +7679,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -7343,37 +7719,87 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchResultChunk_result.class, metaDataMap);
     }
 
-    public cancel_result() {
+    public fetchResultChunk_result() {
+    }
+
+    public fetchResultChunk_result(
+      String success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancel_result(cancel_result other) {
+    public fetchResultChunk_result(fetchResultChunk_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    public cancel_result deepCopy() {
-      return new cancel_result(this);
+    public fetchResultChunk_result deepCopy() {
+      return new fetchResultChunk_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public fetchResultChunk_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -7385,6 +7811,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -7393,15 +7821,24 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancel_result)
-        return this.equals((cancel_result)that);
+      if (that instanceof fetchResultChunk_result)
+        return this.equals((fetchResultChunk_result)that);
       return false;
     }
 
-    public boolean equals(cancel_result that) {
+    public boolean equals(fetchResultChunk_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -7409,17 +7846,32 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(cancel_result other) {
+    public int compareTo(fetchResultChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7437,9 +7889,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancel_result(");
+      StringBuilder sb = new StringBuilder("fetchResultChunk_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7465,15 +7924,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class cancel_resultStandardSchemeFactory implements SchemeFactory {
-      public cancel_resultStandardScheme getScheme() {
-        return new cancel_resultStandardScheme();
+    private static class fetchResultChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public fetchResultChunk_resultStandardScheme getScheme() {
+        return new fetchResultChunk_resultStandardScheme();
       }
     }
 
-    private static class cancel_resultStandardScheme extends StandardScheme<cancel_result> {
+    private static class fetchResultChunk_resultStandardScheme extends StandardScheme<fetchResultChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchResultChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7483,6 +7942,14 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7494,39 +7961,57 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchResultChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancel_resultTupleSchemeFactory implements SchemeFactory {
-      public cancel_resultTupleScheme getScheme() {
-        return new cancel_resultTupleScheme();
+    private static class fetchResultChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public fetchResultChunk_resultTupleScheme getScheme() {
+        return new fetchResultChunk_resultTupleScheme();
       }
     }
 
-    private static class cancel_resultTupleScheme extends TupleScheme<cancel_result> {
+    private static class fetchResultChunk_resultTupleScheme extends TupleScheme<fetchResultChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchResultChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchResultChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getProgress_args implements org.apache.thrift.TBase<getProgress_args, getProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_args");
+  public static class cancel_args implements org.apache.thrift.TBase<cancel_args, cancel_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_args");
 
     private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
@@ -7534,8 +8019,8 @@ public class RemoteInterpreterService {
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getProgress_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getProgress_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancel_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancel_argsTupleSchemeFactory());
     }
 
     public String noteId; // required
@@ -7617,13 +8102,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_args.class, metaDataMap);
     }
 
-    public getProgress_args() {
+    public cancel_args() {
     }
 
-    public getProgress_args(
+    public cancel_args(
       String noteId,
       String className,
       RemoteInterpreterContext interpreterContext)
@@ -7637,7 +8122,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getProgress_args(getProgress_args other) {
+    public cancel_args(cancel_args other) {
       if (other.isSetNoteId()) {
         this.noteId = other.noteId;
       }
@@ -7649,8 +8134,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public getProgress_args deepCopy() {
-      return new getProgress_args(this);
+    public cancel_args deepCopy() {
+      return new cancel_args(this);
     }
 
     @Override
@@ -7664,7 +8149,7 @@ public class RemoteInterpreterService {
       return this.noteId;
     }
 
-    public getProgress_args setNoteId(String noteId) {
+    public cancel_args setNoteId(String noteId) {
       this.noteId = noteId;
       return this;
     }
@@ -7688,7 +8173,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public getProgress_args setClassName(String className) {
+    public cancel_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -7712,7 +8197,7 @@ public class RemoteInterpreterService {
       return this.interpreterContext;
     }
 
-    public getProgress_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+    public cancel_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
       this.interpreterContext = interpreterContext;
       return this;
     }
@@ -7797,12 +8282,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getProgress_args)
-        return this.equals((getProgress_args)that);
+      if (that instanceof cancel_args)
+        return this.equals((cancel_args)that);
       return false;
     }
 
-    public boolean equals(getProgress_args that) {
+    public boolean equals(cancel_args that) {
       if (that == null)
         return false;
 
@@ -7859,7 +8344,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getProgress_args other) {
+    public int compareTo(cancel_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7913,7 +8398,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getProgress_args(");
+      StringBuilder sb = new StringBuilder("cancel_args(");
       boolean first = true;
 
       sb.append("noteId:");
@@ -7967,15 +8452,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getProgress_argsStandardSchemeFactory implements SchemeFactory {
-      public getProgress_argsStandardScheme getScheme() {
-        return new getProgress_argsStandardScheme();
+    private static class cancel_argsStandardSchemeFactory implements SchemeFactory {
+      public cancel_argsStandardScheme getScheme() {
+        return new cancel_argsStandardScheme();
       }
     }
 
-    private static class getProgress_argsStandardScheme extends StandardScheme<getProgress_args> {
+    private static class cancel_argsStandardScheme extends StandardScheme<cancel_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8021,7 +8506,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8046,16 +8531,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getProgress_argsTupleSchemeFactory implements SchemeFactory {
-      public getProgress_argsTupleScheme getScheme() {
-        return new getProgress_argsTupleScheme();
+    private static class cancel_argsTupleSchemeFactory implements SchemeFactory {
+      public cancel_argsTupleScheme getScheme() {
+        return new cancel_argsTupleScheme();
       }
     }
 
-    private static class getProgress_argsTupleScheme extends TupleScheme<getProgress_args> {
+    private static class cancel_argsTupleScheme extends TupleScheme<cancel_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetNoteId()) {
@@ -8080,7 +8565,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -8101,22 +8586,20 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class getProgress_result implements org.apache.thrift.TBase<getProgress_result, getProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_result");
+  public static class cancel_result implements org.apache.thrift.TBase<cancel_result, cancel_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getProgress_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getProgress_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancel_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancel_resultTupleSchemeFactory());
     }
 
-    public int success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8131,8 +8614,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -8171,89 +8652,37 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_result.class, metaDataMap);
-    }
-
-    public getProgress_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_result.class, metaDataMap);
     }
 
-    public getProgress_result(
-      int success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public cancel_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getProgress_result(getProgress_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public cancel_result(cancel_result other) {
     }
 
-    public getProgress_result deepCopy() {
-      return new getProgress_result(this);
+    public cancel_result deepCopy() {
+      return new cancel_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-    }
-
-    public int getSuccess() {
-      return this.success;
-    }
-
-    public getProgress_result setSuccess(int success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Integer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Integer.valueOf(getSuccess());
-
       }
       throw new IllegalStateException();
     }
@@ -8265,8 +8694,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -8275,24 +8702,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getProgress_result)
-        return this.equals((getProgress_result)that);
+      if (that instanceof cancel_result)
+        return this.equals((cancel_result)that);
       return false;
     }
 
-    public boolean equals(getProgress_result that) {
+    public boolean equals(cancel_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       return true;
     }
 
@@ -8300,32 +8718,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getProgress_result other) {
+    public int compareTo(cancel_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -8343,12 +8746,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getProgress_result(");
+      StringBuilder sb = new StringBuilder("cancel_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8368,23 +8768,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getProgress_resultStandardSchemeFactory implements SchemeFactory {
-      public getProgress_resultStandardScheme getScheme() {
-        return new getProgress_resultStandardScheme();
+    private static class cancel_resultStandardSchemeFactory implements SchemeFactory {
+      public cancel_resultStandardScheme getScheme() {
+        return new cancel_resultStandardScheme();
       }
     }
 
-    private static class getProgress_resultStandardScheme extends StandardScheme<getProgress_result> {
+    private static class cancel_resultStandardScheme extends StandardScheme<cancel_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancel_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8394,14 +8792,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8413,74 +8803,59 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancel_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getProgress_resultTupleSchemeFactory implements SchemeFactory {
-      public getProgress_resultTupleScheme getScheme() {
-        return new getProgress_resultTupleScheme();
+    private static class cancel_resultTupleSchemeFactory implements SchemeFactory {
+      public cancel_resultTupleScheme getScheme() {
+        return new cancel_resultTupleScheme();
       }
     }
 
-    private static class getProgress_resultTupleScheme extends TupleScheme<getProgress_result> {
+    private static class cancel_resultTupleScheme extends TupleScheme<cancel_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readI32();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getFormType_args implements org.apache.thrift.TBase<getFormType_args, getFormType_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_args");
+  public static class getProgress_args implements org.apache.thrift.TBase<getProgress_args, getProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_args");
 
     private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField INTERPRETER_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterContext", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFormType_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFormType_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getProgress_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getProgress_argsTupleSchemeFactory());
     }
 
     public String noteId; // required
     public String className; // required
+    public RemoteInterpreterContext interpreterContext; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       NOTE_ID((short)1, "noteId"),
-      CLASS_NAME((short)2, "className");
+      CLASS_NAME((short)2, "className"),
+      INTERPRETER_CONTEXT((short)3, "interpreterContext");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8499,6 +8874,8 @@ public class RemoteInterpreterService {
             return NOTE_ID;
           case 2: // CLASS_NAME
             return CLASS_NAME;
+          case 3: // INTERPRETER_CONTEXT
+            return INTERPRETER_CONTEXT;
           default:
             return null;
         }
@@ -8546,49 +8923,57 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INTERPRETER_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("interpreterContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterContext.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_args.class, metaDataMap);
     }
 
-    public getFormType_args() {
+    public getProgress_args() {
     }
 
-    public getFormType_args(
+    public getProgress_args(
       String noteId,
-      String className)
+      String className,
+      RemoteInterpreterContext interpreterContext)
     {
       this();
       this.noteId = noteId;
       this.className = className;
+      this.interpreterContext = interpreterContext;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFormType_args(getFormType_args other) {
+    public getProgress_args(getProgress_args other) {
       if (other.isSetNoteId()) {
         this.noteId = other.noteId;
       }
       if (other.isSetClassName()) {
         this.className = other.className;
       }
+      if (other.isSetInterpreterContext()) {
+        this.interpreterContext = new RemoteInterpreterContext(other.interpreterContext);
+      }
     }
 
-    public getFormType_args deepCopy() {
-      return new getFormType_args(this);
+    public getProgress_args deepCopy() {
+      return new getProgress_args(this);
     }
 
     @Override
     public void clear() {
       this.noteId = null;
       this.className = null;
+      this.interpreterContext = null;
     }
 
     public String getNoteId() {
       return this.noteId;
     }
 
-    public getFormType_args setNoteId(String noteId) {
+    public getProgress_args setNoteId(String noteId) {
       this.noteId = noteId;
       return this;
     }
@@ -8612,7 +8997,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public getFormType_args setClassName(String className) {
+    public getProgress_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -8632,6 +9017,30 @@ public class RemoteInterpreterService {
       }
     }
 
+    public RemoteInterpreterContext getInterpreterContext() {
+      return this.interpreterContext;
+    }
+
+    public getProgress_args setInterpreterContext(RemoteInterpreterContext interpreterContext) {
+      this.interpreterContext = interpreterContext;
+      return this;
+    }
+
+    public void unsetInterpreterContext() {
+      this.interpreterContext = null;
+    }
+
+    /** Returns true if field interpreterContext is set (has been assigned a value) and false otherwise */
+    public boolean isSetInterpreterContext() {
+      return this.interpreterContext != null;
+    }
+
+    public void setInterpreterContextIsSet(boolean value) {
+      if (!value) {
+        this.interpreterContext = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case NOTE_ID:
@@ -8650,6 +9059,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case INTERPRETER_CONTEXT:
+        if (value == null) {
+          unsetInterpreterContext();
+        } else {
+          setInterpreterContext((RemoteInterpreterContext)value);
+        }
+        break;
+
       }
     }
 
@@ -8661,6 +9078,9 @@ public class RemoteInterpreterService {
       case CLASS_NAME:
         return getClassName();
 
+      case INTERPRETER_CONTEXT:
+        return getInterpreterContext();
+
       }
       throw new IllegalStateException();
     }
@@ -8676,6 +9096,8 @@ public class RemoteInterpreterService {
         return isSetNoteId();
       case CLASS_NAME:
         return isSetClassName();
+      case INTERPRETER_CONTEXT:
+        return isSetInterpreterContext();
       }
       throw new IllegalStateException();
     }
@@ -8684,12 +9106,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFormType_args)
-        return this.equals((getFormType_args)that);
+      if (that instanceof getProgress_args)
+        return this.equals((getProgress_args)that);
       return false;
     }
 
-    public boolean equals(getFormType_args that) {
+    public boolean equals(getProgress_args that) {
       if (that == null)
         return false;
 
@@ -8711,6 +9133,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_interpreterContext = true && this.isSetInterpreterContext();
+      boolean that_present_interpreterContext = true && that.isSetInterpreterContext();
+      if (this_present_interpreterContext || that_present_interpreterContext) {
+        if (!(this_present_interpreterContext && that_present_interpreterContext))
+          return false;
+        if (!this.interpreterContext.equals(that.interpreterContext))
+          return false;
+      }
+
       return true;
     }
 
@@ -8728,11 +9159,16 @@ public class RemoteInterpreterService {
       if (present_className)
         list.add(className);
 
+      boolean present_interpreterContext = true && (isSetInterpreterContext());
+      list.add(present_interpreterContext);
+      if (present_interpreterContext)
+        list.add(interpreterContext);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getFormType_args other) {
+    public int compareTo(getProgress_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8759,6 +9195,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetInterpreterContext()).compareTo(other.isSetInterpreterContext());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInterpreterContext()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interpreterContext, other.interpreterContext);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8776,7 +9222,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFormType_args(");
+      StringBuilder sb = new StringBuilder("getProgress_args(");
       boolean first = true;
 
       sb.append("noteId:");
@@ -8794,6 +9240,14 @@ public class RemoteInterpreterService {
         sb.append(this.className);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("interpreterContext:");
+      if (this.interpreterContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.interpreterContext);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8801,6 +9255,9 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (interpreterContext != null) {
+        interpreterContext.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8819,15 +9276,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getFormType_argsStandardSchemeFactory implements SchemeFactory {
-      public getFormType_argsStandardScheme getScheme() {
-        return new getFormType_argsStandardScheme();
+    private static class getProgress_argsStandardSchemeFactory implements SchemeFactory {
+      public getProgress_argsStandardScheme getScheme() {
+        return new getProgress_argsStandardScheme();
       }
     }
 
-    private static class getFormType_argsStandardScheme extends StandardScheme<getFormType_args> {
+    private static class getProgress_argsStandardScheme extends StandardScheme<getProgress_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8853,6 +9310,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // INTERPRETER_CONTEXT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.interpreterContext = new RemoteInterpreterContext();
+                struct.interpreterContext.read(iprot);
+                struct.setInterpreterContextIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8864,7 +9330,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8878,22 +9344,27 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.className);
           oprot.writeFieldEnd();
         }
+        if (struct.interpreterContext != null) {
+          oprot.writeFieldBegin(INTERPRETER_CONTEXT_FIELD_DESC);
+          struct.interpreterContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFormType_argsTupleSchemeFactory implements SchemeFactory {
-      public getFormType_argsTupleScheme getScheme() {
-        return new getFormType_argsTupleScheme();
+    private static class getProgress_argsTupleSchemeFactory implements SchemeFactory {
+      public getProgress_argsTupleScheme getScheme() {
+        return new getProgress_argsTupleScheme();
       }
     }
 
-    private static class getFormType_argsTupleScheme extends TupleScheme<getFormType_args> {
+    private static class getProgress_argsTupleScheme extends TupleScheme<getProgress_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetNoteId()) {
@@ -8902,19 +9373,25 @@ public class RemoteInterpreterService {
         if (struct.isSetClassName()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetInterpreterContext()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetNoteId()) {
           oprot.writeString(struct.noteId);
         }
         if (struct.isSetClassName()) {
           oprot.writeString(struct.className);
         }
+        if (struct.isSetInterpreterContext()) {
+          struct.interpreterContext.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.noteId = iprot.readString();
           struct.setNoteIdIsSet(true);
@@ -8923,23 +9400,28 @@ public class RemoteInterpreterService {
           struct.className = iprot.readString();
           struct.setClassNameIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.interpreterContext = new RemoteInterpreterContext();
+          struct.interpreterContext.read(iprot);
+          struct.setInterpreterContextIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getFormType_result implements org.apache.thrift.TBase<getFormType_result, getFormType_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_result");
+  public static class getProgress_result implements org.apache.thrift.TBase<getProgress_result, getProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getProgress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFormType_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFormType_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getProgress_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getProgress_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public int success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9000,65 +9482,67 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_result.class, metaDataMap);
     }
 
-    public getFormType_result() {
+    public getProgress_result() {
     }
 
-    public getFormType_result(
-      String success)
+    public getProgress_result(
+      int success)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFormType_result(getFormType_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public getProgress_result(getProgress_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public getFormType_result deepCopy() {
-      return new getFormType_result(this);
+    public getProgress_result deepCopy() {
+      return new getProgress_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0;
     }
 
-    public String getSuccess() {
+    public int getSuccess() {
       return this.success;
     }
 
-    public getFormType_result setSuccess(String success) {
+    public getProgress_result setSuccess(int success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -9067,7 +9551,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Integer)value);
         }
         break;
 
@@ -9077,7 +9561,7 @@ public class RemoteInterpreterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Integer.valueOf(getSuccess());
 
       }
       throw new IllegalStateException();
@@ -9100,21 +9584,21 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFormType_result)
-        return this.equals((getFormType_result)that);
+      if (that instanceof getProgress_result)
+        return this.equals((getProgress_result)that);
       return false;
     }
 
-    public boolean equals(getFormType_result that) {
+    public boolean equals(getProgress_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -9125,7 +9609,7 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -9134,7 +9618,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getFormType_result other) {
+    public int compareTo(getProgress_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9168,15 +9652,11 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFormType_result(");
+      StringBuilder sb = new StringBuilder("getProgress_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9197,21 +9677,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFormType_resultStandardSchemeFactory implements SchemeFactory {
-      public getFormType_resultStandardScheme getScheme() {
-        return new getFormType_resultStandardScheme();
+    private static class getProgress_resultStandardSchemeFactory implements SchemeFactory {
+      public getProgress_resultStandardScheme getScheme() {
+        return new getProgress_resultStandardScheme();
       }
     }
 
-    private static class getFormType_resultStandardScheme extends StandardScheme<getFormType_result> {
+    private static class getProgress_resultStandardScheme extends StandardScheme<getProgress_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9222,8 +9704,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -9240,13 +9722,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getProgress_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeI32(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9255,16 +9737,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getFormType_resultTupleSchemeFactory implements SchemeFactory {
-      public getFormType_resultTupleScheme getScheme() {
-        return new getFormType_resultTupleScheme();
+    private static class getProgress_resultTupleSchemeFactory implements SchemeFactory {
+      public getProgress_resultTupleScheme getScheme() {
+        return new getProgress_resultTupleScheme();
       }
     }
 
-    private static class getFormType_resultTupleScheme extends TupleScheme<getFormType_result> {
+    private static class getProgress_resultTupleScheme extends TupleScheme<getProgress_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9272,16 +9754,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeI32(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readI32();
           struct.setSuccessIsSet(true);
         }
       }
@@ -9289,31 +9771,25 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class completion_args implements org.apache.thrift.TBase<completion_args, completion_args._Fields>, java.io.Serializable, Cloneable, Comparable<completion_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_args");
+  public static class getFormType_args implements org.apache.thrift.TBase<getFormType_args, getFormType_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_args");
 
     private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField BUF_FIELD_DESC = new org.apache.thrift.protocol.TField("buf", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completion_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completion_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFormType_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFormType_argsTupleSchemeFactory());
     }
 
     public String noteId; // required
     public String className; // required
-    public String buf; // required
-    public int cursor; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       NOTE_ID((short)1, "noteId"),
-      CLASS_NAME((short)2, "className"),
-      BUF((short)3, "buf"),
-      CURSOR((short)4, "cursor");
+      CLASS_NAME((short)2, "className");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9332,10 +9808,6 @@ public class RemoteInterpreterService {
             return NOTE_ID;
           case 2: // CLASS_NAME
             return CLASS_NAME;
-          case 3: // BUF
-            return BUF;
-          case 4: // CURSOR
-            return CURSOR;
           default:
             return null;
         }
@@ -9376,8 +9848,6 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
-    private static final int __CURSOR_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -9385,66 +9855,49 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.BUF, new org.apache.thrift.meta_data.FieldMetaData("buf", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_args.class, metaDataMap);
     }
 
-    public completion_args() {
+    public getFormType_args() {
     }
 
-    public completion_args(
+    public getFormType_args(
       String noteId,
-      String className,
-      String buf,
-      int cursor)
+      String className)
     {
       this();
       this.noteId = noteId;
       this.className = className;
-      this.buf = buf;
-      this.cursor = cursor;
-      setCursorIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completion_args(completion_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public getFormType_args(getFormType_args other) {
       if (other.isSetNoteId()) {
         this.noteId = other.noteId;
       }
       if (other.isSetClassName()) {
         this.className = other.className;
       }
-      if (other.isSetBuf()) {
-        this.buf = other.buf;
-      }
-      this.cursor = other.cursor;
     }
 
-    public completion_args deepCopy() {
-      return new completion_args(this);
+    public getFormType_args deepCopy() {
+      return new getFormType_args(this);
     }
 
     @Override
     public void clear() {
       this.noteId = null;
       this.className = null;
-      this.buf = null;
-      setCursorIsSet(false);
-      this.cursor = 0;
     }
 
     public String getNoteId() {
       return this.noteId;
     }
 
-    public completion_args setNoteId(String noteId) {
+    public getFormType_args setNoteId(String noteId) {
       this.noteId = noteId;
       return this;
     }
@@ -9468,7 +9921,7 @@ public class RemoteInterpreterService {
       return this.className;
     }
 
-    public completion_args setClassName(String className) {
+    public getFormType_args setClassName(String className) {
       this.className = className;
       return this;
     }
@@ -9488,53 +9941,6 @@ public class RemoteInterpreterService {
       }
     }
 
-    public String getBuf() {
-      return this.buf;
-    }
-
-    public completion_args setBuf(String buf) {
-      this.buf = buf;
-      return this;
-    }
-
-    public void unsetBuf() {
-      this.buf = null;
-    }
-
-    /** Returns true if field buf is set (has been assigned a value) and false otherwise */
-    public boolean isSetBuf() {
-      return this.buf != null;
-    }
-
-    public void setBufIsSet(boolean value) {
-      if (!value) {
-        this.buf = null;
-      }
-    }
-
-    public int getCursor() {
-      return this.cursor;
-    }
-
-    public completion_args setCursor(int cursor) {
-      this.cursor = cursor;
-      setCursorIsSet(true);
-      return this;
-    }
-
-    public void unsetCursor() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURSOR_ISSET_ID);
-    }
-
-    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
-    public boolean isSetCursor() {
-      return EncodingUtils.testBit(__isset_bitfield, __CURSOR_ISSET_ID);
-    }
-
-    public void setCursorIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURSOR_ISSET_ID, value);
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case NOTE_ID:
@@ -9553,22 +9959,6 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case BUF:
-        if (value == null) {
-          unsetBuf();
-        } else {
-          setBuf((String)value);
-        }
-        break;
-
-      case CURSOR:
-        if (value == null) {
-          unsetCursor();
-        } else {
-          setCursor((Integer)value);
-        }
-        break;
-
       }
     }
 
@@ -9580,12 +9970,6 @@ public class RemoteInterpreterService {
       case CLASS_NAME:
         return getClassName();
 
-      case BUF:
-        return getBuf();
-
-      case CURSOR:
-        return Integer.valueOf(getCursor());
-
       }
       throw new IllegalStateException();
     }
@@ -9601,10 +9985,6 @@ public class RemoteInterpreterService {
         return isSetNoteId();
       case CLASS_NAME:
         return isSetClassName();
-      case BUF:
-        return isSetBuf();
-      case CURSOR:
-        return isSetCursor();
       }
       throw new IllegalStateException();
     }
@@ -9613,12 +9993,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completion_args)
-        return this.equals((completion_args)that);
+      if (that instanceof getFormType_args)
+        return this.equals((getFormType_args)that);
       return false;
     }
 
-    public boolean equals(completion_args that) {
+    public boolean equals(getFormType_args that) {
       if (that == null)
         return false;
 
@@ -9640,24 +10020,6 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_buf = true && this.isSetBuf();
-      boolean that_present_buf = true && that.isSetBuf();
-      if (this_present_buf || that_present_buf) {
-        if (!(this_present_buf && that_present_buf))
-          return false;
-        if (!this.buf.equals(that.buf))
-          return false;
-      }
-
-      boolean this_present_cursor = true;
-      boolean that_present_cursor = true;
-      if (this_present_cursor || that_present_cursor) {
-        if (!(this_present_cursor && that_present_cursor))
-          return false;
-        if (this.cursor != that.cursor)
-          return false;
-      }
-
       return true;
     }
 
@@ -9675,21 +10037,11 @@ public class RemoteInterpreterService {
       if (present_className)
         list.add(className);
 
-      boolean present_buf = true && (isSetBuf());
-      list.add(present_buf);
-      if (present_buf)
-        list.add(buf);
-
-      boolean present_cursor = true;
-      list.add(present_cursor);
-      if (present_cursor)
-        list.add(cursor);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(completion_args other) {
+    public int compareTo(getFormType_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9716,26 +10068,6 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBuf()).compareTo(other.isSetBuf());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetBuf()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buf, other.buf);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetCursor()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9753,7 +10085,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completion_args(");
+      StringBuilder sb = new StringBuilder("getFormType_args(");
       boolean first = true;
 
       sb.append("noteId:");
@@ -9771,18 +10103,6 @@ public class RemoteInterpreterService {
         sb.append(this.className);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("buf:");
-      if (this.buf == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.buf);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("cursor:");
-      sb.append(this.cursor);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9802,23 +10122,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class completion_argsStandardSchemeFactory implements SchemeFactory {
-      public completion_argsStandardScheme getScheme() {
-        return new completion_argsStandardScheme();
+    private static class getFormType_argsStandardSchemeFactory implements SchemeFactory {
+      public getFormType_argsStandardScheme getScheme() {
+        return new getFormType_argsStandardScheme();
       }
     }
 
-    private static class completion_argsStandardScheme extends StandardScheme<completion_args> {
+    private static class getFormType_argsStandardScheme extends StandardScheme<getFormType_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9844,22 +10162,6 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // BUF
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.buf = iprot.readString();
-                struct.setBufIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // CURSOR
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.cursor = iprot.readI32();
-                struct.setCursorIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9871,7 +10173,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9885,30 +10187,22 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.className);
           oprot.writeFieldEnd();
         }
-        if (struct.buf != null) {
-          oprot.writeFieldBegin(BUF_FIELD_DESC);
-          oprot.writeString(struct.buf);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
-        oprot.writeI32(struct.cursor);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class completion_argsTupleSchemeFactory implements SchemeFactory {
-      public completion_argsTupleScheme getScheme() {
-        return new completion_argsTupleScheme();
+    private static class getFormType_argsTupleSchemeFactory implements SchemeFactory {
+      public getFormType_argsTupleScheme getScheme() {
+        return new getFormType_argsTupleScheme();
       }
     }
 
-    private static class completion_argsTupleScheme extends TupleScheme<completion_args> {
+    private static class getFormType_argsTupleScheme extends TupleScheme<getFormType_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetNoteId()) {
@@ -9917,31 +10211,19 @@ public class RemoteInterpreterService {
         if (struct.isSetClassName()) {
           optionals.set(1);
         }
-        if (struct.isSetBuf()) {
-          optionals.set(2);
-        }
-        if (struct.isSetCursor()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetNoteId()) {
           oprot.writeString(struct.noteId);
         }
         if (struct.isSetClassName()) {
           oprot.writeString(struct.className);
         }
-        if (struct.isSetBuf()) {
-          oprot.writeString(struct.buf);
-        }
-        if (struct.isSetCursor()) {
-          oprot.writeI32(struct.cursor);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.noteId = iprot.readString();
           struct.setNoteIdIsSet(true);
@@ -9950,31 +10232,23 @@ public class RemoteInterpreterService {
           struct.className = iprot.readString();
           struct.setClassNameIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.buf = iprot.readString();
-          struct.setBufIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.cursor = iprot.readI32();
-          struct.setCursorIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class completion_result implements org.apache.thrift.TBase<completion_result, completion_result._Fields>, java.io.Serializable, Cloneable, Comparable<completion_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_result");
+  public static class getFormType_result implements org.apache.thrift.TBase<getFormType_result, getFormType_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFormType_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFormType_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completion_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completion_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFormType_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFormType_resultTupleSchemeFactory());
     }
 
-    public List<InterpreterCompletion> success; // required
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10039,17 +10313,16 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterCompletion.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFormType_result.class, metaDataMap);
     }
 
-    public completion_result() {
+    public getFormType_result() {
     }
 
-    public completion_result(
-      List<InterpreterCompletion> success)
+    public getFormType_result(
+      String success)
     {
       this();
       this.success = success;
@@ -10058,18 +10331,14 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completion_result(completion_result other) {
+    public getFormType_result(getFormType_result other) {
       if (other.isSetSuccess()) {
-        List<InterpreterCompletion> __this__success = new ArrayList<InterpreterCompletion>(other.success.size());
-        for (InterpreterCompletion other_element : other.success) {
-          __this__success.add(new InterpreterCompletion(other_element));
-        }
-        this.success = __this__success;
+        this.success = other.success;
       }
     }
 
-    public completion_result deepCopy() {
-      return new completion_result(this);
+    public getFormType_result deepCopy() {
+      return new getFormType_result(this);
     }
 
     @Override
@@ -10077,26 +10346,11 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<InterpreterCompletion> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(InterpreterCompletion elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<InterpreterCompletion>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<InterpreterCompletion> getSuccess() {
+    public String getSuccess() {
       return this.success;
     }
 
-    public completion_result setSuccess(List<InterpreterCompletion> success) {
+    public getFormType_result setSuccess(String success) {
       this.success = success;
       return this;
     }
@@ -10122,7 +10376,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<InterpreterCompletion>)value);
+          setSuccess((String)value);
         }
         break;
 
@@ -10155,12 +10409,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completion_result)
-        return this.equals((completion_result)that);
+      if (that instanceof getFormType_result)
+        return this.equals((getFormType_result)that);
       return false;
     }
 
-    public boolean equals(completion_result that) {
+    public boolean equals(getFormType_result that) {
       if (that == null)
         return false;
 
@@ -10189,7 +10443,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(completion_result other) {
+    public int compareTo(getFormType_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10223,7 +10477,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completion_result(");
+      StringBuilder sb = new StringBuilder("getFormType_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10258,15 +10512,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class completion_resultStandardSchemeFactory implements SchemeFactory {
-      public completion_resultStandardScheme getScheme() {
-        return new completion_resultStandardScheme();
+    private static class getFormType_resultStandardSchemeFactory implements SchemeFactory {
+      public getFormType_resultStandardScheme getScheme() {
+        return new getFormType_resultStandardScheme();
       }
     }
 
-    private static class completion_resultStandardScheme extends StandardScheme<completion_result> {
+    private static class getFormType_resultStandardScheme extends StandardScheme<getFormType_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFormType_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10277,19 +10531,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list10 = iprot.readListBegin();
-                  struct.success = new ArrayList<InterpreterCompletion>(_list10.size);
-                  InterpreterCompletion _elem11;
-                  for (int _i12 = 0; _i12 < _list10.size; ++_i12)
-                  {
-                    _elem11 = new InterpreterCompletion();
-                    _elem11.read(iprot);
-                    struct.success.add(_elem11);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10306,20 +10549,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFormType_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InterpreterCompletion _iter13 : struct.success)
-            {
-              _iter13.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10328,16 +10564,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class completion_resultTupleSchemeFactory implements SchemeFactory {
-      public completion_resultTupleScheme getScheme() {
-        return new completion_resultTupleScheme();
+    private static class getFormType_resultTupleSchemeFactory implements SchemeFactory {
+      public getFormType_resultTupleScheme getScheme() {
+        return new getFormType_resultTupleScheme();
       }
     }
 
-    private static class completion_resultTupleScheme extends TupleScheme<completion_result> {
+    private static class getFormType_resultTupleScheme extends TupleScheme<getFormType_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10345,32 +10581,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (InterpreterCompletion _iter14 : struct.success)
-            {
-              _iter14.write(oprot);
-            }
-          }
+          oprot.writeString(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFormType_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list15 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<InterpreterCompletion>(_list15.size);
-            InterpreterCompletion _elem16;
-            for (int _i17 = 0; _i17 < _list15.size; ++_i17)
-            {
-              _elem16 = new InterpreterCompletion();
-              _elem16.read(iprot);
-              struct.success.add(_elem16);
-            }
-          }
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
       }
@@ -10378,20 +10598,31 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class shutdown_args implements org.apache.thrift.TBase<shutdown_args, shutdown_args._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_args");
+  public static class completion_args implements org.apache.thrift.TBase<completion_args, completion_args._Fields>, java.io.Serializable, Cloneable, Comparable<completion_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_args");
 
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLASS_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("className", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BUF_FIELD_DESC = new org.apache.thrift.protocol.TField("buf", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField CURSOR_FIELD_DESC = new org.apache.thrift.protocol.TField("cursor", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new shutdown_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new shutdown_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completion_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completion_argsTupleSchemeFactory());
     }
 
+    public String noteId; // required
+    public String className; // required
+    public String buf; // required
+    public int cursor; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      NOTE_ID((short)1, "noteId"),
+      CLASS_NAME((short)2, "className"),
+      BUF((short)3, "buf"),
+      CURSOR((short)4, "cursor");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10406,8 +10637,1591 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          default:
-            return null;
+          case 1: // NOTE_ID
+            return NOTE_ID;
+          case 2: // CLASS_NAME
+            return CLASS_NAME;
+          case 3: // BUF
+            return BUF;
+          case 4: // CURSOR
+            return CURSOR;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __CURSOR_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLASS_NAME, new org.apache.thrift.meta_data.FieldMetaData("className", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BUF, new org.apache.thrift.meta_data.FieldMetaData("buf", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CURSOR, new org.apache.thrift.meta_data.FieldMetaData("cursor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_args.class, metaDataMap);
+    }
+
+    public completion_args() {
+    }
+
+    public completion_args(
+      String noteId,
+      String className,
+      String buf,
+      int cursor)
+    {
+      this();
+      this.noteId = noteId;
+      this.className = className;
+      this.buf = buf;
+      this.cursor = cursor;
+      setCursorIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completion_args(completion_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetClassName()) {
+        this.className = other.className;
+      }
+      if (other.isSetBuf()) {
+        this.buf = other.buf;
+      }
+      this.cursor = other.cursor;
+    }
+
+    public completion_args deepCopy() {
+      return new completion_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.noteId = null;
+      this.className = null;
+      this.buf = null;
+      setCursorIsSet(false);
+      this.cursor = 0;
+    }
+
+    public String getNoteId() {
+      return this.noteId;
+    }
+
+    public completion_args setNoteId(String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    public String getClassName() {
+      return this.className;
+    }
+
+    public completion_args setClassName(String className) {
+      this.className = className;
+      return this;
+    }
+
+    public void unsetClassName() {
+      this.className = null;
+    }
+
+    /** Returns true if field className is set (has been assigned a value) and false otherwise */
+    public boolean isSetClassName() {
+      return this.className != null;
+    }
+
+    public void setClassNameIsSet(boolean value) {
+      if (!value) {
+        this.className = null;
+      }
+    }
+
+    public String getBuf() {
+      return this.buf;
+    }
+
+    public completion_args setBuf(String buf) {
+      this.buf = buf;
+      return this;
+    }
+
+    public void unsetBuf() {
+      this.buf = null;
+    }
+
+    /** Returns true if field buf is set (has been assigned a value) and false otherwise */
+    public boolean isSetBuf() {
+      return this.buf != null;
+    }
+
+    public void setBufIsSet(boolean value) {
+      if (!value) {
+        this.buf = null;
+      }
+    }
+
+    public int getCursor() {
+      return this.cursor;
+    }
+
+    public completion_args setCursor(int cursor) {
+      this.cursor = cursor;
+      setCursorIsSet(true);
+      return this;
+    }
+
+    public void unsetCursor() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    /** Returns true if field cursor is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursor() {
+      return EncodingUtils.testBit(__isset_bitfield, __CURSOR_ISSET_ID);
+    }
+
+    public void setCursorIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURSOR_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((String)value);
+        }
+        break;
+
+      case CLASS_NAME:
+        if (value == null) {
+          unsetClassName();
+        } else {
+          setClassName((String)value);
+        }
+        break;
+
+      case BUF:
+        if (value == null) {
+          unsetBuf();
+        } else {
+          setBuf((String)value);
+        }
+        break;
+
+      case CURSOR:
+        if (value == null) {
+          unsetCursor();
+        } else {
+          setCursor((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NOTE_ID:
+        return getNoteId();
+
+      case CLASS_NAME:
+        return getClassName();
+
+      case BUF:
+        return getBuf();
+
+      case CURSOR:
+        return Integer.valueOf(getCursor());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NOTE_ID:
+        return isSetNoteId();
+      case CLASS_NAME:
+        return isSetClassName();
+      case BUF:
+        return isSetBuf();
+      case CURSOR:
+        return isSetCursor();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completion_args)
+        return this.equals((completion_args)that);
+      return false;
+    }
+
+    public boolean equals(completion_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_className = true && this.isSetClassName();
+      boolean that_present_className = true && that.isSetClassName();
+      if (this_present_className || that_present_className) {
+        if (!(this_present_className && that_present_className))
+          return false;
+        if (!this.className.equals(that.className))
+          return false;
+      }
+
+      boolean this_present_buf = true && this.isSetBuf();
+      boolean that_present_buf = true && that.isSetBuf();
+      if (this_present_buf || that_present_buf) {
+        if (!(this_present_buf && that_present_buf))
+          return false;
+        if (!this.buf.equals(that.buf))
+          return false;
+      }
+
+      boolean this_present_cursor = true;
+      boolean that_present_cursor = true;
+      if (this_present_cursor || that_present_cursor) {
+        if (!(this_present_cursor && that_present_cursor))
+          return false;
+        if (this.cursor != that.cursor)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_noteId = true && (isSetNoteId());
+      list.add(present_noteId);
+      if (present_noteId)
+        list.add(noteId);
+
+      boolean present_className = true && (isSetClassName());
+      list.add(present_className);
+      if (present_className)
+        list.add(className);
+
+      boolean present_buf = true && (isSetBuf());
+      list.add(present_buf);
+      if (present_buf)
+        list.add(buf);
+
+      boolean present_cursor = true;
+      list.add(present_cursor);
+      if (present_cursor)
+        list.add(cursor);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completion_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClassName()).compareTo(other.isSetClassName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClassName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.className, other.className);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBuf()).compareTo(other.isSetBuf());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBuf()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buf, other.buf);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCursor()).compareTo(other.isSetCursor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursor, other.cursor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completion_args(");
+      boolean first = true;
+
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("className:");
+      if (this.className == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.className);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("buf:");
+      if (this.buf == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.buf);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cursor:");
+      sb.append(this.cursor);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completion_argsStandardSchemeFactory implements SchemeFactory {
+      public completion_argsStandardScheme getScheme() {
+        return new completion_argsStandardScheme();
+      }
+    }
+
+    private static class completion_argsStandardScheme extends StandardScheme<completion_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLASS_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.className = iprot.readString();
+                struct.setClassNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BUF
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.buf = iprot.readString();
+                struct.setBufIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // CURSOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.cursor = iprot.readI32();
+                struct.setCursorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.className != null) {
+          oprot.writeFieldBegin(CLASS_NAME_FIELD_DESC);
+          oprot.writeString(struct.className);
+          oprot.writeFieldEnd();
+        }
+        if (struct.buf != null) {
+          oprot.writeFieldBegin(BUF_FIELD_DESC);
+          oprot.writeString(struct.buf);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(CURSOR_FIELD_DESC);
+        oprot.writeI32(struct.cursor);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completion_argsTupleSchemeFactory implements SchemeFactory {
+      public completion_argsTupleScheme getScheme() {
+        return new completion_argsTupleScheme();
+      }
+    }
+
+    private static class completion_argsTupleScheme extends TupleScheme<completion_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetNoteId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClassName()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBuf()) {
+          optionals.set(2);
+        }
+        if (struct.isSetCursor()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetClassName()) {
+          oprot.writeString(struct.className);
+        }
+        if (struct.isSetBuf()) {
+          oprot.writeString(struct.buf);
+        }
+        if (struct.isSetCursor()) {
+          oprot.writeI32(struct.cursor);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completion_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.className = iprot.readString();
+          struct.setClassNameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.buf = iprot.readString();
+          struct.setBufIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.cursor = iprot.readI32();
+          struct.setCursorIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completion_result implements org.apache.thrift.TBase<completion_result, completion_result._Fields>, java.io.Serializable, Cloneable, Comparable<completion_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completion_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completion_resultTupleSchemeFactory());
+    }
+
+    public List<InterpreterCompletion> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterCompletion.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_result.class, metaDataMap);
+    }
+
+    public completion_result() {
+    }
+
+    public completion_result(
+      List<InterpreterCompletion> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completion_result(completion_result other) {
+      if (other.isSetSuccess()) {
+        List<InterpreterCompletion> __this__success = new ArrayList<InterpreterCompletion>(other.success.size());
+        for (InterpreterCompletion other_element : other.success) {
+          __this__success.add(new InterpreterCompletion(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public completion_result deepCopy() {
+      return new completion_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<InterpreterCompletion> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(InterpreterCompletion elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<InterpreterCompletion>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<InterpreterCompletion> getSuccess() {
+      return this.success;
+    }
+
+    public completion_result setSuccess(List<InterpreterCompletion> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<InterpreterCompletion>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completion_result)
+        return this.equals((completion_result)that);
+      return false;
+    }
+
+    public boolean equals(completion_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completion_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completion_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completion_resultStandardSchemeFactory implements SchemeFactory {
+      public completion_resultStandardScheme getScheme() {
+        return new completion_resultStandardScheme();
+      }
+    }
+
+    private static class completion_resultStandardScheme extends StandardScheme<completion_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completion_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list10 = iprot.readListBegin();
+                  struct.success = new ArrayList<InterpreterCompletion>(_list10.size);
+                  InterpreterCompletion _elem11;
+                  for (int _i12 = 0; _i12 < _list10.size; ++_i12)
+                  {
+                    _elem11 = new InterpreterCompletion();
+                    _elem11.read(iprot);
+                    struct.success.add(_elem11);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completion_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (InterpreterCompletion _iter13 : struct.success)
+            {
+              _iter13.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completion_resultTupleSchemeFactory implements SchemeFactory {
+      public completion_resultTupleScheme getScheme() {
+        return new completion_resultTupleScheme();
+      }
+    }
+
+    private static class completion_resultTupleScheme extends TupleScheme<completion_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (InterpreterCompletion _iter14 : struct.success)
+            {
+              _iter14.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list15 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<InterpreterCompletion>(_list15.size);
+            InterpreterCompletion _elem16;
+            for (int _i17 = 0; _i17 < _list15.size; ++_i17)
+            {
+              _elem16 = new InterpreterCompletion();
+              _elem16.read(iprot);
+              struct.success.add(_elem16);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class shutdown_args implements org.apache.thrift.TBase<shutdown_args, shutdown_args._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shutdown_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shutdown_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_args.class, metaDataMap);
+    }
+
+    public shutdown_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shutdown_args(shutdown_args other) {
+    }
+
+    public shutdown_args deepCopy() {
+      return new shutdown_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shutdown_args)
+        return this.equals((shutdown_args)that);
+      return false;
+    }
+
+    public boolean equals(shutdown_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(shutdown_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shutdown_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class shutdown_argsStandardSchemeFactory implements SchemeFactory {
+      public shutdown_argsStandardScheme getScheme() {
+        return new shutdown_argsStandardScheme();
+      }
+    }
+
+    private static class shutdown_argsStandardScheme extends StandardScheme<shutdown_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shutdown_argsTupleSchemeFactory implements SchemeFactory {
+      public shutdown_argsTupleScheme getScheme() {
+        return new shutdown_argsTupleScheme();
+      }
+    }
+
+    private static class shutdown_argsTupleScheme extends TupleScheme<shutdown_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class shutdown_result implements org.apache.thrift.TBase<shutdown_result, shutdown_result._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shutdown_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shutdown_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_result.class, metaDataMap);
+    }
+
+    public shutdown_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shutdown_result(shutdown_result other) {
+    }
+
+    public shutdown_result deepCopy() {
+      return new shutdown_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shutdown_result)
+        return this.equals((shutdown_result)that);
+      return false;
+    }
+
+    public boolean equals(shutdown_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(shutdown_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shutdown_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class shutdown_resultStandardSchemeFactory implements SchemeFactory {
+      public shutdown_resultStandardScheme getScheme() {
+        return new shutdown_resultStandardScheme();
+      }
+    }
+
+    private static class shutdown_resultStandardScheme extends StandardScheme<shutdown_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shutdown_resultTupleSchemeFactory implements SchemeFactory {
+      public shutdown_resultTupleScheme getScheme() {
+        return new shutdown_resultTupleScheme();
+      }
+    }
+
+    private static class shutdown_resultTupleScheme extends TupleScheme<shutdown_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+    }
+
+    public String noteId; // required
+    public String jobId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NOTE_ID((short)1, "noteId"),
+      JOB_ID((short)2, "jobId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NOTE_ID
+            return NOTE_ID;
+          case 2: // JOB_ID
+            return JOB_ID;
+          default:
+            return null;
         }
       }
 
@@ -10444,37 +12258,130 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
     }
 
-    public shutdown_args() {
+    public getStatus_args() {
+    }
+
+    public getStatus_args(
+      String noteId,
+      String jobId)
+    {
+      this();
+      this.noteId = noteId;
+      this.jobId = jobId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public shutdown_args(shutdown_args other) {
+    public getStatus_args(getStatus_args other) {
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
     }
 
-    public shutdown_args deepCopy() {
-      return new shutdown_args(this);
+    public getStatus_args deepCopy() {
+      return new getStatus_args(this);
     }
 
     @Override
     public void clear() {
+      this.noteId = null;
+      this.jobId = null;
+    }
+
+    public String getNoteId() {
+      return this.noteId;
+    }
+
+    public getStatus_args setNoteId(String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    public String getJobId() {
+      return this.jobId;
+    }
+
+    public getStatus_args setJobId(String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public void unsetJobId() {
+      this.jobId = null;
+    }
+
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
+
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((String)value);
+        }
+        break;
+
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case NOTE_ID:
+        return getNoteId();
+
+      case JOB_ID:
+        return getJobId();
+
       }
       throw new IllegalStateException();
     }
@@ -10486,6 +12393,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case NOTE_ID:
+        return isSetNoteId();
+      case JOB_ID:
+        return isSetJobId();
       }
       throw new IllegalStateException();
     }
@@ -10494,15 +12405,33 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof shutdown_args)
-        return this.equals((shutdown_args)that);
+      if (that instanceof getStatus_args)
+        return this.equals((getStatus_args)that);
       return false;
     }
 
-    public boolean equals(shutdown_args that) {
+    public boolean equals(getStatus_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
       return true;
     }
 
@@ -10510,17 +12439,47 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_noteId = true && (isSetNoteId());
+      list.add(present_noteId);
+      if (present_noteId)
+        list.add(noteId);
+
+      boolean present_jobId = true && (isSetJobId());
+      list.add(present_jobId);
+      if (present_jobId)
+        list.add(jobId);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(shutdown_args other) {
+    public int compareTo(getStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10538,9 +12497,24 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("shutdown_args(");
+      StringBuilder sb = new StringBuilder("getStatus_args(");
       boolean first = true;
 
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10566,15 +12540,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class shutdown_argsStandardSchemeFactory implements SchemeFactory {
-      public shutdown_argsStandardScheme getScheme() {
-        return new shutdown_argsStandardScheme();
+    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatus_argsStandardScheme getScheme() {
+        return new getStatus_argsStandardScheme();
       }
     }
 
-    private static class shutdown_argsStandardScheme extends StandardScheme<shutdown_args> {
+    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10584,6 +12558,22 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10595,51 +12585,86 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class shutdown_argsTupleSchemeFactory implements SchemeFactory {
-      public shutdown_argsTupleScheme getScheme() {
-        return new shutdown_argsTupleScheme();
+    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatus_argsTupleScheme getScheme() {
+        return new getStatus_argsTupleScheme();
       }
     }
 
-    private static class shutdown_argsTupleScheme extends TupleScheme<shutdown_args> {
+    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetNoteId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJobId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class shutdown_result implements org.apache.thrift.TBase<shutdown_result, shutdown_result._Fields>, java.io.Serializable, Cloneable, Comparable<shutdown_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shutdown_result");
+  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new shutdown_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new shutdown_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
     }
 
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10654,6 +12679,8 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -10692,37 +12719,87 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shutdown_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
     }
 
-    public shutdown_result() {
+    public getStatus_result() {
+    }
+
+    public getStatus_result(
+      String success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public shutdown_result(shutdown_result other) {
+    public getStatus_result(getStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    public shutdown_result deepCopy() {
-      return new shutdown_result(this);
+    public getStatus_result deepCopy() {
+      return new getStatus_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public getStatus_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new IllegalStateException();
     }
@@ -10734,6 +12811,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -10742,15 +12821,24 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof shutdown_result)
-        return this.equals((shutdown_result)that);
+      if (that instanceof getStatus_result)
+        return this.equals((getStatus_result)that);
       return false;
     }
 
-    public boolean equals(shutdown_result that) {
+    public boolean equals(getStatus_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -10758,17 +12846,32 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(shutdown_result other) {
+    public int compareTo(getStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10786,9 +12889,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("shutdown_result(");
+      StringBuilder sb = new StringBuilder("getStatus_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10814,15 +12924,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class shutdown_resultStandardSchemeFactory implements SchemeFactory {
-      public shutdown_resultStandardScheme getScheme() {
-        return new shutdown_resultStandardScheme();
+    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatus_resultStandardScheme getScheme() {
+        return new getStatus_resultStandardScheme();
       }
     }
 
-    private static class shutdown_resultStandardScheme extends StandardScheme<shutdown_result> {
+    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10832,6 +12942,14 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10843,56 +12961,69 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class shutdown_resultTupleSchemeFactory implements SchemeFactory {
-      public shutdown_resultTupleScheme getScheme() {
-        return new shutdown_resultTupleScheme();
+    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatus_resultTupleScheme getScheme() {
+        return new getStatus_resultTupleScheme();
       }
     }
 
-    private static class shutdown_resultTupleScheme extends TupleScheme<shutdown_result> {
+    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, shutdown_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+  public static class getEvent_args implements org.apache.thrift.TBase<getEvent_args, getEvent_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEvent_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvent_args");
 
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvent_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvent_argsTupleSchemeFactory());
     }
 
-    public String noteId; // required
-    public String jobId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NOTE_ID((short)1, "noteId"),
-      JOB_ID((short)2, "jobId");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10907,10 +13038,6 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NOTE_ID
-            return NOTE_ID;
-          case 2: // JOB_ID
-            return JOB_ID;
           default:
             return null;
         }
@@ -10949,130 +13076,37 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
-    }
-
-    public getStatus_args() {
-    }
-
-    public getStatus_args(
-      String noteId,
-      String jobId)
-    {
-      this();
-      this.noteId = noteId;
-      this.jobId = jobId;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public getStatus_args(getStatus_args other) {
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
-      }
-      if (other.isSetJobId()) {
-        this.jobId = other.jobId;
-      }
-    }
-
-    public getStatus_args deepCopy() {
-      return new getStatus_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.noteId = null;
-      this.jobId = null;
-    }
-
-    public String getNoteId() {
-      return this.noteId;
-    }
-
-    public getStatus_args setNoteId(String noteId) {
-      this.noteId = noteId;
-      return this;
-    }
-
-    public void unsetNoteId() {
-      this.noteId = null;
-    }
-
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
-    }
-
-    public void setNoteIdIsSet(boolean value) {
-      if (!value) {
-        this.noteId = null;
-      }
-    }
-
-    public String getJobId() {
-      return this.jobId;
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvent_args.class, metaDataMap);
     }
 
-    public getStatus_args setJobId(String jobId) {
-      this.jobId = jobId;
-      return this;
+    public getEvent_args() {
     }
 
-    public void unsetJobId() {
-      this.jobId = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEvent_args(getEvent_args other) {
     }
 
-    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
-    public boolean isSetJobId() {
-      return this.jobId != null;
+    public getEvent_args deepCopy() {
+      return new getEvent_args(this);
     }
 
-    public void setJobIdIsSet(boolean value) {
-      if (!value) {
-        this.jobId = null;
-      }
+    @Override
+    public void clear() {
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case NOTE_ID:
-        if (value == null) {
-          unsetNoteId();
-        } else {
-          setNoteId((String)value);
-        }
-        break;
-
-      case JOB_ID:
-        if (value == null) {
-          unsetJobId();
-        } else {
-          setJobId((String)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case NOTE_ID:
-        return getNoteId();
-
-      case JOB_ID:
-        return getJobId();
-
       }
       throw new IllegalStateException();
     }
@@ -11084,10 +13118,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case NOTE_ID:
-        return isSetNoteId();
-      case JOB_ID:
-        return isSetJobId();
       }
       throw new IllegalStateException();
     }
@@ -11096,33 +13126,15 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_args)
-        return this.equals((getStatus_args)that);
+      if (that instanceof getEvent_args)
+        return this.equals((getEvent_args)that);
       return false;
     }
 
-    public boolean equals(getStatus_args that) {
+    public boolean equals(getEvent_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
-          return false;
-        if (!this.noteId.equals(that.noteId))
-          return false;
-      }
-
-      boolean this_present_jobId = true && this.isSetJobId();
-      boolean that_present_jobId = true && that.isSetJobId();
-      if (this_present_jobId || that_present_jobId) {
-        if (!(this_present_jobId && that_present_jobId))
-          return false;
-        if (!this.jobId.equals(that.jobId))
-          return false;
-      }
-
       return true;
     }
 
@@ -11130,47 +13142,17 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_noteId = true && (isSetNoteId());
-      list.add(present_noteId);
-      if (present_noteId)
-        list.add(noteId);
-
-      boolean present_jobId = true && (isSetJobId());
-      list.add(present_jobId);
-      if (present_jobId)
-        list.add(jobId);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getStatus_args other) {
+    public int compareTo(getEvent_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetJobId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -11188,24 +13170,9 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_args(");
+      StringBuilder sb = new StringBuilder("getEvent_args(");
       boolean first = true;
 
-      sb.append("noteId:");
-      if (this.noteId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.noteId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("jobId:");
-      if (this.jobId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.jobId);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11231,15 +13198,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatus_argsStandardScheme getScheme() {
-        return new getStatus_argsStandardScheme();
+    private static class getEvent_argsStandardSchemeFactory implements SchemeFactory {
+      public getEvent_argsStandardScheme getScheme() {
+        return new getEvent_argsStandardScheme();
       }
     }
 
-    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+    private static class getEvent_argsStandardScheme extends StandardScheme<getEvent_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvent_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11249,22 +13216,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // JOB_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.jobId = iprot.readString();
-                struct.setJobIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11276,82 +13227,49 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvent_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.jobId != null) {
-          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
-          oprot.writeString(struct.jobId);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatus_argsTupleScheme getScheme() {
-        return new getStatus_argsTupleScheme();
+    private static class getEvent_argsTupleSchemeFactory implements SchemeFactory {
+      public getEvent_argsTupleScheme getScheme() {
+        return new getEvent_argsTupleScheme();
       }
     }
 
-    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+    private static class getEvent_argsTupleScheme extends TupleScheme<getEvent_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvent_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetNoteId()) {
-          optionals.set(0);
-        }
-        if (struct.isSetJobId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
-        }
-        if (struct.isSetJobId()) {
-          oprot.writeString(struct.jobId);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvent_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.jobId = iprot.readString();
-          struct.setJobIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+  public static class getEvent_result implements org.apache.thrift.TBase<getEvent_result, getEvent_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEvent_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvent_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvent_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvent_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public RemoteInterpreterEvent success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -11416,16 +13334,16 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterEvent.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvent_result.class, metaDataMap);
     }
 
-    public getStatus_result() {
+    public getEvent_result() {
     }
 
-    public getStatus_result(
-      String success)
+    public getEvent_result(
+      RemoteInterpreterEvent success)
     {
       this();
       this.success = success;
@@ -11434,14 +13352,14 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_result(getStatus_result other) {
+    public getEvent_result(getEvent_result other) {
       if (other.isSetSuccess()) {
-        this.success = other.success;
+        this.success = new RemoteInterpreterEvent(other.success);
       }
     }
 
-    public getStatus_result deepCopy() {
-      return new getStatus_result(this);
+    public getEvent_result deepCopy() {
+      return new getEvent_result(this);
     }
 
     @Override
@@ -11449,11 +13367,11 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public String getSuccess() {
+    public RemoteInterpreterEvent getSuccess() {
       return this.success;
     }
 
-    public getStatus_result setSuccess(String success) {
+    public getEvent_result setSuccess(RemoteInterpreterEvent success) {
       this.success = success;
       return this;
     }
@@ -11479,7 +13397,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((RemoteInterpreterEvent)value);
         }
         break;
 
@@ -11512,12 +13430,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_result)
-        return this.equals((getStatus_result)that);
+      if (that instanceof getEvent_result)
+        return this.equals((getEvent_result)that);
       return false;
     }
 
-    public boolean equals(getStatus_result that) {
+    public boolean equals(getEvent_result that) {
       if (that == null)
         return false;
 
@@ -11546,7 +13464,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getStatus_result other) {
+    public int compareTo(getEvent_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11580,7 +13498,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_result(");
+      StringBuilder sb = new StringBuilder("getEvent_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -11597,6 +13515,9 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -11615,15 +13536,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatus_resultStandardScheme getScheme() {
-        return new getStatus_resultStandardScheme();
+    private static class getEvent_resultStandardSchemeFactory implements SchemeFactory {
+      public getEvent_resultStandardScheme getScheme() {
+        return new getEvent_resultStandardScheme();
       }
     }
 
-    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+    private static class getEvent_resultStandardScheme extends StandardScheme<getEvent_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvent_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11634,8 +13555,9 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RemoteInterpreterEvent();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -11652,13 +13574,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvent_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11667,16 +13589,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatus_resultTupleScheme getScheme() {
-        return new getStatus_resultTupleScheme();
+    private static class getEvent_resultTupleSchemeFactory implements SchemeFactory {
+      public getEvent_resultTupleScheme getScheme() {
+        return new getEvent_resultTupleScheme();
       }
     }
 
-    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+    private static class getEvent_resultTupleScheme extends TupleScheme<getEvent_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvent_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -11684,16 +13606,17 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvent_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = new RemoteInterpreterEvent();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -11701,20 +13624,25 @@ public class RemoteInterpreterService {
 
   }
 
-  public static class getEvent_args implements org.apache.thrift.TBase<getEvent_args, getEvent_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEvent_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvent_args");
+  public static class getEvents_args implements org.apache.thrift.TBase<getEvents_args, getEvents_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEvents_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvents_args");
 
+    private static final org.apache.thrift.protocol.TField MAX_BATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("maxBatch", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_WAIT_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("maxWaitMs", org.apache.thrift.protocol.TType.I32, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getEvent_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getEvent_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvents_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvents_argsTupleSchemeFactory());
     }
 
+    public int maxBatch; // required
+    public int maxWaitMs; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      MAX_BATCH((short)1, "maxBatch"),
+      MAX_WAIT_MS((short)2, "maxWaitMs");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11729,6 +13657,10 @@ public class RemoteInterpreterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // MAX_BATCH
+            return MAX_BATCH;
+          case 2: // MAX_WAIT_MS
+            return MAX_WAIT_MS;
           default:
             return null;
         }
@@ -11767,37 +13699,132 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __MAX_BATCH_ISSET_ID = 0;
+    private static final int __MAX_WAIT_MS_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.MAX_BATCH, new org.apache.thrift.meta_data.FieldMetaData("maxBatch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.MAX_WAIT_MS, new org.apache.thrift.meta_data.FieldMetaData("maxWaitMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvent_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvents_args.class, metaDataMap);
     }
 
-    public getEvent_args() {
+    public getEvents_args() {
+    }
+
+    public getEvents_args(
+      int maxBatch,
+      int maxWaitMs)
+    {
+      this();
+      this.maxBatch = maxBatch;
+      setMaxBatchIsSet(true);
+      this.maxWaitMs = maxWaitMs;
+      setMaxWaitMsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getEvent_args(getEvent_args other) {
+    public getEvents_args(getEvents_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.maxBatch = other.maxBatch;
+      this.maxWaitMs = other.maxWaitMs;
     }
 
-    public getEvent_args deepCopy() {
-      return new getEvent_args(this);
+    public getEvents_args deepCopy() {
+      return new getEvents_args(this);
     }
 
     @Override
     public void clear() {
+      setMaxBatchIsSet(false);
+      this.maxBatch = 0;
+      setMaxWaitMsIsSet(false);
+      this.maxWaitMs = 0;
+    }
+
+    public int getMaxBatch() {
+      return this.maxBatch;
+    }
+
+    public getEvents_args setMaxBatch(int maxBatch) {
+      this.maxBatch = maxBatch;
+      setMaxBatchIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxBatch() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAX_BATCH_ISSET_ID);
+    }
+
+    /** Returns true if field maxBatch is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxBatch() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAX_BATCH_ISSET_ID);
+    }
+
+    public void setMaxBatchIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAX_BATCH_ISSET_ID, value);
+    }
+
+    public int getMaxWaitMs() {
+      return this.maxWaitMs;
+    }
+
+    public getEvents_args setMaxWaitMs(int maxWaitMs) {
+      this.maxWaitMs = maxWaitMs;
+      setMaxWaitMsIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxWaitMs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAX_WAIT_MS_ISSET_ID);
+    }
+
+    /** Returns true if field maxWaitMs is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxWaitMs() {
+      return EncodingUtils.testBit(__isset_bitfield, __MAX_WAIT_MS_ISSET_ID);
+    }
+
+    public void setMaxWaitMsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAX_WAIT_MS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case MAX_BATCH:
+        if (value == null) {
+          unsetMaxBatch();
+        } else {
+          setMaxBatch((Integer)value);
+        }
+        break;
+
+      case MAX_WAIT_MS:
+        if (value == null) {
+          unsetMaxWaitMs();
+        } else {
+          setMaxWaitMs((Integer)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case MAX_BATCH:
+        return Integer.valueOf(getMaxBatch());
+
+      case MAX_WAIT_MS:
+        return Integer.valueOf(getMaxWaitMs());
+
       }
       throw new IllegalStateException();
     }
@@ -11809,6 +13836,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case MAX_BATCH:
+        return isSetMaxBatch();
+      case MAX_WAIT_MS:
+        return isSetMaxWaitMs();
       }
       throw new IllegalStateException();
     }
@@ -11817,15 +13848,33 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getEvent_args)
-        return this.equals((getEvent_args)that);
+      if (that instanceof getEvents_args)
+        return this.equals((getEvents_args)that);
       return false;
     }
 
-    public boolean equals(getEvent_args that) {
+    public boolean equals(getEvents_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_maxBatch = true;
+      boolean that_present_maxBatch = true;
+      if (this_present_maxBatch || that_present_maxBatch) {
+        if (!(this_present_maxBatch && that_present_maxBatch))
+          return false;
+        if (this.maxBatch != that.maxBatch)
+          return false;
+      }
+
+      boolean this_present_maxWaitMs = true;
+      boolean that_present_maxWaitMs = true;
+      if (this_present_maxWaitMs || that_present_maxWaitMs) {
+        if (!(this_present_maxWaitMs && that_present_maxWaitMs))
+          return false;
+        if (this.maxWaitMs != that.maxWaitMs)
+          return false;
+      }
+
       return true;
     }
 
@@ -11833,17 +13882,47 @@ public class RemoteInterpreterService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_maxBatch = true;
+      list.add(present_maxBatch);
+      if (present_maxBatch)
+        list.add(maxBatch);
+
+      boolean present_maxWaitMs = true;
+      list.add(present_maxWaitMs);
+      if (present_maxWaitMs)
+        list.add(maxWaitMs);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getEvent_args other) {
+    public int compareTo(getEvents_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetMaxBatch()).compareTo(other.isSetMaxBatch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxBatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxBatch, other.maxBatch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxWaitMs()).compareTo(other.isSetMaxWaitMs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxWaitMs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxWaitMs, other.maxWaitMs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11861,9 +13940,16 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getEvent_args(");
+      StringBuilder sb = new StringBuilder("getEvents_args(");
       boolean first = true;
 
+      sb.append("maxBatch:");
+      sb.append(this.maxBatch);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxWaitMs:");
+      sb.append(this.maxWaitMs);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11883,21 +13969,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getEvent_argsStandardSchemeFactory implements SchemeFactory {
-      public getEvent_argsStandardScheme getScheme() {
-        return new getEvent_argsStandardScheme();
+    private static class getEvents_argsStandardSchemeFactory implements SchemeFactory {
+      public getEvents_argsStandardScheme getScheme() {
+        return new getEvents_argsStandardScheme();
       }
     }
 
-    private static class getEvent_argsStandardScheme extends StandardScheme<getEvent_args> {
+    private static class getEvents_argsStandardScheme extends StandardScheme<getEvents_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvent_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvents_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11907,6 +13995,22 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // MAX_BATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxBatch = iprot.readI32();
+                struct.setMaxBatchIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_WAIT_MS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxWaitMs = iprot.readI32();
+                struct.setMaxWaitMsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11918,49 +14022,78 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvent_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvents_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(MAX_BATCH_FIELD_DESC);
+        oprot.writeI32(struct.maxBatch);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(MAX_WAIT_MS_FIELD_DESC);
+        oprot.writeI32(struct.maxWaitMs);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getEvent_argsTupleSchemeFactory implements SchemeFactory {
-      public getEvent_argsTupleScheme getScheme() {
-        return new getEvent_argsTupleScheme();
+    private static class getEvents_argsTupleSchemeFactory implements SchemeFactory {
+      public getEvents_argsTupleScheme getScheme() {
+        return new getEvents_argsTupleScheme();
       }
     }
 
-    private static class getEvent_argsTupleScheme extends TupleScheme<getEvent_args> {
+    private static class getEvents_argsTupleScheme extends TupleScheme<getEvents_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getEvent_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvents_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetMaxBatch()) {
+          optionals.set(0);
+        }
+        if (struct.isSetMaxWaitMs()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetMaxBatch()) {
+          oprot.writeI32(struct.maxBatch);
+        }
+        if (struct.isSetMaxWaitMs()) {
+          oprot.writeI32(struct.maxWaitMs);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getEvent_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvents_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.maxBatch = iprot.readI32();
+          struct.setMaxBatchIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxWaitMs = iprot.readI32();
+          struct.setMaxWaitMsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getEvent_result implements org.apache.thrift.TBase<getEvent_result, getEvent_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEvent_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvent_result");
+  public static class getEvents_result implements org.apache.thrift.TBase<getEvents_result, getEvents_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEvents_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEvents_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getEvent_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getEvent_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getEvents_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getEvents_resultTupleSchemeFactory());
     }
 
-    public RemoteInterpreterEvent success; // required
+    public List<RemoteInterpreterEvent> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -12025,16 +14158,17 @@ public class RemoteInterpreterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterEvent.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterEvent.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvent_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEvents_result.class, metaDataMap);
     }
 
-    public getEvent_result() {
+    public getEvents_result() {
     }
 
-    public getEvent_result(
-      RemoteInterpreterEvent success)
+    public getEvents_result(
+      List<RemoteInterpreterEvent> success)
     {
       this();
       this.success = success;
@@ -12043,14 +14177,18 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getEvent_result(getEvent_result other) {
+    public getEvents_result(getEvents_result other) {
       if (other.isSetSuccess()) {
-        this.success = new RemoteInterpreterEvent(other.success);
+        List<RemoteInterpreterEvent> __this__success = new ArrayList<RemoteInterpreterEvent>(other.success.size());
+        for (RemoteInterpreterEvent other_element : other.success) {
+          __this__success.add(new RemoteInterpreterEvent(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getEvent_result deepCopy() {
-      return new getEvent_result(this);
+    public getEvents_result deepCopy() {
+      return new getEvents_result(this);
     }
 
     @Override
@@ -12058,11 +14196,26 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public RemoteInterpreterEvent getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<RemoteInterpreterEvent> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(RemoteInterpreterEvent elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<RemoteInterpreterEvent>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<RemoteInterpreterEvent> getSuccess() {
       return this.success;
     }
 
-    public getEvent_result setSuccess(RemoteInterpreterEvent success) {
+    public getEvents_result setSuccess(List<RemoteInterpreterEvent> success) {
       this.success = success;
       return this;
     }
@@ -12088,7 +14241,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((RemoteInterpreterEvent)value);
+          setSuccess((List<RemoteInterpreterEvent>)value);
         }
         break;
 
@@ -12121,12 +14274,12 @@ public class RemoteInterpreterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getEvent_result)
-        return this.equals((getEvent_result)that);
+      if (that instanceof getEvents_result)
+        return this.equals((getEvents_result)that);
       return false;
     }
 
-    public boolean equals(getEvent_result that) {
+    public boolean equals(getEvents_result that) {
       if (that == null)
         return false;
 
@@ -12155,7 +14308,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(getEvent_result other) {
+    public int compareTo(getEvents_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12189,7 +14342,7 @@ public class RemoteInterpreterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getEvent_result(");
+      StringBuilder sb = new StringBuilder("getEvents_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12206,9 +14359,6 @@ public class RemoteInterpreterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -12227,15 +14377,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class getEvent_resultStandardSchemeFactory implements SchemeFactory {
-      public getEvent_resultStandardScheme getScheme() {
-        return new getEvent_resultStandardScheme();
+    private static class getEvents_resultStandardSchemeFactory implements SchemeFactory {
+      public getEvents_resultStandardScheme getScheme() {
+        return new getEvents_resultStandardScheme();
       }
     }
 
-    private static class getEvent_resultStandardScheme extends StandardScheme<getEvent_result> {
+    private static class getEvents_resultStandardScheme extends StandardScheme<getEvents_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvent_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEvents_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12246,9 +14396,19 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RemoteInterpreterEvent();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list18 = iprot.readListBegin();
+                  struct.success = new ArrayList<RemoteInterpreterEvent>(_list18.size);
+                  RemoteInterpreterEvent _elem19;
+                  for (int _i20 = 0; _i20 < _list18.size; ++_i20)
+                  {
+                    _elem19 = new RemoteInterpreterEvent();
+                    _elem19.read(iprot);
+                    struct.success.add(_elem19);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12265,13 +14425,20 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvent_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEvents_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (RemoteInterpreterEvent _iter21 : struct.success)
+            {
+              _iter21.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12280,16 +14447,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class getEvent_resultTupleSchemeFactory implements SchemeFactory {
-      public getEvent_resultTupleScheme getScheme() {
-        return new getEvent_resultTupleScheme();
+    private static class getEvents_resultTupleSchemeFactory implements SchemeFactory {
+      public getEvents_resultTupleScheme getScheme() {
+        return new getEvents_resultTupleScheme();
       }
     }
 
-    private static class getEvent_resultTupleScheme extends TupleScheme<getEvent_result> {
+    private static class getEvents_resultTupleScheme extends TupleScheme<getEvents_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getEvent_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEvents_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12297,17 +14464,32 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (RemoteInterpreterEvent _iter22 : struct.success)
+            {
+              _iter22.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getEvent_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEvents_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new RemoteInterpreterEvent();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list23 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<RemoteInterpreterEvent>(_list23.size);
+            RemoteInterpreterEvent _elem24;
+            for (int _i25 = 0; _i25 < _list23.size; ++_i25)
+            {
+              _elem24 = new RemoteInterpreterEvent();
+              _elem24.read(iprot);
+              struct.success.add(_elem24);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -12628,13 +14810,13 @@ public class RemoteInterpreterService {
             case 1: // RESOURCES
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list18 = iprot.readListBegin();
-                  struct.resources = new ArrayList<String>(_list18.size);
-                  String _elem19;
-                  for (int _i20 = 0; _i20 < _list18.size; ++_i20)
+                  org.apache.thrift.protocol.TList _list26 = iprot.readListBegin();
+                  struct.resources = new ArrayList<String>(_list26.size);
+                  String _elem27;
+                  for (int _i28 = 0; _i28 < _list26.size; ++_i28)
                   {
-                    _elem19 = iprot.readString();
-                    struct.resources.add(_elem19);
+                    _elem27 = iprot.readString();
+                    struct.resources.add(_elem27);
                   }
                   iprot.readListEnd();
                 }
@@ -12662,9 +14844,9 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(RESOURCES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.resources.size()));
-            for (String _iter21 : struct.resources)
+            for (String _iter29 : struct.resources)
             {
-              oprot.writeString(_iter21);
+              oprot.writeString(_iter29);
             }
             oprot.writeListEnd();
           }
@@ -12695,9 +14877,9 @@ public class RemoteInterpreterService {
         if (struct.isSetResources()) {
           {
             oprot.writeI32(struct.resources.size());
-            for (String _iter22 : struct.resources)
+            for (String _iter30 : struct.resources)
             {
-              oprot.writeString(_iter22);
+              oprot.writeString(_iter30);
             }
           }
         }
@@ -12709,13 +14891,13 @@ public class RemoteInterpreterService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list23 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.resources = new ArrayList<String>(_list23.size);
-            String _elem24;
-            for (int _i25 = 0; _i25 < _list23.size; ++_i25)
+            org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.resources = new ArrayList<String>(_list31.size);
+            String _elem32;
+            for (int _i33 = 0; _i33 < _list31.size; ++_i33)
             {
-              _elem24 = iprot.readString();
-              struct.resources.add(_elem24);
+              _elem32 = iprot.readString();
+              struct.resources.add(_elem32);
             }
           }
           struct.setResourcesIsSet(true);
@@ -14258,13 +16440,13 @@ public class RemoteInterpreterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list26 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list26.size);
-                  String _elem27;
-                  for (int _i28 = 0; _i28 < _list26.size; ++_i28)
+                  org.apache.thrift.protocol.TList _list34 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list34.size);
+                  String _elem35;
+                  for (int _i36 = 0; _i36 < _list34.size; ++_i36)
                   {
-                    _elem27 = iprot.readString();
-                    struct.success.add(_elem27);
+                    _elem35 = iprot.readString();
+                    struct.success.add(_elem35);
                   }
                   iprot.readListEnd();
                 }
@@ -14292,9 +16474,9 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter29 : struct.success)
+            for (String _iter37 : struct.success)
             {
-              oprot.writeString(_iter29);
+              oprot.writeString(_iter37);
             }
             oprot.writeListEnd();
           }
@@ -14325,9 +16507,9 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (String _iter30 : struct.success)
+            for (String _iter38 : struct.success)
             {
-              oprot.writeString(_iter30);
+              oprot.writeString(_iter38);
             }
           }
         }
@@ -14339,13 +16521,13 @@ public class RemoteInterpreterService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list31.size);
-            String _elem32;
-            for (int _i33 = 0; _i33 < _list31.size; ++_i33)
+            org.apache.thrift.protocol.TList _list39 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list39.size);
+            String _elem40;
+            for (int _i41 = 0; _i41 < _list39.size; ++_i41)
             {
-              _elem32 = iprot.readString();
-              struct.success.add(_elem32);
+              _elem40 = iprot.readString();
+              struct.success.add(_elem40);
             }
           }
           struct.setSuccessIsSet(true);
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Current value of something, like a queue length. Read when metrics are collected
+ */
+public abstract class Gauge extends Metric {
+
+  public Gauge(String name, String help, String... labels) {
+    super(name, help, labels);
+  }
+
+  public abstract long getValue();
+
+  @Override
+  public String getType() {
+    return "gauge";
+  }
+
+  @Override
+  public Map<String, Object> getValues() {
+    Map<String, Object> values = new HashMap<>();
+    values.put("value", getValue());
+    return values;
+  }
+}
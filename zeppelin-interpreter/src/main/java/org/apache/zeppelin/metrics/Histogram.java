@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.metrics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distribution of values, counted in buckets of fixed upper bounds.
+ * Bucket counts are not cumulative here, they are accumulated when exported.
+ */
+public class Histogram extends Metric {
+  /**
+   * Buckets for latency in milliseconds
+   */
+  public static final long[] LATENCY_MS_BUCKETS = {
+    1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000
+  };
+
+  /**
+   * Buckets for sizes, like number of items in a batch
+   */
+  public static final long[] SIZE_BUCKETS = {
+    1, 10, 100, 1000, 10000, 100000, 1000000
+  };
+
+  private final long[] bounds;
+  // the last one is for values larger than every bound
+  private final AtomicLongArray buckets;
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * @param bounds upper bounds of the buckets, in ascending order
+   */
+  public Histogram(String name, String help, long[] bounds, String... labels) {
+    super(name, help, labels);
+    this.bounds = bounds.clone();
+    this.buckets = new AtomicLongArray(bounds.length + 1);
+  }
+
+  public void update(long value) {
+    int i = Arrays.binarySearch(bounds, value);
+    buckets.incrementAndGet(i >= 0 ? i : -i - 1);
+    count.incrementAndGet();
+    sum.addAndGet(value);
+
+    long m = max.get();
+    while (value > m && !max.compareAndSet(m, value)) {
+      m = max.get();
+    }
+  }
+
+  /**
+   * Update with milliseconds elapsed since startNanos
+   * @param startNanos from System.nanoTime()
+   */
+  public void updateSince(long startNanos) {
+    update(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getSum() {
+    return sum.get();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  long[] getBounds() {
+    return bounds;
+  }
+
+  /**
+   * @return number of values in each bucket. the last one is for values over every bound
+   */
+  long[] getBucketCounts() {
+    long[] counts = new long[buckets.length()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return counts;
+  }
+
+  @Override
+  public String getType() {
+    return "histogram";
+  }
+
+  @Override
+  public Map<String, Object> getValues() {
+    Map<String, Object> values = new HashMap<>();
+    values.put("count", getCount());
+    values.put("sum", getSum());
+    values.put("max", getMax());
+
+    // cumulative count by upper bound
+    Map<String, Long> le = new LinkedHashMap<>();
+    long[] counts = getBucketCounts();
+    long cumulative = 0;
+    for (int i = 0; i < bounds.length; i++) {
+      cumulative += counts[i];
+      le.put(Long.toString(bounds[i]), cumulative);
+    }
+    le.put("+Inf", cumulative + counts[bounds.length]);
+    values.put("buckets", le);
+    return values;
+  }
+}
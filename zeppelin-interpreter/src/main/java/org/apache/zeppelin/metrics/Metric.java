@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named measurement with labels, like scheduler="interpreter_1234".
+ * Metrics of the same name share help and type, and differ by labels.
+ */
+public abstract class Metric {
+  private final String name;
+  private final String help;
+  private final Map<String, String> labels;
+
+  /**
+   * @param labels label names and values, in pairs
+   */
+  protected Metric(String name, String help, String... labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels must be name and value pairs");
+    }
+    this.name = name;
+    this.help = help;
+    Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < labels.length; i += 2) {
+      map.put(labels[i], labels[i + 1]);
+    }
+    this.labels = Collections.unmodifiableMap(map);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getHelp() {
+    return help;
+  }
+
+  public Map<String, String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return counter, gauge or histogram
+   */
+  public abstract String getType();
+
+  /**
+   * @return current values by name, to serialize
+   */
+  public abstract Map<String, Object> getValues();
+
+  static String id(String name, String... labels) {
+    StringBuilder sb = new StringBuilder(name);
+    for (String label : labels) {
+      sb.append('\0').append(label);
+    }
+    return sb.toString();
+  }
+
+  String id() {
+    StringBuilder sb = new StringBuilder(name);
+    for (Map.Entry<String, String> label : labels.entrySet()) {
+      sb.append('\0').append(label.getKey()).append('\0').append(label.getValue());
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metrics of this process. Components create or get their metrics here,
+ * and remove them when they're closed.
+ */
+public class MetricRegistry {
+  private static final MetricRegistry singleton = new MetricRegistry();
+
+  private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<>();
+
+  public static MetricRegistry singleton() {
+    return singleton;
+  }
+
+  public Counter counter(String name, String help, String... labels) {
+    String id = Metric.id(name, labels);
+    Metric metric = metrics.get(id);
+    if (metric == null) {
+      Metric created = new Counter(name, help, labels);
+      metric = metrics.putIfAbsent(id, created);
+      if (metric == null) {
+        metric = created;
+      }
+    }
+    return (Counter) metric;
+  }
+
+  public Histogram histogram(String name, String help, long[] bounds, String... labels) {
+    String id = Metric.id(name, labels);
+    Metric metric = metrics.get(id);
+    if (metric == null) {
+      Metric created = new Histogram(name, help, bounds, labels);
+      metric = metrics.putIfAbsent(id, created);
+      if (metric == null) {
+        metric = created;
+      }
+    }
+    return (Histogram) metric;
+  }
+
+  /**
+   * Register a gauge, replacing the one of the same name and labels
+   */
+  public Gauge register(Gauge gauge) {
+    metrics.put(gauge.id(), gauge);
+    return gauge;
+  }
+
+  public void remove(Metric metric) {
+    metrics.remove(metric.id(), metric);
+  }
+
+  /**
+   * Remove every metric having the label, for example of a closed scheduler
+   */
+  public void removeByLabel(String labelName, String labelValue) {
+    Iterator<Metric> it = metrics.values().iterator();
+    while (it.hasNext()) {
+      if (labelValue.equals(it.next().getLabels().get(labelName))) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * @return metrics ordered by name
+   */
+  public List<Metric> getMetrics() {
+    List<Metric> list = new ArrayList<>(metrics.values());
+    Collections.sort(list, new Comparator<Metric>() {
+      @Override
+      public int compare(Metric m1, Metric m2) {
+        return m1.id().compareTo(m2.id());
+      }
+    });
+    return list;
+  }
+
+  /**
+   * Write metrics in Prometheus text exposition format (version 0.0.4)
+   */
+  public void writePrometheusText(Writer out) throws IOException {
+    String lastName = null;
+    for (Metric metric : getMetrics()) {
+      if (!metric.getName().equals(lastName)) {
+        lastName = metric.getName();
+        out.write("# HELP " + lastName + " " + metric.getHelp() + "\n");
+        out.write("# TYPE " + lastName + " " + metric.getType() + "\n");
+      }
+
+      if (metric instanceof Histogram) {
+        Histogram h = (Histogram) metric;
+        long[] bounds = h.getBounds();
+        long[] counts = h.getBucketCounts();
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+          cumulative += counts[i];
+          String le = (i < bounds.length) ? Long.toString(bounds[i]) : "+Inf";
+          writeSample(out, lastName + "_bucket", metric.getLabels(), "le", le, cumulative);
+        }
+        writeSample(out, lastName + "_sum", metric.getLabels(), null, null, h.getSum());
+        writeSample(out, lastName + "_count", metric.getLabels(), null, null, h.getCount());
+      } else if (metric instanceof Counter) {
+        writeSample(out, lastName, metric.getLabels(), null, null,
+            ((Counter) metric).getCount());
+      } else if (metric instanceof Gauge) {
+        writeSample(out, lastName, metric.getLabels(), null, null,
+            ((Gauge) metric).getValue());
+      }
+    }
+  }
+
+  private void writeSample(Writer out, String name, Map<String, String> labels,
+      String extraLabel, String extraValue, long value) throws IOException {
+    out.write(name);
+    if (!labels.isEmpty() || extraLabel != null) {
+      out.write('{');
+      boolean first = true;
+      for (Map.Entry<String, String> label : labels.entrySet()) {
+        if (!first) {
+          out.write(',');
+        }
+        first = false;
+        writeLabel(out, label.getKey(), label.getValue());
+      }
+      if (extraLabel != null) {
+        if (!first) {
+          out.write(',');
+        }
+        writeLabel(out, extraLabel, extraValue);
+      }
+      out.write('}');
+    }
+    out.write(' ');
+    out.write(Long.toString(value));
+    out.write('\n');
+  }
+
+  private void writeLabel(Writer out, String name, String value) throws IOException {
+    out.write(name);
+    out.write("=\"");
+    out.write(value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"));
+    out.write('"');
+  }
+}
@@ -51,7 +51,8 @@ public class ByteBufferInputStream extends InputStream {
 
   public static InputStream get(ByteBuffer buf) {
     if (buf.hasArray()) {
-      return new ByteArrayInputStream(buf.array());
+      return new ByteArrayInputStream(buf.array(), buf.arrayOffset() + buf.position(),
+          buf.remaining());
     } else {
       return new ByteBufferInputStream(buf);
     }
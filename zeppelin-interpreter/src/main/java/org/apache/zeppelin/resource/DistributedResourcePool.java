@@ -52,7 +52,12 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = connector.getResources(name);
+      if (resources.isEmpty()) {
+        // put events reach the resource directory of ZeppelinServer asynchronously.
+        // a resource just put by another process may not be there yet. ask all pools
+        resources = connector.getAllResources().filterByName(name);
+      }
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -77,10 +82,15 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
+      ResourceSet resources = connector.getResources(name)
           .filterByNoteId(noteId)
-          .filterByParagraphId(paragraphId)
-          .filterByName(name);
+          .filterByParagraphId(paragraphId);
+      if (resources.isEmpty()) {
+        resources = connector.getAllResources()
+            .filterByNoteId(noteId)
+            .filterByParagraphId(paragraphId)
+            .filterByName(name);
+      }
 
       if (resources.isEmpty()) {
         return null;
@@ -97,6 +107,41 @@ public class DistributedResourcePool extends LocalResourcePool {
     return getAll(true);
   }
 
+  @Override
+  public void put(String name, Object object) {
+    super.put(name, object);
+    connector.onResourcePut(get(name, false));
+  }
+
+  @Override
+  public void put(String noteId, String paragraphId, String name, Object object) {
+    super.put(noteId, paragraphId, name, object);
+    connector.onResourcePut(get(noteId, paragraphId, name, false));
+  }
+
+  @Override
+  public Resource remove(String name) {
+    Resource resource = super.remove(name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  public Resource remove(String noteId, String paragraphId, String name) {
+    Resource resource = super.remove(noteId, paragraphId, name);
+    if (resource != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  protected void onEvict(Resource resource) {
+    connector.onResourceRemove(resource.getResourceId());
+  }
+
   /**
    * Get all resource from the pool
    * @param remote false only return local resource
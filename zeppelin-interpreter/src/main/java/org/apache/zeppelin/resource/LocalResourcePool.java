@@ -16,15 +16,85 @@
  */
 package org.apache.zeppelin.resource;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * ResourcePool
+ *
+ * Resources are kept in memory without limit by default. Optionally,
+ *  - resources not accessed for ttl are removed
+ *  - when estimated size of resources in memory exceeds maxBytes, least recently used
+ *    resources are moved to spillDir when they can be encoded, or removed otherwise.
+ *    A spilled resource is read back to memory on the next get.
+ * Resources to evict are chosen with the lock held, but they're encoded and written to or
+ * read from spillDir without the lock.
  */
 public class LocalResourcePool implements ResourcePool {
+  private static final Logger logger = LoggerFactory.getLogger(LocalResourcePool.class);
+  private static final int BUF_SIZE = 64 * 1024;
+
   private final String resourcePoolId;
-  private final Map<ResourceId, Resource> resources = Collections.synchronizedMap(
-      new HashMap<ResourceId, Resource>());
+  // in access order. least recently used first
+  private final LinkedHashMap<ResourceId, Entry> resources =
+      new LinkedHashMap<ResourceId, Entry>(16, 0.75f, true);
+  private final ResourceSizeEstimator sizeEstimator = new ResourceSizeEstimator();
+
+  private volatile long maxBytes = 0;
+  private long ttlMs = 0;
+  private File spillDir;
+  private long usedBytes = 0;
+
+  /**
+   * Resource in the pool
+   */
+  private static class Entry {
+    Resource resource;
+    long size;
+    long lastAccess;
+    // not null when the resource is spilled to disk
+    File spillFile;
+    // chosen to spill, being written to disk. its size is not counted in usedBytes
+    boolean spilling;
+    // lastAccess when chosen to spill. spill is cancelled if accessed meanwhile
+    long spillAccess;
+    // removed from the pool or replaced
+    boolean removed;
+
+    Entry(Resource resource, long size, long now) {
+      this.resource = resource;
+      this.size = size;
+      this.lastAccess = now;
+    }
+  }
+
+  /**
+   * Resource spilled to disk. get() reads it back to the pool
+   */
+  private static class SpilledResource extends Resource {
+    private final transient LocalResourcePool pool;
+
+    SpilledResource(LocalResourcePool pool, Resource resource) {
+      super(resource.getResourceId(), resource.isSerializable(), resource.getClassName());
+      this.pool = pool;
+    }
+
+    @Override
+    public Object get() {
+      Resource resource = pool.get(getResourceId());
+      return resource == null ? null : resource.get();
+    }
+  }
 
   /**
    * @param id unique id
@@ -33,6 +103,26 @@ public class LocalResourcePool implements ResourcePool {
     resourcePoolId = id;
   }
 
+  /**
+   * Limit resources of the pool.
+   * @param maxBytes estimated bytes of resources kept in memory. 0 for no limit
+   * @param ttlMs remove resources not accessed this long. 0 to keep them
+   * @param spillDir directory to move resources over maxBytes to. null to remove them
+   */
+  public void setLimits(long maxBytes, long ttlMs, File spillDir) {
+    List<Entry> victims;
+    synchronized (this) {
+      this.maxBytes = maxBytes;
+      this.ttlMs = ttlMs;
+      this.spillDir = spillDir;
+      if (spillDir != null) {
+        spillDir.mkdirs();
+      }
+      victims = evict(System.currentTimeMillis());
+    }
+    evicted(victims);
+  }
+
   /**
    * Get unique id of this resource pool
    * @return
@@ -42,6 +132,21 @@ public class LocalResourcePool implements ResourcePool {
     return resourcePoolId;
   }
 
+  /**
+   * @return estimated bytes of resources in memory
+   */
+  public synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  /**
+   * @return estimated bytes of the resource in memory. -1 if resource not found
+   */
+  public synchronized long getSize(ResourceId resourceId) {
+    Entry entry = resources.get(resourceId);
+    return entry == null ? -1 : entry.size;
+  }
+
   /**
    * Get resource
    * @return null if resource not found
@@ -49,18 +154,72 @@ public class LocalResourcePool implements ResourcePool {
   @Override
   public Resource get(String name) {
     ResourceId resourceId = new ResourceId(resourcePoolId, name);
-    return resources.get(resourceId);
+    return get(resourceId);
   }
 
   @Override
   public Resource get(String noteId, String paragraphId, String name) {
     ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
-    return resources.get(resourceId);
+    return get(resourceId);
+  }
+
+  private Resource get(ResourceId resourceId) {
+    long now = System.currentTimeMillis();
+    while (true) {
+      Entry entry;
+      Resource resource;
+      File spillFile;
+      List<Entry> victims;
+      synchronized (this) {
+        victims = evict(now);
+        entry = resources.get(resourceId);
+        if (entry != null) {
+          entry.lastAccess = now;
+        }
+        resource = (entry == null) ? null : entry.resource;
+        spillFile = (entry == null) ? null : entry.spillFile;
+      }
+      evicted(victims);
+      if (spillFile == null) {
+        return resource;
+      }
+
+      // read back the spilled resource without the lock
+      Object object = load(resourceId, spillFile);
+      synchronized (this) {
+        if (!isInPool(resourceId, entry) || entry.spillFile != spillFile) {
+          // read back or replaced meanwhile
+          continue;
+        }
+        if (object == null) {
+          resources.remove(resourceId);
+          release(entry);
+          return null;
+        }
+        entry.resource = new Resource(resourceId, object);
+        entry.spillFile = null;
+        spillFile.delete();
+        usedBytes += entry.size;
+        resource = entry.resource;
+        victims = evict(now);
+      }
+      evicted(victims);
+      return resource;
+    }
   }
 
   @Override
   public ResourceSet getAll() {
-    return new ResourceSet(resources.values());
+    ResourceSet set = new ResourceSet();
+    List<Entry> victims;
+    synchronized (this) {
+      victims = evict(System.currentTimeMillis());
+      for (Entry entry : resources.values()) {
+        set.add(entry.resource);
+      }
+    }
+    evicted(victims);
+    return set;
   }
 
   /**
@@ -71,26 +230,210 @@ public class LocalResourcePool implements ResourcePool {
   @Override
   public void put(String name, Object object) {
     ResourceId resourceId = new ResourceId(resourcePoolId, name);
-
-    Resource resource = new Resource(resourceId, object);
-    resources.put(resourceId, resource);
+    put(resourceId, object);
   }
 
   @Override
   public void put(String noteId, String paragraphId, String name, Object object) {
     ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
+    put(resourceId, object);
+  }
 
+  private void put(ResourceId resourceId, Object object) {
     Resource resource = new Resource(resourceId, object);
-    resources.put(resourceId, resource);
+    // estimate out of the lock. it walks the object graph
+    long size = (maxBytes > 0) ? sizeEstimator.estimate(object) : 0;
+
+    List<Entry> victims;
+    synchronized (this) {
+      long now = System.currentTimeMillis();
+      Entry previous = resources.put(resourceId, new Entry(resource, size, now));
+      if (previous != null) {
+        release(previous);
+      }
+      usedBytes += size;
+      victims = evict(now);
+    }
+    evicted(victims);
   }
 
   @Override
   public Resource remove(String name) {
-    return resources.remove(new ResourceId(resourcePoolId, name));
+    return remove(new ResourceId(resourcePoolId, name));
   }
 
   @Override
   public Resource remove(String noteId, String paragraphId, String name) {
-    return resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+    return remove(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+  }
+
+  private synchronized Resource remove(ResourceId resourceId) {
+    Entry entry = resources.remove(resourceId);
+    if (entry == null) {
+      return null;
+    }
+    release(entry);
+    return entry.resource;
+  }
+
+  /**
+   * Called when a resource is removed by ttl or memory limit
+   */
+  protected void onEvict(Resource resource) {
+  }
+
+  /**
+   * Remove expired resources and choose least recently used resources over maxBytes
+   * to spill or remove. The most recently used resource is kept in memory, even if it alone
+   * is over maxBytes. Must be called with the lock held, and the returned entries passed to
+   * evicted() after the lock is released.
+   *
+   * @return entries removed from the pool or chosen to spill
+   */
+  private List<Entry> evict(long now) {
+    if (ttlMs <= 0 && (maxBytes <= 0 || usedBytes <= maxBytes)) {
+      return Collections.emptyList();
+    }
+
+    List<Entry> victims = new LinkedList<>();
+    Iterator<Map.Entry<ResourceId, Entry>> it = resources.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<ResourceId, Entry> e = it.next();
+      Entry entry = e.getValue();
+      if (ttlMs > 0 && now - entry.lastAccess > ttlMs) {
+        it.remove();
+        release(entry);
+        victims.add(entry);
+        logger.info("Remove resource {}. not accessed for {} ms",
+            e.getKey().getName(), now - entry.lastAccess);
+      } else if (maxBytes > 0 && usedBytes > maxBytes
+          && entry.spillFile == null && !entry.spilling && it.hasNext()) {
+        if (spillDir != null && entry.resource.isSerializable()) {
+          entry.spilling = true;
+          entry.spillAccess = entry.lastAccess;
+          usedBytes -= entry.size;
+        } else {
+          it.remove();
+          release(entry);
+          logger.info("Remove resource {} of {} bytes. resource pool is over {} bytes",
+              e.getKey().getName(), entry.size, maxBytes);
+        }
+        victims.add(entry);
+      } else if (ttlMs <= 0) {
+        // no more expired resources to look for
+        if (maxBytes <= 0 || usedBytes <= maxBytes) {
+          break;
+        }
+      }
+    }
+    return victims;
+  }
+
+  /**
+   * Spill or notify removal of the entries evict() returned. Called without the lock
+   */
+  private void evicted(List<Entry> victims) {
+    for (Entry entry : victims) {
+      if (entry.spilling) {
+        spill(entry);
+      } else {
+        onEvict(entry.resource);
+      }
+    }
+  }
+
+  /**
+   * Write the resource chosen to spill to spillDir, and replace it with SpilledResource.
+   * The resource is removed from the pool when it can't be written.
+   */
+  private void spill(Entry entry) {
+    Resource resource;
+    File dir;
+    synchronized (this) {
+      resource = entry.resource;
+      dir = spillDir;
+    }
+    ResourceId resourceId = resource.getResourceId();
+
+    File file = null;
+    try {
+      if (dir != null) {
+        file = File.createTempFile("resource", ".bin", dir);
+        boolean written;
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE)) {
+          written = Resource.serializeObjectTo(resource.get(), out);
+        }
+        if (!written) {
+          file.delete();
+          file = null;
+        }
+      }
+    } catch (IOException e) {
+      logger.error("Can't spill resource {}", resourceId.getName(), e);
+      if (file != null) {
+        file.delete();
+        file = null;
+      }
+    }
+
+    boolean removed = false;
+    synchronized (this) {
+      entry.spilling = false;
+      boolean inPool = isInPool(resourceId, entry);
+      if (inPool && file != null && entry.lastAccess == entry.spillAccess) {
+        entry.spillFile = file;
+        entry.resource = new SpilledResource(this, resource);
+        logger.info("Spill resource {} of {} bytes", resourceId.getName(), entry.size);
+        return;
+      }
+
+      if (file != null) {
+        file.delete();
+      }
+      if (inPool && file == null) {
+        resources.remove(resourceId);
+        entry.removed = true;
+        removed = true;
+        logger.info("Remove resource {} of {} bytes. resource pool is over {} bytes",
+            resourceId.getName(), entry.size, maxBytes);
+      } else if (inPool) {
+        // accessed meanwhile. keep it in memory
+        usedBytes += entry.size;
+      }
+    }
+    if (removed) {
+      onEvict(resource);
+    }
+  }
+
+  /**
+   * Read a spilled resource
+   * @return null if the resource can't be read
+   */
+  private Object load(ResourceId resourceId, File spillFile) {
+    try (InputStream in = new BufferedInputStream(new FileInputStream(spillFile), BUF_SIZE)) {
+      return Resource.deserializeObjectFrom(in);
+    } catch (IOException | ClassNotFoundException e) {
+      logger.error("Can't read spilled resource {}", resourceId.getName(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Whether the entry is still in the pool. Unlike resources.get(), doesn't change the order
+   * of least recently used resources
+   */
+  private boolean isInPool(ResourceId resourceId, Entry entry) {
+    return !entry.removed && resources.containsKey(resourceId);
+  }
+
+  private void release(Entry entry) {
+    entry.removed = true;
+    if (entry.spillFile != null) {
+      entry.spillFile.delete();
+      entry.spillFile = null;
+    } else if (!entry.spilling) {
+      usedBytes -= entry.size;
+    }
   }
 }
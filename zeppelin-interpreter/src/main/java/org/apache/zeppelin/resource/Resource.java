@@ -16,7 +16,9 @@
  */
 package org.apache.zeppelin.resource;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -37,7 +39,7 @@ public class Resource {
   Resource(ResourceId resourceId, Object r) {
     this.r = r;
     this.resourceId = resourceId;
-    this.serializable = r instanceof Serializable;
+    this.serializable = ResourceCodecs.canEncode(r);
     this.className = r.getClass().getName();
   }
 
@@ -94,39 +96,37 @@ public class Resource {
 
 
 
+  /**
+   * Encode the object with ResourceCodecs
+   * @return null if the object is null or can't be encoded
+   */
   public static ByteBuffer serializeObject(Object o) throws IOException {
-    if (o == null || !(o instanceof Serializable)) {
-      return null;
-    }
+    return ResourceCodecs.encode(o);
+  }
 
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
-    try {
-      ObjectOutputStream oos;
-      oos = new ObjectOutputStream(out);
-      oos.writeObject(o);
-      oos.close();
-      out.close();
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    return ByteBuffer.wrap(out.toByteArray());
+  /**
+   * Encode the object with ResourceCodecs to the stream
+   * @return false if the object is null or can't be encoded
+   */
+  public static boolean serializeObjectTo(Object o, OutputStream out) throws IOException {
+    return ResourceCodecs.encodeTo(o, out);
   }
 
+  /**
+   * Decode the object encoded by serializeObject()
+   * @return null if buf is null or empty
+   */
   public static Object deserializeObject(ByteBuffer buf)
       throws IOException, ClassNotFoundException {
-    if (buf == null) {
-      return null;
-    }
-    InputStream ins = ByteBufferInputStream.get(buf);
-    ObjectInputStream oin;
-    Object object = null;
-
-    oin = new ObjectInputStream(ins);
-    object = oin.readObject();
-    oin.close();
-    ins.close();
-
-    return object;
+    return ResourceCodecs.decode(buf);
   }
 
+  /**
+   * Decode the object encoded by serializeObject() or serializeObjectTo() from the stream
+   * @return null if the stream is empty
+   */
+  public static Object deserializeObjectFrom(InputStream in)
+      throws IOException, ClassNotFoundException {
+    return ResourceCodecs.decodeFrom(in);
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Encodes values of resources, to pass them between interpreter processes.
+ *
+ * Codecs other than the built-in ones are found with java.util.ServiceLoader, so a codec
+ * is plugged in by putting a jar with
+ * META-INF/services/org.apache.zeppelin.resource.ResourceCodec on the interpreter classpath.
+ * The process reading a value must have the codec too.
+ */
+public interface ResourceCodec {
+  /**
+   * Unique name of the codec. written with the encoded value
+   */
+  public String getName();
+
+  /**
+   * @return true if the object can be encoded by this codec
+   */
+  public boolean canEncode(Object o);
+
+  /**
+   * Write the object to the stream. Stream is closed by the caller
+   */
+  public void encode(Object o, OutputStream out) throws IOException;
+
+  /**
+   * Read an object written by encode()
+   */
+  public Object decode(InputStream in) throws IOException, ClassNotFoundException;
+}
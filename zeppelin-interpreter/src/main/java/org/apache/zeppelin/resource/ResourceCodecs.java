@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes and decodes values of resources with the registered ResourceCodecs.
+ *
+ * An encoded value starts with a header naming its codec and whether it's compressed,
+ * so the reader doesn't need to know how the writer is configured.
+ * Values java serialized without the header, by older interpreter processes, are read too.
+ * Values are encoded to and decoded from streams, so a value doesn't need to be in memory
+ * as a whole to be written to or read from a file.
+ */
+public class ResourceCodecs {
+  private static final Logger logger = LoggerFactory.getLogger(ResourceCodecs.class);
+
+  private static final byte MAGIC_0 = 'Z';
+  private static final byte MAGIC_1 = 'R';
+  private static final byte FLAG_DEFLATE = 1;
+  // first bytes of java serialization stream
+  private static final byte JAVA_MAGIC_0 = (byte) 0xAC;
+  private static final byte JAVA_MAGIC_1 = (byte) 0xED;
+
+  private static final Map<String, ResourceCodec> codecs = new HashMap<>();
+  private static ResourceCodec defaultCodec;
+  private static boolean compress = false;
+
+  static {
+    defaultCodec = new JavaSerializationCodec();
+    register(defaultCodec);
+    try {
+      for (ResourceCodec codec : ServiceLoader.load(ResourceCodec.class)) {
+        register(codec);
+      }
+    } catch (ServiceConfigurationError e) {
+      logger.error("Can't load resource codec", e);
+    }
+  }
+
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * OutputStream keeping written bytes in fixed size chunks, so growing it doesn't copy
+   * what's written already
+   */
+  private static class ChunkedBuffer extends OutputStream {
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] chunk;
+    private int count;
+    private long size;
+
+    @Override
+    public void write(int b) {
+      if (chunk == null || count == chunk.length) {
+        nextChunk();
+      }
+      chunk[count++] = (byte) b;
+      size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      while (len > 0) {
+        if (chunk == null || count == chunk.length) {
+          nextChunk();
+        }
+        int n = Math.min(len, chunk.length - count);
+        System.arraycopy(b, off, chunk, count, n);
+        count += n;
+        off += n;
+        len -= n;
+        size += n;
+      }
+    }
+
+    private void nextChunk() {
+      // first chunk is small, for small values
+      chunk = new byte[chunks.isEmpty() ? 4096 : CHUNK_SIZE];
+      chunks.add(chunk);
+      count = 0;
+    }
+
+    ByteBuffer toByteBuffer() throws IOException {
+      if (chunks.size() == 1) {
+        return ByteBuffer.wrap(chunk, 0, count);
+      }
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("Encoded value is too large. " + size + " bytes");
+      }
+      ByteBuffer buf = ByteBuffer.allocate((int) size);
+      for (byte[] c : chunks) {
+        buf.put(c, 0, c == chunk ? count : c.length);
+      }
+      buf.flip();
+      return buf;
+    }
+  }
+
+  public static synchronized void register(ResourceCodec codec) {
+    codecs.put(codec.getName(), codec);
+  }
+
+  /**
+   * @return null if there's no codec of the name
+   */
+  public static synchronized ResourceCodec get(String name) {
+    return codecs.get(name);
+  }
+
+  /**
+   * Set how values are encoded in this process
+   * @param name codec name. objects the codec can't encode are java serialized
+   * @param compress deflate encoded values
+   */
+  public static synchronized void setDefault(String name, boolean compress) {
+    ResourceCodec codec = codecs.get(name);
+    if (codec == null) {
+      logger.warn("Resource codec {} not found. Use {}", name, JavaSerializationCodec.NAME);
+      codec = codecs.get(JavaSerializationCodec.NAME);
+    }
+    defaultCodec = codec;
+    ResourceCodecs.compress = compress;
+  }
+
+  private static synchronized ResourceCodec getCodecFor(Object o) {
+    if (defaultCodec.canEncode(o)) {
+      return defaultCodec;
+    }
+    ResourceCodec java = codecs.get(JavaSerializationCodec.NAME);
+    return java.canEncode(o) ? java : null;
+  }
+
+  private static synchronized boolean isCompress() {
+    return compress;
+  }
+
+  /**
+   * @return true if the object can be passed to other processes
+   */
+  public static boolean canEncode(Object o) {
+    return o != null && getCodecFor(o) != null;
+  }
+
+  /**
+   * @return encoded object. null if the object is null or can't be encoded
+   */
+  public static ByteBuffer encode(Object o) throws IOException {
+    ChunkedBuffer buffer = new ChunkedBuffer();
+    if (!encodeTo(o, buffer)) {
+      return null;
+    }
+    return buffer.toByteBuffer();
+  }
+
+  /**
+   * Write the encoded object to the stream. Stream is not closed
+   * @return false if the object is null or can't be encoded. nothing is written then
+   */
+  public static boolean encodeTo(Object o, OutputStream out) throws IOException {
+    ResourceCodec codec = o == null ? null : getCodecFor(o);
+    if (codec == null) {
+      return false;
+    }
+    boolean deflate = isCompress();
+
+    DataOutputStream header = new DataOutputStream(out);
+    header.writeByte(MAGIC_0);
+    header.writeByte(MAGIC_1);
+    header.writeByte(deflate ? FLAG_DEFLATE : 0);
+    header.writeUTF(codec.getName());
+    header.flush();
+
+    if (!deflate) {
+      codec.encode(o, out);
+      out.flush();
+      return true;
+    }
+
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      DeflaterOutputStream body = new DeflaterOutputStream(out, deflater, CHUNK_SIZE);
+      codec.encode(o, body);
+      body.finish();
+      out.flush();
+    } finally {
+      deflater.end();
+    }
+    return true;
+  }
+
+  /**
+   * @return decoded object. null if the buffer is null or empty
+   */
+  public static Object decode(ByteBuffer buf) throws IOException, ClassNotFoundException {
+    if (buf == null || !buf.hasRemaining()) {
+      return null;
+    }
+    return decodeFrom(ByteBufferInputStream.get(buf.duplicate()));
+  }
+
+  /**
+   * Read an object written by encode() or encodeTo(). Stream is not closed
+   * @return decoded object. null if the stream is empty
+   */
+  public static Object decodeFrom(InputStream in) throws IOException, ClassNotFoundException {
+    if (!in.markSupported()) {
+      in = new BufferedInputStream(in, CHUNK_SIZE);
+    }
+    in.mark(2);
+    int b0 = in.read();
+    int b1 = in.read();
+    in.reset();
+    if (b0 == -1) {
+      return null;
+    }
+    if ((byte) b0 == JAVA_MAGIC_0 && (byte) b1 == JAVA_MAGIC_1) {
+      return get(JavaSerializationCodec.NAME).decode(in);
+    }
+
+    DataInputStream header = new DataInputStream(in);
+    if (header.readByte() != MAGIC_0 || header.readByte() != MAGIC_1) {
+      throw new IOException("Not an encoded resource");
+    }
+    boolean deflate = (header.readByte() & FLAG_DEFLATE) != 0;
+    String name = header.readUTF();
+    ResourceCodec codec = get(name);
+    if (codec == null) {
+      throw new IOException("Resource codec " + name + " not found");
+    }
+
+    if (!deflate) {
+      return codec.decode(in);
+    }
+    Inflater inflater = new Inflater();
+    try {
+      return codec.decode(new InflaterInputStream(in, inflater, CHUNK_SIZE));
+    } finally {
+      inflater.end();
+    }
+  }
+}
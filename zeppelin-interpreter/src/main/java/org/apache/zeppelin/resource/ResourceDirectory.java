@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resources of remote interpreter processes, known to ZeppelinServer.
+ *
+ * Kept up to date by put and remove events from each process, so a resource is found
+ * by its name without asking every process for all its resources.
+ * Values are not kept here. They're read from the process owning the resource.
+ */
+public class ResourceDirectory {
+  private static ResourceDirectory singleton;
+
+  // resources by name, then by id
+  private final Map<String, Map<ResourceId, Resource>> resources = new HashMap<>();
+
+  public static synchronized ResourceDirectory singleton() {
+    if (singleton == null) {
+      singleton = new ResourceDirectory();
+    }
+    return singleton;
+  }
+
+  public synchronized void put(Resource resource) {
+    ResourceId id = resource.getResourceId();
+    Map<ResourceId, Resource> byId = resources.get(id.getName());
+    if (byId == null) {
+      byId = new LinkedHashMap<>();
+      resources.put(id.getName(), byId);
+    }
+    byId.put(id, resource);
+  }
+
+  public synchronized void remove(ResourceId id) {
+    Map<ResourceId, Resource> byId = resources.get(id.getName());
+    if (byId != null) {
+      byId.remove(id);
+      if (byId.isEmpty()) {
+        resources.remove(id.getName());
+      }
+    }
+  }
+
+  /**
+   * Remove all resources of the resource pool. e.g. when its process is terminated
+   */
+  public synchronized void removeAll(String resourcePoolId) {
+    Iterator<Map<ResourceId, Resource>> it = resources.values().iterator();
+    while (it.hasNext()) {
+      Map<ResourceId, Resource> byId = it.next();
+      Iterator<ResourceId> ids = byId.keySet().iterator();
+      while (ids.hasNext()) {
+        if (resourcePoolId.equals(ids.next().getResourcePoolId())) {
+          ids.remove();
+        }
+      }
+      if (byId.isEmpty()) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Get resources of the name, in the order they're put
+   * @param name resource name
+   * @param exceptResourcePoolId resources of this pool are not returned. can be null
+   */
+  public synchronized ResourceSet get(String name, String exceptResourcePoolId) {
+    ResourceSet result = new ResourceSet();
+    Map<ResourceId, Resource> byId = resources.get(name);
+    if (byId == null) {
+      return result;
+    }
+    for (Resource r : byId.values()) {
+      if (!r.getResourceId().getResourcePoolId().equals(exceptResourcePoolId)) {
+        result.add(r);
+      }
+    }
+    return result;
+  }
+}
@@ -26,6 +26,25 @@ public interface ResourcePoolConnector {
    */
   public ResourceSet getAllResources();
 
+  /**
+   * Get resources of the name from all other resource pools in remote processes
+   * @param name resource name
+   * @return
+   */
+  public ResourceSet getResources(String name);
+
+  /**
+   * Notify a resource is put into the local resource pool
+   * @param resource
+   */
+  public void onResourcePut(Resource resource);
+
+  /**
+   * Notify a resource is removed from the local resource pool
+   * @param resourceId
+   */
+  public void onResourceRemove(ResourceId resourceId);
+
   /**
    * Read remote object
    * @return
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimates heap size of an object graph, for accounting of resource pool memory.
+ *
+ * Walks fields reachable from the object, assuming a 64 bit jvm with 8 byte references.
+ * At most maxObjects objects are walked. Of an array too long for the rest of them, e.g. the
+ * array of a large collection, only a sample of elements is walked, and the size of the rest
+ * is extrapolated from it. Objects beyond maxObjects are not counted, so the estimate of a
+ * large graph of distinct objects (e.g. a whole framework context) is a lower bound.
+ */
+public class ResourceSizeEstimator {
+  private static final int OBJECT_HEADER = 16;
+  private static final int ARRAY_HEADER = 24;
+  private static final int REFERENCE = 8;
+  private static final int ALIGNMENT = 8;
+  // elements walked of an array longer than the rest of maxObjects
+  private static final int ARRAY_SAMPLES = 100;
+
+  // kept with the class, so classes of a REPL or an interpreter classloader can be unloaded
+  private static final ClassValue<ClassInfo> classInfos = new ClassValue<ClassInfo>() {
+    @Override
+    protected ClassInfo computeValue(Class<?> c) {
+      return createClassInfo(c);
+    }
+  };
+
+  private final int maxObjects;
+
+  /**
+   * Size and reference fields of instances of a class
+   */
+  private static class ClassInfo {
+    final long shallowSize;
+    final List<Field> referenceFields;
+
+    ClassInfo(long shallowSize, List<Field> referenceFields) {
+      this.shallowSize = shallowSize;
+      this.referenceFields = referenceFields;
+    }
+  }
+
+  /**
+   * @param maxObjects maximum number of objects to walk
+   */
+  public ResourceSizeEstimator(int maxObjects) {
+    this.maxObjects = maxObjects;
+  }
+
+  public ResourceSizeEstimator() {
+    this(10000);
+  }
+
+  /**
+   * Object to walk, and number of objects it stands for
+   */
+  private static class Item {
+    final Object object;
+    final double weight;
+
+    Item(Object object, double weight) {
+      this.object = object;
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * @return estimated bytes of the object and objects reachable from it. 0 for null
+   */
+  public long estimate(Object o) {
+    if (o == null) {
+      return 0;
+    }
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    Deque<Item> toVisit = new ArrayDeque<>();
+    visited.add(o);
+    toVisit.add(new Item(o, 1));
+
+    double size = 0;
+    while (!toVisit.isEmpty()) {
+      Item item = toVisit.poll();
+      Object obj = item.object;
+      Class c = obj.getClass();
+      if (c.isArray()) {
+        size += item.weight * estimateArray(obj, item.weight, visited, toVisit);
+        continue;
+      }
+
+      ClassInfo info = classInfos.get(c);
+      size += item.weight * info.shallowSize;
+      for (Field f : info.referenceFields) {
+        Object ref;
+        try {
+          ref = f.get(obj);
+        } catch (IllegalAccessException e) {
+          continue;
+        }
+        add(ref, item.weight, visited, toVisit);
+      }
+    }
+    return (long) size;
+  }
+
+  /**
+   * Add the object to walk. Not added when maxObjects objects are added already
+   */
+  private void add(Object o, double weight, Set<Object> visited, Deque<Item> toVisit) {
+    if (o != null && !(o instanceof Class) && visited.size() < maxObjects && visited.add(o)) {
+      toVisit.add(new Item(o, weight));
+    }
+  }
+
+  /**
+   * Add elements of the array to walk. When the array is longer than the rest of maxObjects,
+   * only evenly spaced elements are added, each standing for the elements around it
+   */
+  private long estimateArray(Object array, double weight, Set<Object> visited,
+                             Deque<Item> toVisit) {
+    int length = Array.getLength(array);
+    Class component = array.getClass().getComponentType();
+    if (component.isPrimitive()) {
+      return align(ARRAY_HEADER + (long) length * primitiveSize(component));
+    }
+
+    Object[] elements = (Object[]) array;
+    int remaining = maxObjects - visited.size();
+    if (length <= remaining) {
+      for (Object element : elements) {
+        add(element, weight, visited, toVisit);
+      }
+    } else if (remaining > 0) {
+      int samples = Math.min(remaining, ARRAY_SAMPLES);
+      double elementWeight = weight * length / samples;
+      for (int i = 0; i < samples; i++) {
+        add(elements[(int) ((long) i * length / samples)], elementWeight, visited, toVisit);
+      }
+    }
+    return align(ARRAY_HEADER + (long) length * REFERENCE);
+  }
+
+  private static ClassInfo createClassInfo(Class c) {
+    long size = OBJECT_HEADER;
+    List<Field> referenceFields = new LinkedList<>();
+    for (Class cls = c; cls != null; cls = cls.getSuperclass()) {
+      for (Field f : cls.getDeclaredFields()) {
+        if (Modifier.isStatic(f.getModifiers())) {
+          continue;
+        }
+        if (f.getType().isPrimitive()) {
+          size += primitiveSize(f.getType());
+          continue;
+        }
+        size += REFERENCE;
+        try {
+          f.setAccessible(true);
+          referenceFields.add(f);
+        } catch (RuntimeException e) {
+          // not accessible. count the reference only
+        }
+      }
+    }
+    return new ClassInfo(align(size), referenceFields);
+  }
+
+  private static int primitiveSize(Class c) {
+    if (c == long.class || c == double.class) {
+      return 8;
+    } else if (c == int.class || c == float.class) {
+      return 4;
+    } else if (c == short.class || c == char.class) {
+      return 2;
+    } else {
+      return 1;
+    }
+  }
+
+  private static long align(long size) {
+    return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+  }
+}
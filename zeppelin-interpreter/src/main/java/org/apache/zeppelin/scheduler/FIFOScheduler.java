@@ -37,6 +37,7 @@ public class FIFOScheduler implements Scheduler {
   boolean terminate = false;
   Job runningJob = null;
   private String name;
+  private final SchedulerMetrics metrics;
 
   static Logger LOGGER = LoggerFactory.getLogger(FIFOScheduler.class);
 
@@ -44,6 +45,7 @@ public class FIFOScheduler implements Scheduler {
     this.name = name;
     this.executor = executor;
     this.listener = listener;
+    this.metrics = new SchedulerMetrics(this, "fifo");
   }
 
   @Override
@@ -79,6 +81,7 @@ public class FIFOScheduler implements Scheduler {
   @Override
   public void submit(Job job) {
     job.setStatus(Status.PENDING);
+    metrics.submitted(job);
     synchronized (queue) {
       queue.add(job);
       queue.notify();
@@ -136,7 +139,9 @@ public class FIFOScheduler implements Scheduler {
             if (listener != null) {
               listener.jobStarted(scheduler, runningJob);
             }
+            metrics.started(runningJob);
             runningJob.run();
+            metrics.finished(runningJob);
             if (runningJob.isAborted()) {
               runningJob.setStatus(Status.ABORT);
             } else {
@@ -164,6 +169,7 @@ public class FIFOScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
+    metrics.close();
     synchronized (queue) {
       queue.notify();
     }
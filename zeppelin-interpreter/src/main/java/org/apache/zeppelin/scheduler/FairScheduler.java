@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fair scheduler runs submitted jobs concurrently up to maxConcurrency.
+ *
+ * Waiting jobs are queued per user (or per note) and the queues take turns,
+ * so a single user submitting many jobs can't monopolize the scheduler.
+ * Jobs with higher priority (see Job.PRIORITY_*) run first regardless of the turn.
+ * When maxQueueSize is positive, jobs submitted while that many jobs are waiting
+ * are rejected with ERROR status.
+ */
+public class FairScheduler implements Scheduler {
+  /**
+   * How waiting jobs are grouped to share the scheduler
+   */
+  public static enum ShareBy {
+    USER,
+    NOTE
+  }
+
+  // waiting jobs by fair share key. order of the keys is the turn.
+  private final Map<String, LinkedList<Job>> queues = new LinkedHashMap<>();
+  // number of running jobs by fair share key
+  private final Map<String, Integer> runningCount = new HashMap<>();
+  private final List<Job> running = new LinkedList<>();
+  private int numWaiting = 0;
+
+  private ExecutorService executor;
+  private SchedulerListener listener;
+  private boolean terminate = false;
+  private String name;
+  private int maxConcurrency;
+  private int maxQueueSize;
+  private ShareBy shareBy;
+  private final SchedulerMetrics metrics;
+
+  static Logger LOGGER = LoggerFactory.getLogger(FairScheduler.class);
+
+  public FairScheduler(String name, ExecutorService executor, SchedulerListener listener,
+      int maxConcurrency, int maxQueueSize, ShareBy shareBy) {
+    this.name = name;
+    this.executor = executor;
+    this.listener = listener;
+    this.maxConcurrency = maxConcurrency;
+    this.maxQueueSize = maxQueueSize;
+    this.shareBy = shareBy;
+    this.metrics = new SchedulerMetrics(this, "fair");
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Collection<Job> getJobsWaiting() {
+    List<Job> ret = new LinkedList<>();
+    synchronized (queues) {
+      for (List<Job> queue : queues.values()) {
+        ret.addAll(queue);
+      }
+    }
+    return ret;
+  }
+
+  @Override
+  public Job removeFromWaitingQueue(String jobId) {
+    synchronized (queues) {
+      Iterator<LinkedList<Job>> queueIt = queues.values().iterator();
+      while (queueIt.hasNext()) {
+        LinkedList<Job> queue = queueIt.next();
+        Iterator<Job> it = queue.iterator();
+        while (it.hasNext()) {
+          Job job = it.next();
+          if (job.getId().equals(jobId)) {
+            it.remove();
+            numWaiting--;
+            if (queue.isEmpty()) {
+              queueIt.remove();
+            }
+            return job;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Collection<Job> getJobsRunning() {
+    List<Job> ret = new LinkedList<>();
+    synchronized (queues) {
+      ret.addAll(running);
+    }
+    return ret;
+  }
+
+  @Override
+  public void submit(Job job) {
+    synchronized (queues) {
+      if (maxQueueSize > 0 && numWaiting >= maxQueueSize) {
+        reject(job);
+        return;
+      }
+
+      job.setStatus(Status.PENDING);
+      metrics.submitted(job);
+      String key = getFairShareKey(job);
+      LinkedList<Job> queue = queues.get(key);
+      if (queue == null) {
+        queue = new LinkedList<>();
+        queues.put(key, queue);
+      }
+
+      // keep the queue ordered by priority. FIFO within the same priority
+      ListIterator<Job> it = queue.listIterator(queue.size());
+      while (it.hasPrevious()) {
+        if (it.previous().getPriority() >= job.getPriority()) {
+          it.next();
+          break;
+        }
+      }
+      it.add(job);
+      numWaiting++;
+      queues.notifyAll();
+    }
+  }
+
+  private void reject(Job job) {
+    LOGGER.warn("Scheduler {} rejects job {}. {} jobs are waiting", name, job.getId(), numWaiting);
+    String message = "Too many jobs are waiting in the scheduler. Try again later";
+    job.setException(new IllegalStateException(message));
+    job.setResult(message);
+    job.setStatus(Status.ERROR);
+  }
+
+  private String getFairShareKey(Job job) {
+    String key = (shareBy == ShareBy.NOTE) ? job.getNoteId() : job.getUser();
+    return (key == null) ? "" : key;
+  }
+
+  /**
+   * Take next job to run. Among the queues of which first job has the highest priority,
+   * the one with the fewest running jobs is picked. Ties are broken by the turn.
+   * Must be called with queues lock held.
+   */
+  private Job nextJob() {
+    String selectedKey = null;
+    int selectedPriority = 0;
+    int selectedRunning = 0;
+
+    for (Map.Entry<String, LinkedList<Job>> e : queues.entrySet()) {
+      int priority = e.getValue().getFirst().getPriority();
+      int numRunning = getRunningCount(e.getKey());
+      if (selectedKey == null || priority > selectedPriority
+          || (priority == selectedPriority && numRunning < selectedRunning)) {
+        selectedKey = e.getKey();
+        selectedPriority = priority;
+        selectedRunning = numRunning;
+      }
+    }
+
+    // selected queue goes to the end of the turn
+    LinkedList<Job> queue = queues.remove(selectedKey);
+    Job job = queue.removeFirst();
+    if (!queue.isEmpty()) {
+      queues.put(selectedKey, queue);
+    }
+    numWaiting--;
+    return job;
+  }
+
+  private int getRunningCount(String key) {
+    Integer count = runningCount.get(key);
+    return (count == null) ? 0 : count;
+  }
+
+  private void addRunning(Job job) {
+    String key = getFairShareKey(job);
+    running.add(job);
+    runningCount.put(key, getRunningCount(key) + 1);
+  }
+
+  private void removeRunning(Job job) {
+    String key = getFairShareKey(job);
+    running.remove(job);
+    int count = getRunningCount(key) - 1;
+    if (count > 0) {
+      runningCount.put(key, count);
+    } else {
+      runningCount.remove(key);
+    }
+    queues.notifyAll();
+  }
+
+  @Override
+  public void run() {
+    while (terminate == false) {
+      Job job = null;
+      synchronized (queues) {
+        if (running.size() >= maxConcurrency || queues.isEmpty()) {
+          try {
+            queues.wait(500);
+          } catch (InterruptedException e) {
+            LOGGER.error("Exception in FairScheduler while run queues.wait", e);
+          }
+          continue;
+        }
+
+        job = nextJob();
+        addRunning(job);
+      }
+      Scheduler scheduler = this;
+
+      executor.execute(new JobRunner(scheduler, job));
+    }
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+    synchronized (queues) {
+      queues.notifyAll();
+    }
+  }
+
+  public void setMaxQueueSize(int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  private class JobRunner implements Runnable {
+    private Scheduler scheduler;
+    private Job job;
+
+    public JobRunner(Scheduler scheduler, Job job) {
+      this.scheduler = scheduler;
+      this.job = job;
+    }
+
+    @Override
+    public void run() {
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+        job.aborted = false;
+
+        synchronized (queues) {
+          removeRunning(job);
+        }
+
+        return;
+      }
+
+      job.setStatus(Status.RUNNING);
+      if (listener != null) {
+        listener.jobStarted(scheduler, job);
+      }
+      metrics.started(job);
+      job.run();
+      metrics.finished(job);
+      if (job.isAborted()) {
+        job.setStatus(Status.ABORT);
+      } else {
+        if (job.getException() != null) {
+          job.setStatus(Status.ERROR);
+        } else {
+          job.setStatus(Status.FINISHED);
+        }
+      }
+
+      if (listener != null) {
+        listener.jobFinished(scheduler, job);
+      }
+
+      // reset aborted flag to allow retry
+      job.aborted = false;
+      synchronized (queues) {
+        removeRunning(job);
+      }
+    }
+  }
+
+  @Override
+  public void stop() {
+    terminate = true;
+    metrics.close();
+    synchronized (queues) {
+      queues.notifyAll();
+    }
+  }
+}
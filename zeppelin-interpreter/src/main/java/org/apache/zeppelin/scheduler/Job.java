@@ -70,6 +70,14 @@ public abstract class Job {
     }
   }
 
+  /**
+   * Job priority. FairScheduler runs jobs with higher priority first.
+   * Interactive runs use PRIORITY_NORMAL, runs of a whole note (e.g. cron) use PRIORITY_LOW.
+   */
+  public static final int PRIORITY_HIGH = 10;
+  public static final int PRIORITY_NORMAL = 0;
+  public static final int PRIORITY_LOW = -10;
+
   private String jobName;
   String id;
   Object result;
@@ -81,11 +89,15 @@ public abstract class Job {
   static Logger LOGGER = LoggerFactory.getLogger(Job.class);
 
   transient boolean aborted = false;
+  // System.nanoTime() when submitted to and started by a scheduler. see SchedulerMetrics
+  transient long submittedNanos;
+  transient long startedNanos;
 
   String errorMessage;
   private transient Throwable exception;
   private transient JobListener listener;
   private long progressUpdateIntervalMs;
+  private transient int priority = PRIORITY_NORMAL;
 
   public Job(String jobName, JobListener listener, long progressUpdateIntervalMs) {
     this.jobName = jobName;
@@ -159,6 +171,30 @@ public abstract class Job {
     return listener;
   }
 
+  public int getPriority() {
+    return priority;
+  }
+
+  public void setPriority(int priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * User who runs this job. Used by FairScheduler to share the scheduler between users.
+   * @return user name. null if unknown
+   */
+  public String getUser() {
+    return null;
+  }
+
+  /**
+   * Note this job belongs to. Used by FairScheduler to share the scheduler between notes.
+   * @return note id. null if unknown
+   */
+  public String getNoteId() {
+    return null;
+  }
+
   public boolean isTerminated() {
     return !this.status.isReady() && !this.status.isRunning() && !this.status.isPending();
   }
@@ -173,7 +209,7 @@ public abstract class Job {
       progressUpdator = new JobProgressPoller(this, progressUpdateIntervalMs);
       progressUpdator.start();
       dateStarted = new Date();
-      result = jobRun();
+      setResult(jobRun());
       this.exception = null;
       errorMessage = null;
       dateFinished = new Date();
@@ -182,14 +218,14 @@ public abstract class Job {
       LOGGER.error("Job failed", e);
       progressUpdator.terminate();
       this.exception = e;
-      result = e.getMessage();
+      setResult(e.getMessage());
       errorMessage = getStack(e);
       dateFinished = new Date();
     } catch (Throwable e) {
       LOGGER.error("Job failed", e);
       progressUpdator.terminate();
       this.exception = e;
-      result = e.getMessage();
+      setResult(e.getMessage());
       errorMessage = getStack(e);
       dateFinished = new Date();
     } finally {
@@ -219,6 +255,10 @@ public abstract class Job {
     return result;
   }
 
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
   public String getJobName() {
     return jobName;
   }
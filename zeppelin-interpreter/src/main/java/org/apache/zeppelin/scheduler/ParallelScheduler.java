@@ -38,6 +38,7 @@ public class ParallelScheduler implements Scheduler {
   boolean terminate = false;
   private String name;
   private int maxConcurrency;
+  private final SchedulerMetrics metrics;
 
   static Logger LOGGER = LoggerFactory.getLogger(ParallelScheduler.class);
 
@@ -47,6 +48,7 @@ public class ParallelScheduler implements Scheduler {
     this.executor = executor;
     this.listener = listener;
     this.maxConcurrency = maxConcurrency;
+    this.metrics = new SchedulerMetrics(this, "parallel");
   }
 
   @Override
@@ -96,6 +98,7 @@ public class ParallelScheduler implements Scheduler {
   @Override
   public void submit(Job job) {
     job.setStatus(Status.PENDING);
+    metrics.submitted(job);
     synchronized (queue) {
       queue.add(job);
       queue.notify();
@@ -125,6 +128,10 @@ public class ParallelScheduler implements Scheduler {
     }
   }
 
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
   public void setMaxConcurrency(int maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
     synchronized (queue) {
@@ -159,7 +166,9 @@ public class ParallelScheduler implements Scheduler {
       if (listener != null) {
         listener.jobStarted(scheduler, job);
       }
+      metrics.started(job);
       job.run();
+      metrics.finished(job);
       if (job.isAborted()) {
         job.setStatus(Status.ABORT);
       } else {
@@ -187,6 +196,7 @@ public class ParallelScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
+    metrics.close();
     synchronized (queue) {
       queue.notify();
     }
@@ -17,30 +17,34 @@
 
 package org.apache.zeppelin.scheduler;
 
-import org.apache.thrift.TException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
-import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
-import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 /**
- * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter
+ * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
+ * Status of the remote job is pushed by the remote process through RemoteInterpreterEventPoller.
  */
 public class RemoteScheduler implements Scheduler {
   Logger logger = LoggerFactory.getLogger(RemoteScheduler.class);
 
   List<Job> queue = new LinkedList<Job>();
   List<Job> running = new LinkedList<Job>();
+  // runners of jobs being executed, by job id. guarded by queue
+  private final Map<String, JobRunner> jobRunners = new HashMap<String, JobRunner>();
+  // remote scheduler can't start another job until a running job returns. guarded by queue
+  private boolean remoteBusy = false;
   private ExecutorService executor;
   private SchedulerListener listener;
   boolean terminate = false;
@@ -48,6 +52,7 @@ public class RemoteScheduler implements Scheduler {
   private int maxConcurrency;
   private final String noteId;
   private RemoteInterpreterProcess interpreterProcess;
+  private final SchedulerMetrics metrics;
 
   public RemoteScheduler(String name, ExecutorService executor, String noteId,
                          RemoteInterpreterProcess interpreterProcess, SchedulerListener listener,
@@ -58,15 +63,18 @@ public class RemoteScheduler implements Scheduler {
     this.noteId = noteId;
     this.interpreterProcess = interpreterProcess;
     this.maxConcurrency = maxConcurrency;
+    this.metrics = new SchedulerMetrics(this, "remote");
+    interpreterProcess.addRemoteScheduler(this);
   }
 
   @Override
   public void run() {
     while (terminate == false) {
       Job job = null;
+      abortWaitingJobs();
 
       synchronized (queue) {
-        if (running.size() >= maxConcurrency || queue.isEmpty() == true) {
+        if (running.size() >= maxConcurrency || queue.isEmpty() == true || remoteBusy) {
           try {
             queue.wait(500);
           } catch (InterruptedException e) {
@@ -85,8 +93,8 @@ public class RemoteScheduler implements Scheduler {
       executor.execute(jobRunner);
 
       // wait until it is submitted to the remote
-      while (!jobRunner.isJobSubmittedInRemote()) {
-        synchronized (queue) {
+      synchronized (queue) {
+        while (!jobRunner.isJobSubmittedInRemote() && !terminate) {
           try {
             queue.wait(500);
           } catch (InterruptedException e) {
@@ -98,11 +106,60 @@ public class RemoteScheduler implements Scheduler {
     }
   }
 
+  /**
+   * Jobs are kept in the local queue while the remote scheduler is busy.
+   * Terminate the ones aborted meanwhile without waiting for their turn.
+   */
+  private void abortWaitingJobs() {
+    List<Job> aborted = new LinkedList<Job>();
+    synchronized (queue) {
+      Iterator<Job> it = queue.iterator();
+      while (it.hasNext()) {
+        Job job = it.next();
+        if (job.isAborted()) {
+          it.remove();
+          aborted.add(job);
+        }
+      }
+    }
+
+    for (Job job : aborted) {
+      job.setStatus(Status.ABORT);
+      job.aborted = false;
+    }
+  }
+
   @Override
   public String getName() {
     return name;
   }
 
+  public String getNoteId() {
+    return noteId;
+  }
+
+  /**
+   * Called when the remote process pushes status change of a job
+   * @param jobId id of the job
+   * @param status status of the job in the remote scheduler
+   * @param busy whether the remote scheduler can't start another job now.
+   *             Jobs are kept in the local queue while it is busy, so they can still be
+   *             removed or aborted without a round trip to the remote process
+   */
+  public void onJobStatusUpdate(String jobId, Status status, boolean busy) {
+    JobRunner jobRunner;
+    synchronized (queue) {
+      jobRunner = jobRunners.get(jobId);
+      if (jobRunner != null && status == Status.RUNNING) {
+        remoteBusy = busy;
+      }
+    }
+
+    if (jobRunner != null) {
+      jobRunner.afterStatusChange(jobRunner.job, null, status);
+    }
+  }
+
   @Override
   public Collection<Job> getJobsWaiting() {
     List<Job> ret = new LinkedList<Job>();
@@ -146,6 +203,7 @@ public class RemoteScheduler implements Scheduler {
       throw new RuntimeException("Scheduler already terminated");
     }
     job.setStatus(Status.PENDING);
+    metrics.submitted(job);
 
     synchronized (queue) {
       queue.add(job);
@@ -160,138 +218,11 @@ public class RemoteScheduler implements Scheduler {
     }
   }
 
-  /**
-   * Role of the class is get status info from remote process from PENDING to
-   * RUNNING status.
-   */
-  private class JobStatusPoller extends Thread {
-    private long initialPeriodMsec;
-    private long initialPeriodCheckIntervalMsec;
-    private long checkIntervalMsec;
-    private boolean terminate;
-    private JobListener listener;
-    private Job job;
-    Status lastStatus;
-
-    public JobStatusPoller(long initialPeriodMsec,
-        long initialPeriodCheckIntervalMsec, long checkIntervalMsec, Job job,
-        JobListener listener) {
-      this.initialPeriodMsec = initialPeriodMsec;
-      this.initialPeriodCheckIntervalMsec = initialPeriodCheckIntervalMsec;
-      this.checkIntervalMsec = checkIntervalMsec;
-      this.job = job;
-      this.listener = listener;
-      this.terminate = false;
-    }
-
-    @Override
-    public void run() {
-      long started = System.currentTimeMillis();
-      while (terminate == false) {
-        long current = System.currentTimeMillis();
-        long interval;
-        if (current - started < initialPeriodMsec) {
-          interval = initialPeriodCheckIntervalMsec;
-        } else {
-          interval = checkIntervalMsec;
-        }
-
-        synchronized (this) {
-          try {
-            this.wait(interval);
-          } catch (InterruptedException e) {
-            logger.error("Exception in RemoteScheduler while run this.wait", e);
-          }
-        }
-
-        if (terminate) {
-          // terminated by shutdown
-          break;
-        }
-
-        Status newStatus = getStatus();
-        if (newStatus == null) { // unknown
-          continue;
-        }
-
-        if (newStatus != Status.READY && newStatus != Status.PENDING) {
-          // we don't need more
-          break;
-        }
-      }
-      terminate = true;
-    }
-
-    public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
-      }
-    }
-
-
-    private Status getLastStatus() {
-      if (terminate == true) {
-        if (lastStatus != Status.FINISHED &&
-            lastStatus != Status.ERROR &&
-            lastStatus != Status.ABORT) {
-          return Status.FINISHED;
-        } else {
-          return (lastStatus == null) ? Status.FINISHED : lastStatus;
-        }
-      } else {
-        return (lastStatus == null) ? Status.FINISHED : lastStatus;
-      }
-    }
-
-    public synchronized Job.Status getStatus() {
-      if (interpreterProcess.referenceCount() <= 0) {
-        return getLastStatus();
-      }
-
-      Client client;
-      try {
-        client = interpreterProcess.getClient();
-      } catch (Exception e) {
-        logger.error("Can't get status information", e);
-        lastStatus = Status.ERROR;
-        return Status.ERROR;
-      }
-
-      boolean broken = false;
-      try {
-        String statusStr = client.getStatus(noteId, job.getId());
-        if ("Unknown".equals(statusStr)) {
-          // not found this job in the remote schedulers.
-          // maybe not submitted, maybe already finished
-          //Status status = getLastStatus();
-          listener.afterStatusChange(job, null, null);
-          return job.getStatus();
-        }
-        Status status = Status.valueOf(statusStr);
-        lastStatus = status;
-        listener.afterStatusChange(job, null, status);
-        return status;
-      } catch (TException e) {
-        broken = true;
-        logger.error("Can't get status information", e);
-        lastStatus = Status.ERROR;
-        return Status.ERROR;
-      } catch (Exception e) {
-        logger.error("Unknown status", e);
-        lastStatus = Status.ERROR;
-        return Status.ERROR;
-      } finally {
-        interpreterProcess.releaseClient(client, broken);
-      }
-    }
-  }
-
   private class JobRunner implements Runnable, JobListener {
     private Scheduler scheduler;
     private Job job;
-    private boolean jobExecuted;
-    boolean jobSubmittedRemotely;
+    private volatile boolean jobExecuted;
+    private volatile boolean jobSubmittedRemotely;
 
     public JobRunner(Scheduler scheduler, Job job) {
       this.scheduler = scheduler;
@@ -304,6 +235,13 @@ public class RemoteScheduler implements Scheduler {
       return jobSubmittedRemotely;
     }
 
+    private void setJobSubmittedInRemote() {
+      synchronized (queue) {
+        jobSubmittedRemotely = true;
+        queue.notifyAll();
+      }
+    }
+
     @Override
     public void run() {
       if (job.isAborted()) {
@@ -312,41 +250,34 @@ public class RemoteScheduler implements Scheduler {
 
         synchronized (queue) {
           running.remove(job);
-          queue.notify();
+          jobSubmittedRemotely = true;
+          queue.notifyAll();
         }
-        jobSubmittedRemotely = true;
 
         return;
       }
 
-      JobStatusPoller jobStatusPoller = new JobStatusPoller(1500, 100, 500,
-          job, this);
-      jobStatusPoller.start();
+      synchronized (queue) {
+        jobRunners.put(job.getId(), this);
+      }
 
       if (listener != null) {
         listener.jobStarted(scheduler, job);
       }
+      metrics.started(job);
       job.run();
+      metrics.finished(job);
 
       jobExecuted = true;
-      jobSubmittedRemotely = true;
-
-      jobStatusPoller.shutdown();
-      try {
-        jobStatusPoller.join();
-      } catch (InterruptedException e) {
-        logger.error("JobStatusPoller interrupted", e);
+      synchronized (queue) {
+        jobRunners.remove(job.getId());
+        remoteBusy = false;
       }
+      setJobSubmittedInRemote();
+      abortWaitingJobs();
 
       // set job status based on result.
-      Status lastStatus = jobStatusPoller.getStatus();
-      Object jobResult = job.getReturn();
-      if (jobResult != null && jobResult instanceof InterpreterResult) {
-        if (((InterpreterResult) jobResult).code() == Code.ERROR) {
-          lastStatus = Status.ERROR;
-        }
-      }
-      job.setStatus(lastStatus);
+      job.setStatus(getStatusFromResult());
 
       if (listener != null) {
         listener.jobFinished(scheduler, job);
@@ -357,7 +288,21 @@ public class RemoteScheduler implements Scheduler {
 
       synchronized (queue) {
         running.remove(job);
-        queue.notify();
+        queue.notifyAll();
+      }
+    }
+
+    private Status getStatusFromResult() {
+      Object jobResult = job.getReturn();
+      if (job.isAborted()) {
+        return Status.ABORT;
+      } else if (job.getException() != null) {
+        return Status.ERROR;
+      } else if (jobResult != null && jobResult instanceof InterpreterResult
+          && ((InterpreterResult) jobResult).code() == Code.ERROR) {
+        return Status.ERROR;
+      } else {
+        return Status.FINISHED;
       }
     }
 
@@ -373,18 +318,8 @@ public class RemoteScheduler implements Scheduler {
     public void afterStatusChange(Job job, Status before, Status after) {
       if (after == null) { // unknown. maybe before sumitted remotely, maybe already finished.
         if (jobExecuted) {
-          jobSubmittedRemotely = true;
-          Object jobResult = job.getReturn();
-          if (job.isAborted()) {
-            job.setStatus(Status.ABORT);
-          } else if (job.getException() != null) {
-            job.setStatus(Status.ERROR);
-          } else if (jobResult != null && jobResult instanceof InterpreterResult
-              && ((InterpreterResult) jobResult).code() == Code.ERROR) {
-            job.setStatus(Status.ERROR);
-          } else {
-            job.setStatus(Status.FINISHED);
-          }
+          setJobSubmittedInRemote();
+          job.setStatus(getStatusFromResult());
         }
         return;
       }
@@ -398,13 +333,14 @@ public class RemoteScheduler implements Scheduler {
           // so not updating the remoteStatus
           return;
         } else if (after == Status.RUNNING) {
-          jobSubmittedRemotely = true;
+          setJobSubmittedInRemote();
         }
       } else {
-        jobSubmittedRemotely = true;
+        // job already returned from the remote. final status is set from the result
+        return;
       }
 
-      // status polled by status poller
+      // status pushed from the remote process
       if (job.getStatus() != after) {
         job.setStatus(after);
       }
@@ -414,8 +350,10 @@ public class RemoteScheduler implements Scheduler {
   @Override
   public void stop() {
     terminate = true;
+    metrics.close();
+    interpreterProcess.removeRemoteScheduler(this);
     synchronized (queue) {
-      queue.notify();
+      queue.notifyAll();
     }
 
   }
@@ -84,6 +84,19 @@ public class SchedulerFactory implements SchedulerListener {
     }
   }
 
+  public Scheduler createOrGetFairScheduler(String name, int maxConcurrency, int maxQueueSize,
+      FairScheduler.ShareBy shareBy) {
+    synchronized (schedulers) {
+      if (schedulers.containsKey(name) == false) {
+        Scheduler s = new FairScheduler(name, executor, this, maxConcurrency, maxQueueSize,
+            shareBy);
+        schedulers.put(name, s);
+        executor.execute(s);
+      }
+      return schedulers.get(name);
+    }
+  }
+
   public Scheduler createOrGetRemoteScheduler(
       String name,
       String noteId,
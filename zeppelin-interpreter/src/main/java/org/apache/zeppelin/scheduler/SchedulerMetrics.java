@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.zeppelin.metrics.Gauge;
+import org.apache.zeppelin.metrics.Histogram;
+import org.apache.zeppelin.metrics.MetricRegistry;
+
+/**
+ * Queue wait time, run time and queue length of a scheduler
+ */
+class SchedulerMetrics {
+  private static final String LABEL = "scheduler";
+
+  private final String name;
+  private final Histogram queueWait;
+  private final Histogram runTime;
+
+  SchedulerMetrics(final Scheduler scheduler, String type) {
+    this.name = scheduler.getName();
+    MetricRegistry registry = MetricRegistry.singleton();
+    queueWait = registry.histogram("zeppelin_scheduler_queue_wait_ms",
+        "Time jobs wait in the scheduler queue", Histogram.LATENCY_MS_BUCKETS,
+        LABEL, name, "type", type);
+    runTime = registry.histogram("zeppelin_scheduler_run_ms",
+        "Time jobs run", Histogram.LATENCY_MS_BUCKETS,
+        LABEL, name, "type", type);
+    registry.register(new Gauge("zeppelin_scheduler_queue_length",
+        "Number of jobs waiting in the scheduler", LABEL, name, "type", type) {
+      @Override
+      public long getValue() {
+        return scheduler.getJobsWaiting().size();
+      }
+    });
+    registry.register(new Gauge("zeppelin_scheduler_running",
+        "Number of jobs running in the scheduler", LABEL, name, "type", type) {
+      @Override
+      public long getValue() {
+        return scheduler.getJobsRunning().size();
+      }
+    });
+  }
+
+  void submitted(Job job) {
+    job.submittedNanos = System.nanoTime();
+    job.startedNanos = 0;
+  }
+
+  void started(Job job) {
+    job.startedNanos = System.nanoTime();
+    if (job.submittedNanos != 0) {
+      queueWait.updateSince(job.submittedNanos);
+    }
+  }
+
+  void finished(Job job) {
+    if (job.startedNanos != 0) {
+      runTime.updateSince(job.startedNanos);
+    }
+  }
+
+  void close() {
+    MetricRegistry.singleton().removeByLabel(LABEL, name);
+  }
+}
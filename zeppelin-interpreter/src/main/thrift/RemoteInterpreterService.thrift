@@ -27,7 +27,8 @@ struct RemoteInterpreterContext {
   5: string authenticationInfo,
   6: string config,   // json serialized config
   7: string gui,      // json serialized gui
-  8: string runners   // json serialized runner
+  8: string runners,  // json serialized runner
+  9: i32 priority     // job priority. see Job.PRIORITY_*
 }
 
 struct RemoteInterpreterResult {
@@ -35,7 +36,8 @@ struct RemoteInterpreterResult {
   2: string type,
   3: string msg,
   4: string config,   // json serialized config
-  5: string gui       // json serialized gui
+  5: string gui,      // json serialized gui
+  6: i32 msgLength    // length of the whole msg. when larger than msg, rest is fetched by fetchResultChunk
 }
 
 enum RemoteInterpreterEventType {
@@ -50,6 +52,11 @@ enum RemoteInterpreterEventType {
   OUTPUT_UPDATE = 9,
   ANGULAR_REGISTRY_PUSH = 10,
   APP_STATUS_UPDATE = 11,
+  JOB_STATUS_UPDATE = 12,
+  ANGULAR_OBJECT_UPDATE_BATCH = 13,
+  RESOURCE_POOL_PUT = 14,
+  RESOURCE_POOL_REMOVE = 15,
+  RESOURCE_POOL_GET_BY_NAME = 16,
 }
 
 struct RemoteInterpreterEvent {
@@ -79,6 +86,8 @@ service RemoteInterpreterService {
   void open(1: string noteId, 2: string className);
   void close(1: string noteId, 2: string className);
   RemoteInterpreterResult interpret(1: string noteId, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext);
+  // read part of the result msg of the last interpret of the paragraph
+  string fetchResultChunk(1: string noteId, 2: string paragraphId, 3: i32 offset, 4: i32 len);
   void cancel(1: string noteId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
   i32 getProgress(1: string noteId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
   string getFormType(1: string noteId, 2: string className);
@@ -88,10 +97,14 @@ service RemoteInterpreterService {
   string getStatus(1: string noteId, 2:string jobId);
 
   RemoteInterpreterEvent getEvent();
+  // drain up to maxBatch queued events at once. waits up to maxWaitMs when the queue is empty
+  list<RemoteInterpreterEvent> getEvents(1: i32 maxBatch, 2: i32 maxWaitMs);
 
-  // as a response, ZeppelinServer send list of resources to Interpreter process
+  // as a response of RESOURCE_POOL_GET_ALL and RESOURCE_POOL_GET_BY_NAME,
+  // ZeppelinServer send list of resources to Interpreter process
   void resourcePoolResponseGetAll(1: list<string> resources);
-  // as a response, ZeppelinServer send serialized value of resource
+  // as a response of resource requests, ZeppelinServer send the request json with its requestId
+  // and encoded value of resource, or json array of resources
   void resourceResponseGet(1: string resourceId, 2: binary object);
   // get all resources in the interpreter process
   list<string> resourcePoolGetAll();
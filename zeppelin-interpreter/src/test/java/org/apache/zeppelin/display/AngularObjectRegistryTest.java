@@ -21,6 +21,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
@@ -111,4 +113,75 @@ public class AngularObjectRegistryTest {
     assertEquals(5, registry.getAllWithGlobal("noteId1").size());
   }
 
+  @Test
+  public void testGetAllWithGlobalAndRemoveAll() {
+    final AtomicInteger onRemove = new AtomicInteger(0);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId",
+        new AngularObjectRegistryListener() {
+          @Override
+          public void onAdd(String interpreterGroupId, AngularObject object) {
+          }
+
+          @Override
+          public void onUpdate(String interpreterGroupId, AngularObject object) {
+          }
+
+          @Override
+          public void onRemove(String interpreterGroupId, String name, String noteId, String paragraphId) {
+            onRemove.incrementAndGet();
+          }
+        });
+    registry.add("name1", "o", "noteId1", "paragraphId1");
+    registry.add("name2", "o", "noteId1", "paragraphId1");
+    registry.add("name3", "o", "noteId1", null);
+    registry.add("name4", "o", "noteId10", null);
+    registry.add("name5", "o", null, null);
+
+    // noteId10 is not a part of noteId1
+    assertEquals(4, registry.getAllWithGlobal("noteId1").size());
+    assertEquals(2, registry.getAllWithGlobal("noteId10").size());
+
+    registry.removeAll("noteId1", "paragraphId1");
+    assertEquals(2, onRemove.get());
+    assertEquals(0, registry.getAll("noteId1", "paragraphId1").size());
+    assertEquals(2, registry.getAllWithGlobal("noteId1").size());
+
+    // index is rebuilt from pushed registry
+    AngularObjectRegistry pushed = new AngularObjectRegistry("intpId", null);
+    pushed.setRegistry(registry.getRegistry());
+    assertEquals(2, pushed.getAllWithGlobal("noteId1").size());
+    assertEquals(2, pushed.getAllWithGlobal("noteId10").size());
+  }
+
+  @Test
+  public void testSetAll() {
+    final AtomicInteger onUpdate = new AtomicInteger(0);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId",
+        new AngularObjectRegistryListener() {
+          @Override
+          public void onAdd(String interpreterGroupId, AngularObject object) {
+          }
+
+          @Override
+          public void onUpdate(String interpreterGroupId, AngularObject object) {
+            onUpdate.incrementAndGet();
+          }
+
+          @Override
+          public void onRemove(String interpreterGroupId, String name, String noteId, String paragraphId) {
+          }
+        });
+    registry.add("name1", "o1", "noteId1", null);
+    registry.add("name2", "o2", "noteId1", null);
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("name1", "v1");
+    values.put("name2", "v2");
+    values.put("name3", "v3");
+    assertEquals(2, registry.setAll(values, "noteId1", null).size());
+    assertEquals(2, onUpdate.get());
+    assertEquals("v1", registry.get("name1", "noteId1", null).get());
+    assertEquals("v2", registry.get("name2", "noteId1", null).get());
+    assertNull(registry.get("name3", "noteId1", null));
+  }
 }
@@ -115,6 +115,86 @@ public class InterpreterOutputTest implements InterpreterOutputListener {
     assertEquals(InterpreterResult.Type.HTML, out.getType());
   }
 
+  @Test
+  public void testWriteByteArrayWithOffset() throws IOException {
+    byte[] bytes = "xxhello\nworld\nxx".getBytes();
+    out.write(bytes, 2, bytes.length - 4);
+    assertEquals("hello\nworld\n", new String(out.toByteArray()));
+    assertEquals(2, numAppendEvent);
+  }
+
+  @Test
+  public void testTruncateOutputOverLimit() throws IOException {
+    out.setLimit(10);
+    out.write("12345\n");
+    out.write("67890\n");
+    out.write("more\n");
+    String output = new String(out.toByteArray());
+    assertTrue(output.startsWith("12345\n6789"));
+    assertTrue(output.contains("Output exceeds 10 bytes"));
+    assertFalse(output.contains("more"));
+    assertEquals(2, numAppendEvent);
+
+    // clear resets the limit
+    out.clear();
+    out.write("more\n");
+    assertEquals("more\n", new String(out.toByteArray()));
+  }
+
+  @Test
+  public void testTruncateLongLineWithoutNewline() throws IOException {
+    out.setLimit(10);
+    out.write("12345678901234567890");
+    String output = new String(out.toByteArray());
+    assertTrue(output.startsWith("1234567890"));
+    assertTrue(output.contains("Output exceeds 10 bytes"));
+    // output on gui is cleared on the first write
+    assertEquals(1, numUpdateEvent);
+  }
+
+  @Test
+  public void testTruncateLongLineWrittenByteByByte() throws IOException {
+    out.setLimit(10);
+    for (int i = 0; i < 20; i++) {
+      out.write('1');
+    }
+    String output = new String(out.toByteArray());
+    assertTrue(output.startsWith("1111111111"));
+    assertTrue(output.contains("Output exceeds 10 bytes"));
+    assertEquals(1, numUpdateEvent);
+  }
+
+  @Test
+  public void testLimitIsPerOutput() throws IOException {
+    out.setLimit(10);
+    InterpreterOutput other = new InterpreterOutput(this);
+    assertEquals(0, other.getLimit());
+    other.write("12345678901234567890\n");
+    assertEquals("12345678901234567890\n", new String(other.toByteArray()));
+    other.close();
+  }
+
+  @Test
+  public void testGetText() throws IOException {
+    assertEquals("", out.getText());
+    long version = out.getVersion();
+
+    out.write("hello\n");
+    assertTrue(out.getVersion() != version);
+    String text = out.getText();
+    assertEquals("hello\n", text);
+    // not built again until the output changes
+    assertSame(text, out.getText());
+
+    out.write("world");
+    assertSame(text, out.getText());
+    out.flush();
+    assertEquals("hello\nworld", out.getText());
+
+    out.clear();
+    assertEquals("", out.getText());
+  }
+
   @Override
   public void onAppend(InterpreterOutput out, byte[] line) {
     numAppendEvent++;
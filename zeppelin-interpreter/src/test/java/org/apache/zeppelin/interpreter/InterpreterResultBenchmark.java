@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of magic parsing in InterpreterResult.
+ * Not a unit test. Run with
+ *
+ *   mvn test-compile exec:java -pl zeppelin-interpreter -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.apache.zeppelin.interpreter.InterpreterResultBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterpreterResultBenchmark {
+
+  /**
+   * table: %table at the beginning, as most interpreters return
+   * textBeforeMagic: text and the magic at the end
+   * noMagic: plain text without any '%'
+   * percents: '%' on every row but no magic
+   */
+  @Param({"table", "textBeforeMagic", "noMagic", "percents"})
+  public String shape;
+
+  @Param({"1024", "1048576", "52428800"})
+  public int size;
+
+  private String msg;
+
+  @Setup
+  public void setUp() {
+    String row;
+    String prefix = "";
+    String suffix = "";
+    if ("table".equals(shape)) {
+      prefix = "%table col1\tcol2\n";
+      row = "aaa\t123\n";
+    } else if ("textBeforeMagic".equals(shape)) {
+      row = "some text\n";
+      suffix = "%html <h3>done</h3>";
+    } else if ("noMagic".equals(shape)) {
+      row = "some text\n";
+    } else {
+      row = "progress 10%\n";
+    }
+
+    StringBuilder sb = new StringBuilder(size + prefix.length() + suffix.length());
+    sb.append(prefix);
+    while (sb.length() < size) {
+      sb.append(row);
+    }
+    sb.append(suffix);
+    msg = sb.toString();
+  }
+
+  @Benchmark
+  public InterpreterResult.Magic parseMagic() {
+    return InterpreterResult.parseMagic(msg);
+  }
+
+  @Benchmark
+  public InterpreterResult newResult() {
+    return new InterpreterResult(InterpreterResult.Code.SUCCESS, msg);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(InterpreterResultBenchmark.class.getSimpleName())
+        .build();
+    new Runner(opt).run();
+  }
+}
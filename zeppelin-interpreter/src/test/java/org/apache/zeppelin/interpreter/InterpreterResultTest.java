@@ -110,4 +110,23 @@ public class InterpreterResultTest {
 			assertEquals("%html hello", new InterpreterResult(InterpreterResult.Code.SUCCESS, "%html hello").toString());
 		}
 
+	@Test
+	public void testParseMagic() {
+		InterpreterResult.Magic magic = InterpreterResult.parseMagic("100% %table a\tb\n");
+		assertEquals(InterpreterResult.Type.TABLE, magic.getType());
+		assertEquals(12, magic.getOffset());
+		assertEquals("a\tb\n", magic.getData("100% %table a\tb\n"));
+
+		magic = InterpreterResult.parseMagic("no magic");
+		assertEquals(InterpreterResult.Type.TEXT, magic.getType());
+		assertEquals(0, magic.getOffset());
+
+		assertEquals(InterpreterResult.Type.TEXT, InterpreterResult.parseMagic(null).getType());
+
+		// magic at the end of the message
+		InterpreterResult result = new InterpreterResult(InterpreterResult.Code.SUCCESS, "%html");
+		assertEquals(InterpreterResult.Type.HTML, result.type());
+		assertEquals("", result.message());
+	}
+
 }
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.zeppelin.display.AngularObject;
+import org.apache.zeppelin.display.AngularObjectRegistry;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEvent;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventType;
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
+import org.apache.zeppelin.resource.ResourceSet;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+public class RemoteInterpreterEventClientTest {
+
+  @Test
+  public void testPollEventsDrainsQueueInBatch() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setOutputCoalesceBytes(0);
+    for (int i = 0; i < 5; i++) {
+      eventClient.onInterpreterOutputAppend("note", "paragraph", "line" + i);
+    }
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(3, 0);
+    assertEquals(3, events.size());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(0).getType());
+    assertTrue(events.get(0).getData().contains("line0"));
+
+    events = eventClient.pollEvents(10, 0);
+    assertEquals(2, events.size());
+    assertTrue(events.get(1).getData().contains("line4"));
+  }
+
+  @Test
+  public void testCoalesceOutputAppend() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.onInterpreterOutputAppend("note", "p1", "a\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", "b\n");
+    eventClient.onInterpreterOutputAppend("note", "p2", "c\n");
+    eventClient.onInterpreterOutputUpdate("note", "p2", "");
+    eventClient.onInterpreterOutputAppend("note", "p2", "d\n");
+    eventClient.onInterpreterOutputAppend("note", "p2", "e\n");
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 0);
+    assertEquals(4, events.size());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(0).getType());
+    assertTrue(events.get(0).getData().contains("a\\nb\\n"));
+    assertTrue(events.get(1).getData().contains("c\\n"));
+    assertEquals(RemoteInterpreterEventType.OUTPUT_UPDATE, events.get(2).getType());
+    assertTrue(events.get(3).getData().contains("d\\ne\\n"));
+  }
+
+  @Test
+  public void testCoalesceOutputAppendUpToSize() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setOutputCoalesceBytes(4);
+    eventClient.onInterpreterOutputAppend("note", "p1", "a\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", "b\n");
+    eventClient.onInterpreterOutputAppend("note", "p1", "c\n");
+
+    assertEquals(2, eventClient.pollEvents(10, 0).size());
+  }
+
+  @Test
+  public void testHoldOutputAppendForCoalesceTime() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setOutputCoalesceMs(500);
+    eventClient.onInterpreterOutputAppend("note", "p1", "a\n");
+
+    assertTrue(eventClient.pollEvents(10, 0).isEmpty());
+    eventClient.onInterpreterOutputAppend("note", "p1", "b\n");
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 1000);
+    assertEquals(1, events.size());
+    assertTrue(events.get(0).getData().contains("a\\nb\\n"));
+  }
+
+  @Test
+  public void testPollEventsReturnsEmptyListWhenIdle() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    long start = System.currentTimeMillis();
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 100);
+    assertTrue(events.isEmpty());
+    assertTrue(System.currentTimeMillis() - start >= 90);
+  }
+
+  @Test
+  public void testCoalesceAngularObjectUpdates() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setAngularObjectUpdateMs(500);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intp", null);
+    AngularObject a = registry.add("a", "a0", "note", null);
+    AngularObject b = registry.add("b", "b0", "note", null);
+
+    a.set("a1");
+    eventClient.angularObjectUpdate(a);
+    b.set("b1");
+    eventClient.angularObjectUpdate(b);
+    a.set("a2");
+    eventClient.angularObjectUpdate(a);
+    assertTrue(eventClient.pollEvents(10, 0).isEmpty());
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 1000);
+    assertEquals(1, events.size());
+    assertEquals(RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH, events.get(0).getType());
+    AngularObject[] updated = new Gson().fromJson(events.get(0).getData(), AngularObject[].class);
+    assertEquals(2, updated.length);
+    assertEquals("b1", updated[0].get());
+    assertEquals("a2", updated[1].get());
+  }
+
+  @Test
+  public void testSendAngularObjectUpdatesBeforeRemove() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setAngularObjectUpdateMs(500);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intp", null);
+    AngularObject a = registry.add("a", "a0", "note", null);
+
+    a.set("a1");
+    eventClient.angularObjectUpdate(a);
+    eventClient.angularObjectRemove("a", "note", null);
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 0);
+    assertEquals(2, events.size());
+    assertEquals(RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH, events.get(0).getType());
+    assertEquals(RemoteInterpreterEventType.ANGULAR_OBJECT_REMOVE, events.get(1).getType());
+  }
+
+  @Test
+  public void testSendAngularObjectUpdatesBeforeFollowingEvents() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setAngularObjectUpdateMs(60 * 1000);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intp", null);
+    AngularObject a = registry.add("a", "a0", "note", null);
+
+    eventClient.onInterpreterOutputAppend("note", "paragraph", "line0\n");
+    a.set("a1");
+    eventClient.angularObjectUpdate(a);
+    // not merged into the append queued before the update
+    eventClient.onInterpreterOutputAppend("note", "paragraph", "line1\n");
+    eventClient.onJobStatusUpdate("note", "paragraph", "FINISHED", false);
+
+    List<RemoteInterpreterEvent> events = eventClient.pollEvents(10, 0);
+    assertEquals(4, events.size());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(0).getType());
+    assertFalse(events.get(0).getData().contains("line1"));
+    assertEquals(RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH, events.get(1).getType());
+    assertEquals(RemoteInterpreterEventType.OUTPUT_APPEND, events.get(2).getType());
+    assertEquals(RemoteInterpreterEventType.JOB_STATUS_UPDATE, events.get(3).getType());
+  }
+
+  @Test
+  public void testWaitForEventQueueSendsPendingAngularObjectUpdates() throws Exception {
+    final RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setAngularObjectUpdateMs(60 * 1000);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intp", null);
+    AngularObject a = registry.add("a", "a0", "note", null);
+    a.set("a1");
+    eventClient.angularObjectUpdate(a);
+
+    final List<RemoteInterpreterEvent> polled =
+        Collections.synchronizedList(new LinkedList<RemoteInterpreterEvent>());
+    Thread poller = new Thread() {
+      public void run() {
+        while (polled.isEmpty()) {
+          polled.addAll(eventClient.pollEvents(10, 100));
+        }
+      }
+    };
+    poller.start();
+    eventClient.waitForEventQueueBecomesEmpty();
+    poller.join(10 * 1000);
+
+    assertEquals(1, polled.size());
+    assertEquals(RemoteInterpreterEventType.ANGULAR_OBJECT_UPDATE_BATCH, polled.get(0).getType());
+  }
+
+  @Test
+  public void testConcurrentReadResourceOfSameId() throws Exception {
+    final RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    final ResourceId id = new Gson().fromJson(
+        "{\"resourcePoolId\":\"pool\",\"name\":\"r\"}", ResourceId.class);
+    final List<Object> read = Collections.synchronizedList(new LinkedList<Object>());
+    List<Thread> readers = new LinkedList<Thread>();
+    for (int i = 0; i < 2; i++) {
+      Thread t = new Thread() {
+        public void run() {
+          read.add(eventClient.readResource(id));
+        }
+      };
+      t.start();
+      readers.add(t);
+    }
+
+    // both requests are sent without waiting for each other
+    List<RemoteInterpreterEvent> events = new LinkedList<RemoteInterpreterEvent>();
+    while (events.size() < 2) {
+      events.addAll(eventClient.pollEvents(10, 1000));
+    }
+    assertEquals(RemoteInterpreterEventType.RESOURCE_GET, events.get(0).getType());
+    assertFalse(events.get(0).getData().equals(events.get(1).getData()));
+
+    // respond in reverse order
+    eventClient.putResponseGetResource(events.get(1).getData(), Resource.serializeObject("v1"));
+    eventClient.putResponseGetResource(events.get(0).getData(), Resource.serializeObject("v0"));
+    for (Thread t : readers) {
+      t.join(10 * 1000);
+    }
+    assertEquals(2, read.size());
+    assertTrue(read.contains("v0"));
+    assertTrue(read.contains("v1"));
+  }
+
+  @Test
+  public void testResourceRequestTimeout() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setResourceRequestTimeoutMs(100);
+    assertTrue(eventClient.getAllResources().isEmpty());
+
+    // late response is dropped
+    RemoteInterpreterEvent event = eventClient.pollEvents(10, 0).get(0);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, event.getType());
+    eventClient.putResponseGetResource(event.getData(), ByteBuffer.wrap("[]".getBytes()));
+  }
+
+  @Test
+  public void testCancelResourceRequestOnInterrupt() {
+    RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    eventClient.setResourceRequestTimeoutMs(0);
+    Thread.currentThread().interrupt();
+    assertTrue(eventClient.getResources("r").isEmpty());
+    assertTrue(Thread.interrupted());
+  }
+
+  @Test
+  public void testResourceSetResponse() throws Exception {
+    final RemoteInterpreterEventClient eventClient = new RemoteInterpreterEventClient();
+    final List<ResourceSet> responses = Collections.synchronizedList(
+        new LinkedList<ResourceSet>());
+    Thread requester = new Thread() {
+      public void run() {
+        responses.add(eventClient.getResources("r"));
+        responses.add(eventClient.getAllResources());
+      }
+    };
+    requester.start();
+
+    String resource = "{\"resourceId\":{\"resourcePoolId\":\"pool\",\"name\":\"r\"}," +
+        "\"serializable\":true,\"className\":\"java.lang.String\"}";
+    RemoteInterpreterEvent event = eventClient.pollEvents(10, 10 * 1000).get(0);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_POOL_GET_BY_NAME, event.getType());
+    eventClient.putResponseGetResource(event.getData(),
+        ByteBuffer.wrap(("[" + resource + "]").getBytes("UTF-8")));
+
+    // response without request id, from older ZeppelinServer
+    event = eventClient.pollEvents(10, 10 * 1000).get(0);
+    assertEquals(RemoteInterpreterEventType.RESOURCE_POOL_GET_ALL, event.getType());
+    eventClient.putResponseGetAllResources(Arrays.asList(resource, resource));
+
+    requester.join(10 * 1000);
+    assertEquals(1, responses.get(0).size());
+    assertTrue(responses.get(0).get(0).isRemote());
+    assertEquals("r", responses.get(0).get(0).getResourceId().getName());
+    assertEquals(2, responses.get(1).size());
+  }
+}
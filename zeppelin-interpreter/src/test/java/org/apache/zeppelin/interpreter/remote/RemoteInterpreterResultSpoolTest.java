@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteInterpreterResultSpoolTest {
+  private File dir;
+  private RemoteInterpreterResultSpool spool;
+
+  @Before
+  public void setUp() {
+    dir = new File(System.getProperty("java.io.tmpdir"),
+        "ZeppelinLTest_" + System.currentTimeMillis());
+    spool = new RemoteInterpreterResultSpool(dir);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    spool.clear();
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void testReadInChunks() throws IOException {
+    spool.put("note", "p1", "a\tb\n1\t2\n");
+
+    assertEquals("a\tb", spool.get("note", "p1", 0, 3));
+    assertEquals("\n1\t2\n", spool.get("note", "p1", 3, 100));
+    assertEquals("", spool.get("note", "p1", 8, 100));
+    assertNull(spool.get("note", "p2", 0, 100));
+  }
+
+  @Test
+  public void testKeepSurrogatePairInOneChunk() throws IOException {
+    String msg = "a\uD83D\uDE00b";
+    spool.put("note", "p1", msg);
+
+    String first = spool.get("note", "p1", 0, 2);
+    assertEquals("a", first);
+    assertEquals("\uD83D\uDE00b", spool.get("note", "p1", first.length(), 100));
+  }
+
+  @Test
+  public void testReplaceAndRemove() throws IOException {
+    spool.put("note", "p1", "first");
+    spool.put("note", "p1", "second");
+    assertEquals("second", spool.get("note", "p1", 0, 100));
+    assertEquals(1, dir.listFiles().length);
+
+    spool.remove("note", "p1");
+    assertNull(spool.get("note", "p1", 0, 100));
+    assertEquals(0, dir.listFiles().length);
+  }
+}
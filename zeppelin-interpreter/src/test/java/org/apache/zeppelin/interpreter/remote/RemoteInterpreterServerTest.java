@@ -18,12 +18,22 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
 
 import org.apache.thrift.TException;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterServer;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.scheduler.FIFOScheduler;
+import org.apache.zeppelin.scheduler.FairScheduler;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.Scheduler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,8 +49,32 @@ public class RemoteInterpreterServerTest {
 
   @Test
   public void testStartStop() throws InterruptedException, IOException, TException {
+    testStartStop(false);
+  }
+
+  @Test
+  public void testStartStopFramed() throws InterruptedException, IOException, TException {
+    testStartStop(true);
+  }
+
+  @Test
+  public void testIsBusy() {
+    Collection<Job> jobs = Arrays.asList(mock(Job.class), mock(Job.class));
+
+    Scheduler fifo = mock(FIFOScheduler.class);
+    when(fifo.getJobsRunning()).thenReturn(jobs);
+    assertTrue(RemoteInterpreterServer.isBusy(fifo));
+
+    // jobs are not held back from the fair scheduler, it orders them by user and priority
+    Scheduler fair = mock(FairScheduler.class);
+    when(fair.getJobsRunning()).thenReturn(jobs);
+    when(fair.getJobsWaiting()).thenReturn(jobs);
+    assertFalse(RemoteInterpreterServer.isBusy(fair));
+  }
+
+  private void testStartStop(boolean framed) throws InterruptedException, IOException, TException {
     RemoteInterpreterServer server = new RemoteInterpreterServer(
-        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces());
+        RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces(), framed);
     assertEquals(false, server.isRunning());
 
     server.start();
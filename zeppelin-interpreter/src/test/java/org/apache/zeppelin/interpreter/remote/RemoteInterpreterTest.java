@@ -21,6 +21,7 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -762,4 +763,128 @@ public class RemoteInterpreterTest {
     intp.close();
   }
 
+  @Test
+  public void testLargeResultTransferredInChunks() {
+    Properties p = new Properties();
+    intpGroup.put("note", new LinkedList<Interpreter>());
+
+    RemoteInterpreter intpA = createMockInterpreterA(p);
+    intpA.setResultConfig(3, 0);
+    intpGroup.get("note").add(intpA);
+    intpA.setInterpreterGroup(intpGroup);
+    intpA.open();
+
+    InterpreterContext context = new InterpreterContext(
+        "note",
+        "id",
+        "title",
+        "text",
+        new AuthenticationInfo(),
+        new HashMap<String, Object>(),
+        new GUI(),
+        new AngularObjectRegistry(intpGroup.getId(), null),
+        new LocalResourcePool("pool1"),
+        new LinkedList<InterpreterContextRunner>(), null);
+
+    assertEquals("0000100", intpA.interpret("0000100", context).message());
+
+    intpA.setResultConfig(3, 5);
+    InterpreterResult result = intpA.interpret("0000100", context);
+    assertTrue(result.message().startsWith("00001"));
+    assertTrue(result.message().contains("Truncated"));
+
+    intpA.close();
+  }
+
+  private InterpreterContext createContext(String paragraphId) {
+    return new InterpreterContext(
+        "note",
+        paragraphId,
+        "title",
+        "text",
+        new AuthenticationInfo(),
+        new HashMap<String, Object>(),
+        new GUI(),
+        new AngularObjectRegistry(intpGroup.getId(), null),
+        new LocalResourcePool("pool1"),
+        new LinkedList<InterpreterContextRunner>(), null);
+  }
+
+  @Test
+  public void testAbortOnPendingReturnsResultWithoutMessage() throws InterruptedException {
+    Properties p = new Properties();
+    intpGroup.put("note", new LinkedList<Interpreter>());
+
+    final RemoteInterpreter intpA = createMockInterpreterA(p);
+    intpA.setResultConfig(3, 0);
+    intpGroup.get("note").add(intpA);
+    intpA.setInterpreterGroup(intpGroup);
+    intpA.open();
+
+    Thread running = new Thread() {
+      public void run() {
+        intpA.interpret("1000", createContext("running"));
+      }
+    };
+    running.start();
+    Thread.sleep(300);
+
+    // pending behind the running job in the fifo scheduler of the interpreter process
+    final InterpreterContext pendingContext = createContext("pending");
+    final List<InterpreterResult> results = Collections.synchronizedList(
+        new LinkedList<InterpreterResult>());
+    Thread pending = new Thread() {
+      public void run() {
+        results.add(intpA.interpret("100", pendingContext));
+      }
+    };
+    pending.start();
+    Thread.sleep(300);
+    intpA.cancel(pendingContext);
+
+    // the process answers with a result without message
+    pending.join(10 * 1000);
+    running.join(10 * 1000);
+    assertEquals(1, results.size());
+    assertEquals(InterpreterResult.Code.KEEP_PREVIOUS_RESULT, results.get(0).code());
+    assertNull(results.get(0).message());
+
+    intpA.close();
+  }
+
+  @Test
+  public void testFramedTransport() {
+    Properties p = new Properties();
+    intpGroup.put("note", new LinkedList<Interpreter>());
+
+    RemoteInterpreter intpA = createMockInterpreterA(p);
+    intpA.setThriftTransport("framed");
+    intpA.setResultConfig(3, 0);
+    intpGroup.get("note").add(intpA);
+    intpA.setInterpreterGroup(intpGroup);
+    intpA.open();
+
+    RemoteInterpreterProcess process = intpA.getInterpreterProcess();
+    assertTrue(process.isFramedTransport());
+    assertTrue(process.isRunning());
+
+    InterpreterContext context = new InterpreterContext(
+        "note",
+        "id",
+        "title",
+        "text",
+        new AuthenticationInfo(),
+        new HashMap<String, Object>(),
+        new GUI(),
+        new AngularObjectRegistry(intpGroup.getId(), null),
+        new LocalResourcePool("pool1"),
+        new LinkedList<InterpreterContextRunner>(), null);
+
+    assertEquals("0000100", intpA.interpret("0000100", context).message());
+    assertEquals(0, intpA.getProgress(context));
+
+    intpA.close();
+    assertFalse(process.isRunning());
+  }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class MetricRegistryTest {
+
+  @Test
+  public void testCreateOrGet() {
+    MetricRegistry registry = new MetricRegistry();
+    Counter c1 = registry.counter("events", "help", "type", "a");
+    assertSame(c1, registry.counter("events", "help", "type", "a"));
+
+    Counter c2 = registry.counter("events", "help", "type", "b");
+    c1.inc();
+    c2.inc(2);
+    assertEquals(1, c1.getCount());
+    assertEquals(2, c2.getCount());
+    assertEquals(2, registry.getMetrics().size());
+
+    registry.removeByLabel("type", "a");
+    assertEquals(1, registry.getMetrics().size());
+    assertSame(c2, registry.getMetrics().get(0));
+  }
+
+  @Test
+  public void testHistogram() {
+    Histogram h = new Histogram("latency", "help", new long[]{10, 100});
+    h.update(1);
+    h.update(10);
+    h.update(50);
+    h.update(1000);
+
+    assertEquals(4, h.getCount());
+    assertEquals(1061, h.getSum());
+    assertEquals(1000, h.getMax());
+
+    Map<?, ?> buckets = (Map<?, ?>) h.getValues().get("buckets");
+    assertEquals(2L, buckets.get("10"));
+    assertEquals(3L, buckets.get("100"));
+    assertEquals(4L, buckets.get("+Inf"));
+  }
+
+  @Test
+  public void testPrometheusText() throws IOException {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("events_total", "Number of events", "type", "a\"b").inc();
+    registry.histogram("latency_ms", "Latency", new long[]{10}).update(5);
+    registry.register(new Gauge("queue_length", "Queue length") {
+      @Override
+      public long getValue() {
+        return 3;
+      }
+    });
+
+    StringWriter out = new StringWriter();
+    registry.writePrometheusText(out);
+    String text = out.toString();
+
+    assertTrue(text.contains("# TYPE events_total counter\n"));
+    assertTrue(text.contains("events_total{type=\"a\\\"b\"} 1\n"));
+    assertTrue(text.contains("# TYPE latency_ms histogram\n"));
+    assertTrue(text.contains("latency_ms_bucket{le=\"10\"} 1\n"));
+    assertTrue(text.contains("latency_ms_bucket{le=\"+Inf\"} 1\n"));
+    assertTrue(text.contains("latency_ms_sum 5\n"));
+    assertTrue(text.contains("latency_ms_count 1\n"));
+    assertTrue(text.contains("queue_length 3\n"));
+  }
+}
@@ -33,6 +33,7 @@ import java.util.LinkedList;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -156,6 +157,78 @@ public class DistributedResourcePoolTest {
     assertEquals("value2", gson.fromJson(ret.message(), String.class));
   }
 
+  @Test
+  public void testResourceDirectory() throws InterruptedException {
+    intp2.interpret("put note1:paragraph1:key3 value3", context);
+    waitForDirectory("key3", 1);
+    assertEquals("intpGroup2",
+        ResourceDirectory.singleton().get("key3", null).get(0).getResourceId().getResourcePoolId());
+
+    // found in the directory, read from the owning process
+    Gson gson = new Gson();
+    assertEquals("value3", gson.fromJson(
+        intp1.interpret("get note1:paragraph1:key3", context).message(), String.class));
+
+    intp2.interpret("remove note1:paragraph1:key3", context);
+    waitForDirectory("key3", 0);
+    assertEquals("", gson.fromJson(
+        intp1.interpret("get note1:paragraph1:key3", context).message(), String.class));
+  }
+
+  private void waitForDirectory(String name, int size) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (ResourceDirectory.singleton().get(name, null).size() != size
+        && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(100);
+    }
+    assertEquals(size, ResourceDirectory.singleton().get(name, null).size());
+  }
+
+  @Test
+  public void testGetResourceNotInDirectoryYet() {
+    final LocalResourcePool pool2 = new LocalResourcePool("pool2");
+
+    DistributedResourcePool pool1 = new DistributedResourcePool("pool1", new ResourcePoolConnector() {
+      @Override
+      public ResourceSet getAllResources() {
+        ResourceSet remoteSet = new ResourceSet();
+        Gson gson = new Gson();
+        for (Resource s : pool2.getAll()) {
+          RemoteResource remoteResource = gson.fromJson(gson.toJson(s), RemoteResource.class);
+          remoteResource.setResourcePoolConnector(this);
+          remoteSet.add(remoteResource);
+        }
+        return remoteSet;
+      }
+
+      @Override
+      public ResourceSet getResources(String name) {
+        // put event of pool2 is not applied to the directory yet
+        return new ResourceSet();
+      }
+
+      @Override
+      public void onResourcePut(Resource resource) {
+      }
+
+      @Override
+      public void onResourceRemove(ResourceId resourceId) {
+      }
+
+      @Override
+      public Object readResource(ResourceId id) {
+        return pool2.get(id.getNoteId(), id.getParagraphId(), id.getName()).get();
+      }
+    });
+
+    pool2.put("object1", "value1");
+    pool2.put("note1", "paragraph1", "object2", "value2");
+    assertEquals("value1", pool1.get("object1").get());
+    assertEquals("value2", pool1.get("note1", "paragraph1", "object2").get());
+    assertNull(pool1.get("note1", "paragraph2", "object2"));
+    assertNull(pool1.get("object3"));
+  }
+
   @Test
   public void testDistributedResourcePool() {
     final LocalResourcePool pool2 = new LocalResourcePool("pool2");
@@ -177,6 +250,19 @@ public class DistributedResourcePoolTest {
         return remoteSet;
       }
 
+      @Override
+      public ResourceSet getResources(String name) {
+        return getAllResources().filterByName(name);
+      }
+
+      @Override
+      public void onResourcePut(Resource resource) {
+      }
+
+      @Override
+      public void onResourceRemove(ResourceId resourceId) {
+      }
+
       @Override
       public Object readResource(ResourceId id) {
         if (id.getResourcePoolId().equals(pool2.id())) {
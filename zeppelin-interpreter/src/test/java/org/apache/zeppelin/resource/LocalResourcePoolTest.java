@@ -16,6 +16,12 @@
  */
 package org.apache.zeppelin.resource;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -45,4 +51,105 @@ public class LocalResourcePoolTest {
     assertNotNull(pool.remove("item1"));
     assertNull(pool.remove("item1"));
   }
+
+  @Test
+  public void testEstimateSize() {
+    ResourceSizeEstimator estimator = new ResourceSizeEstimator();
+    assertEquals(0, estimator.estimate(null));
+    assertTrue(estimator.estimate(new byte[1000]) >= 1000);
+    assertTrue(estimator.estimate(new long[1000]) >= 8000);
+    assertTrue(estimator.estimate(new String(new char[1000])) >= 1000);
+
+    // shared objects are counted once
+    byte[] bytes = new byte[1000];
+    long size = estimator.estimate(new Object[]{bytes, bytes});
+    assertTrue(size >= 1000 && size < 2000);
+  }
+
+  @Test
+  public void testEstimateSizeOfLargeCollection() {
+    List<String> list = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      list.add("value" + i);
+    }
+    long walked = new ResourceSizeEstimator(1000000).estimate(list);
+    // only a sample of the elements is walked, the rest is extrapolated
+    long sampled = new ResourceSizeEstimator(1000).estimate(list);
+    assertTrue(walked > 100000 * 40);
+    assertTrue(sampled > walked * 0.8 && sampled < walked * 1.2);
+  }
+
+  @Test
+  public void testTtl() throws InterruptedException {
+    LocalResourcePool pool = new LocalResourcePool("pool1");
+    pool.setLimits(0, 500, null);
+    pool.put("item1", "value1");
+    pool.put("item2", "value2");
+    Thread.sleep(300);
+    assertNotNull(pool.get("item1"));
+    Thread.sleep(300);
+
+    // item2 is not accessed for ttl
+    assertNull(pool.get("item2"));
+    assertEquals(1, pool.getAll().size());
+  }
+
+  @Test
+  public void testRemoveLeastRecentlyUsed() {
+    LocalResourcePool pool = new LocalResourcePool("pool1");
+    pool.setLimits(2500, 0, null);
+    pool.put("item1", new byte[1000]);
+    pool.put("item2", new byte[1000]);
+    assertTrue(pool.getUsedBytes() >= 2000);
+    pool.get("item1");
+
+    pool.put("item3", new byte[1000]);
+    assertNull(pool.get("item2"));
+    assertNotNull(pool.get("item1"));
+    assertNotNull(pool.get("item3"));
+    assertTrue(pool.getUsedBytes() <= 2500);
+
+    // resource over the limit is kept, until other resource is put
+    pool.put("item4", new byte[5000]);
+    assertNotNull(pool.get("item4"));
+    assertEquals(1, pool.getAll().size());
+
+    pool.remove("item4");
+    assertEquals(0, pool.getUsedBytes());
+  }
+
+  @Test
+  public void testSpill() throws Exception {
+    File spillDir = Files.createTempDirectory("spill").toFile();
+    try {
+      LocalResourcePool pool = new LocalResourcePool("pool1");
+      pool.setLimits(1500, 0, spillDir);
+      pool.put("item1", new byte[1000]);
+      pool.put("item2", new byte[1000]);
+      pool.put("notSerializable", new Object());
+
+      // item1 is spilled, but still in the pool
+      assertEquals(1, spillDir.list().length);
+      assertEquals(3, pool.getAll().size());
+      // spill doesn't make item1 recently used
+      assertEquals("item1", pool.getAll().get(0).getResourceId().getName());
+      assertTrue(pool.getUsedBytes() <= 1500);
+
+      // read back, spilling item2
+      assertEquals(1000, ((byte[]) pool.get("item1").get()).length);
+      assertEquals(1, spillDir.list().length);
+      // spilled resource in getAll() reads it back on get()
+      for (Resource r : pool.getAll()) {
+        if (r.getResourceId().getName().equals("item2")) {
+          assertEquals(1000, ((byte[]) r.get()).length);
+        }
+      }
+
+      pool.remove("item1");
+      pool.remove("item2");
+      assertEquals(0, spillDir.list().length);
+    } finally {
+      FileUtils.deleteDirectory(spillDir);
+    }
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ResourceCodecs
+ */
+public class ResourceCodecsTest {
+
+  /**
+   * Encodes Point, which is not Serializable
+   */
+  public static class PointCodec implements ResourceCodec {
+    @Override
+    public String getName() {
+      return "point";
+    }
+
+    @Override
+    public boolean canEncode(Object o) {
+      return o instanceof Point;
+    }
+
+    @Override
+    public void encode(Object o, OutputStream out) throws IOException {
+      DataOutputStream dout = new DataOutputStream(out);
+      dout.writeInt(((Point) o).x);
+      dout.writeInt(((Point) o).y);
+      dout.flush();
+    }
+
+    @Override
+    public Object decode(InputStream in) throws IOException {
+      DataInputStream din = new DataInputStream(in);
+      return new Point(din.readInt(), din.readInt());
+    }
+  }
+
+  public static class Point {
+    final int x;
+    final int y;
+
+    Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+  @After
+  public void tearDown() {
+    ResourceCodecs.setDefault(JavaSerializationCodec.NAME, false);
+  }
+
+  @Test
+  public void testEncodeDecode() throws Exception {
+    assertNull(ResourceCodecs.encode(null));
+    assertNull(ResourceCodecs.encode(new Object()));
+    assertNull(ResourceCodecs.decode(null));
+    assertNull(ResourceCodecs.decode(ByteBuffer.allocate(0)));
+
+    ByteBuffer buf = ResourceCodecs.encode("hello");
+    assertEquals("hello", ResourceCodecs.decode(buf));
+    // buffer can be read again
+    assertEquals("hello", ResourceCodecs.decode(buf));
+  }
+
+  @Test
+  public void testCompress() throws Exception {
+    List<String> rows = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      rows.add("row\t" + (i % 10));
+    }
+    int plainSize = ResourceCodecs.encode(rows).remaining();
+
+    ResourceCodecs.setDefault(JavaSerializationCodec.NAME, true);
+    ByteBuffer compressed = ResourceCodecs.encode(rows);
+    assertTrue(compressed.remaining() < plainSize / 2);
+    assertEquals(rows, ResourceCodecs.decode(compressed));
+
+    // reader doesn't need to be configured the same
+    ResourceCodecs.setDefault(JavaSerializationCodec.NAME, false);
+    assertEquals(rows, ResourceCodecs.decode(compressed));
+  }
+
+  @Test
+  public void testStream() throws Exception {
+    List<String> rows = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      rows.add("row\t" + i);
+    }
+    // value larger than a chunk of the buffer
+    ByteBuffer buf = ResourceCodecs.encode(rows);
+    assertTrue(buf.remaining() > 64 * 1024);
+    assertEquals(rows, ResourceCodecs.decode(buf));
+
+    ResourceCodecs.setDefault(JavaSerializationCodec.NAME, true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertTrue(ResourceCodecs.encodeTo(rows, out));
+    assertFalse(ResourceCodecs.encodeTo(new Object(), out));
+    assertEquals(rows, ResourceCodecs.decodeFrom(new ByteArrayInputStream(out.toByteArray())));
+    assertNull(ResourceCodecs.decodeFrom(new ByteArrayInputStream(new byte[0])));
+  }
+
+  @Test
+  public void testDecodeJavaSerializedWithoutHeader() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ObjectOutputStream oos = new ObjectOutputStream(out);
+    oos.writeObject("hello");
+    oos.close();
+    assertEquals("hello", ResourceCodecs.decode(ByteBuffer.wrap(out.toByteArray())));
+  }
+
+  @Test
+  public void testPluggedCodec() throws Exception {
+    assertFalse(ResourceCodecs.canEncode(new Point(1, 2)));
+    ResourceCodecs.register(new PointCodec());
+    ResourceCodecs.setDefault("point", true);
+
+    assertTrue(ResourceCodecs.canEncode(new Point(1, 2)));
+    assertTrue(new Resource(new ResourceId("pool1", "p"), new Point(1, 2)).isSerializable());
+    Point p = (Point) ResourceCodecs.decode(ResourceCodecs.encode(new Point(1, 2)));
+    assertEquals(1, p.x);
+    assertEquals(2, p.y);
+
+    // objects the codec can't encode are java serialized
+    assertEquals("hello", ResourceCodecs.decode(ResourceCodecs.encode("hello")));
+  }
+
+  @Test
+  public void testUnknownCodec() throws Exception {
+    ResourceCodecs.setDefault("unknown", false);
+    assertEquals("hello", ResourceCodecs.decode(ResourceCodecs.encode("hello")));
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for ResourceDirectory
+ */
+public class ResourceDirectoryTest {
+
+  @Test
+  public void testPutGetRemove() {
+    ResourceDirectory directory = new ResourceDirectory();
+    directory.put(new Resource(new ResourceId("pool1", "resource1"), "value1"));
+    directory.put(new Resource(new ResourceId("pool2", "note1", "paragraph1", "resource1"), "value2"));
+    directory.put(new Resource(new ResourceId("pool2", "resource2"), "value3"));
+
+    assertEquals(2, directory.get("resource1", null).size());
+    assertEquals(1, directory.get("resource1", "pool2").size());
+    assertEquals("pool1", directory.get("resource1", "pool2").get(0).getResourceId().getResourcePoolId());
+    assertEquals(0, directory.get("resource3", null).size());
+
+    // put again replaces
+    directory.put(new Resource(new ResourceId("pool1", "resource1"), new Integer(1)));
+    assertEquals(Integer.class.getName(), directory.get("resource1", "pool2").get(0).getClassName());
+
+    directory.remove(new ResourceId("pool1", "resource1"));
+    assertEquals(0, directory.get("resource1", "pool2").size());
+    assertEquals(1, directory.get("resource1", null).size());
+  }
+
+  @Test
+  public void testRemoveAllOfPool() {
+    ResourceDirectory directory = new ResourceDirectory();
+    directory.put(new Resource(new ResourceId("pool1", "resource1"), "value1"));
+    directory.put(new Resource(new ResourceId("pool2", "resource1"), "value2"));
+    directory.put(new Resource(new ResourceId("pool2", "resource2"), "value3"));
+
+    directory.removeAll("pool2");
+    assertEquals(1, directory.get("resource1", null).size());
+    assertEquals(0, directory.get("resource2", null).size());
+  }
+}
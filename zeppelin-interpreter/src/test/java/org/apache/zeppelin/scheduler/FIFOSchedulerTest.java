@@ -17,6 +17,9 @@
 
 package org.apache.zeppelin.scheduler;
 
+import org.apache.zeppelin.metrics.Histogram;
+import org.apache.zeppelin.metrics.Metric;
+import org.apache.zeppelin.metrics.MetricRegistry;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -114,4 +117,25 @@ public class FIFOSchedulerTest extends TestCase {
 	    assertTrue((500 > (Long)job1.getReturn()));
 	    assertEquals(null, job2.getReturn());
 	  }
+
+	public void testMetrics() throws InterruptedException {
+		Scheduler s = schedulerSvc.createOrGetFIFOScheduler("metrics");
+		MetricRegistry registry = MetricRegistry.singleton();
+
+		Job job1 = new SleepingJob("job1", null, 100);
+		s.submit(job1);
+		while (job1.getStatus() != Status.FINISHED) {
+			Thread.sleep(10);
+		}
+
+		Histogram runTime = registry.histogram("zeppelin_scheduler_run_ms", "",
+				Histogram.LATENCY_MS_BUCKETS, "scheduler", "metrics", "type", "fifo");
+		assertEquals(1, runTime.getCount());
+		assertTrue(runTime.getSum() >= 100);
+
+		schedulerSvc.removeScheduler("metrics");
+		for (Metric metric : registry.getMetrics()) {
+			assertFalse("metrics".equals(metric.getLabels().get("scheduler")));
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.zeppelin.scheduler.Job.Status;
+
+import junit.framework.TestCase;
+
+public class FairSchedulerTest extends TestCase {
+
+  private SchedulerFactory schedulerSvc;
+  private List<String> executed;
+
+  @Override
+  public void setUp() throws Exception {
+    schedulerSvc = new SchedulerFactory();
+    executed = Collections.synchronizedList(new LinkedList<String>());
+  }
+
+  @Override
+  public void tearDown() {
+    schedulerSvc.removeScheduler("test");
+  }
+
+  public void testTakeTurnsBetweenUsers() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 0,
+        FairScheduler.ShareBy.USER);
+
+    Job blocker = new UserJob("blocker", "userA", 300);
+    s.submit(blocker);
+    Thread.sleep(100);
+    assertEquals(Status.RUNNING, blocker.getStatus());
+
+    Job a1 = new UserJob("a1", "userA", 10);
+    Job a2 = new UserJob("a2", "userA", 10);
+    Job a3 = new UserJob("a3", "userA", 10);
+    Job b1 = new UserJob("b1", "userB", 10);
+    s.submit(a1);
+    s.submit(a2);
+    s.submit(a3);
+    s.submit(b1);
+    assertEquals(4, s.getJobsWaiting().size());
+
+    waitForTermination(a1, a2, a3, b1);
+    assertEquals(Arrays.asList("blocker", "a1", "b1", "a2", "a3"), executed);
+  }
+
+  public void testHigherPriorityFirst() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 0,
+        FairScheduler.ShareBy.USER);
+
+    Job blocker = new UserJob("blocker", "userA", 300);
+    s.submit(blocker);
+    Thread.sleep(100);
+
+    Job cron1 = new UserJob("cron1", "userA", 10);
+    cron1.setPriority(Job.PRIORITY_LOW);
+    Job cron2 = new UserJob("cron2", "userA", 10);
+    cron2.setPriority(Job.PRIORITY_LOW);
+    Job interactive = new UserJob("interactive", "userB", 10);
+    s.submit(cron1);
+    s.submit(cron2);
+    s.submit(interactive);
+
+    waitForTermination(cron1, cron2, interactive);
+    assertEquals(Arrays.asList("blocker", "interactive", "cron1", "cron2"), executed);
+  }
+
+  public void testRejectWhenQueueIsFull() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 1,
+        FairScheduler.ShareBy.NOTE);
+
+    Job blocker = new UserJob("blocker", "userA", 300);
+    s.submit(blocker);
+    Thread.sleep(100);
+
+    Job job1 = new UserJob("job1", "userA", 10);
+    Job job2 = new UserJob("job2", "userA", 10);
+    s.submit(job1);
+    s.submit(job2);
+
+    assertEquals(Status.PENDING, job1.getStatus());
+    assertEquals(Status.ERROR, job2.getStatus());
+    assertNotNull(job2.getException());
+
+    waitForTermination(job1);
+    assertEquals(Status.FINISHED, job1.getStatus());
+    assertEquals(Arrays.asList("blocker", "job1"), executed);
+  }
+
+  public void testRemoveFromWaitingQueue() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 0,
+        FairScheduler.ShareBy.USER);
+
+    Job blocker = new UserJob("blocker", "userA", 300);
+    s.submit(blocker);
+    Thread.sleep(100);
+
+    Job job1 = new UserJob("job1", "userB", 10);
+    s.submit(job1);
+    assertSame(job1, s.removeFromWaitingQueue(job1.getId()));
+    assertEquals(0, s.getJobsWaiting().size());
+
+    waitForTermination(blocker);
+    assertEquals(Arrays.asList("blocker"), executed);
+  }
+
+  private void waitForTermination(Job... jobs) throws InterruptedException {
+    for (Job job : jobs) {
+      long start = System.currentTimeMillis();
+      while (!job.isTerminated() && System.currentTimeMillis() - start < 10 * 1000) {
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  private class UserJob extends SleepingJob {
+    private String user;
+
+    public UserJob(String jobName, String user, int time) {
+      super(jobName, null, time);
+      this.user = user;
+    }
+
+    @Override
+    public String getUser() {
+      return user;
+    }
+
+    @Override
+    public Object jobRun() {
+      executed.add(getJobName());
+      return super.jobRun();
+    }
+  }
+}
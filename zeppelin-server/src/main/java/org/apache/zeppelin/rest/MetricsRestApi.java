@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.rest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.metrics.Metric;
+import org.apache.zeppelin.metrics.MetricRegistry;
+import org.apache.zeppelin.server.JsonResponse;
+
+/**
+ * Metrics Rest API Endpoint.
+ * Scheduler, interpreter process client pool, event poller and output append metrics
+ */
+@Path("/metrics")
+@Produces("application/json")
+public class MetricsRestApi {
+
+  public MetricsRestApi() {
+  }
+
+  /**
+   * Get all metrics
+   *
+   * @return JSON with name, type, labels and values of each metric
+   */
+  @GET
+  @ZeppelinApi
+  public Response getMetrics() {
+    List<Map<String, Object>> metrics = new LinkedList<>();
+    for (Metric metric : MetricRegistry.singleton().getMetrics()) {
+      Map<String, Object> m = new HashMap<>();
+      m.put("name", metric.getName());
+      m.put("type", metric.getType());
+      m.put("labels", metric.getLabels());
+      m.putAll(metric.getValues());
+      metrics.add(m);
+    }
+    return new JsonResponse<>(Status.OK, "", metrics).build();
+  }
+
+  /**
+   * Get all metrics in Prometheus text format, to be scraped
+   */
+  @GET
+  @Path("prometheus")
+  @Produces("text/plain; version=0.0.4")
+  @ZeppelinApi
+  public Response getPrometheusMetrics() throws IOException {
+    StringWriter out = new StringWriter();
+    MetricRegistry.singleton().writePrometheusText(out);
+    return Response.ok(out.toString()).build();
+  }
+}
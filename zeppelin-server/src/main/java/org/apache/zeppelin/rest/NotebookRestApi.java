@@ -211,6 +211,7 @@ public class NotebookRestApi {
       return new JsonResponse<>(Status.NOT_FOUND, "note not found.").build();
     }
 
+    note.loadResults();
     return new JsonResponse<>(Status.OK, "", note).build();
   }
 
@@ -391,6 +392,8 @@ public class NotebookRestApi {
       return new JsonResponse(Status.NOT_FOUND, "paragraph not found.").build();
     }
 
+    // load the result kept in the result store
+    p.getReturn();
     return new JsonResponse<>(Status.OK, "", p).build();
   }
 
@@ -41,6 +41,7 @@ import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSync;
 import org.apache.zeppelin.rest.*;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.search.AsyncSearchService;
 import org.apache.zeppelin.search.LuceneSearch;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.socket.NotebookServer;
@@ -91,12 +92,18 @@ public class ZeppelinServer extends Application {
     this.replFactory = new InterpreterFactory(conf, notebookWsServer,
         notebookWsServer, heliumApplicationFactory, depResolver);
     this.notebookRepo = new NotebookRepoSync(conf);
-    this.notebookIndex = new LuceneSearch();
+    this.notebookIndex = new LuceneSearch(conf);
+    int indexQueueSize = conf.getInt(ConfVars.ZEPPELIN_SEARCH_QUEUE_SIZE);
+    if (indexQueueSize > 0) {
+      this.notebookIndex = new AsyncSearchService(notebookIndex, indexQueueSize);
+    }
     this.notebookAuthorization = new NotebookAuthorization(conf);
     this.credentials = new Credentials(conf.credentialsPersist(), conf.getCredentialsPath());
     notebook = new Notebook(conf,
         notebookRepo, schedulerFactory, replFactory, notebookWsServer,
             notebookIndex, notebookAuthorization, credentials);
+    // keep notes opened in the browser loaded
+    notebook.setOpenNotes(notebookWsServer);
 
     // to update notebook from application event from remote process.
     heliumApplicationFactory.setNotebook(notebook);
@@ -329,6 +336,9 @@ public class ZeppelinServer extends Application {
     ConfigurationsRestApi settingsApi = new ConfigurationsRestApi(notebook);
     singletons.add(settingsApi);
 
+    MetricsRestApi metricsApi = new MetricsRestApi();
+    singletons.add(metricsApi);
+
     return singletons;
   }
 }
@@ -59,14 +59,18 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Zeppelin websocket service.
  */
 public class NotebookServer extends WebSocketServlet implements
         NotebookSocketListener, JobListenerFactory, AngularObjectRegistryListener,
-        RemoteInterpreterProcessListener, ApplicationEventListener {
+        RemoteInterpreterProcessListener, ApplicationEventListener, OpenNotes {
   /**
    * Job manager service type
    */
@@ -83,8 +87,11 @@ public class NotebookServer extends WebSocketServlet implements
 
   private static final Logger LOG = LoggerFactory.getLogger(NotebookServer.class);
   Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").create();
-  final Map<String, List<NotebookSocket>> noteSocketMap = new HashMap<>();
+  // sockets per note. updated under the map's monitor, read without locking by broadcast
+  final Map<String, List<NotebookSocket>> noteSocketMap = new ConcurrentHashMap<>();
   final Queue<NotebookSocket> connectedSockets = new ConcurrentLinkedQueue<>();
+  // version of the note state sent to clients. a client reloads the note when it sees a gap
+  final ConcurrentMap<String, AtomicLong> noteVersionMap = new ConcurrentHashMap<>();
 
   private Notebook notebook() {
     return ZeppelinServer.notebook;
@@ -280,7 +287,7 @@ public class NotebookServer extends WebSocketServlet implements
       // single note.
       List<NotebookSocket> socketList = noteSocketMap.get(noteId);
       if (socketList == null) {
-        socketList = new LinkedList<>();
+        socketList = new CopyOnWriteArrayList<>();
         noteSocketMap.put(noteId, socketList);
       }
       if (!socketList.contains(socket)) {
@@ -298,10 +305,44 @@ public class NotebookServer extends WebSocketServlet implements
     }
   }
 
+  @Override
+  public boolean isOpen(String noteId) {
+    // lock free, notebook asks while holding its note cache lock
+    List<NotebookSocket> socketList = noteSocketMap.get(noteId);
+    return socketList != null && !socketList.isEmpty();
+  }
+
   private void removeNote(String noteId) {
     synchronized (noteSocketMap) {
       List<NotebookSocket> socketList = noteSocketMap.remove(noteId);
     }
+    noteVersionMap.remove(noteId);
+  }
+
+  private AtomicLong getNoteVersion(String noteId) {
+    AtomicLong version = noteVersionMap.get(noteId);
+    if (version == null) {
+      AtomicLong newVersion = new AtomicLong();
+      version = noteVersionMap.putIfAbsent(noteId, newVersion);
+      if (version == null) {
+        version = newVersion;
+      }
+    }
+    return version;
+  }
+
+  /**
+   * Send note to a connection with current version of the note.
+   * Version is read and message is queued under the version's monitor, so the connection
+   * receives following PARAGRAPH_STATUS in version order.
+   */
+  private void sendNoteWithVersion(NotebookSocket conn, Note note) throws IOException {
+    note.loadResults();
+    AtomicLong version = getNoteVersion(note.getId());
+    synchronized (version) {
+      conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)
+          .put("version", version.get())));
+    }
   }
 
   private void removeConnectionFromAllNote(NotebookSocket socket) {
@@ -331,8 +372,8 @@ public class NotebookServer extends WebSocketServlet implements
   private void broadcastToNoteBindedInterpreter(String interpreterGroupId,
       Message m) {
     Notebook notebook = notebook();
-    List<Note> notes = notebook.getAllNotes();
-    for (Note note : notes) {
+    List<NoteInfo> notes = notebook.getAllNoteInfos();
+    for (NoteInfo note : notes) {
       List<String> ids = notebook.getInterpreterFactory().getInterpreters(note.getId());
       for (String id : ids) {
         if (id.equals(interpreterGroupId)) {
@@ -343,46 +384,66 @@ public class NotebookServer extends WebSocketServlet implements
   }
 
   private void broadcast(String noteId, Message m) {
-    synchronized (noteSocketMap) {
-      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
-      }
-      LOG.debug("SEND >> " + m.op);
-      for (NotebookSocket conn : socketLists) {
-        try {
-          conn.send(serializeMessage(m));
-        } catch (IOException e) {
-          LOG.error("socket error", e);
-        }
+    List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
+    if (socketLists == null || socketLists.size() == 0) {
+      return;
+    }
+    LOG.debug("SEND >> " + m.op);
+    String serialized = serializeMessage(m);
+    for (NotebookSocket conn : socketLists) {
+      try {
+        conn.send(serialized);
+      } catch (IOException e) {
+        LOG.error("socket error", e);
       }
     }
   }
 
   private void broadcastExcept(String noteId, Message m, NotebookSocket exclude) {
-    synchronized (noteSocketMap) {
-      List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
-      if (socketLists == null || socketLists.size() == 0) {
-        return;
+    List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
+    if (socketLists == null || socketLists.size() == 0) {
+      return;
+    }
+    LOG.debug("SEND >> " + m.op);
+    String serialized = serializeMessage(m);
+    for (NotebookSocket conn : socketLists) {
+      if (exclude.equals(conn)) {
+        continue;
       }
-      LOG.debug("SEND >> " + m.op);
-      for (NotebookSocket conn : socketLists) {
-        if (exclude.equals(conn)) {
-          continue;
-        }
-        try {
-          conn.send(serializeMessage(m));
-        } catch (IOException e) {
-          LOG.error("socket error", e);
-        }
+      try {
+        conn.send(serialized);
+      } catch (IOException e) {
+        LOG.error("socket error", e);
+      }
+    }
+  }
+
+  /**
+   * Broadcast paragraph output. Sockets that can't keep up drop stale output append.
+   * @param append true for PARAGRAPH_APPEND_OUTPUT, false for PARAGRAPH_UPDATE_OUTPUT
+   */
+  private void broadcastParagraphOutput(String noteId, String paragraphId, Message m,
+      boolean append) {
+    List<NotebookSocket> socketLists = noteSocketMap.get(noteId);
+    if (socketLists == null || socketLists.size() == 0) {
+      return;
+    }
+    LOG.debug("SEND >> " + m.op);
+    String serialized = serializeMessage(m);
+    for (NotebookSocket conn : socketLists) {
+      try {
+        conn.sendOutput(paragraphId, serialized, append);
+      } catch (IOException e) {
+        LOG.error("socket error", e);
       }
     }
   }
 
   private void broadcastAll(Message m) {
+    String serialized = serializeMessage(m);
     for (NotebookSocket conn : connectedSockets) {
       try {
-        conn.send(serializeMessage(m));
+        conn.send(serialized);
       } catch (IOException e) {
         LOG.error("socket error", e);
       }
@@ -468,9 +529,9 @@ public class NotebookServer extends WebSocketServlet implements
       }
     }
 
-    List<Note> notes = notebook.getAllNotes();
+    List<NoteInfo> notes = notebook.getAllNoteInfos();
     List<Map<String, String>> notesInfo = new LinkedList<>();
-    for (Note note : notes) {
+    for (NoteInfo note : notes) {
       Map<String, String> info = new HashMap<>();
 
       if (hideHomeScreenNotebookFromList && note.getId().equals(homescreenNotebookId)) {
@@ -486,7 +547,33 @@ public class NotebookServer extends WebSocketServlet implements
   }
 
   public void broadcastNote(Note note) {
-    broadcast(note.getId(), new Message(OP.NOTE).put("note", note));
+    // a note reloaded after eviction only has references to results in the result store
+    note.loadResults();
+    AtomicLong version = getNoteVersion(note.getId());
+    synchronized (version) {
+      broadcast(note.getId(), new Message(OP.NOTE).put("note", note)
+          .put("version", version.incrementAndGet()));
+    }
+  }
+
+  /**
+   * Broadcast status change of a pending or running paragraph instead of the whole note.
+   * Progress of a running paragraph keeps being sent by PROGRESS.
+   */
+  public void broadcastParagraphStatus(Note note, Paragraph p) {
+    Message m = new Message(OP.PARAGRAPH_STATUS)
+        .put("noteId", note.getId())
+        .put("id", p.getId())
+        .put("status", p.getStatus())
+        .put("progress", 0)
+        .put("dateStarted", p.getDateStarted())
+        .put("dateFinished", p.getDateFinished())
+        .put("errorMessage", p.getErrorMessage());
+
+    AtomicLong version = getNoteVersion(note.getId());
+    synchronized (version) {
+      broadcast(note.getId(), m.put("version", version.incrementAndGet()));
+    }
   }
 
   public void broadcastInterpreterBindings(String noteId,
@@ -545,7 +632,7 @@ public class NotebookServer extends WebSocketServlet implements
         return;
       }
       addConnectionToNote(note.getId(), conn);
-      conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+      sendNoteWithVersion(conn, note);
       sendAllAngularObjects(note, conn);
     } else {
       conn.send(serializeMessage(new Message(OP.NOTE).put("note", null)));
@@ -569,7 +656,7 @@ public class NotebookServer extends WebSocketServlet implements
         return;
       }
       addConnectionToNote(note.getId(), conn);
-      conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
+      sendNoteWithVersion(conn, note);
       sendAllAngularObjects(note, conn);
     } else {
       removeConnectionFromAllNote(conn);
@@ -848,7 +935,7 @@ public class NotebookServer extends WebSocketServlet implements
 
     if (global) { // broadcast change to all web session that uses related
       // interpreter.
-      for (Note n : notebook.getAllNotes()) {
+      for (NoteInfo n : notebook.getAllNoteInfos()) {
         List<InterpreterSetting> settings = notebook.getInterpreterFactory()
             .getInterpreterSettings(note.getId());
         for (InterpreterSetting setting : settings) {
@@ -1134,6 +1221,8 @@ public class NotebookServer extends WebSocketServlet implements
     if (!(text.trim().equals(p.getMagic()) || Strings.isNullOrEmpty(text)) &&
         isTheLastParagraph) {
       note.addParagraph();
+      // new paragraph is not in the status update of the running paragraph
+      broadcastNote(note);
     }
 
     AuthenticationInfo subject = new AuthenticationInfo(fromMessage.principal);
@@ -1219,7 +1308,7 @@ public class NotebookServer extends WebSocketServlet implements
             .put("noteId", noteId)
             .put("paragraphId", paragraphId)
             .put("data", output);
-    broadcast(noteId, msg);
+    broadcastParagraphOutput(noteId, paragraphId, msg, true);
   }
 
   /**
@@ -1234,7 +1323,7 @@ public class NotebookServer extends WebSocketServlet implements
             .put("noteId", noteId)
             .put("paragraphId", paragraphId)
             .put("data", output);
-    broadcast(noteId, msg);
+    broadcastParagraphOutput(noteId, paragraphId, msg, false);
   }
 
   /**
@@ -1333,7 +1422,15 @@ public class NotebookServer extends WebSocketServlet implements
           LOG.error(e.toString(), e);
         }
       }
-      notebookServer.broadcastNote(note);
+
+      // terminated paragraph sends the whole note: the run may have rebuilt the paragraph
+      // forms, and clients whose note has no version ignore PARAGRAPH_STATUS
+      Paragraph p = note.getParagraph(job.getId());
+      if (p == null || job.isTerminated()) {
+        notebookServer.broadcastNote(note);
+      } else {
+        notebookServer.broadcastParagraphStatus(note, p);
+      }
     }
 
     /**
@@ -1349,7 +1446,8 @@ public class NotebookServer extends WebSocketServlet implements
               .put("paragraphId", paragraph.getId())
               .put("data", output);
 
-      notebookServer.broadcast(paragraph.getNote().getId(), msg);
+      notebookServer.broadcastParagraphOutput(paragraph.getNote().getId(), paragraph.getId(),
+          msg, true);
     }
 
     /**
@@ -1365,7 +1463,8 @@ public class NotebookServer extends WebSocketServlet implements
               .put("paragraphId", paragraph.getId())
               .put("data", output);
 
-      notebookServer.broadcast(paragraph.getNote().getId(), msg);
+      notebookServer.broadcastParagraphOutput(paragraph.getNote().getId(), paragraph.getId(),
+          msg, false);
     }
   }
 
@@ -1409,24 +1508,31 @@ public class NotebookServer extends WebSocketServlet implements
       return;
     }
 
-    List<Note> notes = notebook.getAllNotes();
-    for (Note note : notes) {
-      if (object.getNoteId() != null && !note.getId().equals(object.getNoteId())) {
+    // only notes opened by someone need the update
+    List<String> noteIds;
+    if (object.getNoteId() != null) {
+      noteIds = Arrays.asList(object.getNoteId());
+    } else {
+      noteIds = new ArrayList<>(noteSocketMap.keySet());
+    }
+
+    for (String noteId : noteIds) {
+      if (!noteSocketMap.containsKey(noteId)) {
         continue;
       }
 
       List<InterpreterSetting> intpSettings = notebook.getInterpreterFactory()
-          .getInterpreterSettings(note.getId());
+          .getInterpreterSettings(noteId);
       if (intpSettings.isEmpty()) {
         continue;
       }
 
       broadcast(
-          note.getId(),
+          noteId,
           new Message(OP.ANGULAR_OBJECT_UPDATE)
               .put("angularObject", object)
               .put("interpreterGroupId", interpreterGroupId)
-              .put("noteId", note.getId())
+              .put("noteId", noteId)
               .put("paragraphId", object.getParagraphId()));
     }
   }
@@ -1434,8 +1540,8 @@ public class NotebookServer extends WebSocketServlet implements
   @Override
   public void onRemove(String interpreterGroupId, String name, String noteId, String paragraphId) {
     Notebook notebook = notebook();
-    List<Note> notes = notebook.getAllNotes();
-    for (Note note : notes) {
+    List<NoteInfo> notes = notebook.getAllNoteInfos();
+    for (NoteInfo note : notes) {
       if (noteId != null && !note.getId().equals(noteId)) {
         continue;
       }
@@ -17,31 +17,56 @@
 package org.apache.zeppelin.socket;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedList;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Notebook websocket
+ *
+ * Messages are written asynchronously from a bounded per connection queue,
+ * so a slow client does not block threads that broadcast to other clients.
  */
 public class NotebookSocket extends WebSocketAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(NotebookSocket.class);
+  public static final int DEFAULT_MAX_SEND_QUEUE_SIZE = 1000;
 
   private Session connection;
   private NotebookSocketListener listener;
   private HttpServletRequest request;
   private String protocol;
 
+  private final int maxSendQueueSize;
+  private final LinkedList<Frame> sendQueue = new LinkedList<>();
+  // true while a thread is writing or a write is in flight
+  private boolean sending = false;
+
   public NotebookSocket(HttpServletRequest req, String protocol,
       NotebookSocketListener listener) {
+    this(req, protocol, listener, DEFAULT_MAX_SEND_QUEUE_SIZE);
+  }
+
+  public NotebookSocket(HttpServletRequest req, String protocol,
+      NotebookSocketListener listener, int maxSendQueueSize) {
     this.listener = listener;
     this.request = req;
     this.protocol = protocol;
+    this.maxSendQueueSize = maxSendQueueSize;
   }
 
   @Override
   public void onWebSocketClose(int closeCode, String message) {
+    synchronized (sendQueue) {
+      sendQueue.clear();
+    }
     listener.onClose(this, closeCode, message);
   }
 
@@ -66,7 +91,160 @@ public class NotebookSocket extends WebSocketAdapter {
   }
 
   public void send(String serializeMessage) throws IOException {
-    connection.getRemote().sendString(serializeMessage);
+    enqueue(new Frame(serializeMessage, null, false));
+  }
+
+  /**
+   * Send paragraph output.
+   * Queued output append of a paragraph can be dropped when client can't keep up,
+   * and is dropped when output update of the same paragraph replaces it.
+   * @param paragraphId paragraph that output belongs to
+   * @param serializeMessage message to send
+   * @param append true when the message appends output, false when it replaces output
+   */
+  public void sendOutput(String paragraphId, String serializeMessage, boolean append)
+      throws IOException {
+    if (!append) {
+      synchronized (sendQueue) {
+        Iterator<Frame> it = sendQueue.iterator();
+        while (it.hasNext()) {
+          if (paragraphId.equals(it.next().appendOutputOf)) {
+            it.remove();
+          }
+        }
+      }
+    }
+    enqueue(new Frame(serializeMessage, paragraphId, append));
+  }
+
+  private void enqueue(Frame frame) {
+    synchronized (sendQueue) {
+      if (sendQueue.size() < maxSendQueueSize || dropOutputAppend()) {
+        sendQueue.add(frame);
+        if (sending) {
+          return;
+        }
+        sending = true;
+      } else if (frame.appendOutputOf != null) {
+        // client can't keep up. drop the output append
+        return;
+      } else {
+        sendQueue.clear();
+        frame = null;
+      }
+    }
+
+    if (frame == null) {
+      // queue is full of messages that can't be dropped. client is not reading them anyway.
+      LOG.warn("Send queue of {} : {} is full. Close connection", request.getRemoteAddr(),
+          request.getRemotePort());
+      if (connection != null) {
+        connection.close(StatusCode.POLICY_VIOLATION, "Send queue is full");
+      }
+    } else {
+      writeQueue();
+    }
+  }
+
+  /**
+   * Make room in the queue by dropping the oldest output append
+   * @return true when a frame is dropped
+   */
+  private boolean dropOutputAppend() {
+    Iterator<Frame> it = sendQueue.iterator();
+    while (it.hasNext()) {
+      if (it.next().appendOutputOf != null) {
+        it.remove();
+        return true;
+      }
+    }
+    return false;
   }
 
+  /**
+   * Write queued frames one by one. Only the thread that set 'sending' calls this.
+   * Returns when the queue is empty, or when a write is in flight. In the latter case
+   * the write callback continues.
+   */
+  private void writeQueue() {
+    while (true) {
+      Frame frame;
+      synchronized (sendQueue) {
+        frame = sendQueue.poll();
+        if (frame == null || connection == null || !connection.isOpen()) {
+          sendQueue.clear();
+          sending = false;
+          return;
+        }
+      }
+
+      FrameWriteCallback callback = new FrameWriteCallback();
+      try {
+        connection.getRemote().sendString(frame.text, callback);
+      } catch (RuntimeException e) {
+        callback.writeFailed(e);
+      }
+      if (!callback.continueWhenComplete()) {
+        return;
+      }
+    }
+  }
+
+  private void writeFailed(Throwable t) {
+    LOG.error("socket error", t);
+    synchronized (sendQueue) {
+      sendQueue.clear();
+      sending = false;
+    }
+  }
+
+  private static class Frame {
+    final String text;
+    // paragraph id when this frame appends output
+    final String appendOutputOf;
+
+    Frame(String text, String paragraphId, boolean append) {
+      this.text = text;
+      this.appendOutputOf = append ? paragraphId : null;
+    }
+  }
+
+  private class FrameWriteCallback implements WriteCallback {
+    private boolean completed = false;
+    private boolean failed = false;
+    private boolean async = false;
+
+    /**
+     * @return true when write already finished successfully and caller should write next frame.
+     * Otherwise the callback writes next frame when the write completes.
+     */
+    synchronized boolean continueWhenComplete() {
+      if (completed) {
+        return !failed;
+      }
+      async = true;
+      return false;
+    }
+
+    @Override
+    public void writeFailed(Throwable t) {
+      synchronized (this) {
+        completed = true;
+        failed = true;
+      }
+      NotebookSocket.this.writeFailed(t);
+    }
+
+    @Override
+    public void writeSuccess() {
+      boolean continueWrite;
+      synchronized (this) {
+        completed = true;
+        continueWrite = async;
+      }
+      if (continueWrite) {
+        writeQueue();
+      }
+    }
+  }
 }
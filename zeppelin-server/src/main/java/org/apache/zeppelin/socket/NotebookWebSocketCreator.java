@@ -16,6 +16,7 @@
  */
 package org.apache.zeppelin.socket;
 
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.eclipse.jetty.websocket.servlet.WebSocketCreator;
@@ -30,7 +31,8 @@ public class NotebookWebSocketCreator implements WebSocketCreator {
     this.notebookServer = notebookServer;
   }
   public Object createWebSocket(ServletUpgradeRequest request, ServletUpgradeResponse response) {
-    return new NotebookSocket(request.getHttpServletRequest(), "", notebookServer);
+    return new NotebookSocket(request.getHttpServletRequest(), "", notebookServer,
+        ZeppelinConfiguration.create().getWebsocketMaxSendQueueSize());
   }
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class NotebookSocketTest {
+  private Session session;
+  private List<String> sent;
+  private List<WriteCallback> pendingCallbacks;
+
+  @Before
+  public void setUp() {
+    sent = new LinkedList<>();
+    pendingCallbacks = new LinkedList<>();
+
+    // remote endpoint that never completes write until completeWrites() is called
+    RemoteEndpoint remote = mock(RemoteEndpoint.class);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        sent.add((String) invocation.getArguments()[0]);
+        pendingCallbacks.add((WriteCallback) invocation.getArguments()[1]);
+        return null;
+      }
+    }).when(remote).sendString(anyString(), any(WriteCallback.class));
+
+    session = mock(Session.class);
+    when(session.getRemote()).thenReturn(remote);
+    when(session.isOpen()).thenReturn(true);
+  }
+
+  private NotebookSocket createSocket(int maxSendQueueSize) {
+    NotebookSocket socket = new NotebookSocket(mock(HttpServletRequest.class), "",
+        mock(NotebookSocketListener.class), maxSendQueueSize);
+    socket.onWebSocketConnect(session);
+    return socket;
+  }
+
+  private void completeWrites() {
+    while (!pendingCallbacks.isEmpty()) {
+      pendingCallbacks.remove(0).writeSuccess();
+    }
+  }
+
+  @Test
+  public void testSendInOrder() throws IOException {
+    NotebookSocket socket = createSocket(10);
+    socket.send("1");
+    socket.send("2");
+    socket.send("3");
+
+    // only one write in flight
+    assertEquals(1, sent.size());
+
+    completeWrites();
+    assertEquals(asList("1", "2", "3"), sent);
+  }
+
+  @Test
+  public void testOutputUpdateDropsQueuedAppend() throws IOException {
+    NotebookSocket socket = createSocket(10);
+    socket.send("first");
+    socket.sendOutput("p1", "append1", true);
+    socket.sendOutput("p2", "append2", true);
+    socket.sendOutput("p1", "update1", false);
+
+    completeWrites();
+    assertEquals(asList("first", "append2", "update1"), sent);
+  }
+
+  @Test
+  public void testDropAppendWhenQueueIsFull() throws IOException {
+    NotebookSocket socket = createSocket(2);
+    socket.send("first");
+    socket.sendOutput("p1", "append1", true);
+    socket.send("second");
+    socket.send("third");
+    socket.sendOutput("p1", "append2", true);
+
+    completeWrites();
+    assertEquals(asList("first", "second", "third"), sent);
+  }
+
+  @Test
+  public void testCloseWhenQueueIsFull() throws IOException {
+    NotebookSocket socket = createSocket(2);
+    socket.send("first");
+    socket.send("second");
+    socket.send("third");
+    socket.send("fourth");
+
+    verify(session).close(anyInt(), anyString());
+  }
+}
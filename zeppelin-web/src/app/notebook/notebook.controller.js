@@ -803,11 +803,13 @@ angular.module('zeppelinWebApp').controller('NotebookCtrl', function($scope, $ro
     websocketMsgSrv.insertParagraph(newIndex);
   });
 
-  $scope.$on('setNoteContent', function(event, note) {
+  $scope.$on('setNoteContent', function(event, note, version) {
     if (note === undefined) {
       $location.path('/');
     }
 
+    $scope.noteVersion = version;
+
     $scope.paragraphUrl = $routeParams.paragraphId;
     $scope.asIframe = $routeParams.asIframe;
     if ($scope.paragraphUrl) {
@@ -825,6 +827,38 @@ angular.module('zeppelinWebApp').controller('NotebookCtrl', function($scope, $ro
     getInterpreterBindings();
   });
 
+  $scope.$on('updateParagraphStatus', function(event, data) {
+    // waiting for note content
+    if (!$scope.note || data.noteId !== $scope.note.id || $scope.noteVersion === undefined ||
+        $scope.noteVersion === null) {
+      return;
+    }
+
+    // missed an update. reload the whole note
+    if (data.version !== $scope.noteVersion + 1) {
+      $scope.noteVersion = null;
+      websocketMsgSrv.getNotebook($scope.note.id);
+      return;
+    }
+    $scope.noteVersion = data.version;
+
+    var paragraph = _.find($scope.note.paragraphs, {id: data.id});
+    if (!paragraph) {
+      return;
+    }
+
+    var updatedParagraph = angular.copy(paragraph);
+    updatedParagraph.status = data.status;
+    updatedParagraph.dateStarted = data.dateStarted;
+    updatedParagraph.dateFinished = data.dateFinished;
+    updatedParagraph.errorMessage = data.errorMessage;
+
+    $scope.$broadcast('updateParagraph', {
+      note: $scope.note, // pass the note object to paragraph scope
+      paragraph: updatedParagraph});
+    $scope.$broadcast('updateProgress', {id: data.id, progress: data.progress});
+  });
+
   $scope.$on('$destroy', function() {
     angular.element(window).off('beforeunload');
     $scope.killSaveTimer();
@@ -55,7 +55,7 @@ angular.module('zeppelinWebApp').factory('websocketEvents',
     var op = payload.op;
     var data = payload.data;
     if (op === 'NOTE') {
-      $rootScope.$broadcast('setNoteContent', data.note);
+      $rootScope.$broadcast('setNoteContent', data.note, data.version);
     } else if (op === 'NEW_NOTE') {
       $location.path('/notebook/' + data.note.id);
     } else if (op === 'NOTES_INFO') {
@@ -93,6 +93,8 @@ angular.module('zeppelinWebApp').factory('websocketEvents',
       $rootScope.$broadcast('appendParagraphOutput', data);
     } else if (op === 'PARAGRAPH_UPDATE_OUTPUT') {
       $rootScope.$broadcast('updateParagraphOutput', data);
+    } else if (op === 'PARAGRAPH_STATUS') {
+      $rootScope.$broadcast('updateParagraphStatus', data);
     } else if (op === 'PROGRESS') {
       $rootScope.$broadcast('updateProgress', data);
     } else if (op === 'COMPLETION_LIST') {
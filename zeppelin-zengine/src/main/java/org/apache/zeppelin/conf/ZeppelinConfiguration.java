@@ -27,6 +27,7 @@ import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.XMLConfiguration;
 import org.apache.commons.configuration.tree.ConfigurationNode;
 import org.apache.zeppelin.notebook.repo.VFSNotebookRepo;
+import org.apache.zeppelin.notebook.repo.VFSResultStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -435,6 +436,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE);
   }
 
+  public int getWebsocketMaxSendQueueSize() {
+    return getInt(ConfVars.ZEPPELIN_WEBSOCKET_MAX_SEND_QUEUE_SIZE);
+  }
+
   public Map<String, String> dumpConfigurations(ZeppelinConfiguration conf,
                                                 ConfigurationKeyPredicate predicate) {
     Map<String, String> configurations = new HashMap<>();
@@ -529,6 +534,30 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_INTERPRETER_LOCALREPO("zeppelin.interpreter.localRepo", "local-repo"),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 30000),
     ZEPPELIN_INTERPRETER_MAX_POOL_SIZE("zeppelin.interpreter.max.poolsize", 10),
+    ZEPPELIN_INTERPRETER_OUTPUT_LIMIT("zeppelin.interpreter.output.limit", 102400),
+    ZEPPELIN_INTERPRETER_OUTPUT_COALESCE_BYTES("zeppelin.interpreter.output.coalesce.bytes", 65536),
+    ZEPPELIN_INTERPRETER_OUTPUT_COALESCE_MS("zeppelin.interpreter.output.coalesce.ms", 0),
+    // angular object updates are held up to this (ms) and sent in a batch. last value wins
+    ZEPPELIN_INTERPRETER_ANGULAR_UPDATE_MS("zeppelin.interpreter.angular.update.ms", 0),
+    ZEPPELIN_INTERPRETER_RESULT_CHUNK_SIZE("zeppelin.interpreter.result.chunk.size", 1048576),
+    ZEPPELIN_INTERPRETER_RESULT_LIMIT("zeppelin.interpreter.result.limit", 10485760),
+    // "socket" or "framed"
+    ZEPPELIN_INTERPRETER_THRIFT_TRANSPORT("zeppelin.interpreter.thrift.transport", "socket"),
+    // started processes kept per interpreter setting of a process per note. 0 disables
+    ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE("zeppelin.interpreter.process.pool.size", 0),
+    ZEPPELIN_INTERPRETER_PROCESS_POOL_TTL("zeppelin.interpreter.process.pool.ttl", 600000L),
+    // 0 to keep idle interpreters open
+    ZEPPELIN_INTERPRETER_IDLE_TIMEOUT("zeppelin.interpreter.idle.timeout", 0L),
+    // codec of resource values passed between interpreter processes. see ResourceCodec
+    ZEPPELIN_INTERPRETER_RESOURCE_CODEC("zeppelin.interpreter.resource.codec", "java"),
+    ZEPPELIN_INTERPRETER_RESOURCE_COMPRESS("zeppelin.interpreter.resource.compress", false),
+    ZEPPELIN_INTERPRETER_RESOURCE_TIMEOUT("zeppelin.interpreter.resource.timeout", 60000),
+    // limits of resource pool of an interpreter group. 0 for no limit, empty not to spill
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_MAX_BYTES("zeppelin.interpreter.resource.pool.max.bytes",
+        0L),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_TTL("zeppelin.interpreter.resource.pool.ttl", 0L),
+    ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR("zeppelin.interpreter.resource.pool.spill.dir",
+        ""),
     ZEPPELIN_INTERPRETER_GROUP_ORDER("zeppelin.interpreter.group.order", "spark,md,angular,sh,"
         + "livy,alluxio,file,psql,flink,python,ignite,lens,cassandra,geode,kylin,elasticsearch,"
         + "scalding,jdbc,hbase,bigquery"),
@@ -548,6 +577,21 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_AZURE_USER("zeppelin.notebook.azure.user", "user"),
     ZEPPELIN_NOTEBOOK_STORAGE("zeppelin.notebook.storage", VFSNotebookRepo.class.getName()),
     ZEPPELIN_NOTEBOOK_ONE_WAY_SYNC("zeppelin.notebook.one.way.sync", false),
+    // maximum number of notes kept in memory. running notes and notes with cron are always kept
+    ZEPPELIN_NOTEBOOK_CACHE_SIZE("zeppelin.notebook.cache.size", 500),
+    ZEPPELIN_NOTEBOOK_RESULT_STORE("zeppelin.notebook.result.store",
+        VFSResultStore.class.getName()),
+    // empty means [zeppelin.notebook.dir]/.results
+    ZEPPELIN_NOTEBOOK_RESULT_STORE_DIR("zeppelin.notebook.result.store.dir", ""),
+    // results larger than this (in chars) are kept out of note.json. 0 disables.
+    ZEPPELIN_NOTEBOOK_RESULT_STORE_THRESHOLD("zeppelin.notebook.result.store.threshold", 65536),
+    // empty keeps the search index in memory and rebuilds it on every start
+    ZEPPELIN_SEARCH_INDEX_DIR("zeppelin.search.index.dir", ""),
+    // search index changes are committed every interval (ms) or every batch changes
+    ZEPPELIN_SEARCH_COMMIT_INTERVAL("zeppelin.search.commit.interval", 5000),
+    ZEPPELIN_SEARCH_COMMIT_BATCH("zeppelin.search.commit.batch", 1000),
+    // notes waiting to be indexed in background. 0 indexes on the thread saving the note
+    ZEPPELIN_SEARCH_QUEUE_SIZE("zeppelin.search.queue.size", 1000),
     ZEPPELIN_INTERPRETER_REMOTE_RUNNER("zeppelin.interpreter.remoterunner",
         System.getProperty("os.name")
                 .startsWith("Windows") ? "bin/interpreter.cmd" : "bin/interpreter.sh"),
@@ -561,7 +605,8 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_ALLOWED_ORIGINS("zeppelin.server.allowed.origins", "*"),
     ZEPPELIN_ANONYMOUS_ALLOWED("zeppelin.anonymous.allowed", true),
     ZEPPELIN_CREDENTIALS_PERSIST("zeppelin.credentials.persist", true),
-    ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "1024000");
+    ZEPPELIN_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE("zeppelin.websocket.max.text.message.size", "1024000"),
+    ZEPPELIN_WEBSOCKET_MAX_SEND_QUEUE_SIZE("zeppelin.websocket.max.send.queue.size", 1000);
 
     private String varName;
     @SuppressWarnings("rawtypes")
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.scheduler.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Closes interpreters not used for a while, so idle sessions don't hold memory and
+ * interpreter processes. Closed interpreters are created and opened again on the next run.
+ *
+ * A session is used when a paragraph gets its interpreters, and while one of them has a job
+ * running or waiting. When all sessions of an interpreter group are idle, the group is
+ * removed and its remote interpreter process is dereferenced. Otherwise only the idle
+ * sessions are removed, when the setting has a session per note.
+ */
+public class IdleInterpreterEvictor {
+  private static final Logger logger = LoggerFactory.getLogger(IdleInterpreterEvictor.class);
+
+  private final InterpreterFactory factory;
+  private final long timeoutMs;
+  private final ScheduledExecutorService executor;
+
+  /**
+   * @param factory interpreter factory to evict idle interpreters of
+   * @param timeoutMs remove a session not used in this time
+   */
+  public IdleInterpreterEvictor(InterpreterFactory factory, long timeoutMs) {
+    this.factory = factory;
+    this.timeoutMs = timeoutMs;
+    executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "IdleInterpreterEvictor");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    long interval = Math.max(1000, Math.min(timeoutMs, 60 * 1000));
+    executor.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          evict(System.currentTimeMillis());
+        } catch (Exception e) {
+          logger.error("Failed to evict idle interpreters", e);
+        }
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Remove sessions idle longer than timeout at the given time
+   */
+  void evict(long now) {
+    for (InterpreterSetting setting : factory.get()) {
+      for (InterpreterGroup group : setting.getAllInterpreterGroups()) {
+        evict(setting, group, now);
+      }
+    }
+  }
+
+  private void evict(InterpreterSetting setting, InterpreterGroup group, long now) {
+    List<String> sessions = new LinkedList<>(group.keySet());
+    List<String> idleSessions = new LinkedList<>();
+    for (String session : sessions) {
+      if (isBusy(group.get(session)) || group.getLastActivity(session) == 0) {
+        group.touch(session);
+      } else if (isIdle(group, session, now)) {
+        idleSessions.add(session);
+      }
+    }
+    if (idleSessions.isEmpty()) {
+      return;
+    }
+
+    // check again and take the interpreters out of use under the lock InterpreterFactory holds
+    // while handing out and touching interpreters, so a paragraph can't get them meanwhile.
+    // they're closed after the lock is released, as closing an interpreter takes the lock.
+    if (idleSessions.size() == sessions.size()) {
+      boolean removed = false;
+      synchronized (group) {
+        if (group.keySet().size() == sessions.size() && isIdle(group, sessions, now)) {
+          removed = setting.removeInterpreterGroup(group);
+        }
+      }
+      if (removed) {
+        logger.info("Remove interpreter group {}, idle for {} ms", group.getId(), timeoutMs);
+        group.close();
+        group.destroy();
+        return;
+      }
+    }
+
+    if (setting.getOption().isPerNoteSession()) {
+      for (String session : idleSessions) {
+        synchronized (group) {
+          if (!group.containsKey(session) || !isIdle(group, session, now)) {
+            continue;
+          }
+          group.setRemoving(session);
+        }
+        logger.info("Remove interpreters of {} for note {}, idle for {} ms",
+            setting.getName(), session, timeoutMs);
+        factory.removeInterpretersForNote(setting, session);
+      }
+    }
+  }
+
+  private boolean isIdle(InterpreterGroup group, List<String> sessions, long now) {
+    for (String session : sessions) {
+      if (!isIdle(group, session, now)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isIdle(InterpreterGroup group, String session, long now) {
+    return now - group.getLastActivity(session) > timeoutMs;
+  }
+
+  /**
+   * Interpreters not opened yet are not asked, not to start their process
+   */
+  private boolean isBusy(List<Interpreter> interpreters) {
+    if (interpreters == null) {
+      return false;
+    }
+    for (Interpreter intp : interpreters) {
+      if (intp instanceof LazyOpenInterpreter && !((LazyOpenInterpreter) intp).isOpen()) {
+        continue;
+      }
+      Scheduler scheduler = intp.getScheduler();
+      if (scheduler != null
+          && (!scheduler.getJobsRunning().isEmpty() || !scheduler.getJobsWaiting().isEmpty())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -74,7 +74,9 @@ import org.apache.zeppelin.interpreter.dev.DevInterpreter;
 import org.apache.zeppelin.interpreter.dev.ZeppelinDevServer;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
+import org.apache.zeppelin.resource.ResourceCodecs;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 
@@ -122,6 +124,12 @@ public class InterpreterFactory implements InterpreterGroupFactory {
 
   private Interpreter devInterpreter;
 
+  // started processes of settings with a process per note. null when disabled
+  private InterpreterProcessPool processPool;
+
+  // closes interpreters not used for a while. null when disabled
+  private IdleInterpreterEvictor idleEvictor;
+
   public InterpreterFactory(ZeppelinConfiguration conf,
       AngularObjectRegistryListener angularObjectRegistryListener,
       RemoteInterpreterProcessListener remoteInterpreterProcessListener,
@@ -153,7 +161,22 @@ public class InterpreterFactory implements InterpreterGroupFactory {
     builder.setPrettyPrinting();
     gson = builder.create();
 
+    int processPoolSize = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_PROCESS_POOL_SIZE);
+    if (processPoolSize > 0) {
+      processPool = new InterpreterProcessPool(processPoolSize,
+          conf.getLong(ConfVars.ZEPPELIN_INTERPRETER_PROCESS_POOL_TTL));
+    }
+
+    // for resources of interpreters running in this process
+    ResourceCodecs.setDefault(conf.getString(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CODEC),
+        conf.getBoolean(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_COMPRESS));
+
     init();
+
+    long idleTimeout = conf.getLong(ConfVars.ZEPPELIN_INTERPRETER_IDLE_TIMEOUT);
+    if (idleTimeout > 0) {
+      idleEvictor = new IdleInterpreterEvictor(this, idleTimeout);
+    }
   }
 
   private void init() throws InterpreterException, IOException, RepositoryException {
@@ -666,6 +689,10 @@ public class InterpreterFactory implements InterpreterGroupFactory {
     }
 
     logger.info("Create interpreter instance {} for note {}", interpreterSetting.getName(), noteId);
+    if (processPool != null && option.isRemote() && option.isPerNoteProcess()
+        && !option.isConnectExistingProcess()) {
+      claimProcess(interpreterSetting, interpreterGroup, key);
+    }
 
     List<InterpreterInfo> interpreterInfos = interpreterSetting.getInterpreterInfos();
     String path = interpreterSetting.getPath();
@@ -702,7 +729,36 @@ public class InterpreterFactory implements InterpreterGroupFactory {
   }
 
 
+  /**
+   * Give the interpreter group a started process from the pool, if it doesn't have one
+   */
+  private void claimProcess(final InterpreterSetting interpreterSetting,
+      InterpreterGroup interpreterGroup, final String key) {
+    synchronized (interpreterGroup) {
+      if (interpreterGroup.getRemoteInterpreterProcess() != null) {
+        return;
+      }
+      RemoteInterpreterProcess process = processPool.claim(interpreterSetting.getId(),
+          new InterpreterProcessPool.ProcessFactory() {
+            @Override
+            public RemoteInterpreterProcess create() {
+              InterpreterInfo info = interpreterSetting.getInterpreterInfos().get(0);
+              RemoteInterpreter interpreter = newRemoteInterpreter(interpreterSetting.getPath(),
+                  key, info.getClassName(), interpreterSetting.getProperties(),
+                  interpreterSetting.getId());
+              return interpreter.createInterpreterProcess();
+            }
+          });
+      if (process != null) {
+        interpreterGroup.setRemoteInterpreterProcess(process);
+      }
+    }
+  }
+
   public void remove(String id) throws IOException {
+    if (processPool != null) {
+      processPool.clear(id);
+    }
     synchronized (interpreterSettings) {
       if (interpreterSettings.containsKey(id)) {
         InterpreterSetting intp = interpreterSettings.get(id);
@@ -843,6 +899,9 @@ public class InterpreterFactory implements InterpreterGroupFactory {
         stopJobAllInterpreter(intpsetting);
 
         intpsetting.closeAndRmoveAllInterpreterGroups();
+        if (processPool != null) {
+          processPool.clear(id);
+        }
 
         intpsetting.setOption(option);
         intpsetting.setProperties(properties);
@@ -864,6 +923,9 @@ public class InterpreterFactory implements InterpreterGroupFactory {
         stopJobAllInterpreter(intpsetting);
 
         intpsetting.closeAndRmoveAllInterpreterGroups();
+        if (processPool != null) {
+          processPool.clear(id);
+        }
 
       } else {
         throw new InterpreterException("Interpreter setting id " + id + " not found");
@@ -893,6 +955,12 @@ public class InterpreterFactory implements InterpreterGroupFactory {
   }
 
   public void close() {
+    if (idleEvictor != null) {
+      idleEvictor.close();
+    }
+    if (processPool != null) {
+      processPool.close();
+    }
     List<Thread> closeThreads = new LinkedList<>();
     synchronized (interpreterSettings) {
       Collection<InterpreterSetting> intpsettings = interpreterSettings.values();
@@ -978,14 +1046,21 @@ public class InterpreterFactory implements InterpreterGroupFactory {
       Properties property) {
     int connectTimeout = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT);
     int maxPoolSize = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE);
-    LazyOpenInterpreter intp = new LazyOpenInterpreter(
+    RemoteInterpreter remoteInterpreter =
         new RemoteInterpreter(property, noteId, className, host, port, connectTimeout, maxPoolSize,
-            remoteInterpreterProcessListener, appEventListener));
-    return intp;
+            remoteInterpreterProcessListener, appEventListener);
+    setOutputConfig(remoteInterpreter);
+    return new LazyOpenInterpreter(remoteInterpreter);
   }
 
   private Interpreter createRemoteRepl(String interpreterPath, String noteId, String className,
       Properties property, String interpreterSettingId) {
+    return new LazyOpenInterpreter(
+        newRemoteInterpreter(interpreterPath, noteId, className, property, interpreterSettingId));
+  }
+
+  private RemoteInterpreter newRemoteInterpreter(String interpreterPath, String noteId,
+      String className, Properties property, String interpreterSettingId) {
     int connectTimeout = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT);
     String localRepoPath = conf.getInterpreterLocalRepoPath() + "/" + interpreterSettingId;
     int maxPoolSize = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_MAX_POOL_SIZE);
@@ -995,8 +1070,33 @@ public class InterpreterFactory implements InterpreterGroupFactory {
             interpreterPath, localRepoPath, connectTimeout, maxPoolSize,
             remoteInterpreterProcessListener, appEventListener);
     remoteInterpreter.setEnv(env);
+    setOutputConfig(remoteInterpreter);
 
-    return new LazyOpenInterpreter(remoteInterpreter);
+    return remoteInterpreter;
+  }
+
+  private void setOutputConfig(RemoteInterpreter remoteInterpreter) {
+    remoteInterpreter.setOutputConfig(
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_LIMIT),
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_COALESCE_BYTES),
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_COALESCE_MS));
+    remoteInterpreter.setResultConfig(
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_RESULT_CHUNK_SIZE),
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_RESULT_LIMIT));
+    remoteInterpreter.setAngularObjectUpdateMs(
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_ANGULAR_UPDATE_MS));
+    remoteInterpreter.setThriftTransport(
+        conf.getString(ConfVars.ZEPPELIN_INTERPRETER_THRIFT_TRANSPORT));
+    remoteInterpreter.setResourceCodec(
+        conf.getString(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_CODEC),
+        conf.getBoolean(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_COMPRESS));
+    remoteInterpreter.setResourceTimeoutMs(
+        conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_TIMEOUT));
+    String spillDir = conf.getString(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_SPILL_DIR);
+    remoteInterpreter.setResourcePoolLimits(
+        conf.getLong(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_MAX_BYTES),
+        conf.getLong(ConfVars.ZEPPELIN_INTERPRETER_RESOURCE_POOL_TTL),
+        StringUtils.isBlank(spillDir) ? null : conf.getRelativeDir(spillDir));
   }
 
   /**
@@ -1055,13 +1155,21 @@ public class InterpreterFactory implements InterpreterGroupFactory {
   }
 
   private List<Interpreter> createOrGetInterpreterList(String noteId, InterpreterSetting setting) {
-    InterpreterGroup interpreterGroup = setting.getInterpreterGroup(noteId);
-    synchronized (interpreterGroup) {
-      String key = getInterpreterInstanceKey(noteId, setting);
-      if (!interpreterGroup.containsKey(key)) {
-        createInterpretersForNote(setting, noteId, key);
+    while (true) {
+      InterpreterGroup interpreterGroup = setting.getInterpreterGroup(noteId);
+      synchronized (interpreterGroup) {
+        // IdleInterpreterEvictor may have removed the group while waiting for the lock
+        if (!setting.hasInterpreterGroup(interpreterGroup)) {
+          continue;
+        }
+        String key = getInterpreterInstanceKey(noteId, setting);
+        if (!interpreterGroup.containsKey(key) || interpreterGroup.isRemoving(key)) {
+          // waits until interpreters being removed are removed
+          createInterpretersForNote(setting, noteId, key);
+        }
+        interpreterGroup.touch(key);
+        return interpreterGroup.get(getInterpreterInstanceKey(noteId, setting));
       }
-      return interpreterGroup.get(getInterpreterInstanceKey(noteId, setting));
     }
   }
 
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Interpreter processes started ahead, so a note doesn't wait for its own process to start
+ * on the first paragraph. For interpreter settings running a process per note.
+ *
+ * Processes of a setting are started when a process of the setting is claimed for the first
+ * time, and claimed processes are replaced in the background. A process not claimed within
+ * ttl is stopped, and the setting is not warmed up again until the next claim.
+ */
+public class InterpreterProcessPool {
+  private static final Logger logger = LoggerFactory.getLogger(InterpreterProcessPool.class);
+
+  /**
+   * Creates a process of an interpreter setting. The pool starts it
+   */
+  public interface ProcessFactory {
+    RemoteInterpreterProcess create();
+  }
+
+  private final int size;
+  private final long ttlMs;
+  // started and starting processes, by interpreter setting id
+  private final Map<String, List<WarmProcess>> processes = new HashMap<>();
+  private final ExecutorService starter;
+  private final ScheduledExecutorService reaper;
+
+  private static class WarmProcess {
+    final RemoteInterpreterProcess process;
+    // 0 while the process is starting
+    volatile long readyAt = 0;
+
+    WarmProcess(RemoteInterpreterProcess process) {
+      this.process = process;
+    }
+  }
+
+  /**
+   * @param size number of processes kept started per interpreter setting
+   * @param ttlMs stop a started process not claimed in this time
+   */
+  public InterpreterProcessPool(int size, long ttlMs) {
+    this.size = size;
+    this.ttlMs = ttlMs;
+    starter = Executors.newCachedThreadPool(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "InterpreterProcessPoolStarter");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    reaper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, "InterpreterProcessPoolReaper");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    long interval = Math.max(1000, Math.min(ttlMs, 60 * 1000));
+    reaper.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        reap();
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Take a started process of the interpreter setting, and start another in its place
+   *
+   * @param settingId interpreter setting id
+   * @param factory creates processes of the setting
+   * @return started process, or null if none of the setting is ready
+   */
+  public RemoteInterpreterProcess claim(String settingId, ProcessFactory factory) {
+    RemoteInterpreterProcess claimed = null;
+    List<RemoteInterpreterProcess> dead = new LinkedList<>();
+    synchronized (processes) {
+      List<WarmProcess> warm = processes.get(settingId);
+      if (warm == null) {
+        warm = new LinkedList<>();
+        processes.put(settingId, warm);
+      }
+
+      Iterator<WarmProcess> it = warm.iterator();
+      while (it.hasNext() && claimed == null) {
+        WarmProcess p = it.next();
+        if (p.readyAt == 0) {
+          continue;
+        }
+        it.remove();
+        if (p.process.isRunning()) {
+          claimed = p.process;
+        } else {
+          dead.add(p.process);
+        }
+      }
+
+      while (warm.size() < size) {
+        start(settingId, warm, factory.create());
+      }
+    }
+
+    stop(dead);
+    if (claimed != null) {
+      logger.info("Claimed started interpreter process of {}", settingId);
+    }
+    return claimed;
+  }
+
+  private void start(final String settingId, final List<WarmProcess> warm,
+      RemoteInterpreterProcess process) {
+    final WarmProcess p = new WarmProcess(process);
+    warm.add(p);
+    starter.execute(new Runnable() {
+      @Override
+      public void run() {
+        boolean started = false;
+        try {
+          p.process.start();
+          started = RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(
+              p.process.getHost(), p.process.getPort());
+        } catch (Exception e) {
+          logger.error("Can't start interpreter process of {}", settingId, e);
+        }
+
+        synchronized (processes) {
+          if (started && processes.get(settingId) == warm && warm.contains(p)) {
+            p.readyAt = System.currentTimeMillis();
+            return;
+          }
+          warm.remove(p);
+        }
+        // failed, or the setting is cleared while starting
+        p.process.stop();
+      }
+    });
+  }
+
+  /**
+   * Stop processes not claimed in ttl
+   */
+  void reap() {
+    List<RemoteInterpreterProcess> expired = new LinkedList<>();
+    long now = System.currentTimeMillis();
+    synchronized (processes) {
+      for (List<WarmProcess> warm : processes.values()) {
+        Iterator<WarmProcess> it = warm.iterator();
+        while (it.hasNext()) {
+          WarmProcess p = it.next();
+          if (p.readyAt > 0 && (now - p.readyAt > ttlMs || !p.process.isRunning())) {
+            it.remove();
+            expired.add(p.process);
+          }
+        }
+      }
+    }
+
+    if (!expired.isEmpty()) {
+      logger.info("Stop {} interpreter processes not claimed in {} ms", expired.size(), ttlMs);
+    }
+    stop(expired);
+  }
+
+  /**
+   * Stop processes of the interpreter setting, when the setting is changed or removed
+   */
+  public void clear(String settingId) {
+    List<WarmProcess> warm;
+    synchronized (processes) {
+      warm = processes.remove(settingId);
+    }
+    stopWarm(warm);
+  }
+
+  /**
+   * @return number of started processes of the interpreter setting, ready to be claimed
+   */
+  public int getNumReady(String settingId) {
+    synchronized (processes) {
+      List<WarmProcess> warm = processes.get(settingId);
+      int ready = 0;
+      if (warm != null) {
+        for (WarmProcess p : warm) {
+          if (p.readyAt > 0) {
+            ready++;
+          }
+        }
+      }
+      return ready;
+    }
+  }
+
+  public void close() {
+    reaper.shutdownNow();
+    starter.shutdown();
+    List<WarmProcess> all = new LinkedList<>();
+    synchronized (processes) {
+      for (List<WarmProcess> warm : processes.values()) {
+        all.addAll(warm);
+      }
+      processes.clear();
+    }
+    stopWarm(all);
+  }
+
+  /**
+   * Stop started processes. The ones starting stop themselves when they find they're removed
+   */
+  private void stopWarm(List<WarmProcess> warm) {
+    if (warm == null) {
+      return;
+    }
+    List<RemoteInterpreterProcess> started = new LinkedList<>();
+    synchronized (processes) {
+      for (WarmProcess p : warm) {
+        if (p.readyAt > 0) {
+          started.add(p.process);
+        }
+      }
+    }
+    stop(started);
+  }
+
+  private void stop(List<RemoteInterpreterProcess> toStop) {
+    for (RemoteInterpreterProcess process : toStop) {
+      try {
+        process.stop();
+      } catch (Exception e) {
+        logger.error("Can't stop interpreter process", e);
+      }
+    }
+  }
+}
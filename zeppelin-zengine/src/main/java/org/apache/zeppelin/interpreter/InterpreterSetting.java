@@ -20,6 +20,7 @@ package org.apache.zeppelin.interpreter;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -138,13 +139,42 @@ public class InterpreterSetting {
     }
   }
 
-  void closeAndRmoveAllInterpreterGroups() {
+  /**
+   * Whether the interpreter group is still in use, not removed or replaced by another one
+   */
+  boolean hasInterpreterGroup(InterpreterGroup group) {
     synchronized (interpreterGroupRef) {
-      HashSet<String> groupsToRemove = new HashSet<>(interpreterGroupRef.keySet());
-      for (String key : groupsToRemove) {
-        closeAndRemoveInterpreterGroup(key);
+      return interpreterGroupRef.containsValue(group);
+    }
+  }
+
+  /**
+   * Remove the interpreter group without closing it, unless it's already replaced by another one
+   * @return true if removed
+   */
+  boolean removeInterpreterGroup(InterpreterGroup group) {
+    synchronized (interpreterGroupRef) {
+      Iterator<InterpreterGroup> it = interpreterGroupRef.values().iterator();
+      while (it.hasNext()) {
+        if (it.next() == group) {
+          it.remove();
+          return true;
+        }
       }
     }
+    return false;
+  }
+
+  void closeAndRmoveAllInterpreterGroups() {
+    HashSet<String> groupsToRemove;
+    synchronized (interpreterGroupRef) {
+      groupsToRemove = new HashSet<>(interpreterGroupRef.keySet());
+    }
+    // groups are closed without holding the lock. closing an interpreter takes the monitor of
+    // its group, which may be held by a thread waiting for this lock
+    for (String key : groupsToRemove) {
+      closeAndRemoveInterpreterGroup(key);
+    }
   }
 
   public Properties getProperties() {
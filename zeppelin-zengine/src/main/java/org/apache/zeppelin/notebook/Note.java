@@ -88,6 +88,8 @@ public class Note implements Serializable, ParagraphJobListener {
   private transient ScheduledFuture delayedPersist;
   private transient NoteEventListener noteEventListener;
   private transient Credentials credentials;
+  // created in memory and not written to the repository yet
+  private transient volatile boolean unsaved;
 
   /*
    * note configurations.
@@ -113,6 +115,7 @@ public class Note implements Serializable, ParagraphJobListener {
     this.index = noteIndex;
     this.noteEventListener = noteEventListener;
     this.credentials = credentials;
+    this.unsaved = true;
     generateId();
   }
 
@@ -468,7 +471,7 @@ public class Note implements Serializable, ParagraphJobListener {
         AuthenticationInfo authenticationInfo = new AuthenticationInfo();
         authenticationInfo.setUser(cronExecutingUser);
         p.setAuthenticationInfo(authenticationInfo);
-        run(p.getId());
+        run(p.getId(), Job.PRIORITY_LOW);
       }
     }
   }
@@ -479,7 +482,18 @@ public class Note implements Serializable, ParagraphJobListener {
    * @param paragraphId ID of paragraph
    */
   public void run(String paragraphId) {
+    run(paragraphId, Job.PRIORITY_NORMAL);
+  }
+
+  /**
+   * Run a single paragraph with given priority.
+   *
+   * @param paragraphId ID of paragraph
+   * @param priority job priority. see Job.PRIORITY_*
+   */
+  public void run(String paragraphId, int priority) {
     Paragraph p = getParagraph(paragraphId);
+    p.setPriority(priority);
     p.setListener(jobListenerFactory.getParagraphJobListener(this));
     String requiredReplName = p.getRequiredReplName();
     Interpreter intp = factory.getInterpreter(getId(), requiredReplName);
@@ -513,6 +527,20 @@ public class Note implements Serializable, ParagraphJobListener {
     return true;
   }
 
+  /**
+   * Whether any paragraph is pending or running
+   */
+  boolean isRunning() {
+    synchronized (paragraphs) {
+      for (Paragraph p : paragraphs) {
+        if (p.getStatus().isPending() || p.getStatus().isRunning()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   public List<InterpreterCompletion> completion(String paragraphId, String buffer, int cursor) {
     Paragraph p = getParagraph(paragraphId);
     p.setListener(jobListenerFactory.getParagraphJobListener(this));
@@ -526,6 +554,26 @@ public class Note implements Serializable, ParagraphJobListener {
     }
   }
 
+  /**
+   * Load paragraph results that are kept in the result store,
+   * and build results of running paragraphs from their output written so far
+   */
+  public void loadResults() {
+    for (Paragraph p : getParagraphs()) {
+      p.getReturn();
+    }
+  }
+
+  /**
+   * Build results of running paragraphs from their output written so far,
+   * without loading results kept in the result store
+   */
+  public void updateResultsFromOutput() {
+    for (Paragraph p : getParagraphs()) {
+      p.updateResultFromOutput();
+    }
+  }
+
   private void snapshotAngularObjectRegistry() {
     angularObjects = new HashMap<>();
 
@@ -582,8 +630,10 @@ public class Note implements Serializable, ParagraphJobListener {
   public void persist(AuthenticationInfo subject) throws IOException {
     stopDelayedPersistTimer();
     snapshotAngularObjectRegistry();
+    updateResultsFromOutput();
     index.updateIndexDoc(this);
     repo.save(this, subject);
+    unsaved = false;
   }
 
   /**
@@ -618,6 +668,16 @@ public class Note implements Serializable, ParagraphJobListener {
     }
   }
 
+  boolean isPersistPending() {
+    synchronized (this) {
+      return delayedPersist != null && !delayedPersist.isDone();
+    }
+  }
+
+  boolean isUnsaved() {
+    return unsaved;
+  }
+
   private void stopDelayedPersistTimer() {
     synchronized (this) {
       if (delayedPersist == null) {
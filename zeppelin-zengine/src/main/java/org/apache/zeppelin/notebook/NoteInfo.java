@@ -27,6 +27,8 @@ public class NoteInfo {
   String id;
   String name;
   private Map<String, Object> config = new HashMap<String, Object>();
+  // version of the note in the repository, null if unknown
+  private transient String version;
 
   public NoteInfo(String id, String name, Map<String, Object> config) {
     super();
@@ -65,4 +67,16 @@ public class NoteInfo {
     this.config = config;
   }
 
+  /**
+   * @return version of the note in the notebook repository (modification time, ETag, ...)
+   *         it's listed from. null if the repository doesn't tell
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
 }
@@ -24,12 +24,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.stream.JsonReader;
@@ -69,15 +71,23 @@ import org.apache.zeppelin.user.Credentials;
  */
 public class Notebook implements NoteEventListener {
   private static final Logger logger = LoggerFactory.getLogger(Notebook.class);
+  private static final int INDEX_BATCH_SIZE = 100;
 
   @SuppressWarnings("unused") @Deprecated //TODO(bzz): remove unused
   private SchedulerFactory schedulerFactory;
 
   private InterpreterFactory replFactory;
   /**
-   * Keep the order.
+   * Headers of all notes. Keep the order.
    */
-  private final Map<String, Note> notes = new LinkedHashMap<>();
+  private final Map<String, NoteInfo> noteInfos = new LinkedHashMap<>();
+  /**
+   * Notes loaded in memory, in access order. Guarded by the same lock as noteInfos.
+   */
+  private final LinkedHashMap<String, Note> notes = new LinkedHashMap<>(16, 0.75f, true);
+  // serializes loading notes from the repository, not to load the same note twice
+  private final Object loadLock = new Object();
+  private final int noteCacheSize;
   private ZeppelinConfiguration conf;
   private StdSchedulerFactory quertzSchedFact;
   private org.quartz.Scheduler quartzSched;
@@ -88,6 +98,7 @@ public class Notebook implements NoteEventListener {
   private final List<NotebookEventListener> notebookEventListeners =
       Collections.synchronizedList(new LinkedList<NotebookEventListener>());
   private Credentials credentials;
+  private volatile OpenNotes openNotes;
 
   /**
    * Main constructor \w manual Dependency Injection
@@ -109,22 +120,83 @@ public class Notebook implements NoteEventListener {
     this.notebookIndex = notebookIndex;
     this.notebookAuthorization = notebookAuthorization;
     this.credentials = credentials;
+    this.noteCacheSize = conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE);
     quertzSchedFact = new org.quartz.impl.StdSchedulerFactory();
     quartzSched = quertzSchedFact.getScheduler();
     quartzSched.start();
     CronJob.notebook = this;
 
-    loadAllNotes();
+    loadAllNotes(null);
     if (this.notebookIndex != null) {
       long start = System.nanoTime();
       logger.info("Notebook indexing started...");
-      notebookIndex.addIndexDocs(notes.values());
-      logger.info("Notebook indexing finished: {} indexed in {}s", notes.size(),
+      int numIndexed = indexAllNotes();
+      logger.info("Notebook indexing finished: {} indexed in {}s", numIndexed,
           TimeUnit.NANOSECONDS.toSeconds(start - System.nanoTime()));
     }
 
   }
 
+  /**
+   * Index all notes, reading them from the repository in batches
+   * instead of keeping them all in memory. Notes indexed from their current version
+   * in the repository are not read.
+   */
+  private int indexAllNotes() {
+    List<NoteInfo> infos;
+    synchronized (notes) {
+      infos = new ArrayList<>(noteInfos.values());
+    }
+
+    int numIndexed = 0;
+    List<String> ids = new ArrayList<>();
+    List<NoteInfo> batch = new ArrayList<>();
+    for (NoteInfo info : infos) {
+      ids.add(info.getId());
+      String version = info.getVersion();
+      if (version != null && version.equals(notebookIndex.getIndexedVersion(info.getId()))) {
+        continue;
+      }
+      batch.add(info);
+      if (batch.size() >= INDEX_BATCH_SIZE) {
+        numIndexed += indexNotes(batch);
+        batch.clear();
+      }
+    }
+    numIndexed += indexNotes(batch);
+    notebookIndex.retainIndexDocs(ids);
+    return numIndexed;
+  }
+
+  /**
+   * Read the notes from the repository and index them
+   * @return number of notes read
+   */
+  private int indexNotes(List<NoteInfo> infos) {
+    List<Note> batch = new ArrayList<>();
+    Map<String, String> versions = new HashMap<>();
+    for (NoteInfo info : infos) {
+      try {
+        Note note = notebookRepo.get(info.getId(), null);
+        if (note != null) {
+          batch.add(note);
+          versions.put(note.getId(), info.getVersion());
+        }
+      } catch (IOException e) {
+        logger.error("Failed to load " + info.getId() + " for indexing", e);
+      }
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    notebookIndex.addIndexDocs(batch);
+    for (Note note : batch) {
+      notebookIndex.setIndexedVersion(note.getId(), versions.get(note.getId()));
+    }
+    return batch.size();
+  }
+
   /**
    * Create new note.
    *
@@ -151,7 +223,9 @@ public class Notebook implements NoteEventListener {
     Note note =
         new Note(notebookRepo, replFactory, jobListenerFactory, notebookIndex, credentials, this);
     synchronized (notes) {
+      noteInfos.put(note.getId(), new NoteInfo(note));
       notes.put(note.getId(), note);
+      evictNotes();
     }
     if (interpreterIds != null) {
       bindInterpretersToNote(note.getId(), interpreterIds);
@@ -178,6 +252,7 @@ public class Notebook implements NoteEventListener {
     if (note == null) {
       throw new IllegalArgumentException(noteId + " not found");
     }
+    note.loadResults();
     return gson.toJson(note);
   }
 
@@ -290,17 +365,78 @@ public class Notebook implements NoteEventListener {
     }
   }
 
+  /**
+   * Get note. The note is loaded from the repository when it is not in memory.
+   * Results kept in the result store are not loaded, see {@link Note#loadResults()}.
+   */
   public Note getNote(String id) {
+    Note note;
+    synchronized (notes) {
+      note = notes.get(id);
+      if (note == null && !noteInfos.containsKey(id)) {
+        return null;
+      }
+    }
+
+    if (note == null) {
+      synchronized (loadLock) {
+        synchronized (notes) {
+          note = notes.get(id);
+        }
+        if (note == null) {
+          note = loadNoteFromRepo(id, null);
+        }
+      }
+    }
+    return note;
+  }
+
+  @VisibleForTesting
+  boolean isLoaded(String id) {
     synchronized (notes) {
-      return notes.get(id);
+      return notes.containsKey(id);
     }
   }
 
+  /**
+   * Evict least recently used notes when there are more notes in memory than
+   * zeppelin.notebook.cache.size. Notes with running paragraphs, unsaved changes,
+   * cron schedule or opened by a client are kept. Must be called with notes lock held.
+   */
+  private void evictNotes() {
+    Iterator<Note> it = notes.values().iterator();
+    while (notes.size() > noteCacheSize && it.hasNext()) {
+      Note note = it.next();
+      if (note.isRunning() || note.isUnsaved() || note.isPersistPending()
+          || hasCron(note.getConfig()) || isOpen(note.getId())) {
+        continue;
+      }
+      // keep the header up to date, name and config may have changed while loaded
+      noteInfos.put(note.getId(), new NoteInfo(note));
+      it.remove();
+      logger.debug("Evict note {} from memory", note.getId());
+    }
+  }
+
+  private boolean isOpen(String noteId) {
+    OpenNotes open = openNotes;
+    return open != null && open.isOpen(noteId);
+  }
+
+  private boolean hasCron(Map<String, Object> config) {
+    if (config == null) {
+      return false;
+    }
+    Object cronExpr = config.get("cron");
+    return cronExpr instanceof String && ((String) cronExpr).trim().length() > 0;
+  }
+
   public void removeNote(String id, AuthenticationInfo subject) {
-    Note note;
+    Note note = getNote(id);
 
     synchronized (notes) {
-      note = notes.remove(id);
+      notes.remove(id);
+      noteInfos.remove(id);
     }
     replFactory.removeNoteInterpreterSettingBinding(id);
     notebookIndex.deleteIndexDocs(note);
@@ -366,7 +502,11 @@ public class Notebook implements NoteEventListener {
 
   public Note getNoteByRevision(String noteId, String revisionId, AuthenticationInfo subject)
       throws IOException {
-    return notebookRepo.get(noteId, revisionId, subject);
+    Note note = notebookRepo.get(noteId, revisionId, subject);
+    if (note != null) {
+      note.loadResults();
+    }
+    return note;
   }
 
   @SuppressWarnings("rawtypes")
@@ -420,8 +560,10 @@ public class Notebook implements NoteEventListener {
     note.setNoteEventListener(this);
 
     synchronized (notes) {
+      noteInfos.put(note.getId(), new NoteInfo(note));
       notes.put(note.getId(), note);
       refreshCron(note.getId());
+      evictNotes();
     }
 
     for (String name : angularObjectSnapshot.keySet()) {
@@ -438,7 +580,12 @@ public class Notebook implements NoteEventListener {
           //
           // therefore instead of addAndNotifyRemoteProcess(), need to use add()
           // that results add angularObject only in ZeppelinServer side not remoteProcessSide
-          registry.add(name, snapshot.getAngularObject().get(), noteId, paragraphId);
+          //
+          // the note may be loaded again after eviction. keep the object in the registry
+          // in that case, it can be newer than the snapshot
+          if (registry.get(name, noteId, paragraphId) == null) {
+            registry.add(name, snapshot.getAngularObject().get(), noteId, paragraphId);
+          }
         }
       }
     }
@@ -446,11 +593,22 @@ public class Notebook implements NoteEventListener {
     return note;
   }
 
-  private void loadAllNotes() throws IOException {
-    List<NoteInfo> noteInfos = notebookRepo.list(null);
+  /**
+   * Read headers of all notes. Notes are loaded on demand, except the ones
+   * with cron schedule which are loaded now to be scheduled.
+   */
+  private void loadAllNotes(AuthenticationInfo subject) throws IOException {
+    List<NoteInfo> infos = notebookRepo.list(subject);
+    synchronized (notes) {
+      for (NoteInfo info : infos) {
+        noteInfos.put(info.getId(), info);
+      }
+    }
 
-    for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), null);
+    for (NoteInfo info : infos) {
+      if (hasCron(info.getConfig())) {
+        loadNoteFromRepo(info.getId(), subject);
+      }
     }
   }
 
@@ -463,6 +621,7 @@ public class Notebook implements NoteEventListener {
   public void reloadAllNotes(AuthenticationInfo subject) throws IOException {
     synchronized (notes) {
       notes.clear();
+      noteInfos.clear();
     }
 
     if (notebookRepo instanceof NotebookRepoSync) {
@@ -472,10 +631,7 @@ public class Notebook implements NoteEventListener {
       }
     }
 
-    List<NoteInfo> noteInfos = notebookRepo.list(subject);
-    for (NoteInfo info : noteInfos) {
-      loadNoteFromRepo(info.getId(), subject);
-    }
+    loadAllNotes(subject);
   }
 
   private class SnapshotAngularObject {
@@ -503,25 +659,71 @@ public class Notebook implements NoteEventListener {
     }
   }
 
+  /**
+   * Get all notes. Notes not in memory are loaded from the repository.
+   * Use getAllNoteInfos() when id and name are enough.
+   */
   public List<Note> getAllNotes() {
+    List<String> ids;
     synchronized (notes) {
-      List<Note> noteList = new ArrayList<>(notes.values());
-      Collections.sort(noteList, new Comparator<Note>() {
-        @Override
-        public int compare(Note note1, Note note2) {
-          String name1 = note1.getId();
-          if (note1.getName() != null) {
-            name1 = note1.getName();
-          }
-          String name2 = note2.getId();
-          if (note2.getName() != null) {
-            name2 = note2.getName();
-          }
-          return name1.compareTo(name2);
+      ids = new ArrayList<>(noteInfos.keySet());
+    }
+
+    List<Note> noteList = new ArrayList<>();
+    for (String id : ids) {
+      Note note = getNote(id);
+      if (note != null) {
+        noteList.add(note);
+      }
+    }
+    Collections.sort(noteList, new Comparator<Note>() {
+      @Override
+      public int compare(Note note1, Note note2) {
+        String name1 = note1.getId();
+        if (note1.getName() != null) {
+          name1 = note1.getName();
+        }
+        String name2 = note2.getId();
+        if (note2.getName() != null) {
+          name2 = note2.getName();
+        }
+        return name1.compareTo(name2);
+      }
+    });
+    return noteList;
+  }
+
+  /**
+   * Get headers of all notes, without loading notes.
+   */
+  public List<NoteInfo> getAllNoteInfos() {
+    List<NoteInfo> infoList = new ArrayList<>();
+    synchronized (notes) {
+      // iterate instead of notes.get(), not to change the access order
+      for (Note note : notes.values()) {
+        infoList.add(new NoteInfo(note));
+      }
+      for (NoteInfo info : noteInfos.values()) {
+        if (!notes.containsKey(info.getId())) {
+          infoList.add(info);
         }
-      });
-      return noteList;
+      }
     }
+    Collections.sort(infoList, new Comparator<NoteInfo>() {
+      @Override
+      public int compare(NoteInfo info1, NoteInfo info2) {
+        String name1 = info1.getId();
+        if (info1.getName() != null) {
+          name1 = info1.getName();
+        }
+        String name2 = info2.getId();
+        if (info2.getName() != null) {
+          name2 = info2.getName();
+        }
+        return name1.compareTo(name2);
+      }
+    });
+    return infoList;
   }
 
   private Map<String, Object> getParagraphForJobManagerItem(Paragraph paragraph) {
@@ -585,9 +787,8 @@ public class Notebook implements NoteEventListener {
       }
     }
 
-    List<Note> notes = getAllNotes();
     List<Map<String, Object>> notesInfo = new LinkedList<>();
-    for (Note note : notes) {
+    for (Note note : getNotesForJobList(lastUpdateServerUnixTime)) {
       boolean isNotebookRunning = false;
       boolean isUpdateNotebook = false;
       long lastRunningUnixTime = 0;
@@ -655,6 +856,39 @@ public class Notebook implements NoteEventListener {
     return notesInfo;
   }
 
+  /**
+   * Notes in memory, plus the rest read from the repository without caching them
+   * for the first request (lastUpdateServerUnixTime == 0).
+   * Notes not in memory have no running paragraph and didn't change since they were evicted.
+   */
+  private List<Note> getNotesForJobList(long lastUpdateServerUnixTime) {
+    List<Note> noteList = new LinkedList<>();
+    List<String> notLoaded = new LinkedList<>();
+    synchronized (notes) {
+      // iterate instead of notes.get(), not to change the access order
+      noteList.addAll(notes.values());
+      for (String id : noteInfos.keySet()) {
+        if (!notes.containsKey(id)) {
+          notLoaded.add(id);
+        }
+      }
+    }
+
+    if (lastUpdateServerUnixTime == 0) {
+      for (String id : notLoaded) {
+        try {
+          Note note = notebookRepo.get(id, null);
+          if (note != null) {
+            noteList.add(note);
+          }
+        } catch (IOException e) {
+          logger.error("Failed to load " + id, e);
+        }
+      }
+    }
+    return noteList;
+  }
+
   /**
    * Cron task for the note.
    */
@@ -766,6 +1000,13 @@ public class Notebook implements NoteEventListener {
     this.notebookIndex.close();
   }
 
+  /**
+   * Set the tracker of notes opened by clients. Opened notes are not evicted from memory.
+   */
+  public void setOpenNotes(OpenNotes openNotes) {
+    this.openNotes = openNotes;
+  }
+
   public void addNotebookEventListener(NotebookEventListener listener) {
     notebookEventListeners.add(listener);
   }
@@ -30,6 +30,7 @@ import org.apache.zeppelin.display.Input;
 import org.apache.zeppelin.interpreter.*;
 import org.apache.zeppelin.interpreter.Interpreter.FormType;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.notebook.repo.ResultStore;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.JobListener;
@@ -42,6 +43,7 @@ import java.io.Serializable;
 import java.util.*;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
 
 /**
  * Paragraph is a representation of an execution unit.
@@ -67,6 +69,16 @@ public class Paragraph extends Job implements Serializable, Cloneable {
    */
   private final List<ApplicationState> apps =  new LinkedList<ApplicationState>();
 
+  // key of the result in the result store, when the result is kept out of note.json
+  private String resultRef;
+  // result store to load the result from on first access
+  private transient ResultStore resultStore;
+  // result already found small enough to keep in note.json
+  private transient Object inlineResult;
+  // output of the paragraph running on ZeppelinServer. result is built from it when read
+  private transient volatile InterpreterOutput output;
+  private transient long outputVersion = -1;
+
   @VisibleForTesting
   Paragraph() {
     super(generateId(), null);
@@ -139,6 +151,16 @@ public class Paragraph extends Job implements Serializable, Cloneable {
     return note;
   }
 
+  @Override
+  public String getUser() {
+    return user;
+  }
+
+  @Override
+  public String getNoteId() {
+    return (note == null) ? null : note.getId();
+  }
+
   public boolean isEnabled() {
     Boolean enabled = (Boolean) config.get("enabled");
     return enabled == null || enabled.booleanValue();
@@ -251,6 +273,107 @@ public class Paragraph extends Job implements Serializable, Cloneable {
     return (InterpreterResult) getReturn();
   }
 
+  @Override
+  public Object getReturn() {
+    updateResultFromOutput();
+
+    Object result = super.getReturn();
+    if (result == null && resultRef != null) {
+      result = loadResult();
+    }
+    return result;
+  }
+
+  private synchronized Object loadResult() {
+    Object result = super.getReturn();
+    if (result != null || resultRef == null || resultStore == null) {
+      return result;
+    }
+
+    try {
+      result = new Gson().fromJson(resultStore.load(resultRef), Object.class);
+      super.setResult(result);
+    } catch (IOException e) {
+      logger.error("Can't load result " + resultRef + " of paragraph " + getId(), e);
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized void setResult(Object result) {
+    resultRef = null;
+    output = null;
+    super.setResult(result);
+  }
+
+  /**
+   * Build the result of the running paragraph from its output written so far.
+   * Unlike getReturn(), a result kept in the result store is not loaded.
+   */
+  public void updateResultFromOutput() {
+    InterpreterOutput out = output;
+    if (out != null && out.getVersion() != outputVersion) {
+      updateResult(out);
+    }
+  }
+
+  /**
+   * Set result to the output written so far. Output is read only when it changed
+   * since the last update.
+   */
+  private synchronized void updateResult(InterpreterOutput out) {
+    long version = out.getVersion();
+    if (output != out || version == outputVersion) {
+      return;
+    }
+
+    Throwable t = null;
+    String message = null;
+    try {
+      message = out.getText();
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      t = e;
+    }
+    outputVersion = version;
+    resultRef = null;
+    super.setResult(new InterpreterResult(Code.SUCCESS, out.getType(), message));
+    setException(t);
+  }
+
+  public String getResultRef() {
+    return resultRef;
+  }
+
+  /**
+   * Remember that the result is stored in the result store with the given key.
+   * Ignored when the result changed in the meantime.
+   */
+  public synchronized void setResultRef(Object result, String resultRef) {
+    if (super.getReturn() == result) {
+      this.resultRef = resultRef;
+    }
+  }
+
+  /**
+   * Whether the result was already found small enough to keep in note.json
+   */
+  public boolean isInlineResult(Object result) {
+    return result != null && result == inlineResult;
+  }
+
+  /**
+   * Remember that the result is small enough to keep in note.json,
+   * not to serialize it again to check its size on next save
+   */
+  public void setInlineResult(Object result) {
+    this.inlineResult = result;
+  }
+
+  public void setResultStore(ResultStore resultStore) {
+    this.resultStore = resultStore;
+  }
+
   @Override
   public int progress() {
     String replName = getRequiredReplName();
@@ -328,15 +451,9 @@ public class Paragraph extends Job implements Serializable, Cloneable {
         return getReturn();
       }
 
-      String message = "";
-
       context.out.flush();
       InterpreterResult.Type outputType = context.out.getType();
-      byte[] interpreterOutput = context.out.toByteArray();
-
-      if (interpreterOutput != null && interpreterOutput.length > 0) {
-        message = new String(interpreterOutput);
-      }
+      String message = context.out.getText();
 
       if (message.isEmpty()) {
         return ret;
@@ -410,29 +527,17 @@ public class Paragraph extends Job implements Serializable, Cloneable {
     return getInterpreterContext(new InterpreterOutput(new InterpreterOutputListener() {
       @Override
       public void onAppend(InterpreterOutput out, byte[] line) {
-        updateParagraphResult(out);
+        // result is built from the output when read, not to copy the whole output per line
+        output = out;
         ((ParagraphJobListener) getListener()).onOutputAppend(self, out, new String(line));
       }
 
       @Override
       public void onUpdate(InterpreterOutput out, byte[] output) {
-        updateParagraphResult(out);
+        Paragraph.this.output = out;
         ((ParagraphJobListener) getListener()).onOutputUpdate(self, out,
             new String(output));
       }
-
-      private void updateParagraphResult(InterpreterOutput out) {
-        // update paragraph result
-        Throwable t = null;
-        String message = null;
-        try {
-          message = new String(out.toByteArray());
-        } catch (IOException e) {
-          logger.error(e.getMessage(), e);
-          t = e;
-        }
-        setReturn(new InterpreterResult(Code.SUCCESS, out.getType(), message), t);
-      }
     }));
   }
 
@@ -472,6 +577,7 @@ public class Paragraph extends Job implements Serializable, Cloneable {
         resourcePool,
         runners,
         output);
+    interpreterContext.setPriority(getPriority());
     return interpreterContext;
   }
 
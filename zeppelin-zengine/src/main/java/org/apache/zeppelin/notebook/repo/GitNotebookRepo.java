@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -35,6 +36,7 @@ import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.filter.NotTreeFilter;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +69,30 @@ public class GitNotebookRepo extends VFSNotebookRepo {
       localRepo.create();
     }
     git = new Git(localRepo);
+    excludeIndexFile(localRepo);
+  }
+
+  /**
+   * Keep the note index out of note history, so checkpoint with any pattern doesn't add it.
+   * Excluded in .git/info/exclude rather than .gitignore, not to add a file to the notebook dir
+   */
+  private void excludeIndexFile(Repository repo) throws IOException {
+    File exclude = new File(repo.getDirectory(), Joiner.on(File.separator).join("info", "exclude"));
+    List<String> lines = exclude.exists() ?
+        FileUtils.readLines(exclude, "UTF-8") : Lists.<String>newArrayList();
+    if (!lines.contains("/" + INDEX_FILE)) {
+      FileUtils.writeLines(exclude, "UTF-8",
+          Lists.newArrayList("/" + INDEX_FILE, "/" + INDEX_FILE + ".tmp"), true);
+    }
+
+    // index committed before it was excluded
+    if (repo.readDirCache().getEntry(INDEX_FILE) != null) {
+      try {
+        git.rm().setCached(true).addFilepattern(INDEX_FILE).call();
+      } catch (GitAPIException e) {
+        LOG.warn("Failed to untrack {}", INDEX_FILE, e);
+      }
+    }
   }
 
   @Override
@@ -84,7 +110,9 @@ public class GitNotebookRepo extends VFSNotebookRepo {
   public Revision checkpoint(String pattern, String commitMessage, AuthenticationInfo subject) {
     Revision revision = null;
     try {
-      List<DiffEntry> gitDiff = git.diff().call();
+      // note index is not versioned
+      List<DiffEntry> gitDiff = git.diff()
+          .setPathFilter(NotTreeFilter.create(PathFilter.create(INDEX_FILE))).call();
       if (!gitDiff.isEmpty()) {
         LOG.debug("Changes found for pattern '{}': {}", pattern, gitDiff);
         DirCache added = git.add().addFilepattern(pattern).call();
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Index of NoteInfo (id, name, config) of the notes in a NotebookRepo.
+ * The repository persists it next to the notes, so list() reads one file
+ * instead of every note.json.
+ *
+ * Each entry keeps the version of note.json it was made from (modification time, ETag, ...).
+ * An entry is stale when the version of note.json differs, for example when the note is
+ * modified outside of Zeppelin.
+ */
+public class NoteInfoIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(NoteInfoIndex.class);
+  private static final Gson gson = new Gson();
+
+  static class Entry {
+    String id;
+    String name;
+    Map<String, Object> config;
+    String version;
+  }
+
+  // entries by the key of the note in the repository
+  private Map<String, Entry> entries = new HashMap<>();
+  private boolean dirty = false;
+
+  public NoteInfoIndex() {
+  }
+
+  /**
+   * @param json persisted index. broken index is ignored and rebuilt by the repository
+   */
+  public NoteInfoIndex(String json) {
+    try {
+      Map<String, Entry> loaded = gson.fromJson(json, new TypeToken<Map<String, Entry>>() {
+      }.getType());
+      if (loaded != null) {
+        entries = loaded;
+      }
+    } catch (JsonParseException e) {
+      LOG.warn("Ignore broken note index", e);
+      dirty = true;
+    }
+  }
+
+  /**
+   * @return NoteInfo of the note. null when not indexed or the entry is stale
+   */
+  public synchronized NoteInfo get(String key, String version) {
+    Entry entry = entries.get(key);
+    if (entry == null || version == null || !version.equals(entry.version)) {
+      return null;
+    }
+    NoteInfo info = new NoteInfo(entry.id, entry.name, entry.config);
+    info.setVersion(entry.version);
+    return info;
+  }
+
+  public synchronized void put(String key, NoteInfo info, String version) {
+    Entry entry = new Entry();
+    entry.id = info.getId();
+    entry.name = info.getName();
+    entry.config = (info.getConfig() == null) ? null : new HashMap<>(info.getConfig());
+    entry.version = version;
+    entries.put(key, entry);
+    dirty = true;
+  }
+
+  public synchronized void remove(String key) {
+    if (entries.remove(key) != null) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * Remove entries of the notes that no longer exist
+   */
+  public synchronized void retainAll(Collection<String> keys) {
+    if (entries.keySet().retainAll(keys)) {
+      dirty = true;
+    }
+  }
+
+  public synchronized boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Serialize the index to persist. Clears the dirty flag.
+   */
+  public synchronized String toJson() {
+    dirty = false;
+    return gson.toJson(entries);
+  }
+}
@@ -24,18 +24,30 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
 /**
  * Notebook repository sync with remote storage
  */
@@ -49,8 +61,41 @@ public class NotebookRepoSync implements NotebookRepo {
   private static ZeppelinConfiguration config;
   private static final String defaultStorage = "org.apache.zeppelin.notebook.repo.VFSNotebookRepo";
 
+  private static final Gson gson = new Gson();
+
+  // threadpool to remove results no note refers to anymore
+  private static final ScheduledThreadPoolExecutor resultGcThreadPool =
+      new ScheduledThreadPoolExecutor(0);
+  // removing unused results reads all notes, so it runs once in a while, not on every save
+  private static final long RESULT_GC_DELAY_SEC = 600;
+  // results stored recently are kept, the note referring to it may not be written yet
+  private static final long RESULT_GC_MIN_AGE_MS = 60 * 1000;
+
+  static {
+    resultGcThreadPool.setRemoveOnCancelPolicy(true);
+  }
+  // skips paragraph results, to copy a note without them
+  private static final Gson gsonWithoutResult = new GsonBuilder()
+      .setExclusionStrategies(new ExclusionStrategy() {
+        @Override
+        public boolean shouldSkipField(FieldAttributes f) {
+          return f.getDeclaringClass() == Job.class && f.getName().equals("result");
+        }
+
+        @Override
+        public boolean shouldSkipClass(Class<?> clazz) {
+          return false;
+        }
+      })
+      .create();
+
   private List<NotebookRepo> repos = new ArrayList<NotebookRepo>();
   private final boolean oneWaySync;
+  private ResultStore resultStore;
+  private final int resultStoreThreshold;
+  // result refs of each note as last loaded or saved, to find out when a result is dropped
+  private final Map<String, Set<String>> noteResultRefs = new ConcurrentHashMap<>();
+  private ScheduledFuture<?> resultGc;
 
   /**
    * @param noteIndex
@@ -66,6 +111,9 @@ public class NotebookRepoSync implements NotebookRepo {
       allStorageClassNames = defaultStorage;
       LOG.warn("Empty ZEPPELIN_NOTEBOOK_STORAGE conf parameter, using default {}", defaultStorage);
     }
+    initializeResultStore(conf);
+    resultStoreThreshold = conf.getInt(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_STORE_THRESHOLD);
+
     String[] storageClassNames = allStorageClassNames.split(",");
     if (storageClassNames.length > getMaxRepoNum()) {
       LOG.warn("Unsupported number {} of storage classes in ZEPPELIN_NOTEBOOK_STORAGE : {}\n" +
@@ -98,6 +146,8 @@ public class NotebookRepoSync implements NotebookRepo {
         LOG.warn("Failed to sync with secondary storage on start {}", e);
       }
     }
+    // results left unused by previous runs
+    scheduleResultGc();
   }
 
   @SuppressWarnings("static-access")
@@ -115,6 +165,25 @@ public class NotebookRepoSync implements NotebookRepo {
     }
   }
 
+  @SuppressWarnings("static-access")
+  private void initializeResultStore(ZeppelinConfiguration conf) {
+    String className = conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_STORE);
+    if (className == null || className.trim().isEmpty()) {
+      LOG.info("No result store. Paragraph results are kept in note");
+      return;
+    }
+
+    try {
+      Class<?> resultStoreClass = getClass().forName(className.trim());
+      Constructor<?> constructor = resultStoreClass.getConstructor(ZeppelinConfiguration.class);
+      resultStore = (ResultStore) constructor.newInstance(conf);
+    } catch (ClassNotFoundException | NoSuchMethodException | SecurityException |
+        InstantiationException | IllegalAccessException | IllegalArgumentException |
+        InvocationTargetException e) {
+      LOG.warn("Failed to initialize {} result store class", className, e);
+    }
+  }
+
   /**
    *  Lists Notebooks from the first repository
    */
@@ -133,7 +202,11 @@ public class NotebookRepoSync implements NotebookRepo {
    */
   @Override
   public Note get(String noteId, AuthenticationInfo subject) throws IOException {
-    return getRepo(0).get(noteId, subject);
+    Note note = setResultStore(getRepo(0).get(noteId, subject));
+    if (note != null) {
+      updateResultRefs(note);
+    }
+    return note;
   }
 
   /* get note from specific repo (for tests) */
@@ -146,7 +219,9 @@ public class NotebookRepoSync implements NotebookRepo {
    */
   @Override
   public void save(Note note, AuthenticationInfo subject) throws IOException {
+    note = storeResults(note);
     getRepo(0).save(note, subject);
+    updateResultRefs(note);
     if (getRepoCount() > 1) {
       try {
         getRepo(1).save(note, subject);
@@ -157,6 +232,133 @@ public class NotebookRepoSync implements NotebookRepo {
     }
   }
 
+  /**
+   * Keep large paragraph results in the result store.
+   * @return note to save. Copy of the note without the stored results,
+   *         or the note itself when all results are kept in the note.
+   */
+  private Note storeResults(Note note) throws IOException {
+    if (resultStore == null) {
+      return note;
+    }
+
+    boolean hasResultRef = false;
+    List<Paragraph> paragraphs = note.getParagraphs();
+    for (Paragraph p : paragraphs) {
+      if (p.getResultRef() == null && resultStoreThreshold > 0) {
+        Object result = p.getReturn();
+        if (result != null && !p.isInlineResult(result)) {
+          String json = gson.toJson(result);
+          if (json.length() > resultStoreThreshold) {
+            p.setResultRef(result, resultStore.save(json));
+          } else {
+            p.setInlineResult(result);
+          }
+        }
+      }
+      hasResultRef |= p.getResultRef() != null;
+    }
+
+    if (!hasResultRef) {
+      return note;
+    }
+
+    // serialize the note without results, then put back the results that are not stored
+    Note copy = gsonWithoutResult.fromJson(gsonWithoutResult.toJson(note), Note.class);
+    Map<String, Paragraph> byId = new HashMap<>();
+    for (Paragraph p : paragraphs) {
+      byId.put(p.getId(), p);
+    }
+    for (Paragraph p : copy.getParagraphs()) {
+      Paragraph original = byId.get(p.getId());
+      if (p.getResultRef() == null && original != null) {
+        p.setResult(original.getReturn());
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Remember result refs of the note. Schedule removing unused results
+   * when a result the note referred to is dropped.
+   */
+  private void updateResultRefs(Note note) {
+    Set<String> refs = new HashSet<>();
+    for (Paragraph p : note.getParagraphs()) {
+      if (p.getResultRef() != null) {
+        refs.add(p.getResultRef());
+      }
+    }
+    Set<String> previous = noteResultRefs.put(note.getId(), refs);
+    if (previous != null && !refs.containsAll(previous)) {
+      scheduleResultGc();
+    }
+  }
+
+  private synchronized void scheduleResultGc() {
+    if (resultStore == null || (resultGc != null && !resultGc.isDone())) {
+      return;
+    }
+
+    resultGc = resultGcThreadPool.schedule(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          int removed = removeUnusedResults(RESULT_GC_MIN_AGE_MS);
+          LOG.info("Removed {} unused results from result store", removed);
+        } catch (IOException e) {
+          LOG.error("Failed to remove unused results from result store", e);
+        }
+      }
+    }, RESULT_GC_DELAY_SEC, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Remove results from the result store that no note in any storage refers to.
+   * Results stored within the last minAgeMs milliseconds are kept.
+   * Nothing is removed when any note can't be read.
+   * @return number of removed results
+   */
+  int removeUnusedResults(long minAgeMs) throws IOException {
+    if (resultStore == null) {
+      return 0;
+    }
+
+    Set<String> used = new HashSet<>();
+    for (NotebookRepo repo : repos) {
+      for (NoteInfo info : repo.list(null)) {
+        Note note = repo.get(info.getId(), null);
+        if (note == null) {
+          throw new IOException("Can't read note " + info.getId());
+        }
+        for (Paragraph p : note.getParagraphs()) {
+          if (p.getResultRef() != null) {
+            used.add(p.getResultRef());
+          }
+        }
+      }
+    }
+    for (Set<String> refs : noteResultRefs.values()) {
+      used.addAll(refs);
+    }
+    return resultStore.removeUnused(used, minAgeMs);
+  }
+
+  private Note setResultStore(Note note) {
+    if (note != null) {
+      for (Paragraph p : note.getParagraphs()) {
+        if (p.getResultRef() != null) {
+          if (resultStore == null) {
+            LOG.warn("Result of paragraph {} is kept in result store, but no result store is "
+                + "configured", p.getId());
+          }
+          p.setResultStore(resultStore);
+        }
+      }
+    }
+    return note;
+  }
+
   /* save note to specific repo (for tests) */
   void save(int repoIndex, Note note, AuthenticationInfo subject) throws IOException {
     getRepo(repoIndex).save(note, subject);
@@ -168,6 +370,8 @@ public class NotebookRepoSync implements NotebookRepo {
       repo.remove(noteId, subject);
     }
     /* TODO(khalid): handle case when removing from secondary storage fails */
+    noteResultRefs.remove(noteId);
+    scheduleResultGc();
   }
 
   /**
@@ -352,6 +556,14 @@ public class NotebookRepoSync implements NotebookRepo {
     for (NotebookRepo repo: repos) {
       repo.close();
     }
+    synchronized (this) {
+      if (resultGc != null) {
+        resultGc.cancel(false);
+      }
+    }
+    if (resultStore != null) {
+      resultStore.close();
+    }
   }
 
   //checkpoint to all available storages
@@ -393,7 +605,7 @@ public class NotebookRepoSync implements NotebookRepo {
   public Note get(String noteId, String revId, AuthenticationInfo subject) {
     Note revisionNote = null;
     try {
-      revisionNote = getRepo(0).get(noteId, revId, subject);
+      revisionNote = setResultStore(getRepo(0).get(noteId, revId, subject));
     } catch (IOException e) {
       LOG.error("Failed to get revision {} of note {}", revId, noteId, e);
     }
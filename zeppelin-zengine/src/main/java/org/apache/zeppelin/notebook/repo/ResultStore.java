@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Storage of paragraph results kept out of note.json.
+ * Results are content addressed, so the same result is stored once
+ * and a stored result never changes.
+ */
+public interface ResultStore {
+  /**
+   * Store result
+   * @param result serialized paragraph result
+   * @return key to load the result with
+   * @throws IOException
+   */
+  public String save(String result) throws IOException;
+
+  /**
+   * Load result
+   * @param key key returned by save()
+   * @return serialized paragraph result
+   * @throws IOException when result does not exist or can't be read
+   */
+  public String load(String key) throws IOException;
+
+  /**
+   * Remove stored results that are not in the given keys. Results stored within
+   * the last minAgeMs milliseconds are kept, they may belong to a note being saved.
+   * @param usedKeys keys of results still referred to by notes
+   * @param minAgeMs minimum age of a result to remove
+   * @return number of removed results
+   * @throws IOException
+   */
+  public int removeUnused(Set<String> usedKeys, long minAgeMs) throws IOException;
+
+  /**
+   * Release any underlying resources
+   */
+  public void close();
+}
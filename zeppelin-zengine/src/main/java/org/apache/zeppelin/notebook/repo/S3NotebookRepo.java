@@ -17,6 +17,7 @@
 
 package org.apache.zeppelin.notebook.repo;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -48,10 +49,13 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.google.gson.Gson;
@@ -62,6 +66,7 @@ import com.google.gson.GsonBuilder;
  */
 public class S3NotebookRepo implements NotebookRepo {
   private static final Logger LOG = LoggerFactory.getLogger(S3NotebookRepo.class);
+  private static final String INDEX_FILE = ".note-index.json";
 
   // Use a credential provider chain so that instance profiles can be utilized
   // on an EC2 instance. The order of locations where credentials are searched
@@ -81,6 +86,8 @@ public class S3NotebookRepo implements NotebookRepo {
   private final String bucketName;
   private final String user;
   private final ZeppelinConfiguration conf;
+  // index of NoteInfo, to list notes without fetching every note.json
+  private NoteInfoIndex index;
 
   public S3NotebookRepo(ZeppelinConfiguration conf) throws IOException {
     this.conf = conf;
@@ -141,6 +148,8 @@ public class S3NotebookRepo implements NotebookRepo {
   @Override
   public List<NoteInfo> list(AuthenticationInfo subject) throws IOException {
     List<NoteInfo> infos = new LinkedList<>();
+    List<String> keys = new LinkedList<>();
+    NoteInfoIndex index = getIndex();
     NoteInfo info;
     try {
       ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
@@ -150,10 +159,21 @@ public class S3NotebookRepo implements NotebookRepo {
       do {
         objectListing = s3client.listObjects(listObjectsRequest);
         for (S3ObjectSummary objectSummary : objectListing.getObjectSummaries()) {
-          if (objectSummary.getKey().endsWith("note.json")) {
-            info = getNoteInfo(objectSummary.getKey());
+          String key = objectSummary.getKey();
+          if (key.endsWith("note.json")) {
+            // index entry is valid while ETag of note.json is not changed
+            String etag = objectSummary.getETag();
+            info = index.get(key, etag);
+            if (info == null) {
+              info = getNoteInfo(key);
+              if (info != null) {
+                info.setVersion(etag);
+                index.put(key, info, etag);
+              }
+            }
             if (info != null) {
               infos.add(info);
+              keys.add(key);
             }
           }
         }
@@ -162,9 +182,56 @@ public class S3NotebookRepo implements NotebookRepo {
     } catch (AmazonClientException ace) {
       throw new IOException("Unable to list objects in S3: " + ace, ace);
     }
+
+    index.retainAll(keys);
+    saveIndex();
     return infos;
   }
 
+  private String getIndexKey() {
+    return user + "/" + "notebook" + "/" + INDEX_FILE;
+  }
+
+  private synchronized NoteInfoIndex getIndex() throws IOException {
+    if (index == null) {
+      try {
+        S3Object s3object = s3client.getObject(new GetObjectRequest(bucketName, getIndexKey()));
+        try (InputStream ins = s3object.getObjectContent()) {
+          index = new NoteInfoIndex(
+              IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+        }
+      } catch (AmazonS3Exception e) {
+        if (e.getStatusCode() != 404) {
+          throw new IOException("Unable to retrieve note index from S3: " + e, e);
+        }
+        index = new NoteInfoIndex();
+      } catch (AmazonClientException ace) {
+        throw new IOException("Unable to retrieve note index from S3: " + ace, ace);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Write the index when it is changed. Entries not written are detected as stale
+   * and rebuilt on the next list().
+   */
+  private synchronized void saveIndex() throws IOException {
+    NoteInfoIndex index = getIndex();
+    if (!index.isDirty()) {
+      return;
+    }
+
+    byte[] json = index.toJson().getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING));
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentLength(json.length);
+    try {
+      s3client.putObject(bucketName, getIndexKey(), new ByteArrayInputStream(json), metadata);
+    } catch (AmazonClientException ace) {
+      throw new IOException("Unable to store note index in S3: " + ace, ace);
+    }
+  }
+
   private Note getNote(String key) throws IOException {
     GsonBuilder gsonBuilder = new GsonBuilder();
     gsonBuilder.setPrettyPrinting();
@@ -217,7 +284,8 @@ public class S3NotebookRepo implements NotebookRepo {
       Writer writer = new OutputStreamWriter(new FileOutputStream(file));
       writer.write(json);
       writer.close();
-      s3client.putObject(new PutObjectRequest(bucketName, key, file));
+      PutObjectResult result = s3client.putObject(new PutObjectRequest(bucketName, key, file));
+      getIndex().put(key, new NoteInfo(note), result.getETag());
     }
     catch (AmazonClientException ace) {
       throw new IOException("Unable to store note in S3: " + ace, ace);
@@ -245,11 +313,16 @@ public class S3NotebookRepo implements NotebookRepo {
     catch (AmazonClientException ace) {
       throw new IOException("Unable to remove note in S3: " + ace, ace);
     }
+    getIndex().remove(key + "/" + "note.json");
   }
 
   @Override
   public void close() {
-    //no-op
+    try {
+      saveIndex();
+    } catch (IOException e) {
+      LOG.error("Can't save note index", e);
+    }
   }
 
   @Override
@@ -57,8 +57,12 @@ public class VFSNotebookRepo implements NotebookRepo {
   Logger logger = LoggerFactory.getLogger(VFSNotebookRepo.class);
 
   private FileSystemManager fsManager;
+  // index of NoteInfo, to list notes without reading every note.json
+  static final String INDEX_FILE = ".note-index.json";
+
   private URI filesystemRoot;
   private ZeppelinConfiguration conf;
+  private NoteInfoIndex index;
 
   public VFSNotebookRepo(ZeppelinConfiguration conf) throws IOException {
     this.conf = conf;
@@ -117,6 +121,7 @@ public class VFSNotebookRepo implements NotebookRepo {
     FileObject[] children = rootDir.getChildren();
 
     List<NoteInfo> infos = new LinkedList<NoteInfo>();
+    List<String> keys = new LinkedList<String>();
     for (FileObject f : children) {
       String fileName = f.getName().getBaseName();
       if (f.isHidden()
@@ -139,15 +144,60 @@ public class VFSNotebookRepo implements NotebookRepo {
         info = getNoteInfo(f);
         if (info != null) {
           infos.add(info);
+          keys.add(fileName);
         }
       } catch (Exception e) {
         logger.error("Can't read note " + f.getName().toString(), e);
       }
     }
 
+    getIndex().retainAll(keys);
+    saveIndex();
     return infos;
   }
 
+  private synchronized NoteInfoIndex getIndex() throws IOException {
+    if (index == null) {
+      FileObject indexFile = getRootDir().resolveFile(INDEX_FILE, NameScope.CHILD);
+      if (indexFile.exists()) {
+        InputStream ins = indexFile.getContent().getInputStream();
+        String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
+        ins.close();
+        index = new NoteInfoIndex(json);
+      } else {
+        index = new NoteInfoIndex();
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Write the index when it is changed. Entries not written because of a crash
+   * are detected as stale and rebuilt on the next list().
+   */
+  private synchronized void saveIndex() throws IOException {
+    NoteInfoIndex index = getIndex();
+    if (!index.isDirty()) {
+      return;
+    }
+
+    FileObject rootDir = getRootDir();
+    FileObject tmp = rootDir.resolveFile(INDEX_FILE + ".tmp", NameScope.CHILD);
+    OutputStream out = tmp.getContent().getOutputStream(false);
+    out.write(index.toJson().getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
+    out.close();
+    tmp.moveTo(rootDir.resolveFile(INDEX_FILE, NameScope.CHILD));
+  }
+
+  /**
+   * Version of note.json, to detect notes modified outside of this repository
+   */
+  private String getVersion(FileObject noteJson) throws IOException {
+    noteJson.refresh();
+    FileContent content = noteJson.getContent();
+    return content.getLastModifiedTime() + "-" + content.getSize();
+  }
+
   private Note getNote(FileObject noteDir) throws IOException {
     if (!isDirectory(noteDir)) {
       throw new IOException(noteDir.getName().toString() + " is not a directory");
@@ -158,15 +208,22 @@ public class VFSNotebookRepo implements NotebookRepo {
       throw new IOException(noteJson.getName().toString() + " not found");
     }
 
-    GsonBuilder gsonBuilder = new GsonBuilder();
-    gsonBuilder.setPrettyPrinting();
-    Gson gson = gsonBuilder.registerTypeAdapter(Date.class, new NotebookImportDeserializer())
-        .create();
+    return parseNote(readNoteJson(noteJson));
+  }
 
+  private String readNoteJson(FileObject noteJson) throws IOException {
     FileContent content = noteJson.getContent();
     InputStream ins = content.getInputStream();
     String json = IOUtils.toString(ins, conf.getString(ConfVars.ZEPPELIN_ENCODING));
     ins.close();
+    return json;
+  }
+
+  private Note parseNote(String json) {
+    GsonBuilder gsonBuilder = new GsonBuilder();
+    gsonBuilder.setPrettyPrinting();
+    Gson gson = gsonBuilder.registerTypeAdapter(Date.class, new NotebookImportDeserializer())
+        .create();
 
     Note note = gson.fromJson(json, Note.class);
 //    note.setReplLoader(replLoader);
@@ -191,8 +248,25 @@ public class VFSNotebookRepo implements NotebookRepo {
   }
 
   private NoteInfo getNoteInfo(FileObject noteDir) throws IOException {
-    Note note = getNote(noteDir);
-    return new NoteInfo(note);
+    if (!isDirectory(noteDir)) {
+      throw new IOException(noteDir.getName().toString() + " is not a directory");
+    }
+
+    FileObject noteJson = noteDir.resolveFile("note.json", NameScope.CHILD);
+    if (!noteJson.exists()) {
+      throw new IOException(noteJson.getName().toString() + " not found");
+    }
+
+    String key = noteDir.getName().getBaseName();
+    String version = getVersion(noteJson);
+    NoteInfo info = getIndex().get(key, version);
+    if (info == null) {
+      String json = readNoteJson(noteJson);
+      info = new NoteInfo(parseNote(json));
+      info.setVersion(version);
+      getIndex().put(key, info, version);
+    }
+    return info;
   }
 
   @Override
@@ -240,7 +314,9 @@ public class VFSNotebookRepo implements NotebookRepo {
     OutputStream out = noteJson.getContent().getOutputStream(false);
     out.write(json.getBytes(conf.getString(ConfVars.ZEPPELIN_ENCODING)));
     out.close();
-    noteJson.moveTo(noteDir.resolveFile("note.json", NameScope.CHILD));
+    FileObject target = noteDir.resolveFile("note.json", NameScope.CHILD);
+    noteJson.moveTo(target);
+    getIndex().put(note.getId(), new NoteInfo(note), getVersion(target));
   }
 
   @Override
@@ -259,11 +335,16 @@ public class VFSNotebookRepo implements NotebookRepo {
     }
 
     noteDir.delete(Selectors.SELECT_SELF_AND_CHILDREN);
+    getIndex().remove(noteId);
   }
 
   @Override
   public void close() {
-    //no-op    
+    try {
+      saveIndex();
+    } catch (IOException e) {
+      logger.error("Can't save note index", e);
+    }
   }
 
   @Override
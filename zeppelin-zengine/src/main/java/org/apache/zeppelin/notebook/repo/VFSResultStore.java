@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.repo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemManager;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.NameScope;
+import org.apache.commons.vfs2.VFS;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Keeps paragraph results in files named by the SHA-256 of the result,
+ * under zeppelin.notebook.result.store.dir ([notebook dir]/.results by default).
+ */
+public class VFSResultStore implements ResultStore {
+  private static final Logger logger = LoggerFactory.getLogger(VFSResultStore.class);
+  private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+  private FileSystemManager fsManager;
+  private URI root;
+
+  public VFSResultStore(ZeppelinConfiguration conf) throws IOException {
+    String dir = conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_STORE_DIR);
+    if (dir == null || dir.trim().isEmpty()) {
+      dir = conf.getNotebookDir() + "/.results";
+    }
+
+    try {
+      if (conf.isWindowsPath(dir)) {
+        root = new File(dir).toURI();
+      } else {
+        root = new URI(dir);
+      }
+      if (root.getScheme() == null) { // it is local path
+        root = new URI(new File(conf.getRelativeDir(root.getPath())).getAbsolutePath());
+      }
+    } catch (URISyntaxException e) {
+      throw new IOException(e);
+    }
+
+    fsManager = VFS.getManager();
+    FileObject rootDir = fsManager.resolveFile(root.getPath());
+    if (!rootDir.exists()) {
+      logger.info("Result store dir doesn't exist, create.");
+      rootDir.createFolder();
+    }
+  }
+
+  private FileObject getFile(String key) throws IOException {
+    if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+      throw new IOException("Invalid result key " + key);
+    }
+    FileObject rootDir = fsManager.resolveFile(root.getPath());
+    // spread files over subdirectories, not to have too many files in a directory
+    return rootDir.resolveFile(key.substring(0, 2), NameScope.CHILD)
+        .resolveFile(key, NameScope.CHILD);
+  }
+
+  @Override
+  public synchronized String save(String result) throws IOException {
+    byte[] bytes = result.getBytes(StandardCharsets.UTF_8);
+    String key = Hashing.sha256().hashBytes(bytes).toString();
+
+    FileObject file = getFile(key);
+    if (file.exists()) {
+      // same content is already stored. touch it, not to be removed as unused meanwhile
+      file.getContent().setLastModifiedTime(System.currentTimeMillis());
+      return key;
+    }
+
+    FileObject dir = file.getParent();
+    if (!dir.exists()) {
+      dir.createFolder();
+    }
+    FileObject tmp = dir.resolveFile("." + key, NameScope.CHILD);
+    OutputStream out = tmp.getContent().getOutputStream(false);
+    try {
+      out.write(bytes);
+    } finally {
+      out.close();
+    }
+    tmp.moveTo(file);
+    return key;
+  }
+
+  @Override
+  public String load(String key) throws IOException {
+    FileObject file = getFile(key);
+    if (!file.exists()) {
+      throw new IOException("Result " + key + " not found");
+    }
+
+    InputStream ins = file.getContent().getInputStream();
+    try {
+      return IOUtils.toString(ins, StandardCharsets.UTF_8);
+    } finally {
+      ins.close();
+    }
+  }
+
+  @Override
+  public synchronized int removeUnused(Set<String> usedKeys, long minAgeMs) throws IOException {
+    long removeBefore = System.currentTimeMillis() - minAgeMs;
+    int removed = 0;
+    FileObject rootDir = fsManager.resolveFile(root.getPath());
+    for (FileObject dir : rootDir.getChildren()) {
+      if (dir.getType() != FileType.FOLDER) {
+        continue;
+      }
+      for (FileObject file : dir.getChildren()) {
+        String name = file.getName().getBaseName();
+        // leftover of an interrupted save is named .[key]
+        String key = name.startsWith(".") ? name.substring(1) : name;
+        if (!KEY_PATTERN.matcher(key).matches()
+            || (key.equals(name) && usedKeys.contains(key))
+            || file.getContent().getLastModifiedTime() > removeBefore) {
+          continue;
+        }
+        if (file.delete()) {
+          removed++;
+        }
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public void close() {
+    //no-op
+  }
+}
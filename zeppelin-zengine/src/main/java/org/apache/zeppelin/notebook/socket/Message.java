@@ -35,6 +35,7 @@ public class Message {
 
     NOTE, // [s-c] note info
           // @param note serlialized Note object
+          // @param version note version that following PARAGRAPH_STATUS is based on
 
     PARAGRAPH, // [s-c] paragraph info
                // @param paragraph serialized paragraph object
@@ -43,6 +44,13 @@ public class Message {
               // @param id paragraph id
               // @param progress percentage progress
 
+    PARAGRAPH_STATUS, // [s-c] paragraph job became pending or running.
+                      // terminated paragraph sends NOTE
+                      // @param noteId note id
+                      // @param id paragraph id
+                      // @param status, progress, dateStarted, dateFinished, errorMessage
+                      // @param version note version. client reloads note on a gap
+
     NEW_NOTE, // [c-s] create new notebook
     DEL_NOTE, // [c-s] delete notebook
               // @param id note id
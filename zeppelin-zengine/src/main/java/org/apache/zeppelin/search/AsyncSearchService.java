@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.search;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.zeppelin.metrics.Gauge;
+import org.apache.zeppelin.metrics.MetricRegistry;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Indexes notes in a background thread, so saving a note doesn't wait for the index.
+ *
+ * Changes of the same note waiting in the queue are coalesced into one, and the note
+ * is indexed as it is when the change is taken from the queue. When maxQueueSize notes
+ * are waiting, updates of other notes wait for room in the queue.
+ * Query, bulk indexing, indexed versions and close are passed to the underlying
+ * SearchService directly.
+ * Queue depth and indexing lag are registered in MetricRegistry.
+ */
+public class AsyncSearchService implements SearchService {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncSearchService.class);
+
+  private final SearchService index;
+  private final int maxQueueSize;
+
+  // changes waiting to be indexed, by noteId. in the order they're queued
+  private final LinkedHashMap<String, Change> queue = new LinkedHashMap<>();
+  private final Thread worker;
+  private boolean terminate = false;
+  private volatile long lastLag = 0;
+  private final Gauge queueDepthGauge;
+  private final Gauge lagGauge;
+
+  /**
+   * Changes of a note
+   */
+  private static class Change {
+    final long queuedAt = System.currentTimeMillis();
+    // the latest instance of the note. a note reloaded from the repo is a new instance
+    Note note;
+    final List<Paragraph> deletedParagraphs = new LinkedList<>();
+    boolean delete = false;
+    boolean update = false;
+
+    Change(Note note) {
+      this.note = note;
+    }
+  }
+
+  public AsyncSearchService(SearchService index, int maxQueueSize) {
+    this.index = index;
+    this.maxQueueSize = maxQueueSize;
+    worker = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        process();
+      }
+    }, "AsyncSearchService");
+    worker.setDaemon(true);
+    worker.start();
+
+    MetricRegistry registry = MetricRegistry.singleton();
+    queueDepthGauge = registry.register(new Gauge("zeppelin_search_queue_length",
+        "Number of notes waiting to be indexed") {
+      @Override
+      public long getValue() {
+        return getQueueDepth();
+      }
+    });
+    lagGauge = registry.register(new Gauge("zeppelin_search_index_lag_ms",
+        "Time the oldest note in the queue is waiting, or the last indexed note waited") {
+      @Override
+      public long getValue() {
+        return getLag();
+      }
+    });
+  }
+
+  private void process() {
+    while (true) {
+      Change change;
+      synchronized (queue) {
+        while (queue.isEmpty() && !terminate) {
+          try {
+            queue.wait();
+          } catch (InterruptedException e) {
+            LOG.error("Exception in AsyncSearchService while queue.wait", e);
+          }
+        }
+        if (queue.isEmpty()) {
+          // terminated and drained
+          return;
+        }
+        Iterator<Change> it = queue.values().iterator();
+        change = it.next();
+        it.remove();
+        // room for callers waiting in update()
+        queue.notifyAll();
+      }
+
+      apply(change);
+      lastLag = System.currentTimeMillis() - change.queuedAt;
+    }
+  }
+
+  private void apply(Change change) {
+    try {
+      for (Paragraph p : change.deletedParagraphs) {
+        index.deleteIndexDoc(change.note, p);
+      }
+      if (change.delete) {
+        index.deleteIndexDocs(change.note);
+      }
+      if (change.update) {
+        index.updateIndexDoc(change.note);
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to index note {}", change.note.getId(), e);
+    }
+  }
+
+  /**
+   * Get the queued change of the note, creating one if not exists.
+   * Must be called with queue lock held.
+   *
+   * @param force create even if the queue is full
+   * @return null if the queue is full
+   */
+  private Change getChange(Note note, boolean force) {
+    Change change = queue.get(note.getId());
+    if (change == null) {
+      if (!force && queue.size() >= maxQueueSize) {
+        return null;
+      }
+      change = new Change(note);
+      queue.put(note.getId(), change);
+    } else {
+      change.note = note;
+    }
+    queue.notifyAll();
+    return change;
+  }
+
+  /**
+   * Queue update of the note. Waits for room when the queue is full
+   */
+  private void update(Note note) {
+    synchronized (queue) {
+      Change change = getChange(note, terminate);
+      while (change == null) {
+        LOG.debug("Indexing queue is full. note {} waits for room", note.getId());
+        try {
+          queue.wait(1000);
+        } catch (InterruptedException e) {
+          LOG.error("Exception in AsyncSearchService while waiting for room", e);
+        }
+        change = getChange(note, terminate);
+      }
+      change.update = true;
+    }
+  }
+
+  @Override
+  public List<Map<String, String>> query(String queryStr) {
+    return index.query(queryStr);
+  }
+
+  @Override
+  public void updateIndexDoc(Note note) throws IOException {
+    update(note);
+  }
+
+  @Override
+  public void addIndexDocs(Collection<Note> collection) {
+    index.addIndexDocs(collection);
+  }
+
+  @Override
+  public void retainIndexDocs(Collection<String> noteIds) {
+    index.retainIndexDocs(noteIds);
+  }
+
+  @Override
+  public String getIndexedVersion(String noteId) {
+    return index.getIndexedVersion(noteId);
+  }
+
+  @Override
+  public void setIndexedVersion(String noteId, String version) {
+    index.setIndexedVersion(noteId, version);
+  }
+
+  @Override
+  public void addIndexDoc(Note note) {
+    update(note);
+  }
+
+  /**
+   * Deletes are always queued, as they can be called with the note locked
+   */
+  @Override
+  public void deleteIndexDocs(Note note) {
+    if (null == note) {
+      LOG.error("Trying to delete note by reference to NULL");
+      return;
+    }
+    synchronized (queue) {
+      Change change = getChange(note, true);
+      // previous changes don't matter
+      change.deletedParagraphs.clear();
+      change.update = false;
+      change.delete = true;
+    }
+  }
+
+  @Override
+  public void deleteIndexDoc(Note note, Paragraph p) {
+    if (null == note) {
+      LOG.error("Trying to delete note by reference to NULL");
+      return;
+    }
+    synchronized (queue) {
+      getChange(note, true).deletedParagraphs.add(p);
+    }
+  }
+
+  /**
+   * @return number of notes waiting to be indexed
+   */
+  public int getQueueDepth() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  /**
+   * @return how long (ms) the oldest change in the queue is waiting,
+   *         or how long the last change waited when the queue is empty
+   */
+  public long getLag() {
+    synchronized (queue) {
+      if (queue.isEmpty()) {
+        return lastLag;
+      }
+      return System.currentTimeMillis() - queue.values().iterator().next().queuedAt;
+    }
+  }
+
+  /**
+   * Index all queued changes and close the underlying index
+   */
+  @Override
+  public void close() {
+    MetricRegistry.singleton().remove(queueDepthGauge);
+    MetricRegistry.singleton().remove(lagGauge);
+    synchronized (queue) {
+      terminate = true;
+      queue.notifyAll();
+    }
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      LOG.error("Interrupted while waiting for indexing queue to drain", e);
+    }
+    index.close();
+  }
+}
@@ -17,12 +17,21 @@
 package org.apache.zeppelin.search;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
@@ -30,10 +39,10 @@ import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Fields;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -43,6 +52,7 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
@@ -51,7 +61,10 @@ import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.apache.lucene.search.highlight.TextFragment;
 import org.apache.lucene.search.highlight.TokenSources;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.RAMDirectory;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.slf4j.Logger;
@@ -60,12 +73,21 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * Search (both, indexing and query) the notebooks using Lucene.
  *
- * Query is thread-safe, as creates new IndexReader every time.
+ * Query is thread-safe, as acquires near-real-time searcher from SearcherManager.
  * Index is thread-safe, as re-uses single IndexWriter, which is thread-safe.
+ *
+ * Changes are visible to query once the indexing call returns, but committed only every
+ * commit interval or when commit batch changes are pending. When the index is kept on disk,
+ * a checkpoint document per note remembers the indexed version of the note, so unchanged
+ * notes are not re-indexed on start nor on every save. It also remembers the version of
+ * the note in the notebook repository when known, so unchanged notes are not even read
+ * from the repository on start.
  */
 public class LuceneSearch implements SearchService {
   private static final Logger LOG = LoggerFactory.getLogger(LuceneSearch.class);
@@ -74,21 +96,141 @@ public class LuceneSearch implements SearchService {
   private static final String SEARCH_FIELD_TITLE = "header";
   static final String PARAGRAPH = "paragraph";
   static final String ID_FIELD = "id";
+  static final String CHECKPOINT = "checkpoint";
+  private static final String VERSION_FIELD = "version";
+  private static final String REPO_VERSION_FIELD = "repoVersion";
 
-  Directory ramDirectory;
+  Directory directory;
   Analyzer analyzer;
   IndexWriterConfig iwc;
   IndexWriter writer;
+  SearcherManager searcherManager;
+
+  // indexed version of the notes, by noteId
+  private final Map<String, String> versions = new ConcurrentHashMap<>();
+  // version of the notes in the notebook repository they're indexed from, by noteId
+  private final Map<String, String> repoVersions = new ConcurrentHashMap<>();
+  private final AtomicInteger numUncommitted = new AtomicInteger();
+  private int commitBatch;
+  private ScheduledExecutorService committer;
 
+  /**
+   * Index in memory
+   */
   public LuceneSearch() {
-    ramDirectory = new RAMDirectory();
+    this(new RAMDirectory(),
+        ConfVars.ZEPPELIN_SEARCH_COMMIT_INTERVAL.getIntValue(),
+        ConfVars.ZEPPELIN_SEARCH_COMMIT_BATCH.getIntValue());
+  }
+
+  /**
+   * Index in zeppelin.search.index.dir, or in memory if it's not set
+   */
+  public LuceneSearch(ZeppelinConfiguration conf) {
+    this(openDirectory(conf.getString(ConfVars.ZEPPELIN_SEARCH_INDEX_DIR)),
+        conf.getInt(ConfVars.ZEPPELIN_SEARCH_COMMIT_INTERVAL),
+        conf.getInt(ConfVars.ZEPPELIN_SEARCH_COMMIT_BATCH));
+  }
+
+  LuceneSearch(Directory directory, int commitInterval, int commitBatch) {
+    this.directory = directory;
+    this.commitBatch = commitBatch;
     analyzer = new StandardAnalyzer();
     iwc = new IndexWriterConfig(analyzer);
     try {
-      writer = new IndexWriter(ramDirectory, iwc);
+      writer = new IndexWriter(directory, iwc);
+      searcherManager = new SearcherManager(writer, true, null);
+      loadVersions();
     } catch (IOException e) {
       LOG.error("Failed to create new IndexWriter", e);
     }
+
+    if (commitInterval > 0) {
+      committer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "LuceneSearchCommitter");
+          t.setDaemon(true);
+          return t;
+        }
+      });
+      committer.scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          if (numUncommitted.get() > 0) {
+            commit();
+          }
+        }
+      }, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static Directory openDirectory(String path) {
+    if (path == null || path.trim().isEmpty()) {
+      return new RAMDirectory();
+    }
+    try {
+      LOG.info("Notebook search index in {}", path);
+      return FSDirectory.open(Paths.get(path));
+    } catch (IOException e) {
+      LOG.error("Failed to open index dir {}, keep index in memory instead", path, e);
+      return new RAMDirectory();
+    }
+  }
+
+  /**
+   * Read versions of the notes indexed before, from their checkpoint documents
+   */
+  private void loadVersions() throws IOException {
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      int maxDoc = Math.max(1, searcher.getIndexReader().maxDoc());
+      Query query = new WildcardQuery(new Term(ID_FIELD, "*/" + CHECKPOINT));
+      for (ScoreDoc hit : searcher.search(query, maxDoc).scoreDocs) {
+        Document doc = searcher.doc(hit.doc);
+        String id = doc.get(ID_FIELD);
+        String noteId = id.substring(0, id.length() - CHECKPOINT.length() - 1);
+        versions.put(noteId, doc.get(VERSION_FIELD));
+        if (doc.get(REPO_VERSION_FIELD) != null) {
+          repoVersions.put(noteId, doc.get(REPO_VERSION_FIELD));
+        }
+      }
+    } finally {
+      searcherManager.release(searcher);
+    }
+    if (!versions.isEmpty()) {
+      LOG.info("{} notes are found in the search index", versions.size());
+    }
+  }
+
+  private void commit() {
+    int n = numUncommitted.getAndSet(0);
+    try {
+      writer.commit();
+    } catch (IOException e) {
+      numUncommitted.addAndGet(n);
+      LOG.error("Failed to commit index", e);
+    }
+  }
+
+  /**
+   * Make changes visible to query. Done after writes, so query doesn't wait for it
+   */
+  private void refresh() {
+    try {
+      searcherManager.maybeRefreshBlocking();
+    } catch (IOException e) {
+      LOG.error("Failed to refresh index searcher", e);
+    }
+  }
+
+  /**
+   * Count uncommitted changes and commit if there're commit batch of them
+   */
+  private void changed(int numChanges) {
+    if (numUncommitted.addAndGet(numChanges) >= commitBatch) {
+      commit();
+    }
   }
 
   /* (non-Javadoc)
@@ -96,13 +238,14 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public List<Map<String, String>> query(String queryStr) {
-    if (null == ramDirectory) {
+    if (null == searcherManager) {
       throw new IllegalStateException(
           "Something went wrong on instance creation time, index dir is null");
     }
     List<Map<String, String>> result = Collections.emptyList();
-    try (IndexReader indexReader = DirectoryReader.open(ramDirectory)) {
-      IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+    IndexSearcher indexSearcher = null;
+    try {
+      indexSearcher = searcherManager.acquire();
       Analyzer analyzer = new StandardAnalyzer();
       MultiFieldQueryParser parser = new MultiFieldQueryParser(
           new String[] {SEARCH_FIELD_TEXT, SEARCH_FIELD_TITLE},
@@ -115,11 +258,18 @@ public class LuceneSearch implements SearchService {
       Highlighter highlighter = new Highlighter(htmlFormatter, new QueryScorer(query));
 
       result = doSearch(indexSearcher, query, analyzer, highlighter);
-      indexReader.close();
     } catch (IOException e) {
-      LOG.error("Failed to open index dir {}, make sure indexing finished OK", ramDirectory, e);
+      LOG.error("Failed to open index dir {}, make sure indexing finished OK", directory, e);
     } catch (ParseException e) {
       LOG.error("Failed to parse query " + queryStr, e);
+    } finally {
+      if (indexSearcher != null) {
+        try {
+          searcherManager.release(indexSearcher);
+        } catch (IOException e) {
+          LOG.error("Failed to release searcher", e);
+        }
+      }
     }
     return result;
   }
@@ -146,10 +296,11 @@ public class LuceneSearch implements SearchService {
           String text = doc.get(SEARCH_FIELD_TEXT);
           String header = doc.get(SEARCH_FIELD_TITLE);
           String fragment = "";
+          Fields termVectors = searcher.getIndexReader().getTermVectors(id);
 
           if (text != null) {
-            TokenStream tokenStream = TokenSources.getTokenStream(searcher.getIndexReader(), id,
-                SEARCH_FIELD_TEXT, analyzer);
+            TokenStream tokenStream = TokenSources.getTokenStream(SEARCH_FIELD_TEXT, termVectors,
+                text, analyzer, -1);
             TextFragment[] frag = highlighter.getBestTextFragments(tokenStream, text, true, 3);
             LOG.debug("    {} fragments found for query '{}'", frag.length, query);
             for (int j = 0; j < frag.length; j++) {
@@ -161,8 +312,8 @@ public class LuceneSearch implements SearchService {
           }
 
           if (header != null) {
-            TokenStream tokenTitle = TokenSources.getTokenStream(searcher.getIndexReader(), id,
-                SEARCH_FIELD_TITLE, analyzer);
+            TokenStream tokenTitle = TokenSources.getTokenStream(SEARCH_FIELD_TITLE, termVectors,
+                header, analyzer, -1);
             TextFragment[] frgTitle = highlighter.getBestTextFragments(tokenTitle, header, true, 3);
             header = (frgTitle != null && frgTitle.length > 0) ? frgTitle[0].toString() : "";
           } else {
@@ -185,49 +336,96 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void updateIndexDoc(Note note) throws IOException {
-    updateIndexNoteName(note);
-    for (Paragraph p: note.getParagraphs()) {
-      updateIndexParagraph(note, p);
+    try {
+      if (reindex(note)) {
+        refresh();
+      }
+    } catch (IOException e) {
+      LOG.error("Failed to updaet index of notebook {}", note.getId(), e);
     }
   }
 
-  private void updateIndexNoteName(Note note) throws IOException {
-    String noteName = note.getName();
-    String noteId = note.getId();
-    LOG.debug("Indexing Notebook {}, '{}'", noteId, noteName);
-    if (null == noteName || noteName.isEmpty()) {
-      LOG.debug("Skipping empty notebook name");
-      return;
+  /**
+   * Replaces all documents of the given note, unless the note is not changed
+   * since it's indexed.
+   *
+   * @return true if the note is indexed
+   */
+  private synchronized boolean reindex(Note note) throws IOException {
+    String version = version(note);
+    if (version.equals(versions.get(note.getId()))) {
+      LOG.debug("Notebook {} is not changed since indexed", note.getId());
+      return false;
     }
-    updateDoc(noteId, noteName, null);
+
+    writer.deleteDocuments(
+        new WildcardQuery(new Term(ID_FIELD, formatDeleteId(note.getId(), null))));
+    int numDocs = addIndexDocAsync(note);
+    // version in the repository is not known until the note is saved and read again
+    writer.updateDocument(new Term(ID_FIELD, formatCheckpointId(note.getId())),
+        newCheckpoint(note.getId(), version, null));
+    versions.put(note.getId(), version);
+    repoVersions.remove(note.getId());
+    changed(numDocs + 1);
+    return true;
+  }
+
+  @Override
+  public String getIndexedVersion(String noteId) {
+    return repoVersions.get(noteId);
   }
 
-  private void updateIndexParagraph(Note note, Paragraph p) throws IOException {
-    if (p.getText() == null) {
-      LOG.debug("Skipping empty paragraph");
+  @Override
+  public synchronized void setIndexedVersion(String noteId, String repoVersion) {
+    String version = versions.get(noteId);
+    if (version == null || repoVersion == null || repoVersion.equals(repoVersions.get(noteId))) {
       return;
     }
-    updateDoc(note.getId(), note.getName(), p);
+    try {
+      writer.updateDocument(new Term(ID_FIELD, formatCheckpointId(noteId)),
+          newCheckpoint(noteId, version, repoVersion));
+      repoVersions.put(noteId, repoVersion);
+      changed(1);
+    } catch (IOException e) {
+      LOG.error("Failed to update checkpoint of notebook {}", noteId, e);
+    }
   }
 
   /**
-   * Updates index for the given note: either note.name or a paragraph If
-   * paragraph is <code>null</code> - updates only for the note.name
-   *
-   * @param noteId
-   * @param noteName
-   * @param p
-   * @throws IOException
+   * Version of the searchable contents of the note. Running a paragraph
+   * doesn't change it, so the note is not re-indexed on every run.
    */
-  private void updateDoc(String noteId, String noteName, Paragraph p) throws IOException {
-    String id = formatId(noteId, p);
-    Document doc = newDocument(id, noteName, p);
-    try {
-      writer.updateDocument(new Term(ID_FIELD, id), doc);
-      writer.commit();
-    } catch (IOException e) {
-      LOG.error("Failed to updaet index of notebook {}", noteId, e);
+  static String version(Note note) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, note.getName());
+    for (Paragraph p : note.getParagraphs()) {
+      putString(hasher, p.getId());
+      putString(hasher, p.getTitle());
+      putString(hasher, p.getText());
+    }
+    return hasher.hash().toString();
+  }
+
+  private static void putString(Hasher hasher, String s) {
+    if (s == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(s.length()).putString(s, StandardCharsets.UTF_8);
+    }
+  }
+
+  static String formatCheckpointId(String noteId) {
+    return Joiner.on('/').join(noteId, CHECKPOINT);
+  }
+
+  private Document newCheckpoint(String noteId, String version, String repoVersion) {
+    Document doc = new Document();
+    doc.add(new StringField(ID_FIELD, formatCheckpointId(noteId), Field.Store.YES));
+    doc.add(new StoredField(VERSION_FIELD, version));
+    if (repoVersion != null) {
+      doc.add(new StoredField(REPO_VERSION_FIELD, repoVersion));
     }
+    return doc;
   }
 
   /**
@@ -290,31 +488,47 @@ public class LuceneSearch implements SearchService {
     long start = System.nanoTime();
     try {
       for (Note note : collection) {
-        addIndexDocAsync(note);
-        docsIndexed++;
+        if (reindex(note)) {
+          docsIndexed++;
+        }
       }
     } catch (IOException e) {
       LOG.error("Failed to index all Notebooks", e);
     } finally {
-      try { // save what's been indexed, even if not full collection
-        writer.commit();
-      } catch (IOException e) {
-        LOG.error("Failed to save index", e);
-      }
+      // save what's been indexed, even if not full collection
+      commit();
+      refresh();
       long end = System.nanoTime();
       LOG.info("Indexing {} notebooks took {}ms", docsIndexed,
           TimeUnit.NANOSECONDS.toMillis(end - start));
     }
   }
 
+  /* (non-Javadoc)
+   * @see org.apache.zeppelin.search.Search#retainIndexDocs(java.util.Collection)
+   */
+  @Override
+  public void retainIndexDocs(Collection<String> noteIds) {
+    Set<String> removed = new HashSet<>(versions.keySet());
+    removed.removeAll(noteIds);
+    for (String noteId : removed) {
+      LOG.info("Notebook {} is removed since indexed", noteId);
+      deleteDoc(noteId, null);
+    }
+    if (!removed.isEmpty()) {
+      refresh();
+    }
+  }
+
   /* (non-Javadoc)
    * @see org.apache.zeppelin.search.Search#addIndexDoc(org.apache.zeppelin.notebook.Note)
    */
   @Override
   public void addIndexDoc(Note note) {
     try {
-      addIndexDocAsync(note);
-      writer.commit();
+      if (reindex(note)) {
+        refresh();
+      }
     } catch (IOException e) {
       LOG.error("Failed to add note {} to index", note, e);
     }
@@ -324,17 +538,20 @@ public class LuceneSearch implements SearchService {
    * Indexes the given notebook, but does not commit changes.
    *
    * @param note
+   * @return number of documents added
    * @throws IOException
    */
-  private void addIndexDocAsync(Note note) throws IOException {
-    indexNoteName(writer, note.getId(), note.getName());
+  private int addIndexDocAsync(Note note) throws IOException {
+    int numDocs = indexNoteName(writer, note.getId(), note.getName());
     for (Paragraph doc : note.getParagraphs()) {
       if (doc.getText() == null) {
         LOG.debug("Skipping empty paragraph");
         continue;
       }
       indexDoc(writer, note.getId(), note.getName(), doc);
+      numDocs++;
     }
+    return numDocs;
   }
 
   /* (non-Javadoc)
@@ -342,7 +559,12 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void deleteIndexDocs(Note note) {
-    deleteDoc(note, null);
+    if (null == note) {
+      LOG.error("Trying to delete note by reference to NULL");
+      return;
+    }
+    deleteDoc(note.getId(), null);
+    refresh();
   }
 
   /* (non-Javadoc)
@@ -351,21 +573,28 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void deleteIndexDoc(Note note, Paragraph p) {
-    deleteDoc(note, p);
-  }
-
-  private void deleteDoc(Note note, Paragraph p) {
     if (null == note) {
       LOG.error("Trying to delete note by reference to NULL");
       return;
     }
-    String fullNoteOrJustParagraph = formatDeleteId(note.getId(), p);
-    LOG.debug("Deleting note {}, out of: {}", note.getId(), writer.numDocs());
+    deleteDoc(note.getId(), p);
+    refresh();
+  }
+
+  private synchronized void deleteDoc(String noteId, Paragraph p) {
+    String fullNoteOrJustParagraph = formatDeleteId(noteId, p);
+    LOG.debug("Deleting note {}, out of: {}", noteId, writer.numDocs());
     try {
       writer.deleteDocuments(new WildcardQuery(new Term(ID_FIELD, fullNoteOrJustParagraph)));
-      writer.commit();
+      if (p != null) {
+        // note is changed. re-index it on next update
+        writer.deleteDocuments(new Term(ID_FIELD, formatCheckpointId(noteId)));
+      }
+      versions.remove(noteId);
+      repoVersions.remove(noteId);
+      changed(1);
     } catch (IOException e) {
-      LOG.error("Failed to delete {} from index by '{}'", note, fullNoteOrJustParagraph, e);
+      LOG.error("Failed to delete {} from index by '{}'", noteId, fullNoteOrJustParagraph, e);
     }
     LOG.debug("Done, index contains {} docs now" + writer.numDocs());
   }
@@ -375,8 +604,14 @@ public class LuceneSearch implements SearchService {
    */
   @Override
   public void close() {
+    if (committer != null) {
+      committer.shutdownNow();
+    }
     try {
+      searcherManager.close();
+      // IndexWriter commits on close
       writer.close();
+      directory.close();
     } catch (IOException e) {
       LOG.error("Failed to .close() the notebook index", e);
     }
@@ -387,13 +622,14 @@ public class LuceneSearch implements SearchService {
    *
    * @throws IOException
    */
-  private void indexNoteName(IndexWriter w, String noteId, String noteName) throws IOException {
+  private int indexNoteName(IndexWriter w, String noteId, String noteName) throws IOException {
     LOG.debug("Indexing Notebook {}, '{}'", noteId, noteName);
     if (null == noteName || noteName.isEmpty()) {
       LOG.debug("Skipping empty notebook name");
-      return;
+      return 0;
     }
     indexDoc(w, noteId, noteName, null);
+    return 1;
   }
 
   /**
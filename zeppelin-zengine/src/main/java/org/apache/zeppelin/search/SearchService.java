@@ -58,6 +58,32 @@ public interface SearchService {
    */
   public void addIndexDocs(Collection<Note> collection);
 
+  /**
+   * Deletes docs of all notes but the given ones, e.g. notes removed
+   * while the index was not running
+   *
+   * @param noteIds ids of the notes to keep
+   */
+  public void retainIndexDocs(Collection<String> noteIds);
+
+  /**
+   * @param noteId id of the note
+   * @return version of the note in the notebook repository the note is indexed from,
+   *         see {@link org.apache.zeppelin.notebook.NoteInfo#getVersion()}.
+   *         null if unknown, or the note is changed since
+   */
+  public String getIndexedVersion(String noteId);
+
+  /**
+   * Remember the version of the note in the notebook repository the note is indexed from,
+   * so the note is not read from the repository again to index it until the version changes.
+   * Ignored when the note is not indexed.
+   *
+   * @param noteId id of the note
+   * @param version version of the note in the notebook repository
+   */
+  public void setIndexedVersion(String noteId, String version);
+
   /**
    * Indexes the given notebook.
    *
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.dep.Dependency;
+import org.apache.zeppelin.dep.DependencyResolver;
+import org.apache.zeppelin.interpreter.mock.MockInterpreter1;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IdleInterpreterEvictorTest {
+  private static final long TIMEOUT = 10 * 1000;
+
+  private File tmpDir;
+  private InterpreterFactory factory;
+  private IdleInterpreterEvictor evictor;
+  private InterpreterSetting setting;
+
+  @Before
+  public void setUp() throws Exception {
+    tmpDir = new File(System.getProperty("java.io.tmpdir") + "/ZeppelinLTest_" + System.currentTimeMillis());
+    tmpDir.mkdirs();
+    new File(tmpDir, "conf").mkdirs();
+
+    MockInterpreter1.register("mock1", "org.apache.zeppelin.interpreter.mock.MockInterpreter1");
+    System.setProperty(ConfVars.ZEPPELIN_HOME.getVarName(), tmpDir.getAbsolutePath());
+    System.setProperty(ConfVars.ZEPPELIN_INTERPRETERS.getVarName(), "org.apache.zeppelin.interpreter.mock.MockInterpreter1");
+    ZeppelinConfiguration conf = new ZeppelinConfiguration();
+    DependencyResolver depResolver = new DependencyResolver(tmpDir.getAbsolutePath() + "/local-repo");
+    factory = new InterpreterFactory(conf, new InterpreterOption(false), null, null, null, depResolver);
+    evictor = new IdleInterpreterEvictor(factory, TIMEOUT);
+
+    InterpreterOption option = new InterpreterOption(false);
+    option.setPerNoteSession(true);
+    setting = factory.createNewSetting("idle-mock1", "mock1", new LinkedList<Dependency>(), option, new Properties());
+    factory.setInterpreters("note1", Arrays.asList(setting.getId()));
+    factory.setInterpreters("note2", Arrays.asList(setting.getId()));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    evictor.close();
+    factory.close();
+    FileUtils.deleteDirectory(tmpDir);
+  }
+
+  @Test
+  public void testEvictIdleSessionThenGroup() throws Exception {
+    factory.getInterpreter("note1", "mock1");
+    Thread.sleep(10);
+    factory.getInterpreter("note2", "mock1");
+    InterpreterGroup group = setting.getInterpreterGroup("note1");
+    long lastUsed = group.getLastActivity("note2");
+
+    // note1 is idle, note2 is used just in time
+    evictor.evict(lastUsed + TIMEOUT);
+    assertFalse(group.containsKey("note1"));
+    assertTrue(group.containsKey("note2"));
+    assertEquals(0, group.getLastActivity("note1"));
+
+    // all sessions idle, the group is removed
+    evictor.evict(lastUsed + TIMEOUT + 1);
+    assertEquals(0, setting.getAllInterpreterGroups().size());
+
+    // and created again on the next use
+    assertNotNull(factory.getInterpreter("note2", "mock1"));
+    assertNotSame(group, setting.getInterpreterGroup("note2"));
+    assertTrue(setting.getInterpreterGroup("note2").containsKey("note2"));
+  }
+
+  @Test
+  public void testSessionNotUsedYetIsKept() throws Exception {
+    InterpreterGroup group = setting.getInterpreterGroup("note1");
+    factory.createInterpretersForNote(setting, "note1", "note1");
+    assertEquals(0, group.getLastActivity("note1"));
+
+    // starts counting from the first time seen
+    evictor.evict(System.currentTimeMillis() + TIMEOUT + 1);
+    assertTrue(group.containsKey("note1"));
+    assertTrue(group.getLastActivity("note1") > 0);
+  }
+
+  @Test
+  public void testInterpretersBeingRemovedAreNotHandedOut() throws Exception {
+    Interpreter before = factory.getInterpreter("note1", "mock1");
+    InterpreterGroup group = setting.getInterpreterGroup("note1");
+    group.setRemoving("note1");
+
+    Thread remover = new Thread() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep(500);
+        } catch (InterruptedException e) {
+          return;
+        }
+        factory.removeInterpretersForNote(setting, "note1");
+      }
+    };
+    remover.start();
+
+    // waits until the interpreters are removed, then creates new ones
+    Interpreter after = factory.getInterpreter("note1", "mock1");
+    remover.join();
+    assertNotSame(before, after);
+    assertTrue(group.containsKey("note1"));
+    assertFalse(group.isRemoving("note1"));
+  }
+}
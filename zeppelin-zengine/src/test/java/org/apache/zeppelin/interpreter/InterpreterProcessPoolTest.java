@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.ServerSocket;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterpreterProcessPoolTest {
+  private ServerSocket endpoint;
+  private InterpreterProcessPool pool;
+  private final List<RemoteInterpreterProcess> created = new LinkedList<>();
+
+  private InterpreterProcessPool.ProcessFactory factory =
+      new InterpreterProcessPool.ProcessFactory() {
+        @Override
+        public RemoteInterpreterProcess create() {
+          RemoteInterpreterProcess process = mock(RemoteInterpreterProcess.class);
+          when(process.isRunning()).thenReturn(true);
+          when(process.getHost()).thenReturn("localhost");
+          when(process.getPort()).thenReturn(endpoint.getLocalPort());
+          created.add(process);
+          return process;
+        }
+      };
+
+  @Before
+  public void setUp() throws Exception {
+    // processes are started when their endpoint is accessible
+    endpoint = new ServerSocket(0);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pool.close();
+    endpoint.close();
+  }
+
+  private void waitForReady(String settingId, int num) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (pool.getNumReady(settingId) < num && System.currentTimeMillis() - start < 10000) {
+      Thread.sleep(10);
+    }
+    assertEquals(num, pool.getNumReady(settingId));
+  }
+
+  @Test
+  public void testClaimReplacesProcess() throws Exception {
+    pool = new InterpreterProcessPool(2, 60 * 1000);
+
+    // first claim warms up the setting
+    assertNull(pool.claim("setting1", factory));
+    assertEquals(2, created.size());
+    waitForReady("setting1", 2);
+    verify(created.get(0)).start();
+
+    RemoteInterpreterProcess claimed = pool.claim("setting1", factory);
+    assertNotNull(claimed);
+    assertTrue(created.contains(claimed));
+    assertEquals(3, created.size());
+    waitForReady("setting1", 2);
+    verify(claimed, never()).stop();
+
+    assertEquals(0, pool.getNumReady("setting2"));
+  }
+
+  @Test
+  public void testStopProcessNotClaimedInTtl() throws Exception {
+    pool = new InterpreterProcessPool(1, 100);
+    pool.claim("setting1", factory);
+    waitForReady("setting1", 1);
+
+    Thread.sleep(200);
+    pool.reap();
+    assertEquals(0, pool.getNumReady("setting1"));
+    verify(created.get(0)).stop();
+    // not warmed up again until the next claim
+    assertEquals(1, created.size());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    pool = new InterpreterProcessPool(1, 60 * 1000);
+    pool.claim("setting1", factory);
+    waitForReady("setting1", 1);
+
+    pool.clear("setting1");
+    assertEquals(0, pool.getNumReady("setting1"));
+    verify(created.get(0)).stop();
+  }
+
+  @Test
+  public void testProcessNotStarted() throws Exception {
+    endpoint.close();
+    pool = new InterpreterProcessPool(1, 60 * 1000);
+    pool.claim("setting1", factory);
+
+    verify(created.get(0), timeout(10000)).stop();
+    assertEquals(0, pool.getNumReady("setting1"));
+  }
+}
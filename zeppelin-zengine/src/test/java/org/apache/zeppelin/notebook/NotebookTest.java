@@ -18,7 +18,11 @@
 package org.apache.zeppelin.notebook;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 import java.io.File;
 import java.io.IOException;
@@ -42,6 +46,7 @@ import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.search.SearchService;
+import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.junit.After;
 import org.junit.Before;
@@ -191,6 +196,98 @@ public class NotebookTest implements JobListenerFactory{
     assertEquals(notes.size(), 0);
   }
 
+  @Test
+  public void testLoadNotesOnDemand() throws IOException, SchedulerException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName(), "2");
+    try {
+      Notebook notebook2 = new Notebook(conf, notebookRepo, schedulerFactory, factory, this,
+          mock(SearchService.class), notebookAuthorization, credentials);
+
+      Note note1 = notebook2.createNote(null);
+      note1.setName("note1");
+      note1.persist(null);
+      Note note2 = notebook2.createNote(null);
+      Note note3 = notebook2.createNote(null);
+
+      // least recently used note is evicted
+      assertFalse(notebook2.isLoaded(note1.getId()));
+      assertTrue(notebook2.isLoaded(note2.getId()));
+      assertTrue(notebook2.isLoaded(note3.getId()));
+      List<NoteInfo> infos = notebook2.getAllNoteInfos();
+      assertEquals(3, infos.size());
+      for (NoteInfo info : infos) {
+        if (info.getId().equals(note1.getId())) {
+          assertEquals("note1", info.getName());
+        }
+      }
+
+      // loaded on demand
+      Note loaded = notebook2.getNote(note1.getId());
+      assertEquals("note1", loaded.getName());
+      assertSame(loaded, notebook2.getNote(note1.getId()));
+      assertTrue(notebook2.isLoaded(note1.getId()));
+      assertFalse(notebook2.isLoaded(note2.getId()));
+
+      // note with running paragraph is not evicted
+      Paragraph p = notebook2.getNote(note3.getId()).addParagraph();
+      p.setStatus(Status.RUNNING);
+      notebook2.getNote(note2.getId());
+      notebook2.createNote(null);
+      assertTrue(notebook2.isLoaded(note3.getId()));
+      p.setStatus(Status.FINISHED);
+
+      assertNull(notebook2.getNote("not_exists"));
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName());
+    }
+  }
+
+  @Test
+  public void testKeepUnsavedAndOpenNotesLoaded() throws IOException, SchedulerException {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName(), "1");
+    try {
+      NotebookRepo repo = spy(notebookRepo);
+      Notebook notebook2 = new Notebook(conf, repo, schedulerFactory, factory, this,
+          mock(SearchService.class), notebookAuthorization, credentials);
+
+      // note which failed to save stays in memory
+      doThrow(new IOException("save failed")).when(repo)
+          .save(any(Note.class), any(AuthenticationInfo.class));
+      try {
+        notebook2.createNote(null);
+        fail("save should fail");
+      } catch (IOException e) {
+        // expected
+      }
+      doCallRealMethod().when(repo).save(any(Note.class), any(AuthenticationInfo.class));
+      String unsavedId = notebook2.getAllNoteInfos().get(0).getId();
+
+      final Note opened = notebook2.createNote(null);
+      notebook2.setOpenNotes(new OpenNotes() {
+        @Override
+        public boolean isOpen(String noteId) {
+          return noteId.equals(opened.getId());
+        }
+      });
+      Note other = notebook2.createNote(null);
+
+      assertTrue(notebook2.isLoaded(unsavedId));
+      assertNotNull(notebook2.getNote(unsavedId));
+      assertTrue(notebook2.isLoaded(opened.getId()));
+      assertTrue(notebook2.isLoaded(other.getId()));
+
+      // saved and closed notes can be evicted
+      notebook2.getNote(unsavedId).persist(null);
+      notebook2.setOpenNotes(null);
+      notebook2.createNote(null);
+      assertFalse(notebook2.isLoaded(unsavedId));
+      assertFalse(notebook2.isLoaded(opened.getId()));
+      assertNotNull(notebook2.getNote(unsavedId));
+    } finally {
+      System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CACHE_SIZE.getVarName());
+    }
+  }
+
   @Test
   public void testPersist() throws IOException, SchedulerException, RepositoryException {
     Note note = notebook.createNote(null);
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +32,7 @@ import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.display.Input;
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
+import org.apache.zeppelin.notebook.repo.ResultStore;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -111,4 +113,20 @@ public class ParagraphTest {
     verify(registry).get("age", noteId, null);
     assertEquals(actual, expected);
   }
+
+  @Test
+  public void updateResultFromOutputDoesNotLoadStoredResult() throws Exception {
+    ResultStore resultStore = mock(ResultStore.class);
+    when(resultStore.load("key")).thenReturn("\"stored\"");
+
+    Paragraph paragraph = new Paragraph(mock(Note.class), null, null);
+    paragraph.setResultRef(null, "key");
+    paragraph.setResultStore(resultStore);
+
+    paragraph.updateResultFromOutput();
+    verify(resultStore, never()).load(anyString());
+
+    assertEquals("stored", paragraph.getReturn());
+    verify(resultStore).load("key");
+  }
 }
@@ -37,6 +37,9 @@ import org.apache.zeppelin.notebook.repo.NotebookRepo.Revision;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -196,6 +199,21 @@ public class GitNotebookRepoTest {
     assertThat(notebookHistoryAfter.size()).isEqualTo(initialCount + 1);
   }
   
+  @Test
+  public void checkpointDoesNotCommitNoteIndex() throws IOException, GitAPIException {
+    notebookRepo = new GitNotebookRepo(conf);
+    // list() writes the note index
+    assertThat(notebookRepo.list(null)).isNotEmpty();
+    assertThat(new File(notebooksDir, VFSNotebookRepo.INDEX_FILE).exists()).isTrue();
+
+    assertThat(notebookRepo.checkpoint(".", "all notes", null)).isNotNull();
+
+    Repository repo = notebookRepo.getGit().getRepository();
+    RevCommit head = notebookRepo.getGit().log().setMaxCount(1).call().iterator().next();
+    assertThat(TreeWalk.forPath(repo, TEST_NOTE_ID + "/note.json", head.getTree())).isNotNull();
+    assertThat(TreeWalk.forPath(repo, VFSNotebookRepo.INDEX_FILE, head.getTree())).isNull();
+  }
+
   private boolean containsNote(List<NoteInfo> notes, String noteId) {
     for (NoteInfo note: notes) {
       if (note.getId().equals(noteId)) {
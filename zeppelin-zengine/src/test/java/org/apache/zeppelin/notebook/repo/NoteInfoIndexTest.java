@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.junit.Test;
+
+public class NoteInfoIndexTest {
+
+  @Test
+  public void testStaleEntry() {
+    NoteInfoIndex index = new NoteInfoIndex();
+    index.put("note1", new NoteInfo("note1", "name1", null), "v1");
+
+    assertEquals("name1", index.get("note1", "v1").getName());
+    assertEquals("v1", index.get("note1", "v1").getVersion());
+    assertNull(index.get("note1", "v2"));
+    assertNull(index.get("note2", "v1"));
+  }
+
+  @Test
+  public void testPersist() {
+    Map<String, Object> config = new HashMap<>();
+    config.put("cron", "0 0 * * * ?");
+    NoteInfoIndex index = new NoteInfoIndex();
+    index.put("note1", new NoteInfo("note1", "name1", config), "v1");
+    index.put("note2", new NoteInfo("note2", "name2", null), "v1");
+    assertTrue(index.isDirty());
+
+    NoteInfoIndex loaded = new NoteInfoIndex(index.toJson());
+    assertFalse(index.isDirty());
+    assertFalse(loaded.isDirty());
+    NoteInfo info = loaded.get("note1", "v1");
+    assertEquals("note1", info.getId());
+    assertEquals("name1", info.getName());
+    assertEquals("0 0 * * * ?", info.getConfig().get("cron"));
+    assertEquals("name2", loaded.get("note2", "v1").getName());
+  }
+
+  @Test
+  public void testRetainAndRemove() {
+    NoteInfoIndex index = new NoteInfoIndex();
+    index.put("note1", new NoteInfo("note1", "name1", null), "v1");
+    index.put("note2", new NoteInfo("note2", "name2", null), "v1");
+    index.toJson();
+
+    index.retainAll(Arrays.asList("note1"));
+    assertTrue(index.isDirty());
+    assertNull(index.get("note2", "v1"));
+
+    index.toJson();
+    index.remove("note3");
+    assertFalse(index.isDirty());
+    index.remove("note1");
+    assertTrue(index.isDirty());
+    assertNull(index.get("note1", "v1"));
+  }
+
+  @Test
+  public void testBrokenIndexIsIgnored() {
+    NoteInfoIndex index = new NoteInfoIndex("{broken");
+    assertNull(index.get("note1", "v1"));
+    assertTrue(index.isDirty());
+  }
+}
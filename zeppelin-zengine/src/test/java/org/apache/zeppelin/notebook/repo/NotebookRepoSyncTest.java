@@ -19,6 +19,7 @@ package org.apache.zeppelin.notebook.repo;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -27,12 +28,15 @@ import java.io.IOException;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
 import org.apache.zeppelin.dep.DependencyResolver;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.mock.MockInterpreter1;
 import org.apache.zeppelin.interpreter.mock.MockInterpreter2;
 import org.apache.zeppelin.notebook.*;
@@ -196,6 +200,78 @@ public class NotebookRepoSyncTest implements JobListenerFactory {
         notebookRepoSync.list(1, null).get(0).getId(), null).getLastParagraph().getId());
   }
 
+  @Test
+  public void testKeepLargeResultInResultStore() throws IOException {
+    Note note = notebookSync.createNote(null);
+    Paragraph small = note.addParagraph();
+    small.setResult(new InterpreterResult(Code.SUCCESS, "small"));
+    Paragraph large = note.addParagraph();
+    String largeMsg = StringUtils.repeat("x", 100 * 1024);
+    large.setResult(new InterpreterResult(Code.SUCCESS, largeMsg));
+    note.persist(null);
+
+    // note.json keeps only a reference of the large result
+    String json = FileUtils.readFileToString(
+        new File(mainNotebookDir, note.getId() + "/note.json"));
+    assertTrue(json.length() < 10 * 1024);
+    assertTrue(json.contains(large.getResultRef()));
+    assertEquals(null, small.getResultRef());
+    // size of unchanged small result is not checked again on next save
+    assertTrue(small.isInlineResult(small.getReturn()));
+    small.setResult(new InterpreterResult(Code.SUCCESS, "changed"));
+    assertFalse(small.isInlineResult(small.getReturn()));
+    // in memory result is not changed
+    assertEquals(largeMsg, large.getResult().message());
+
+    // result is loaded on first access
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_DIR.getVarName(), mainNotebookDir.getAbsolutePath());
+    NotebookRepoSync reloadedRepo = new NotebookRepoSync(conf);
+    for (int i = 0; i < reloadedRepo.getRepoCount(); i++) {
+      Note loaded = reloadedRepo.get(i, note.getId(), null);
+      assertEquals(large.getResultRef(), loaded.getParagraph(large.getId()).getResultRef());
+    }
+    Note loaded = reloadedRepo.get(note.getId(), null);
+    Map loadedResult = (Map) loaded.getParagraph(large.getId()).getReturn();
+    assertEquals(largeMsg, loadedResult.get("msg"));
+    Map smallResult = (Map) loaded.getParagraph(small.getId()).getReturn();
+    assertEquals("small", smallResult.get("msg"));
+  }
+
+  @Test
+  public void testRemoveUnusedResults() throws IOException {
+    File resultDir = new File(mainNotebookDir, ".results");
+    String largeMsg = StringUtils.repeat("x", 100 * 1024);
+    Note note = notebookSync.createNote(null);
+    Paragraph p = note.addParagraph();
+    p.setResult(new InterpreterResult(Code.SUCCESS, largeMsg));
+    note.persist(null);
+    String ref = p.getResultRef();
+
+    // another note keeps the same result
+    Note other = notebookSync.createNote(null);
+    other.addParagraph().setResult(new InterpreterResult(Code.SUCCESS, largeMsg));
+    other.persist(null);
+
+    // re-run
+    p.setResult(new InterpreterResult(Code.SUCCESS, largeMsg + "y"));
+    note.persist(null);
+    String newRef = p.getResultRef();
+    assertEquals(2, FileUtils.listFiles(resultDir, null, true).size());
+    assertEquals(0, notebookRepoSync.removeUnusedResults(0));
+
+    // removed note doesn't keep its result
+    notebookSync.removeNote(other.getId(), null);
+    // recently stored results are kept
+    assertEquals(0, notebookRepoSync.removeUnusedResults(60 * 1000));
+    assertEquals(1, notebookRepoSync.removeUnusedResults(0));
+    assertEquals(1, FileUtils.listFiles(resultDir, null, true).size());
+    assertEquals(newRef, FileUtils.listFiles(resultDir, null, true).iterator().next().getName());
+
+    notebookSync.removeNote(note.getId(), null);
+    assertEquals(1, notebookRepoSync.removeUnusedResults(0));
+    assertEquals(0, FileUtils.listFiles(resultDir, null, true).size());
+  }
+
   @Test
   public void testSyncOnReloadedList() throws IOException {
     /* check that both storage repos are empty */
@@ -18,10 +18,13 @@
 package org.apache.zeppelin.notebook.repo;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
@@ -137,6 +140,32 @@ public class VFSNotebookRepoTest implements JobListenerFactory {
     assertEquals(note.getName(), "SaveTest");
   }
 
+  @Test
+  public void testListFromIndex() throws IOException {
+    Note note = notebook.createNote(null);
+    note.setName("IndexTest");
+    notebookRepo.save(note, null);
+
+    List<NoteInfo> infos = notebookRepo.list(null);
+    assertEquals(1, infos.size());
+    assertEquals("IndexTest", infos.get(0).getName());
+    assertTrue(new File(mainNotebookDir, ".note-index.json").exists());
+
+    // note modified outside of the repository is read again
+    File noteJson = new File(mainNotebookDir, note.getId() + "/note.json");
+    String json = FileUtils.readFileToString(noteJson);
+    FileUtils.writeStringToFile(noteJson, json.replace("IndexTest", "ModifiedOutside"));
+    noteJson.setLastModified(noteJson.lastModified() + 2000);
+    NotebookRepo reopened = new VFSNotebookRepo(conf);
+    assertEquals("ModifiedOutside", reopened.list(null).get(0).getName());
+
+    // removed note is removed from the index
+    FileUtils.deleteDirectory(noteJson.getParentFile());
+    assertEquals(0, reopened.list(null).size());
+    assertFalse(FileUtils.readFileToString(new File(mainNotebookDir, ".note-index.json"))
+        .contains(note.getId()));
+  }
+
   class NotebookWriter implements Runnable {
     Note note;
     public NotebookWriter(Note note) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.notebook.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VFSResultStoreTest {
+  private File resultDir;
+  private VFSResultStore store;
+
+  @Before
+  public void setUp() throws Exception {
+    resultDir = new File(System.getProperty("java.io.tmpdir") + "/ZeppelinLTest_"
+        + System.currentTimeMillis());
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_STORE_DIR.getVarName(),
+        resultDir.getAbsolutePath());
+    store = new VFSResultStore(ZeppelinConfiguration.create());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_RESULT_STORE_DIR.getVarName());
+    FileUtils.deleteDirectory(resultDir);
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    String key1 = store.save("{\"msg\":\"result1\"}");
+    String key2 = store.save("{\"msg\":\"result2\"}");
+    assertNotEquals(key1, key2);
+    assertEquals("{\"msg\":\"result1\"}", store.load(key1));
+    assertEquals("{\"msg\":\"result2\"}", store.load(key2));
+  }
+
+  @Test
+  public void testSameResultStoredOnce() throws IOException {
+    String key = store.save("{\"msg\":\"result\"}");
+    assertEquals(key, store.save("{\"msg\":\"result\"}"));
+    assertEquals(1, FileUtils.listFiles(resultDir, null, true).size());
+  }
+
+  @Test
+  public void testRejectInvalidKey() throws IOException {
+    String key = store.save("{\"msg\":\"result\"}");
+    try {
+      store.load("../" + key.substring(2, 2 + 2) + "/" + key);
+      fail("invalid key is accepted");
+    } catch (IOException e) {
+      // expected
+    }
+    try {
+      store.load(key.replace(key.charAt(0), key.charAt(0) == 'a' ? 'b' : 'a'));
+      fail("not stored key is loaded");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testRemoveUnused() throws IOException {
+    String used = store.save("{\"msg\":\"used\"}");
+    String unused = store.save("{\"msg\":\"unused\"}");
+    // leftover of an interrupted save
+    File tmp = new File(resultDir, unused.substring(0, 2) + "/." + unused);
+    FileUtils.write(tmp, "{\"msg\":");
+
+    assertEquals(0, store.removeUnused(Collections.singleton(used), 60 * 1000));
+    assertEquals(3, FileUtils.listFiles(resultDir, null, true).size());
+
+    assertEquals(2, store.removeUnused(Collections.singleton(used), 0));
+    assertEquals(1, FileUtils.listFiles(resultDir, null, true).size());
+    assertEquals("{\"msg\":\"used\"}", store.load(used));
+  }
+}
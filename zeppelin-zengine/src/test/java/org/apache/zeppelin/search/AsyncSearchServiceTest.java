@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.zeppelin.metrics.Gauge;
+import org.apache.zeppelin.metrics.Metric;
+import org.apache.zeppelin.metrics.MetricRegistry;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class AsyncSearchServiceTest {
+  private SearchService index;
+  private AsyncSearchService asyncIndex;
+  private CountDownLatch indexing;
+  private CountDownLatch release;
+
+  @Before
+  public void setUp() throws Exception {
+    index = mock(SearchService.class);
+    indexing = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    asyncIndex.close();
+  }
+
+  /**
+   * Make the index block on indexing the given note until release
+   */
+  private void blockOn(Note note) throws Exception {
+    doAnswer(new Answer() {
+      @Override
+      public Object answer(InvocationOnMock invocation) throws Throwable {
+        indexing.countDown();
+        release.await(10, TimeUnit.SECONDS);
+        return null;
+      }
+    }).when(index).updateIndexDoc(note);
+  }
+
+  private Note newNote(String id) {
+    Note note = mock(Note.class);
+    when(note.getId()).thenReturn(id);
+    return note;
+  }
+
+  @Test
+  public void testCoalesceUpdatesOfSameNote() throws Exception {
+    asyncIndex = new AsyncSearchService(index, 10);
+    Note note1 = newNote("note1");
+    Note note2 = newNote("note2");
+    blockOn(note1);
+
+    asyncIndex.updateIndexDoc(note1);
+    indexing.await(10, TimeUnit.SECONDS);
+    for (int i = 0; i < 5; i++) {
+      asyncIndex.updateIndexDoc(note2);
+    }
+    assertEquals(1, asyncIndex.getQueueDepth());
+
+    release.countDown();
+    asyncIndex.close();
+    verify(index, times(1)).updateIndexDoc(note2);
+    verify(index).close();
+  }
+
+  private Gauge getGauge(String name) {
+    for (Metric metric : MetricRegistry.singleton().getMetrics()) {
+      if (metric.getName().equals(name)) {
+        return (Gauge) metric;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void testQueueMetrics() throws Exception {
+    asyncIndex = new AsyncSearchService(index, 10);
+    Note note1 = newNote("note1");
+    blockOn(note1);
+
+    asyncIndex.updateIndexDoc(note1);
+    indexing.await(10, TimeUnit.SECONDS);
+    asyncIndex.updateIndexDoc(newNote("note2"));
+    asyncIndex.updateIndexDoc(newNote("note3"));
+    Thread.sleep(50);
+
+    assertEquals(2, getGauge("zeppelin_search_queue_length").getValue());
+    assertTrue(getGauge("zeppelin_search_index_lag_ms").getValue() >= 50);
+
+    release.countDown();
+    asyncIndex.close();
+    assertNull(getGauge("zeppelin_search_queue_length"));
+    assertNull(getGauge("zeppelin_search_index_lag_ms"));
+  }
+
+  @Test
+  public void testDeleteAfterUpdate() throws Exception {
+    asyncIndex = new AsyncSearchService(index, 10);
+    Note note1 = newNote("note1");
+    Note note2 = newNote("note2");
+    Paragraph p = mock(Paragraph.class);
+    blockOn(note1);
+
+    asyncIndex.updateIndexDoc(note1);
+    indexing.await(10, TimeUnit.SECONDS);
+    asyncIndex.updateIndexDoc(note2);
+    asyncIndex.deleteIndexDoc(note2, p);
+    asyncIndex.deleteIndexDocs(note2);
+
+    release.countDown();
+    asyncIndex.close();
+    verify(index, never()).updateIndexDoc(note2);
+    verify(index, never()).deleteIndexDoc(note2, p);
+    verify(index).deleteIndexDocs(note2);
+  }
+
+  @Test
+  public void testCoalescedChangeIndexesLatestNote() throws Exception {
+    asyncIndex = new AsyncSearchService(index, 10);
+    Note note1 = newNote("note1");
+    Note note2 = newNote("note2");
+    Note reloadedNote2 = newNote("note2");
+    blockOn(note1);
+
+    asyncIndex.updateIndexDoc(note1);
+    indexing.await(10, TimeUnit.SECONDS);
+    asyncIndex.updateIndexDoc(note2);
+    asyncIndex.updateIndexDoc(reloadedNote2);
+
+    release.countDown();
+    asyncIndex.close();
+    verify(index, never()).updateIndexDoc(note2);
+    verify(index).updateIndexDoc(reloadedNote2);
+  }
+
+  @Test
+  public void testWaitForRoomWhenQueueIsFull() throws Exception {
+    asyncIndex = new AsyncSearchService(index, 1);
+    Note note1 = newNote("note1");
+    Note note2 = newNote("note2");
+    Note note3 = newNote("note3");
+    blockOn(note1);
+
+    asyncIndex.updateIndexDoc(note1);
+    indexing.await(10, TimeUnit.SECONDS);
+    asyncIndex.updateIndexDoc(note2);
+    assertEquals(1, asyncIndex.getQueueDepth());
+
+    // queued once note2 is taken from the queue, without indexing on the caller thread
+    final Note waiting = note3;
+    Thread caller = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          asyncIndex.updateIndexDoc(waiting);
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+    caller.start();
+    Thread.sleep(100);
+    assertTrue(caller.isAlive());
+    assertEquals(1, asyncIndex.getQueueDepth());
+    release.countDown();
+    caller.join();
+
+    asyncIndex.close();
+    InOrder inOrder = inOrder(index);
+    inOrder.verify(index).updateIndexDoc(note1);
+    inOrder.verify(index).updateIndexDoc(note2);
+    inOrder.verify(index).updateIndexDoc(note3);
+  }
+}
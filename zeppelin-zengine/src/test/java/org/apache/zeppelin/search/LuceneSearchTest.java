@@ -20,11 +20,14 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Mockito.*;
 import static org.apache.zeppelin.search.LuceneSearch.formatId;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.zeppelin.interpreter.InterpreterFactory;
 import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.Paragraph;
@@ -234,6 +237,61 @@ public class LuceneSearchTest {
     assertThat(resultForQuery("NotebookN").size()).isEqualTo(1);
   }
 
+  @Test public void canKeepIndexOnDisk() throws IOException {
+    //given: index on disk
+    File indexDir = new File(System.getProperty("java.io.tmpdir"),
+        "ZeppelinLTest_" + System.currentTimeMillis());
+    Note note1 = newNoteWithParagraph("Notebook1", "test");
+    Note note2 = newNoteWithParagraphs("Notebook2", "not test", "not test at all");
+    LuceneSearch diskIndex = new LuceneSearch(FSDirectory.open(indexDir.toPath()), 0, 1000);
+    diskIndex.addIndexDocs(Arrays.asList(note1, note2));
+    diskIndex.close();
+
+    try {
+      //when: reopened
+      diskIndex = new LuceneSearch(FSDirectory.open(indexDir.toPath()), 0, 1000);
+
+      //then: unchanged notes are not indexed again
+      assertThat(diskIndex.query("test").size()).isEqualTo(3);
+      diskIndex.addIndexDocs(Arrays.asList(note1, note2));
+      assertThat(diskIndex.query("test").size()).isEqualTo(3);
+
+      //notes removed in the meantime are dropped
+      diskIndex.retainIndexDocs(Arrays.asList(note1.getId()));
+      assertThat(diskIndex.query("Notebook2")).isEmpty();
+      assertThat(diskIndex.query("test").size()).isEqualTo(1);
+    } finally {
+      diskIndex.close();
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
+  @Test public void canKeepRepositoryVersionOnDisk() throws IOException {
+    //given: note indexed from version v1 in the repository
+    File indexDir = new File(System.getProperty("java.io.tmpdir"),
+        "ZeppelinLTest_" + System.currentTimeMillis());
+    Note note1 = newNoteWithParagraph("Notebook1", "test");
+    LuceneSearch diskIndex = new LuceneSearch(FSDirectory.open(indexDir.toPath()), 0, 1000);
+    diskIndex.addIndexDocs(Arrays.asList(note1));
+    diskIndex.setIndexedVersion(note1.getId(), "v1");
+    diskIndex.close();
+
+    try {
+      //when: reopened
+      diskIndex = new LuceneSearch(FSDirectory.open(indexDir.toPath()), 0, 1000);
+
+      //then: the version is kept, until the note is changed
+      assertThat(diskIndex.getIndexedVersion(note1.getId())).isEqualTo("v1");
+      note1.getParagraphs().get(0).setText("changed");
+      diskIndex.updateIndexDoc(note1);
+      assertThat(diskIndex.getIndexedVersion(note1.getId())).isNull();
+      assertThat(diskIndex.query("changed").size()).isEqualTo(1);
+    } finally {
+      diskIndex.close();
+      FileUtils.deleteDirectory(indexDir);
+    }
+  }
+
   private List<Map<String, String>> resultForQuery(String q) {
     return notebookIndex.query(q);
   }